@@ -0,0 +1,71 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.util.AESUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 전화번호 암복호화 비용 비교
+ * - decryptWithKeyDerivation : 기존 방식 (호출마다 PBKDF2 키 유도)
+ * - decryptSingle : 유도된 키 재사용
+ * - decryptAllPage : 한 페이지(20건) 일괄 복호화
+ * - encrypt : 가입/수정 시 암호화 (IV 생성 포함)
+ * - generateHash : 중복 확인용 전화번호 해시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AESUtilBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private AESUtil aesUtil;
+    private String encryptedPhoneNumber;
+    private List<String> encryptedPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        aesUtil = BenchmarkFixtures.aesUtil();
+
+        encryptedPhoneNumber = aesUtil.encrypt("010-1234-5678");
+        encryptedPage = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            encryptedPage.add(aesUtil.encrypt(String.format("010-1234-%04d", i)));
+        }
+    }
+
+    @Benchmark
+    public String decryptWithKeyDerivation() {
+        // 키 캐시를 비워 기존처럼 매 호출마다 키를 유도하게 한다.
+        aesUtil.setPassword("benchmark-password");
+        return aesUtil.decrypt(encryptedPhoneNumber);
+    }
+
+    @Benchmark
+    public String decryptSingle() {
+        return aesUtil.decrypt(encryptedPhoneNumber);
+    }
+
+    @Benchmark
+    public List<String> decryptAllPage() {
+        return aesUtil.decryptAll(encryptedPage);
+    }
+
+    @Benchmark
+    public String encrypt() throws Exception {
+        return aesUtil.encrypt("010-1234-5678");
+    }
+
+    @Benchmark
+    public String generateHash() {
+        return aesUtil.generateHash("010-1234-5678");
+    }
+}
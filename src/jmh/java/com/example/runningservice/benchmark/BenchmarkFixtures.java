@@ -0,0 +1,116 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.enums.Role;
+import com.example.runningservice.enums.Visibility;
+import com.example.runningservice.repository.ActivityRepository;
+import com.example.runningservice.util.AESUtil;
+import com.example.runningservice.util.LocalS3Client;
+import com.example.runningservice.util.S3FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.List;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * 벤치마크에서 같이 쓰는 빈/엔티티 준비 (스프링 컨텍스트 없이 직접 만든다)
+ */
+final class BenchmarkFixtures {
+
+    static final int RUNNING_COUNT = 12;
+
+    private BenchmarkFixtures() {
+    }
+
+    static AESUtil aesUtil() {
+        AESUtil aesUtil = new AESUtil();
+        aesUtil.setPassword("benchmark-password");
+        aesUtil.setSalt("benchmark-salt");
+        return aesUtil;
+    }
+
+    /**
+     * 로컬 파일 S3 와 고정 자격증명 presigner 를 쓰는 S3FileUtil. 서명은 네트워크 없이 로컬에서 끝난다.
+     */
+    static S3FileUtil s3FileUtil() throws Exception {
+        S3Presigner presigner = S3Presigner.builder()
+            .credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key")))
+            .region(software.amazon.awssdk.regions.Region.AP_NORTHEAST_2)
+            .build();
+        S3FileUtil s3FileUtil = new S3FileUtil(
+            new LocalS3Client(Files.createTempDirectory("benchmark-s3")), presigner,
+            new SimpleMeterRegistry());
+        setField(s3FileUtil, "bucketName", "benchmark-bucket");
+        setField(s3FileUtil, "presignedUrlCacheSize", 10_000L);
+        s3FileUtil.init();
+        return s3FileUtil;
+    }
+
+    /**
+     * countByCrew_Id 만 응답하는 ActivityRepository (CrewDetailResponseDto.fromEntity 용)
+     */
+    static ActivityRepository activityRepository() {
+        return (ActivityRepository) Proxy.newProxyInstance(
+            ActivityRepository.class.getClassLoader(), new Class<?>[]{ActivityRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "countByCrew_Id" -> RUNNING_COUNT;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "BenchmarkActivityRepository";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    static MemberEntity member(long id, String encryptedPhoneNumber) {
+        return MemberEntity.builder()
+            .id(id)
+            .email("runner" + id + "@example.com")
+            .emailVerified(true)
+            .phoneNumber(encryptedPhoneNumber)
+            .name("러너" + id)
+            .nickName("runner-" + id)
+            .birthYear(1990)
+            .gender(Gender.FEMALE)
+            .roles(List.of(Role.ROLE_USER))
+            .activityRegion(Region.SEOUL)
+            .profileImageUrl("member/" + id + "/profile")
+            .nameVisibility(Visibility.PUBLIC)
+            .phoneNumberVisibility(Visibility.PRIVATE)
+            .genderVisibility(Visibility.PUBLIC)
+            .birthYearVisibility(Visibility.PUBLIC)
+            .runProfileVisibility(Visibility.PUBLIC)
+            .build();
+    }
+
+    static CrewEntity crew(long id, MemberEntity leader) {
+        return CrewEntity.builder()
+            .id(id)
+            .leader(leader)
+            .crewName("crew-" + id)
+            .description("매주 토요일 아침 한강에서 10km 를 달리는 크루입니다.")
+            .crewImage("crew/" + id + "/image")
+            .crewCapacity(100)
+            .memberCount(42)
+            .activityRegion(Region.SEOUL)
+            .gender(Gender.FEMALE)
+            .minYear(1980)
+            .maxYear(2000)
+            .leaderRequired(true)
+            .runRecordOpen(true)
+            .build();
+    }
+
+    static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
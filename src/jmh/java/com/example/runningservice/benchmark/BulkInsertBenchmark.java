@@ -0,0 +1,178 @@
+package com.example.runningservice.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 대량 insert 방식 비교 (H2 메모리 DB, 한 트랜잭션)
+ * - identityPerRow : IDENTITY id, 행마다 insert 후 생성 키 조회 (Hibernate 는 IDENTITY 엔티티를 배치하지 못한다)
+ * - pooledSequenceBatch : pooled 시퀀스(allocationSize = 50), 50행마다 nextval 한 번 + addBatch/executeBatch
+ * 작업량 : 알림 팬아웃 1000행, 달리기 기록 가져오기 500행, 채팅 메시지 저장 200행
+ * 같은 프로세스의 H2 라 네트워크 왕복이 없으므로, 실제 DB 에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"notificationFanOut", "runRecordImport", "chatPersist"})
+    private String workload;
+
+    private Connection connection;
+    private Workload target;
+
+    private PreparedStatement identityInsert;
+    private PreparedStatement pooledInsert;
+    private PreparedStatement nextVal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bulk_insert_" + workload);
+        target = Workload.valueOf(workload);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + target.table + "_identity ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + target.columns + ")");
+            statement.execute("CREATE TABLE " + target.table + "_pooled ("
+                + "id BIGINT PRIMARY KEY, " + target.columns + ")");
+            statement.execute("CREATE SEQUENCE " + target.table + "_seq INCREMENT BY "
+                + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+
+        identityInsert = connection.prepareStatement(
+            "INSERT INTO " + target.table + "_identity (" + target.insertColumns + ") VALUES ("
+                + target.placeholders + ")", Statement.RETURN_GENERATED_KEYS);
+        pooledInsert = connection.prepareStatement(
+            "INSERT INTO " + target.table + "_pooled (id, " + target.insertColumns + ") VALUES (?, "
+                + target.placeholders + ")");
+        nextVal = connection.prepareStatement("SELECT NEXT VALUE FOR " + target.table + "_seq");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE " + target.table + "_identity");
+            statement.execute("TRUNCATE TABLE " + target.table + "_pooled");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        for (int i = 0; i < target.rows; i++) {
+            target.bind(identityInsert, 1, i);
+            identityInsert.executeUpdate();
+            try (ResultSet keys = identityInsert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequenceBatch() throws SQLException {
+        long nextId = 0;
+        long hi = 0;
+        for (int i = 0; i < target.rows; i++) {
+            // pooled optimizer : 시퀀스 값 v 로 v-49 ~ v 를 쓴다.
+            if (nextId > hi) {
+                try (ResultSet rs = nextVal.executeQuery()) {
+                    rs.next();
+                    hi = rs.getLong(1);
+                }
+                nextId = hi - ALLOCATION_SIZE + 1;
+            }
+            pooledInsert.setLong(1, nextId++);
+            target.bind(pooledInsert, 2, i);
+            pooledInsert.addBatch();
+            if ((i + 1) % ALLOCATION_SIZE == 0) {
+                pooledInsert.executeBatch();
+            }
+        }
+        pooledInsert.executeBatch();
+        connection.commit();
+        return nextId;
+    }
+
+    private enum Workload {
+        notificationFanOut("user_notification", 1000,
+            "member_id BIGINT NOT NULL, notification_id BIGINT NOT NULL, read_at TIMESTAMP",
+            "member_id, notification_id", "?, ?") {
+            @Override
+            void bind(PreparedStatement ps, int index, int row) throws SQLException {
+                ps.setLong(index, row + 1);
+                ps.setLong(index + 1, 10L);
+            }
+        },
+        runRecordImport("run_record", 500,
+            "user_id BIGINT NOT NULL, distance DOUBLE, running_time INT, pace INT, "
+                + "running_date TIMESTAMP, is_public BOOLEAN",
+            "user_id, distance, running_time, pace, running_date, is_public", "?, ?, ?, ?, ?, ?") {
+            @Override
+            void bind(PreparedStatement ps, int index, int row) throws SQLException {
+                ps.setLong(index, 1L);
+                ps.setDouble(index + 1, 5.0 + row % 10);
+                ps.setInt(index + 2, 1_800 + row);
+                ps.setInt(index + 3, 360);
+                ps.setTimestamp(index + 4, new Timestamp(1_700_000_000_000L + row * 86_400_000L));
+                ps.setBoolean(index + 5, true);
+            }
+        },
+        chatPersist("message_entity", 200,
+            "chat_join_id BIGINT, content VARCHAR(255), message_type VARCHAR(20), "
+                + "created_at TIMESTAMP",
+            "chat_join_id, content, message_type, created_at", "?, ?, ?, ?") {
+            @Override
+            void bind(PreparedStatement ps, int index, int row) throws SQLException {
+                ps.setLong(index, row % 20 + 1);
+                ps.setString(index + 1, "오늘 7시 한강 러닝 참여합니다 " + row);
+                ps.setString(index + 2, "TALK");
+                ps.setTimestamp(index + 3, new Timestamp(1_700_000_000_000L + row * 1_000L));
+            }
+        };
+
+        private final String table;
+        private final int rows;
+        private final String columns;
+        private final String insertColumns;
+        private final String placeholders;
+
+        Workload(String table, int rows, String columns, String insertColumns,
+            String placeholders) {
+            this.table = table;
+            this.rows = rows;
+            this.columns = columns;
+            this.insertColumns = insertColumns;
+            this.placeholders = placeholders;
+        }
+
+        abstract void bind(PreparedStatement ps, int index, int row) throws SQLException;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.dto.crew.CrewFilterDto.CrewInfo;
+import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.OccupancyStatus;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.service.discovery.CrewDiscoveryIndex;
+import com.example.runningservice.service.discovery.CrewIndexEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 크루 목록 필터링 + 크루원 수 정렬 + 페이지(20건) 비용
+ * - indexSearch* : 메모리 인덱스 (BitSet 필터 + top-k 힙)
+ * - streamSearch : 같은 데이터를 List 에 두고 stream filter/sort 한 경우 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrewDiscoveryIndexBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000"})
+    private int crewCount;
+
+    private List<CrewIndexEntry> entries;
+    private CrewDiscoveryIndex index;
+    private CrewInfo regionOnly;
+    private CrewInfo allFilters;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Region[] regions = Region.values();
+        entries = new ArrayList<>(crewCount);
+        for (long id = 1; id <= crewCount; id++) {
+            entries.add(new CrewIndexEntry(id, regions[random.nextInt(regions.length)],
+                random.nextBoolean() ? Gender.values()[random.nextInt(2)] : null,
+                random.nextBoolean(), random.nextBoolean(),
+                1970 + random.nextInt(30), 1985 + random.nextInt(30),
+                10 + random.nextInt(200), random.nextInt(210)));
+        }
+        index = CrewDiscoveryIndex.of(entries);
+
+        regionOnly = CrewInfo.builder()
+            .activityRegion(Region.SEOUL)
+            .build();
+        allFilters = CrewInfo.builder()
+            .activityRegion(Region.SEOUL)
+            .gender(Gender.FEMALE)
+            .runRecordPublic(true)
+            .minYear(1990)
+            .maxYear(1995)
+            .build();
+    }
+
+    @Benchmark
+    public CrewDiscoveryIndex.Result indexSearchRegionOnly() {
+        return index.search(regionOnly, OccupancyStatus.ALL, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CrewDiscoveryIndex.Result indexSearchAllFilters() {
+        return index.search(allFilters, OccupancyStatus.AVAILABLE, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CrewDiscoveryIndex.Result indexSearchDeepPage() {
+        return index.search(regionOnly, OccupancyStatus.ALL, 50L * PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> streamSearch() {
+        return entries.stream()
+            .filter(entry -> entry.getActivityRegion() == Region.SEOUL
+                || entry.getActivityRegion() == Region.NATIONWIDE)
+            .sorted(Comparator.comparing(CrewIndexEntry::getMemberCount).reversed()
+                .thenComparing(CrewIndexEntry::getId, Comparator.reverseOrder()))
+            .limit(PAGE_SIZE)
+            .map(CrewIndexEntry::getId)
+            .toList();
+    }
+}
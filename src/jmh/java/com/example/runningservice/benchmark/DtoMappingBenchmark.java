@@ -0,0 +1,54 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.dto.crew.CrewDetailResponseDto;
+import com.example.runningservice.dto.member.MemberResponseDto;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.repository.ActivityRepository;
+import com.example.runningservice.util.AESUtil;
+import com.example.runningservice.util.S3FileUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 (presigned url 은 캐시 hit, 일정 수 조회는 고정값)
+ * - crewDetail : CrewDetailResponseDto.fromEntity
+ * - memberResponse : MemberResponseDto.of (전화번호 복호화 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    private AESUtil aesUtil;
+    private S3FileUtil s3FileUtil;
+    private ActivityRepository activityRepository;
+    private MemberEntity member;
+    private CrewEntity crew;
+
+    @Setup
+    public void setUp() throws Exception {
+        aesUtil = BenchmarkFixtures.aesUtil();
+        s3FileUtil = BenchmarkFixtures.s3FileUtil();
+        activityRepository = BenchmarkFixtures.activityRepository();
+
+        member = BenchmarkFixtures.member(1L, aesUtil.encrypt("010-1234-5678"));
+        crew = BenchmarkFixtures.crew(1L, member);
+    }
+
+    @Benchmark
+    public CrewDetailResponseDto crewDetail() {
+        return CrewDetailResponseDto.fromEntity(crew, true, activityRepository, s3FileUtil);
+    }
+
+    @Benchmark
+    public MemberResponseDto memberResponse() {
+        return MemberResponseDto.of(member, aesUtil, s3FileUtil);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.dto.activity.ActivityResponseDto;
+import com.example.runningservice.dto.crew.CrewDetailResponseDto;
+import com.example.runningservice.dto.crew.CrewJoinStatusResponseDto;
+import com.example.runningservice.dto.member.MemberResponseDto;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.ActivityCategory;
+import com.example.runningservice.util.AESUtil;
+import com.example.runningservice.util.S3FileUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 주요 응답 DTO 의 JSON 직렬화 비용 (스프링 MVC 와 같은 설정의 ObjectMapper)
+ * - crewDetail : 크루 상세
+ * - member : 회원 정보
+ * - activityList : 일정 목록 20건
+ * - crewPage : 크루 목록 한 페이지(20건, Page 메타데이터 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private CrewDetailResponseDto crewDetail;
+    private MemberResponseDto member;
+    private List<ActivityResponseDto> activityList;
+    private Page<CrewJoinStatusResponseDto> crewPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        AESUtil aesUtil = BenchmarkFixtures.aesUtil();
+        S3FileUtil s3FileUtil = BenchmarkFixtures.s3FileUtil();
+        MemberEntity leader = BenchmarkFixtures.member(1L, aesUtil.encrypt("010-1234-5678"));
+
+        crewDetail = CrewDetailResponseDto.fromEntity(BenchmarkFixtures.crew(1L, leader), true,
+            BenchmarkFixtures.activityRepository(), s3FileUtil);
+        member = MemberResponseDto.of(leader, aesUtil, s3FileUtil);
+
+        activityList = new ArrayList<>();
+        List<CrewJoinStatusResponseDto> crews = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            activityList.add(ActivityResponseDto.builder()
+                .activityId((long) i)
+                .author("runner-" + i)
+                .category(ActivityCategory.ON_DEMAND)
+                .title("한강 10km 러닝 " + i)
+                .date(LocalDate.of(2024, 9, 1).plusDays(i))
+                .startTime(LocalTime.of(7, 0))
+                .endTime(LocalTime.of(8, 30))
+                .memo("물 챙겨오세요")
+                .location("여의나루역 2번 출구")
+                .participant(i * 3)
+                .isAuthor(i == 0)
+                .build());
+
+            CrewEntity crew = BenchmarkFixtures.crew(i + 1L, leader);
+            crews.add(CrewJoinStatusResponseDto.fromEntity(crew, i % 2 == 0,
+                s3FileUtil.createPresignedUrl(crew.getCrewImage())));
+        }
+        crewPage = new PageImpl<>(crews, PageRequest.of(0, PAGE_SIZE), 100);
+    }
+
+    @Benchmark
+    public byte[] crewDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(crewDetail);
+    }
+
+    @Benchmark
+    public byte[] member() throws Exception {
+        return objectMapper.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public byte[] activityList() throws Exception {
+        return objectMapper.writeValueAsBytes(activityList);
+    }
+
+    @Benchmark
+    public byte[] crewPage() throws Exception {
+        return objectMapper.writeValueAsBytes(crewPage);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.runningservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.StringJoiner;
+
+/**
+ * 두 JMH JSON 결과(기준/현재)를 벤치마크별로 비교해 출력한다. (./gradlew jmhCompare)
+ * 두 결과의 차이가 오차 범위(scoreError 합)보다 클 때만 개선/저하로 표시한다.
+ */
+public class JmhResultComparator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: JmhResultComparator <baseline.json> <current.json>");
+        }
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        System.out.printf("%-75s %14s %14s %9s  %s%n", "benchmark", "baseline", "current",
+            "change", "");
+        for (Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-75s %14s %14s %9s  %s%n", entry.getKey(), "-",
+                    format(now), "-", "new");
+                continue;
+            }
+            System.out.printf("%-75s %14s %14s %+8.1f%%  %s%n", entry.getKey(), format(before),
+                format(now), changePercent(before, now), verdict(before, now));
+        }
+        baseline.keySet().stream()
+            .filter(key -> !current.containsKey(key))
+            .forEach(key -> System.out.printf("%-75s %14s %14s %9s  %s%n", key,
+                format(baseline.get(key)), "-", "-", "removed"));
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    // 벤치마크 이름 + 모드 + 파라미터가 같아야 같은 측정으로 본다.
+    private static String key(JsonNode result) {
+        String benchmark = result.path("benchmark").asText()
+            .replace("com.example.runningservice.benchmark.", "");
+        StringJoiner params = new StringJoiner(",", "(", ")").setEmptyValue("");
+        Iterator<Entry<String, JsonNode>> fields = result.path("params").fields();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> param = fields.next();
+            params.add(param.getKey() + "=" + param.getValue().asText());
+        }
+        return benchmark + params + " [" + result.path("mode").asText() + "]";
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String format(JsonNode result) {
+        return String.format("%.3f %s", score(result),
+            result.path("primaryMetric").path("scoreUnit").asText());
+    }
+
+    private static double changePercent(JsonNode before, JsonNode now) {
+        return (score(now) - score(before)) / score(before) * 100;
+    }
+
+    private static String verdict(JsonNode before, JsonNode now) {
+        double diff = score(now) - score(before);
+        if (Math.abs(diff) <= error(before) + error(now)) {
+            return "";
+        }
+        // thrpt 는 클수록, 나머지(avgt, sample, ss)는 작을수록 좋다.
+        boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+        return (diff > 0) == higherIsBetter ? "faster" : "SLOWER";
+    }
+}
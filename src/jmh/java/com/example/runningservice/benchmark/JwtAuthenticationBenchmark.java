@@ -0,0 +1,65 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.security.AuthenticatedToken;
+import com.example.runningservice.util.JwtUtil;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * JwtAuthenticationFilter 한 번의 요청에서 수행하는 토큰 처리 비용 비교
+ * - legacyFilterPath : 기존 필터 (isTokenExpired, getAuthentication, extractEmail, extractUserId 각각 파싱)
+ * - singleParse : authenticate 1회 (캐시 hit)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretStr",
+            Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()));
+        setField(jwtUtil, "tokenCacheMaxSize", 10_000L);
+        jwtUtil.init();
+
+        accessToken = jwtUtil.generateToken("runner@example.com", 1L,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.isTokenExpired(accessToken));
+        blackhole.consume(jwtUtil.getAuthentication(accessToken));
+        blackhole.consume(jwtUtil.extractEmail(accessToken));
+        blackhole.consume(jwtUtil.extractUserId(accessToken));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        AuthenticatedToken token = jwtUtil.authenticate(accessToken);
+        blackhole.consume(jwtUtil.getAuthentication(token));
+        blackhole.consume(token.getEmail());
+        blackhole.consume(token.getUserId());
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.security.AuthenticatedToken;
+import com.example.runningservice.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * JwtUtil 단위 연산 비용
+ * - generateToken : 서명 포함 토큰 발급 (로그인/재발급)
+ * - parseAndVerify : 서명 검증 + claims 파싱 (캐시 미사용)
+ * - authenticateCached : authenticate 캐시 hit (필터의 일반 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final List<GrantedAuthority> AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.setField(jwtUtil, "secretStr",
+            Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()));
+        BenchmarkFixtures.setField(jwtUtil, "tokenCacheMaxSize", 10_000L);
+        jwtUtil.init();
+
+        accessToken = jwtUtil.generateToken("runner@example.com", 1L, AUTHORITIES);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("runner@example.com", 1L, AUTHORITIES);
+    }
+
+    @Benchmark
+    public Claims parseAndVerify() {
+        return jwtUtil.extractAllClaims(accessToken);
+    }
+
+    @Benchmark
+    public AuthenticatedToken authenticateCached() {
+        return jwtUtil.authenticate(accessToken);
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.runningservice.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 알림함 저장 방식 비교 (H2 메모리 DB, 크루당 1000명)
+ * - fanOutOnWrite : 크루 알림을 크루원마다 user_notification 에 복사하고, 조회 시 user_notification JOIN notification
+ * - fanOutOnRead : 크루 알림은 크루 스트림에 한 번만 저장하고, 조회 시 직접 알림 + 가입한 크루 스트림을 병합
+ *   읽음 상태는 (사용자, 스트림) 워터마크 + 읽음 예외
+ * 저장 크기는 setUp 에서 모델별 행 수와 H2 가 보고하는 테이블 크기로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationInboxBenchmark {
+
+    private static final int CREW_COUNT = 3;
+    private static final int CREW_SIZE = 1000;
+    private static final int DIRECT_PER_MEMBER = 5;
+    private static final int PAGE_SIZE = 20;
+    // 측정 대상 사용자 : 모든 크루에 가입
+    private static final long MEMBER_ID = 1L;
+
+    @Param({"100", "1000"})
+    private int notificationsPerCrew;
+
+    private Connection writeModel;
+    private Connection readModel;
+
+    private PreparedStatement fanOutInbox;
+    private PreparedStatement directInbox;
+    private PreparedStatement crewStreamInbox;
+    private PreparedStatement watermarks;
+    private PreparedStatement readExceptions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        writeModel = DriverManager.getConnection("jdbc:h2:mem:fan_out_on_write");
+        readModel = DriverManager.getConnection("jdbc:h2:mem:fan_out_on_read");
+
+        setUpFanOutOnWrite();
+        setUpFanOutOnRead();
+
+        fanOutInbox = writeModel.prepareStatement(
+            "SELECT n.id, n.type, n.message, n.created_at, un.read_at "
+                + "FROM user_notification un JOIN notification n ON n.id = un.notification_id "
+                + "WHERE un.member_id = ? ORDER BY un.notification_id DESC LIMIT " + PAGE_SIZE);
+        directInbox = readModel.prepareStatement(
+            "SELECT n.id, n.type, n.message, n.created_at, un.read_at "
+                + "FROM user_notification un JOIN notification n ON n.id = un.notification_id "
+                + "WHERE un.member_id = ? ORDER BY un.notification_id DESC LIMIT " + PAGE_SIZE);
+        crewStreamInbox = readModel.prepareStatement(
+            "SELECT n.id, n.type, n.message, n.created_at, n.stream_id "
+                + "FROM crew_member cm JOIN notification n "
+                + "ON n.stream = 'CREW' AND n.stream_id = cm.crew_id AND n.created_at >= cm.joined_at "
+                + "WHERE cm.member_id = ? ORDER BY n.id DESC LIMIT " + PAGE_SIZE);
+        watermarks = readModel.prepareStatement(
+            "SELECT stream_id, last_read_id, read_at FROM notification_watermark "
+                + "WHERE member_id = ? AND stream = 'CREW'");
+        readExceptions = readModel.prepareStatement(
+            "SELECT notification_id, read_at FROM notification_read_exception "
+                + "WHERE member_id = ? AND notification_id BETWEEN ? AND ?");
+
+        report(writeModel, "fan-out-on-write");
+        report(readModel, "fan-out-on-read");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        writeModel.close();
+        readModel.close();
+    }
+
+    @Benchmark
+    public List<InboxItem> fanOutOnWrite() throws SQLException {
+        fanOutInbox.setLong(1, MEMBER_ID);
+        List<InboxItem> inbox = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet rs = fanOutInbox.executeQuery()) {
+            while (rs.next()) {
+                inbox.add(new InboxItem(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    rs.getTimestamp(4), rs.getTimestamp(5)));
+            }
+        }
+        return inbox;
+    }
+
+    @Benchmark
+    public List<InboxItem> fanOutOnRead() throws SQLException {
+        directInbox.setLong(1, MEMBER_ID);
+        List<InboxItem> direct = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet rs = directInbox.executeQuery()) {
+            while (rs.next()) {
+                direct.add(new InboxItem(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    rs.getTimestamp(4), rs.getTimestamp(5)));
+            }
+        }
+
+        crewStreamInbox.setLong(1, MEMBER_ID);
+        List<InboxItem> streamed = new ArrayList<>(PAGE_SIZE);
+        List<Long> streamIds = new ArrayList<>(PAGE_SIZE);
+        try (ResultSet rs = crewStreamInbox.executeQuery()) {
+            while (rs.next()) {
+                streamed.add(new InboxItem(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    rs.getTimestamp(4), null));
+                streamIds.add(rs.getLong(5));
+            }
+        }
+        if (streamed.isEmpty()) {
+            return direct;
+        }
+
+        // 읽음 상태 : 워터마크 이하는 읽음, 그 위는 읽음 예외 조회
+        Map<Long, Long> lastReadIds = new HashMap<>();
+        Map<Long, Timestamp> watermarkReadAt = new HashMap<>();
+        watermarks.setLong(1, MEMBER_ID);
+        try (ResultSet rs = watermarks.executeQuery()) {
+            while (rs.next()) {
+                lastReadIds.put(rs.getLong(1), rs.getLong(2));
+                watermarkReadAt.put(rs.getLong(1), rs.getTimestamp(3));
+            }
+        }
+        Map<Long, Timestamp> exceptionReadAt = new HashMap<>();
+        readExceptions.setLong(1, MEMBER_ID);
+        readExceptions.setLong(2, streamed.get(streamed.size() - 1).id);
+        readExceptions.setLong(3, streamed.get(0).id);
+        try (ResultSet rs = readExceptions.executeQuery()) {
+            while (rs.next()) {
+                exceptionReadAt.put(rs.getLong(1), rs.getTimestamp(2));
+            }
+        }
+        for (int i = 0; i < streamed.size(); i++) {
+            InboxItem item = streamed.get(i);
+            Long lastReadId = lastReadIds.get(streamIds.get(i));
+            item.readAt = lastReadId != null && item.id <= lastReadId
+                ? watermarkReadAt.get(streamIds.get(i)) : exceptionReadAt.get(item.id);
+        }
+
+        List<InboxItem> inbox = new ArrayList<>(PAGE_SIZE);
+        int d = 0;
+        int s = 0;
+        while (inbox.size() < PAGE_SIZE && (d < direct.size() || s < streamed.size())) {
+            if (s >= streamed.size()
+                || (d < direct.size() && direct.get(d).id > streamed.get(s).id)) {
+                inbox.add(direct.get(d++));
+            } else {
+                inbox.add(streamed.get(s++));
+            }
+        }
+        return inbox;
+    }
+
+    private void setUpFanOutOnWrite() throws SQLException {
+        try (Statement st = writeModel.createStatement()) {
+            st.execute("CREATE TABLE notification (id BIGINT PRIMARY KEY, crew_id BIGINT, "
+                + "type VARCHAR(20), message VARCHAR(255), created_at TIMESTAMP)");
+            st.execute("CREATE TABLE user_notification (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT, notification_id BIGINT, read_at TIMESTAMP, "
+                + "CONSTRAINT uk_user_notification UNIQUE (member_id, notification_id))");
+            createCrewMembers(st);
+            insertNotifications(st, "crew_id");
+
+            // 크루 알림을 크루원마다 복사
+            st.execute("INSERT INTO user_notification (member_id, notification_id) "
+                + "SELECT cm.member_id, n.id FROM crew_member cm "
+                + "JOIN notification n ON n.crew_id = cm.crew_id");
+            insertDirectNotifications(st);
+            // 오래된 절반은 읽음
+            st.execute("UPDATE user_notification SET read_at = CURRENT_TIMESTAMP "
+                + "WHERE member_id = " + MEMBER_ID + " AND MOD(notification_id, 20) = 0");
+        }
+    }
+
+    private void setUpFanOutOnRead() throws SQLException {
+        try (Statement st = readModel.createStatement()) {
+            st.execute("CREATE TABLE notification (id BIGINT PRIMARY KEY, stream VARCHAR(10), "
+                + "stream_id BIGINT, type VARCHAR(20), message VARCHAR(255), created_at TIMESTAMP)");
+            st.execute("CREATE INDEX idx_notification_stream ON notification (stream, stream_id, id)");
+            st.execute("CREATE TABLE user_notification (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT, notification_id BIGINT, read_at TIMESTAMP, "
+                + "CONSTRAINT uk_user_notification UNIQUE (member_id, notification_id))");
+            st.execute("CREATE TABLE notification_watermark (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT, stream VARCHAR(10), stream_id BIGINT, last_read_id BIGINT, "
+                + "read_at TIMESTAMP, CONSTRAINT uk_watermark UNIQUE (member_id, stream, stream_id))");
+            st.execute("CREATE TABLE notification_read_exception (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "member_id BIGINT, notification_id BIGINT, stream VARCHAR(10), stream_id BIGINT, "
+                + "read_at TIMESTAMP, CONSTRAINT uk_read_exception UNIQUE (member_id, notification_id))");
+            createCrewMembers(st);
+            insertNotifications(st, "stream, stream_id");
+            insertDirectNotifications(st);
+
+            // 크루마다 절반까지 읽었고, 그 위로 몇 건은 따로 읽음
+            for (long crewId = 1; crewId <= CREW_COUNT; crewId++) {
+                st.execute("INSERT INTO notification_watermark "
+                    + "(member_id, stream, stream_id, last_read_id, read_at) "
+                    + "SELECT " + MEMBER_ID + ", 'CREW', " + crewId + ", "
+                    + "(SELECT MAX(id) FROM (SELECT id FROM notification WHERE stream_id = "
+                    + crewId + " ORDER BY id LIMIT " + notificationsPerCrew / 2 + ") t), "
+                    + "CURRENT_TIMESTAMP");
+                st.execute("INSERT INTO notification_read_exception "
+                    + "(member_id, notification_id, stream, stream_id, read_at) "
+                    + "SELECT " + MEMBER_ID + ", id, 'CREW', stream_id, CURRENT_TIMESTAMP "
+                    + "FROM notification WHERE stream_id = " + crewId
+                    + " ORDER BY id DESC LIMIT 5");
+            }
+        }
+    }
+
+    private void createCrewMembers(Statement st) throws SQLException {
+        st.execute("CREATE TABLE crew_member (member_id BIGINT, crew_id BIGINT, "
+            + "joined_at TIMESTAMP, PRIMARY KEY (member_id, crew_id))");
+        // MEMBER_ID 는 모든 크루, 나머지는 크루마다 다른 사용자
+        for (long crewId = 1; crewId <= CREW_COUNT; crewId++) {
+            st.execute("INSERT INTO crew_member (member_id, crew_id, joined_at) "
+                + "VALUES (" + MEMBER_ID + ", " + crewId + ", TIMESTAMP '2024-01-01 00:00:00')");
+            st.execute("INSERT INTO crew_member (member_id, crew_id, joined_at) "
+                + "SELECT " + (crewId * CREW_SIZE) + " + X, " + crewId
+                + ", TIMESTAMP '2024-01-01 00:00:00' FROM SYSTEM_RANGE(1, " + (CREW_SIZE - 1) + ")");
+        }
+    }
+
+    // 크루 알림을 크루 순으로 번갈아 생성 (id 순서 = 생성 순서)
+    private void insertNotifications(Statement st, String crewColumns) throws SQLException {
+        String crewValues = crewColumns.equals("crew_id")
+            ? "MOD(X, " + CREW_COUNT + ") + 1"
+            : "'CREW', MOD(X, " + CREW_COUNT + ") + 1";
+        st.execute("INSERT INTO notification (id, " + crewColumns
+            + ", type, message, created_at) "
+            + "SELECT X * 10, " + crewValues + ", 'ACTIVITY', "
+            + "'새 일정이 등록되었습니다. 크루' || X, "
+            + "DATEADD('SECOND', X, TIMESTAMP '2024-02-01 00:00:00') "
+            + "FROM SYSTEM_RANGE(1, " + (CREW_COUNT * notificationsPerCrew) + ")");
+    }
+
+    // 가입 결과 같은 사용자별 알림 (두 모델 동일)
+    private void insertDirectNotifications(Statement st) throws SQLException {
+        st.execute("INSERT INTO notification (id, type, message, created_at) "
+            + "SELECT X * 10 + 5, 'APPLY_RESULT', '가입 신청이 승인되었습니다.', "
+            + "DATEADD('SECOND', X, TIMESTAMP '2024-02-01 00:00:00') "
+            + "FROM SYSTEM_RANGE(1, " + DIRECT_PER_MEMBER + ")");
+        st.execute("INSERT INTO user_notification (member_id, notification_id) "
+            + "SELECT m.member_id, n.id FROM (SELECT DISTINCT member_id FROM crew_member) m "
+            + "CROSS JOIN (SELECT id FROM notification WHERE type = 'APPLY_RESULT') n");
+    }
+
+    private void report(Connection connection, String model) throws SQLException {
+        StringBuilder sb = new StringBuilder("\n[" + model + "] notificationsPerCrew="
+            + notificationsPerCrew);
+        try (Statement st = connection.createStatement();
+            ResultSet tables = st.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY TABLE_NAME")) {
+            List<String> names = new ArrayList<>();
+            while (tables.next()) {
+                names.add(tables.getString(1));
+            }
+            for (String name : names) {
+                try (Statement count = connection.createStatement();
+                    ResultSet rs = count.executeQuery("SELECT COUNT(*), DISK_SPACE_USED('"
+                        + name + "') FROM " + name)) {
+                    rs.next();
+                    sb.append(String.format("%n  %-28s rows=%,10d bytes=%,12d", name,
+                        rs.getLong(1), rs.getLong(2)));
+                }
+            }
+        }
+        System.out.println(sb);
+    }
+
+    public static class InboxItem {
+
+        private final long id;
+        private final String type;
+        private final String message;
+        private final Timestamp createdAt;
+        private Timestamp readAt;
+
+        InboxItem(long id, String type, String message, Timestamp createdAt, Timestamp readAt) {
+            this.id = id;
+            this.type = type;
+            this.message = message;
+            this.createdAt = createdAt;
+            this.readAt = readAt;
+        }
+    }
+}
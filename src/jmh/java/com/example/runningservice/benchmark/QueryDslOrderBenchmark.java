@@ -0,0 +1,56 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.util.QueryDslUtil;
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 크루원 목록 정렬 조건(Pageable sort) -> OrderSpecifier 변환 비용
+ * - unsorted : 정렬 없음
+ * - singleSort : joinedAt 정렬
+ * - multiSort : joinedAt, member.nickName 정렬 (중첩 경로 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryDslOrderBenchmark {
+
+    private static final String ENTITY_TYPE = "crewMemberEntity";
+
+    private Pageable unsorted;
+    private Pageable singleSort;
+    private Pageable multiSort;
+
+    @Setup
+    public void setUp() {
+        unsorted = PageRequest.of(0, 20);
+        singleSort = PageRequest.of(0, 20, Sort.by("joinedAt"));
+        multiSort = PageRequest.of(0, 20,
+            Sort.by(Sort.Order.desc("joinedAt"), Sort.Order.asc("member.nickName")));
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] unsorted() {
+        return QueryDslUtil.getAllOrderSpecifiers(unsorted, ENTITY_TYPE);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] singleSort() {
+        return QueryDslUtil.getAllOrderSpecifiers(singleSort, ENTITY_TYPE);
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] multiSort() {
+        return QueryDslUtil.getAllOrderSpecifiers(multiSort, ENTITY_TYPE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.dto.runGoal.RunGoalRequestDto;
+import com.example.runningservice.dto.runRecord.RunRecordRequestDto;
+import com.example.runningservice.service.RunGoalService;
+import com.example.runningservice.service.RunRecordService;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 러닝 기록/목표 저장 시 시간 문자열(시:분:초, 분:초) -> 초 변환 비용
+ * - runRecordTransform : RunRecordService.transformDTO
+ * - runGoalTransform : RunGoalService.transformDTO
+ * (transformDTO 는 repository 를 쓰지 않으므로 의존성 없이 만든다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RunTimeParsingBenchmark {
+
+    private RunRecordService runRecordService;
+    private RunGoalService runGoalService;
+    private RunRecordRequestDto runRecordRequestDto;
+    private RunGoalRequestDto runGoalRequestDto;
+
+    @Setup
+    public void setUp() {
+        runRecordService = new RunRecordService(null, null, null, null);
+        runGoalService = new RunGoalService(null, null);
+
+        runRecordRequestDto = RunRecordRequestDto.builder()
+            .distance(10.5)
+            .runningTime("01:23:45")
+            .pace("05:32")
+            .build();
+        runGoalRequestDto = RunGoalRequestDto.builder()
+            .totalDistance(120.0)
+            .totalRunningTime("12:34:56")
+            .averagePace("06:05")
+            .runCount(12)
+            .build();
+    }
+
+    @Benchmark
+    public Map<String, Integer> runRecordTransform() {
+        return runRecordService.transformDTO(runRecordRequestDto);
+    }
+
+    @Benchmark
+    public Map<String, Integer> runGoalTransform() {
+        return runGoalService.transformDTO(runGoalRequestDto);
+    }
+}
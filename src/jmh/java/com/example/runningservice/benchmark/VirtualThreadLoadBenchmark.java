@@ -0,0 +1,171 @@
+package com.example.runningservice.benchmark;
+
+import com.example.runningservice.config.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 플랫폼 스레드 (Tomcat 기본 max-threads 200) 와 가상 스레드의 요청 처리 비교
+ * 동시 요청 concurrentRequests 건을 한 번에 넣고 모두 끝날 때까지의 시간을 잰다. (H2 메모리 DB, Hikari 풀 10 + 동시 사용 제한)
+ * - crewList : 크루 목록 조회 (커넥션을 잡은 채 쿼리 + DB 왕복 지연)
+ * - signup : 이메일 중복 확인, 회원 저장 (DB 두 번) + 외부 API 호출 지연 (커넥션 없이)
+ * 실제 HTTP 부하 테스트가 아니라 요청 처리 스레드 모델만 비교한다. DB 왕복/외부 API 지연은 sleep 으로 흉내낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final int CREW_COUNT = 1000;
+    private static final int PAGE_SIZE = 20;
+    private static final long DB_ROUND_TRIP_MILLIS = 2;
+    private static final long EXTERNAL_CALL_MILLIS = 50;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"200", "1000"})
+    private int concurrentRequests;
+
+    private HikariDataSource pool;
+    private ConcurrencyLimitedDataSource dataSource;
+    private ExecutorService executor;
+    private final AtomicLong memberSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:virtual_thread_load;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(60_000);
+        pool = new HikariDataSource(config);
+        dataSource = new ConcurrencyLimitedDataSource(pool, POOL_SIZE, 60_000);
+
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE crew (id BIGINT PRIMARY KEY, crew_name VARCHAR(50), "
+                + "member_count INT)");
+            statement.execute("CREATE TABLE member (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "email VARCHAR(100) UNIQUE, nick_name VARCHAR(50))");
+            try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO crew (id, crew_name, member_count) VALUES (?, ?, ?)")) {
+                for (int i = 1; i <= CREW_COUNT; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "crew-" + i);
+                    insert.setInt(3, i % 100);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        executor = "virtual".equals(threads) ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        executor.shutdownNow();
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        pool.close();
+    }
+
+    @Benchmark
+    public int crewList() throws Exception {
+        return runConcurrently(this::listCrews);
+    }
+
+    @Benchmark
+    public int signup() throws Exception {
+        return runConcurrently(this::signupMember);
+    }
+
+    private int runConcurrently(RequestHandler handler) throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(handler::handle));
+        }
+        int total = 0;
+        for (Future<Integer> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+
+    private int listCrews() throws Exception {
+        int offset = (int) (memberSequence.get() % (CREW_COUNT - PAGE_SIZE));
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement select = connection.prepareStatement(
+                "SELECT id, crew_name, member_count FROM crew ORDER BY id LIMIT ? OFFSET ?")) {
+            select.setInt(1, PAGE_SIZE);
+            select.setInt(2, offset);
+            int rows = 0;
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+            Thread.sleep(DB_ROUND_TRIP_MILLIS);
+            return rows;
+        }
+    }
+
+    private int signupMember() throws Exception {
+        String email = "member-" + memberSequence.incrementAndGet() + "@example.com";
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement exists = connection.prepareStatement(
+                "SELECT COUNT(*) FROM member WHERE email = ?")) {
+            exists.setString(1, email);
+            try (ResultSet rs = exists.executeQuery()) {
+                rs.next();
+            }
+            Thread.sleep(DB_ROUND_TRIP_MILLIS);
+        }
+
+        // 메일 발송 / 프로필 이미지 업로드 등 외부 API 대기
+        Thread.sleep(EXTERNAL_CALL_MILLIS);
+
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO member (email, nick_name) VALUES (?, ?)")) {
+            insert.setString(1, email);
+            insert.setString(2, email.substring(0, email.indexOf('@')));
+            int inserted = insert.executeUpdate();
+            Thread.sleep(DB_ROUND_TRIP_MILLIS);
+            return inserted;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+
+        int handle() throws Exception;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.runningservice;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -11,6 +12,16 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class RunningServiceApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(RunningServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(RunningServiceApplication.class);
+        // 설정 파일에 없을 때 쓰는 기본값 :: actuator 는 루프백 주소의 별도 포트로만 노출한다.
+        // @Scheduled 작업은 여러 스레드에서 실행해 오래 걸리는 작업(보관 기간 정리, 통계 재계산 등)이
+        // 알림 outbox 전송(1초 주기)을 막지 않게 한다.
+        application.setDefaultProperties(Map.of(
+            "management.server.port", "8081",
+            "management.server.address", "127.0.0.1",
+            "management.endpoints.web.exposure.include",
+            "health,info,metrics,prometheus,loggers,perf,requesttrace",
+            "spring.task.scheduling.pool.size", "4"));
+        application.run(args);
     }
 }
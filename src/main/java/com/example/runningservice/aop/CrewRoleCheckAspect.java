@@ -1,10 +1,8 @@
 package com.example.runningservice.aop;
 
-import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.enums.CrewRole;
-import com.example.runningservice.exception.CustomException;
-import com.example.runningservice.exception.ErrorCode;
-import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.security.AuthenticatedToken;
+import com.example.runningservice.service.CrewRoleService;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -12,30 +10,38 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class CrewRoleCheckAspect {
 
-    private final CrewMemberRepository crewMemberRepository;
+    private final CrewRoleService crewRoleService;
 
     @Before("execution(* com.example.runningservice.controller..*(..)) && @annotation(crewRoleCheck)")
     public void crewRoleCheckBeforeAccess(JoinPoint joinPoint, CrewRoleCheck crewRoleCheck) {
         Object[] args = joinPoint.getArgs();
 
-        Long loginId = (Long) args[0];
+        Long loginId = resolveLoginId(args);
         Long crewId = (Long) args[1];
 
-        CrewMemberEntity crewMemberEntity = crewMemberRepository.findByCrew_IdAndMember_Id(
-                crewId, loginId)
-            .orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED_CREW_ACCESS));
-
         List<CrewRole> allowList = Arrays.stream(crewRoleCheck.role()).map(CrewRole::valueOf)
             .toList();
 
-        if (!allowList.contains(crewMemberEntity.getRole())) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_CREW_ACCESS);
+        crewRoleService.checkRole(crewId, loginId, allowList);
+    }
+
+    // 필터에서 검증한 토큰이 있으면 그 userId를, 없으면 첫 번째 인자(@LoginUser)를 사용한다.
+    private Long resolveLoginId(Object[] args) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null && requestAttributes.getAttribute(
+            AuthenticatedToken.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof AuthenticatedToken token) {
+            return token.getUserId();
         }
+
+        return (Long) args[0];
     }
 }
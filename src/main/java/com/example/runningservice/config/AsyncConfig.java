@@ -0,0 +1,54 @@
+package com.example.runningservice.config;
+
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ * - ioTaskExecutor : S3 업로드, 메일 발송 등 I/O 대기 작업용 가상 스레드 executor (@Async 기본 executor)
+ *   동시 작업 수는 concurrency-limit 으로 제한하고, 호출한 스레드의 SecurityContext / MDC 를 넘긴다.
+ * - spring.threads.virtual.enabled=true 이면 Tomcat 요청, @Scheduled 작업도 가상 스레드에서 처리한다. (Spring Boot)
+ *   가상 스레드는 수가 제한되지 않으므로 DB 커넥션은 JdbcConcurrencyConfig 의 동시 사용 제한으로 보호한다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String IO_TASK_EXECUTOR = "ioTaskExecutor";
+
+    @Value("${async.io.concurrency-limit:256}")
+    private int ioConcurrencyLimit;
+
+    @Value("${async.io.termination-timeout-ms:10000}")
+    private long terminationTimeoutMillis;
+
+    @Bean(name = IO_TASK_EXECUTOR)
+    public SimpleAsyncTaskExecutor ioTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("io-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(ioConcurrencyLimit);
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator());
+        // 종료 시 진행중인 업로드를 기다린다.
+        executor.setTaskTerminationTimeout(terminationTimeoutMillis);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return ioTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("async task failed. method: {}.{}",
+            method.getDeclaringClass().getSimpleName(), method.getName(), e);
+    }
+}
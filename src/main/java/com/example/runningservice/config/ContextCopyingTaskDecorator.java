@@ -0,0 +1,48 @@
+package com.example.runningservice.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 작업을 넘긴 스레드의 SecurityContext 와 MDC 를 작업 스레드에 복사하고, 작업이 끝나면 작업 스레드의 원래 값으로 되돌린다.
+ */
+public class ContextCopyingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext callerContext = SecurityContextHolder.getContext();
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+
+            // 호출한 쪽의 context 객체를 공유하지 않도록 복사한다.
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(callerContext.getAuthentication());
+            SecurityContextHolder.setContext(context);
+            setMdc(callerMdc);
+            try {
+                runnable.run();
+            } finally {
+                if (previousContext.getAuthentication() == null) {
+                    SecurityContextHolder.clearContext();
+                } else {
+                    SecurityContextHolder.setContext(previousContext);
+                }
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
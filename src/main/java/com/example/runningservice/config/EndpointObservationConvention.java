@@ -0,0 +1,36 @@
+package com.example.runningservice.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * http.server.requests 에 처리한 컨트롤러와 메서드 태그를 더한다. (controller, handler)
+ * 핸들러가 없는 요청(정적 리소스, 필터에서 끝난 요청)은 none 으로 남긴다.
+ */
+public class EndpointObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String NONE = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier()
+            .getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+            .and(KeyValue.of("controller", controller(handler)),
+                KeyValue.of("handler", handler(handler)));
+    }
+
+    static String controller(Object handler) {
+        return handler instanceof HandlerMethod handlerMethod
+            ? handlerMethod.getBeanType().getSimpleName() : NONE;
+    }
+
+    static String handler(Object handler) {
+        return handler instanceof HandlerMethod handlerMethod
+            ? handlerMethod.getMethod().getName() : NONE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.runningservice.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 시퀀스(pooled) id 엔티티는 flush 시 insert 를 batch-size 단위로 묶어 보낸다.
+ * 문장 정렬을 켜야 여러 테이블이 섞인 flush 에서도 같은 문장끼리 한 배치가 된다.
+ * 외부 설정(spring.jpa.properties.hibernate.*)에 값이 있으면 그것을 쓴다.
+ */
+@Configuration
+public class HibernateBatchConfig {
+
+    @Value("${jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
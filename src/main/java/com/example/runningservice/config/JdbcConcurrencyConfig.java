@@ -0,0 +1,71 @@
+package com.example.runningservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * DataSource 를 SqlMetricsDataSource, ConcurrencyLimitedDataSource 순서로 감싼다. (permit 대기 시간은 SQL 시간에 넣지 않는다)
+ * jdbc.concurrency.max-connections 를 정하지 않으면 Hikari 풀 크기를 쓴다. 스케줄 작업 몫을 남기려면 풀 크기보다 작게 둔다.
+ */
+@Configuration
+public class JdbcConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyGuard(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                    || bean instanceof ConcurrencyLimitedDataSource
+                    || bean instanceof SqlMetricsDataSource) {
+                    return bean;
+                }
+
+                DataSource target = environment.getProperty("jdbc.metrics.enabled", Boolean.class,
+                    true) ? new SqlMetricsDataSource(dataSource) : dataSource;
+                if (!environment.getProperty("jdbc.concurrency.enabled", Boolean.class, true)) {
+                    return target;
+                }
+
+                int maxConnections = environment.getProperty("jdbc.concurrency.max-connections",
+                    Integer.class, 0);
+                if (maxConnections <= 0) {
+                    maxConnections = bean instanceof HikariDataSource hikari
+                        ? hikari.getMaximumPoolSize() : 10;
+                }
+                long acquireTimeoutMillis = environment.getProperty(
+                    "jdbc.concurrency.acquire-timeout-ms", Long.class, 5000L);
+                return new ConcurrencyLimitedDataSource(target, maxConnections,
+                    acquireTimeoutMillis);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jdbcConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limited)) {
+                return;
+            }
+            Gauge.builder("jdbc.concurrency.active", limited,
+                    ConcurrencyLimitedDataSource::getActive)
+                .description("permit 을 얻어 사용중인 커넥션 수")
+                .register(registry);
+            Gauge.builder("jdbc.concurrency.waiting", limited,
+                    ConcurrencyLimitedDataSource::getWaiting)
+                .description("커넥션 permit 을 기다리는 스레드 수")
+                .register(registry);
+            FunctionCounter.builder("jdbc.concurrency.rejected", limited,
+                    ConcurrencyLimitedDataSource::getRejected)
+                .description("acquire-timeout 안에 permit 을 얻지 못한 요청 수")
+                .register(registry);
+        };
+    }
+}
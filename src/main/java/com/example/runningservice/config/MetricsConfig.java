@@ -0,0 +1,116 @@
+package com.example.runningservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 엔드포인트 지연시간, 요청당 SQL, 커넥션 풀 지표
+ * actuator 의 /actuator/prometheus (히스토그램 버킷 포함) 와 /actuator/perf (JSON 요약) 로 노출한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final double MIN_LATENCY_NANOS = Duration.ofMillis(1).toNanos();
+    private static final double MAX_LATENCY_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestSqlMetricsInterceptor(meterRegistry));
+    }
+
+    @Bean
+    public ServerRequestObservationConvention endpointObservationConvention() {
+        return new EndpointObservationConvention();
+    }
+
+    // MeterFilter, MeterBinder 는 MeterRegistry 를 만들 때 쓰이므로 static 으로 등록한다. (순환 참조 방지)
+    // 요청/SQL 지연시간은 히스토그램 버킷까지 내보낸다.
+    @Bean
+    public static MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id,
+                DistributionStatisticConfig config) {
+                if (id.getName().equals("http.server.requests")
+                    || id.getName().equals("http.server.requests.sql.time")) {
+                    return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue(MIN_LATENCY_NANOS)
+                        .maximumExpectedValue(MAX_LATENCY_NANOS)
+                        .build()
+                        .merge(config);
+                }
+                if (id.getName().equals("http.server.requests.sql.statements")) {
+                    return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                        .build()
+                        .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public static MeterBinder jdbcStatementMetrics(DataSource dataSource) {
+        return registry -> {
+            SqlMetricsDataSource sqlMetrics = unwrap(dataSource, SqlMetricsDataSource.class);
+            if (sqlMetrics != null) {
+                FunctionCounter.builder("jdbc.statements", sqlMetrics,
+                        SqlMetricsDataSource::getStatements)
+                    .description("실행한 SQL 수")
+                    .register(registry);
+                FunctionCounter.builder("jdbc.statements.time", sqlMetrics,
+                        SqlMetricsDataSource::getTotalTimeMillis)
+                    .description("SQL 실행 시간 합 (ms)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            }
+
+            // hikaricp.connections.* 는 스프링 부트가 등록한다. 여기서는 포화도(사용중 / 최대)만 더한다.
+            HikariDataSource hikari = unwrap(dataSource, HikariDataSource.class);
+            if (hikari != null) {
+                Gauge.builder("hikaricp.connections.saturation", hikari,
+                        MetricsConfig::saturation)
+                    .description("사용중 커넥션 / 최대 풀 크기")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+            }
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.runningservice.config;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/perf :: 성능 지표 요약 (JSON)
+ * /actuator/metrics 는 지표 이름마다 따로 조회해야 하므로, 자주 보는 지표를 태그별로 한 번에 돌려준다.
+ */
+@Component
+@Endpoint(id = "perf")
+@RequiredArgsConstructor
+public class PerformanceEndpoint {
+
+    // 섹션 이름 -> 지표 이름 prefix
+    private static final Map<String, String> SECTIONS = Map.of(
+        "endpoints", "http.server.requests",
+        "jdbc", "jdbc.",
+        "connectionPool", "hikaricp.connections",
+        "websocket", "websocket.",
+        "caches", "cache.",
+        "tokenBlacklist", "token.blacklist");
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> perf() {
+        Map<String, List<Map<String, Object>>> result = new LinkedHashMap<>();
+        SECTIONS.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(section -> result.put(section.getKey(), snapshot(section.getValue())));
+        return result;
+    }
+
+    private List<Map<String, Object>> snapshot(String namePrefix) {
+        List<Map<String, Object>> meters = new ArrayList<>();
+        meterRegistry.getMeters().stream()
+            .filter(meter -> meter.getId().getName().startsWith(namePrefix))
+            .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                .thenComparing(meter -> meter.getId().getTags().toString()))
+            .forEach(meter -> meters.add(describe(meter)));
+        return meters;
+    }
+
+    private Map<String, Object> describe(Meter meter) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("name", meter.getId().getName());
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : meter.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        description.put("tags", tags);
+        for (Measurement measurement : meter.measure()) {
+            description.put(measurement.getStatistic().getTagValueRepresentation(),
+                measurement.getValue());
+        }
+        return description;
+    }
+}
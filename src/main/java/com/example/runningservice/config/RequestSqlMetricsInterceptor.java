@@ -0,0 +1,52 @@
+package com.example.runningservice.config;
+
+import com.example.runningservice.config.SqlMetricsDataSource.SqlStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청 하나에서 실행한 SQL 횟수/시간을 컨트롤러 메서드별로 기록한다.
+ * - http.server.requests.sql.statements : 요청당 SQL 실행 횟수
+ * - http.server.requests.sql.time : 요청당 SQL 실행 시간 합
+ */
+@RequiredArgsConstructor
+public class RequestSqlMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        SqlMetricsDataSource.beginRequest();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+        Object handler, Exception ex) {
+        SqlStats stats = SqlMetricsDataSource.endRequest();
+        if (stats == null) {
+            return;
+        }
+        request.setAttribute(SqlMetricsDataSource.REQUEST_ATTRIBUTE, stats);
+
+        String controller = EndpointObservationConvention.controller(handler);
+        String method = EndpointObservationConvention.handler(handler);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+            .description("요청당 SQL 실행 횟수")
+            .tags("controller", controller, "handler", method)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("http.server.requests.sql.time")
+            .description("요청당 SQL 실행 시간 합")
+            .tags("controller", controller, "handler", method)
+            .register(meterRegistry)
+            .record(stats.nanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,30 +1,47 @@
 package com.example.runningservice.config;
 
+import com.example.runningservice.util.LocalS3Client;
+import java.nio.file.Paths;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 
+/**
+ * aws.s3.local.path 를 설정하면 STS / s3 대신 로컬 디렉토리 (LocalS3Client) 를 쓴다. (오프라인 개발/테스트용)
+ */
 @Configuration
 public class S3Config {
 
-    @Value("${aws.s3.roleArn}")
+    private static final String REMOTE = "'${aws.s3.local.path:}'.isEmpty()";
+    private static final String LOCAL = "!'${aws.s3.local.path:}'.isEmpty()";
+
+    @Value("${aws.s3.roleArn:}")
     private String roleARN;
 
     @Value("${aws.s3.region}")
     private Region region;
 
+    @Value("${aws.s3.local.path:}")
+    private String localPath;
+
     @Bean
+    @ConditionalOnExpression(REMOTE)
     public StsClient stsClient() {
         return StsClient.create();
     }
 
     @Bean
+    @ConditionalOnExpression(REMOTE)
     public AwsCredentialsProvider credentialsProvider(StsClient stsClient) {
         return StsAssumeRoleCredentialsProvider.builder()
             .stsClient(stsClient)
@@ -36,10 +53,37 @@ public class S3Config {
     }
 
     @Bean
+    @ConditionalOnExpression(REMOTE)
     public S3Client amazonS3Client(AwsCredentialsProvider credentialsProvider) {
         return S3Client.builder()
             .credentialsProvider(credentialsProvider)
             .region(region)
             .build();
     }
+
+    /**
+     * presigned url 서명은 네트워크 없이 되므로 로컬에서도 임의의 키로 서명한다.
+     */
+    @Bean
+    @ConditionalOnExpression(LOCAL)
+    public AwsCredentialsProvider localCredentialsProvider() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local"));
+    }
+
+    @Bean
+    @ConditionalOnExpression(LOCAL)
+    public S3Client localS3Client() {
+        return new LocalS3Client(Paths.get(localPath));
+    }
+
+    /**
+     * presigned url 서명용. 요청마다 만들지 않고 하나를 공유한다.
+     */
+    @Bean
+    public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider) {
+        return S3Presigner.builder()
+            .credentialsProvider(credentialsProvider)
+            .region(region)
+            .build();
+    }
 }
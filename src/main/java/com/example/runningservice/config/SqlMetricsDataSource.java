@@ -0,0 +1,116 @@
+package com.example.runningservice.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * SQL 실행 횟수/시간 집계
+ * Statement 의 execute* 호출마다 횟수와 소요 시간을 더한다. (JPA, JdbcTemplate 모두 포함, batch 는 1회)
+ * beginRequest ~ endRequest 사이에는 현재 스레드(요청) 몫도 따로 모은다.
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+    // 요청 처리 후 RequestSqlMetricsInterceptor 가 결과를 넣어 두는 request attribute
+    public static final String REQUEST_ATTRIBUTE = SqlMetricsDataSource.class.getName() + ".stats";
+
+    private static final ThreadLocal<long[]> REQUEST_STATS = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    public SqlMetricsDataSource(DataSource target) {
+        super(target);
+    }
+
+    public static void beginRequest() {
+        REQUEST_STATS.set(new long[2]);
+    }
+
+    /**
+     * @return beginRequest 이후 현재 스레드에서 실행한 SQL (시작하지 않았으면 null)
+     */
+    public static SqlStats endRequest() {
+        long[] stats = REQUEST_STATS.get();
+        REQUEST_STATS.remove();
+        return stats == null ? null : new SqlStats(stats[0], stats[1]);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return measured(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return measured(super.getConnection(username, password));
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public double getTotalTimeMillis() {
+        return nanos.sum() / 1_000_000.0;
+    }
+
+    // createStatement, prepareStatement, prepareCall 이 돌려주는 Statement 를 감싼다.
+    private Connection measured(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement
+                    && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return measured(statement, method.getReturnType());
+                }
+                return result;
+            });
+    }
+
+    private Statement measured(Statement statement, Class<?> type) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+            new Class<?>[]{type}, (proxy, method, args) -> {
+                if (!method.getName().startsWith("execute")) {
+                    return invoke(statement, method, args);
+                }
+                long start = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    record(System.nanoTime() - start);
+                }
+            });
+    }
+
+    private void record(long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+        long[] stats = REQUEST_STATS.get();
+        if (stats != null) {
+            stats[0]++;
+            stats[1] += elapsedNanos;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args)
+        throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    public record SqlStats(long statements, long nanos) {
+
+        public double millis() {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.runningservice.aop.CrewRoleCheck;
 import com.example.runningservice.dto.activity.ActivityFilterDto;
 import com.example.runningservice.dto.activity.ActivityRequestDto;
 import com.example.runningservice.dto.activity.ActivityResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.enums.ActivityCategory;
 import com.example.runningservice.service.ActivityService;
 import com.example.runningservice.util.LoginUser;
@@ -98,6 +99,27 @@ public class ActivityController {
                 .build(), pageable));
     }
 
+    /**
+     * 크루 (정기/번개)러닝 날짜 구간별 일정 조회 (커서) :: 첫 페이지는 cursor= (빈 값)
+     */
+    @GetMapping(value = "/crew/{crewId}/activity/date", params = "cursor")
+    @CrewRoleCheck(role = {"LEADER", "MEMBER", "STAFF"})
+    public ResponseEntity<CursorSliceResponseDto<ActivityResponseDto>> getCrewActivityByDateCursor(
+        @LoginUser Long userId, @PathVariable("crewId") Long crewId,
+        @RequestParam(value = "startDate", required = false) LocalDate startDate,
+        @RequestParam(value = "endDate", required = false) LocalDate endDate,
+        @RequestParam(value = "category", required = false) ActivityCategory category,
+        @RequestParam(value = "cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(activityService.getCrewActivityByDateCursor(crewId, userId,
+            ActivityFilterDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .category(category)
+                .build(), cursor, size));
+    }
+
     /**
      * 다가오는 크루 (정기/번개)러닝 일정 조회
      */
@@ -8,6 +8,7 @@ import com.example.runningservice.dto.crew.CrewFilterDto.CrewInfo;
 import com.example.runningservice.dto.crew.CrewJoinStatusResponseDto;
 import com.example.runningservice.dto.crew.CrewRoleResponseDto;
 import com.example.runningservice.dto.crew.CrewUpdateRequestDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.enums.Gender;
 import com.example.runningservice.enums.OccupancyStatus;
 import com.example.runningservice.enums.Region;
@@ -109,4 +110,31 @@ public class CrewController {
             .occupancyStatus(occupancyStatus)
             .build(), pageable));
     }
+
+    /**
+     * 전체 크루 필터링 조회 (커서) :: cursor 파라미터가 있으면 커서 방식으로 조회한다. 첫 페이지는 cursor= (빈 값)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSliceResponseDto<CrewJoinStatusResponseDto>> getCrewListByCursor(
+        @LoginUser Long userId,
+        @RequestParam(value = "activityRegion", required = false) Region activityRegion,
+        @RequestParam(value = "minYear", required = false) Integer minYear,
+        @RequestParam(value = "maxYear", required = false) Integer maxYear,
+        @RequestParam(value = "gender", required = false) Gender gender,
+        @RequestParam(value = "runRecordPublic", required = false) Boolean runRecordPublic,
+        @RequestParam(value = "leaderRequired", required = false) Boolean leaderRequired,
+        @RequestParam(value = "occupancyStatus", required = false) OccupancyStatus occupancyStatus,
+        @RequestParam(value = "cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(crewService.getCrewListByCursor(userId, CrewInfo.builder()
+            .activityRegion(activityRegion)
+            .leaderRequired(leaderRequired)
+            .runRecordPublic(runRecordPublic)
+            .maxYear(maxYear)
+            .minYear(minYear)
+            .gender(gender)
+            .occupancyStatus(occupancyStatus)
+            .build(), cursor, size));
+    }
 }
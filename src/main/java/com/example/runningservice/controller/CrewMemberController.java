@@ -8,11 +8,15 @@ import com.example.runningservice.dto.crewMember.CrewMemberBlackListResponseDto;
 import com.example.runningservice.dto.crewMember.CrewMemberResponseDetailDto;
 import com.example.runningservice.dto.crewMember.GetCrewMemberRequestDto;
 import com.example.runningservice.dto.crewMember.CrewMemberResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
+import com.example.runningservice.entity.CrewMemberEntity;
+import com.example.runningservice.enums.ImageVariant;
 import com.example.runningservice.service.CrewMemberService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.LoginUser;
 import com.example.runningservice.util.S3FileUtil;
 import jakarta.validation.Valid;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -49,12 +53,43 @@ public class CrewMemberController {
         @ModelAttribute @Valid GetCrewMemberRequestDto.Filter filterDto,
         @PageableDefault(page = 0, size = 10, sort = "joinedAt", direction = Direction.ASC) Pageable pageable) {
 
-        Page<CrewMemberResponseDto> pageDto = crewMemberService.getCrewMembers(crewId, filterDto,
-            pageable).map(entity -> CrewMemberResponseDto.of(entity, s3FileUtil));
+        Page<CrewMemberEntity> crewMembers = crewMemberService.getCrewMembers(crewId, filterDto,
+            pageable);
+        Map<String, String> profileImageUrls = s3FileUtil.presignAll(crewMembers.stream()
+            .map(entity -> ImageVariant.THUMB.of(entity.getMember().getProfileImageUrl()))
+            .toList());
+
+        Page<CrewMemberResponseDto> pageDto = crewMembers.map(entity -> CrewMemberResponseDto.of(
+            entity,
+            profileImageUrls.get(ImageVariant.THUMB.of(entity.getMember().getProfileImageUrl()))));
 
         return ResponseEntity.ok(pageDto);
     }
 
+    /**
+     * 크루원 리스트 조회 (커서) :: 가입일 순. 첫 페이지는 cursor= (빈 값)
+     */
+    @GetMapping(value = "/{crew_id}/member/list", params = "cursor")
+    @CrewRoleCheck(role = {"LEADER", "STAFF", "MEMBER"})
+    public ResponseEntity<CursorSliceResponseDto<CrewMemberResponseDto>> getCrewMembersByCursor(
+        @LoginUser Long userId,
+        @PathVariable("crew_id") Long crewId,
+        @ModelAttribute @Valid GetCrewMemberRequestDto.Filter filterDto,
+        @RequestParam(value = "cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        CursorSliceResponseDto<CrewMemberEntity> crewMembers = crewMemberService
+            .getCrewMembersByCursor(crewId, filterDto, cursor, size);
+        Map<String, String> profileImageUrls = s3FileUtil.presignAll(
+            crewMembers.getContent().stream()
+                .map(entity -> ImageVariant.THUMB.of(entity.getMember().getProfileImageUrl()))
+                .toList());
+
+        return ResponseEntity.ok(crewMembers.map(entity -> CrewMemberResponseDto.of(
+            entity,
+            profileImageUrls.get(ImageVariant.THUMB.of(entity.getMember().getProfileImageUrl())))));
+    }
+
     /**
      * 크루원 개별 상세조회
      */
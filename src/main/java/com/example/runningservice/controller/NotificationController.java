@@ -1,6 +1,8 @@
 package com.example.runningservice.controller;
 
 import com.example.runningservice.dto.NotificationResponseDto;
+import com.example.runningservice.dto.NotificationUnreadCountResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.service.notification.NotificationService;
 import com.example.runningservice.util.LoginUser;
 import java.util.List;
@@ -13,6 +15,7 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -59,12 +62,41 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getNotification(loginId, pageable));
     }
 
+    /**
+     * 사용자에게 온 알림을 커서 방식으로 조회한다. 첫 페이지는 cursor= (빈 값)
+     */
+    @GetMapping(value = "/notification", params = "cursor")
+    public ResponseEntity<CursorSliceResponseDto<NotificationResponseDto>> getNotificationByCursor(
+        @LoginUser Long loginId,
+        @RequestParam(value = "cursor") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getNotificationByCursor(loginId, cursor, size));
+    }
+
+    /**
+     * 읽지 않은 알림 수 (배지)를 조회한다.
+     */
+    @GetMapping("/notification/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponseDto> getUnreadCount(
+        @LoginUser Long loginId) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(loginId));
+    }
+
+    /**
+     * 사용자에게 온 알림을 모두 읽음 처리한다.
+     */
+    @PutMapping("/notification")
+    public ResponseEntity<NotificationUnreadCountResponseDto> readAllNotifications(
+        @LoginUser Long loginId) {
+        return ResponseEntity.ok(notificationService.readAllNotifications(loginId));
+    }
+
     /**
      * 사용자가 알림을 읽어서 읽은 표시를 남긴다.
      */
     @PutMapping("/notification/{notificationId}")
-    public ResponseEntity<NotificationResponseDto> readNotification(
+    public ResponseEntity<NotificationResponseDto> readNotification(@LoginUser Long loginId,
         @PathVariable("notificationId") Long notificationId) {
-        return ResponseEntity.ok(notificationService.readNotification(notificationId));
+        return ResponseEntity.ok(notificationService.readNotification(loginId, notificationId));
     }
 }
@@ -2,8 +2,12 @@ package com.example.runningservice.controller.chat;
 
 import com.example.runningservice.dto.chat.ChatRoomDetailsDto;
 import com.example.runningservice.dto.chat.ChatRoomRequestDto;
+import com.example.runningservice.dto.chat.MessageResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.entity.chat.ChatRoomEntity;
+import com.example.runningservice.service.chat.ChatHistoryService;
 import com.example.runningservice.service.chat.ChatRoomService;
+import com.example.runningservice.util.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ChatRoomController {
     private final ChatRoomService chatRoomService;
+    private final ChatHistoryService chatHistoryService;
 
     // 크루 전체 채팅방 조회
     @GetMapping("/{member_id}/chatrooms")
@@ -24,6 +29,16 @@ public class ChatRoomController {
         return ResponseEntity.ok(chatRoomService.getCrewChatRoomListForMember(crewId, memberId));
     }
 
+    // 채팅방 메시지 이력 조회 (최신순) : 다음 페이지는 before = 응답의 nextCursor
+    @GetMapping("/chatroom/{chatroom_id}/message")
+    public ResponseEntity<CursorSliceResponseDto<MessageResponseDto>> getMessages(@LoginUser Long loginId,
+                                                                                 @PathVariable("crew_id") Long crewId,
+                                                                                 @PathVariable("chatroom_id") Long roomId,
+                                                                                 @RequestParam(value = "before", required = false) Long before,
+                                                                                 @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(chatHistoryService.getMessages(crewId, roomId, loginId, before, limit));
+    }
+
     @PostMapping("/chatroom/personal")
     public ResponseEntity<Void> createPersonalChatRoom(@PathVariable("crew_id") Long crewId,
                                                        @RequestParam("memberA_id") Long memberAId,
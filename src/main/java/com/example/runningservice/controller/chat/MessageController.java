@@ -1,47 +1,33 @@
-//package com.example.runningservice.controller.chat;
-//
-//import com.example.runningservice.dto.chat.MessageDeleteResponseDto;
-//import com.example.runningservice.dto.chat.MessageEditRequestDto;
-//import com.example.runningservice.dto.chat.MessageRequestDto;
-//import com.example.runningservice.dto.chat.MessageResponseDto;
-//import com.example.runningservice.entity.chat.MessageEntity;
-//import com.example.runningservice.service.chat.MessageService;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.amqp.rabbit.core.RabbitTemplate;
-//import org.springframework.messaging.handler.annotation.DestinationVariable;
-//import org.springframework.messaging.handler.annotation.MessageMapping;
-//import org.springframework.messaging.handler.annotation.Payload;
-//import org.springframework.messaging.handler.annotation.SendTo;
-//import org.springframework.stereotype.Controller;
-//import org.springframework.web.bind.annotation.GetMapping;
-//import org.springframework.web.bind.annotation.PathVariable;
-//
-//@Controller
-//@RequiredArgsConstructor
-//@Slf4j
-//public class MessageController {
-//
-//    private static final String CHAT_EXCHANGE_NAME = "chat.exchange";
-//
-//    private final MessageService messageService;
-//    private final RabbitTemplate rabbitTemplate;
-//
-//    @MessageMapping("chat.talk.{room_id}")
-//    public void sendMessage(@DestinationVariable("room_id") Long roomId,
-//                                          @Payload MessageRequestDto messageRequestDto) throws Exception {
-//
-//        MessageEntity messageEntity = messageService.saveMessage(messageRequestDto);
-//        if (messageEntity != null) {
-//            MessageResponseDto messageResponseDto = MessageResponseDto.of(messageEntity);
-//            rabbitTemplate.convertAndSend(CHAT_EXCHANGE_NAME, "chatroom." + roomId, messageResponseDto);
-//            log.info("Message sent to RabbitMQ: {}", messageResponseDto);
-//        } else {
-//            log.error("Failed to create chat message User might not be in the chat room. ChatJoin: {}",
-//                messageRequestDto.getChatJoinId());
-//        }
-//    }
-//
+package com.example.runningservice.controller.chat;
+
+import com.example.runningservice.dto.chat.MessageRequestDto;
+import com.example.runningservice.service.chat.MessageService;
+import com.example.runningservice.websocket.StompPrincipal;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class MessageController {
+
+    private final MessageService messageService;
+
+    // 메시지 전송 :: /topic/chatroom.{room_id} 로 바로 브로드캐스트, 저장은 비동기 batch
+    // 보낸 사람은 CONNECT 때 인증한 회원 (StompAuthChannelInterceptor)
+    @MessageMapping("chat.talk.{room_id}")
+    public void sendMessage(@DestinationVariable("room_id") Long roomId,
+                            @Payload MessageRequestDto messageRequestDto,
+                            Principal principal) {
+        messageService.sendMessage(roomId, ((StompPrincipal) principal).getMemberId(),
+            messageRequestDto);
+    }
+
 //    // 메시지 수정
 //    @MessageMapping("chat.edit.{room_id}.{message_id}")
 //    public void editMessage(@DestinationVariable("room_id") Long roomId,
@@ -69,18 +55,9 @@
 //        rabbitTemplate.convertAndSend(CHAT_EXCHANGE_NAME, "chatroom." + roomId, messageDeleteResponseDto);
 //        log.info("Deleted message sent to RabbitMQ: {}", messageDeleteResponseDto);
 //    }
-////
-////    // 메시지 조회
-////    @GetMapping("/crew/{crew_id}/chatroom/{chatroom_id}/message")
-////    public void getChatRoomMessages(@PathVariable("crew_id") Long crewId,
-////                                    @PathVariable("chatroom_id") Long roomId) {
-////
-////    }
-//
-//    // 답장 기능
-//
-//    // 멘션 기능
-//
-//
-//
-//}
+
+    // 답장 기능
+
+    // 멘션 기능
+
+}
@@ -0,0 +1,22 @@
+package com.example.runningservice.dto;
+
+import com.example.runningservice.enums.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 알림 설정 projection (설정이 없으면 켜진 것으로 본다)
+@Getter
+@AllArgsConstructor
+public class NotificationPreferenceDto {
+
+    private Notification activityNoti;
+    private Notification chattingNoti;
+
+    public boolean isActivityOn() {
+        return activityNoti != Notification.OFF;
+    }
+
+    public boolean isChattingOn() {
+        return chattingNoti != Notification.OFF;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.runningservice.dto;
 
+import com.example.runningservice.enums.NotificationStream;
 import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import lombok.AllArgsConstructor;
@@ -18,8 +19,15 @@ public class NotificationRequestDto {
     private String topic;
     private Long relatedId;
     private TableType relatedType;
+    private NotificationStream stream;
+    private Long streamId;
 
     public void setNotiMessage(String message) {
         this.message = message;
     }
+
+    public void setStream(NotificationStream stream, Long streamId) {
+        this.stream = stream;
+        this.streamId = streamId;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.runningservice.dto;
 
+import com.example.runningservice.entity.NotificationEntity;
 import com.example.runningservice.entity.UserNotificationEntity;
 import com.example.runningservice.enums.NotificationType;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -26,7 +27,7 @@ public class NotificationResponseDto {
 
     public static NotificationResponseDto of(UserNotificationEntity notificationEntity) {
         return NotificationResponseDto.builder()
-            .notificationId(notificationEntity.getId())
+            .notificationId(notificationEntity.getNotification().getId())
             .type(notificationEntity.getNotification().getType())
             .relatedId(notificationEntity.getNotification().getRelatedId())
             .message(notificationEntity.getNotification().getMessage())
@@ -34,4 +35,17 @@ public class NotificationResponseDto {
             .readAt(notificationEntity.getReadAt())
             .build();
     }
+
+    // 스트림 알림 : 읽은 시각은 워터마크/읽음 예외에서 구한다.
+    public static NotificationResponseDto of(NotificationEntity notificationEntity,
+        LocalDateTime readAt) {
+        return NotificationResponseDto.builder()
+            .notificationId(notificationEntity.getId())
+            .type(notificationEntity.getType())
+            .relatedId(notificationEntity.getRelatedId())
+            .message(notificationEntity.getMessage())
+            .createdAt(notificationEntity.getCreatedAt())
+            .readAt(readAt)
+            .build();
+    }
 }
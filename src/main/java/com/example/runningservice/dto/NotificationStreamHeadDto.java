@@ -0,0 +1,13 @@
+package com.example.runningservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 스트림의 마지막 알림 id (모두 읽음 처리 시 워터마크 위치)
+@Getter
+@AllArgsConstructor
+public class NotificationStreamHeadDto {
+
+    private Long streamId;
+    private Long lastId;
+}
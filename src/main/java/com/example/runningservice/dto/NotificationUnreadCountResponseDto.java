@@ -0,0 +1,15 @@
+package com.example.runningservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationUnreadCountResponseDto {
+
+    private int unreadCount;
+}
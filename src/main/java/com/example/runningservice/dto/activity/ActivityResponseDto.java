@@ -33,6 +33,15 @@ public class ActivityResponseDto {
     private boolean isAuthor;
 
     public static ActivityResponseDto fromEntity(ActivityEntity activityEntity, Long loginId) {
+        return fromEntity(activityEntity, loginId,
+            (activityEntity.getParticipant() != null) ? activityEntity.getParticipant().size() : 0);
+    }
+
+    /**
+     * 목록 조회 시 참석자 목록을 읽지 않고 일정별로 센 참석자 수를 사용한다.
+     */
+    public static ActivityResponseDto fromEntity(ActivityEntity activityEntity, Long loginId,
+        int participant) {
         return ActivityResponseDto.builder()
             .activityId(activityEntity.getId())
             .author(activityEntity.getAuthor().getNickName())
@@ -45,9 +54,7 @@ public class ActivityResponseDto {
             .endTime(activityEntity.getEndTime())
             .memo(activityEntity.getMemo())
             .location(activityEntity.getLocation())
-            .participant(
-                (activityEntity.getParticipant() != null) ?
-                    activityEntity.getParticipant().size() : 0)
+            .participant(participant)
             .isAuthor(activityEntity.getAuthor().getId().equals(loginId))
             .build();
     }
@@ -0,0 +1,13 @@
+package com.example.runningservice.dto.activity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일정별 참석자 수 (일정 목록 조회용)
+@Getter
+@AllArgsConstructor
+public class ParticipantCountDto {
+
+    private Long activityId;
+    private Long count;
+}
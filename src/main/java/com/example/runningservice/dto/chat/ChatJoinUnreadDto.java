@@ -0,0 +1,13 @@
+package com.example.runningservice.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatJoinUnreadDto {
+
+    private Long roomId;
+    private Long memberId;
+    private int unreadCount;
+}
@@ -21,6 +21,9 @@ public class MessageRequestDto {
             .messageType(type)
             .content(content)
             .imageUrl(imageUrl)
+            .roomId(chatJoin.getChatRoom().getId())
+            .senderId(chatJoin.getMember().getId())
+            .senderNickName(chatJoin.getMember().getNickName())
             .chatJoin(chatJoin)
             .build();
     }
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class MessageResponseDto {
+    // 저장 전에 브로드캐스트하는 메시지는 null (이력 조회에서만 내려간다)
+    private Long id;
     private Message type;
     private Long roomId;
     private String sender;
@@ -21,8 +23,9 @@ public class MessageResponseDto {
     private String imageUrl;
     private LocalDateTime createdAt;
 
-    public static MessageResponseDto of (MessageEntity messageEntity) throws Exception {
+    public static MessageResponseDto of (MessageEntity messageEntity) {
         return MessageResponseDto.builder()
+            .id(messageEntity.getId())
             .roomId(messageEntity.getRoomId())
             .type(messageEntity.getMessageType())
             .content(messageEntity.getContent())
@@ -3,7 +3,6 @@ package com.example.runningservice.dto.crew;
 import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.util.S3FileUtil;
-import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,15 +24,20 @@ public class CrewBaseResponseDto {
     private String activityRegion;
 
     public static CrewBaseResponseDto fromEntity(CrewEntity crewEntity, S3FileUtil s3FileUtil) {
+        return fromEntity(crewEntity, s3FileUtil.createPresignedUrl(crewEntity.getCrewImage()));
+    }
+
+    /**
+     * 목록 조회 시 presignAll 로 미리 서명한 이미지 url 을 사용한다.
+     */
+    public static CrewBaseResponseDto fromEntity(CrewEntity crewEntity, String crewImageUrl) {
         return CrewBaseResponseDto.builder()
             .crewId(crewEntity.getId())
             .leader(crewEntity.getLeader().getNickName())
             .crewName(crewEntity.getCrewName())
-            .crewImage(s3FileUtil.createPresignedUrl(crewEntity.getCrewImage()))
+            .crewImage(crewImageUrl)
             .crewCapacity(crewEntity.getCrewCapacity())
-            .crewOccupancy(Optional.ofNullable(crewEntity.getCrewMember())
-                .map(List::size)
-                .orElse(0))
+            .crewOccupancy(crewEntity.getMemberCount())
             .activityRegion(Optional.ofNullable(crewEntity.getActivityRegion())
                 .map(Region::getRegionName)
                 .orElse(null))
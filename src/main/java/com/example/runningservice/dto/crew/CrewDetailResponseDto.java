@@ -41,7 +41,7 @@ public class CrewDetailResponseDto extends CrewBaseResponseDto {
                 .runRecordOpen(crewEntity.getRunRecordOpen())
                 .build())
             .leader(crewEntity.getLeader().getNickName())
-            .crewOccupancy(crewEntity.getCrewMember().size())
+            .crewOccupancy(crewEntity.getMemberCount())
             .runningCount(activityRepository.countByCrew_Id(crewEntity.getId()))
             .isJoined(isJoined)
             .build();
@@ -2,6 +2,7 @@ package com.example.runningservice.dto.crewMember;
 
 import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.ImageVariant;
 import com.example.runningservice.util.S3FileUtil;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -15,11 +16,20 @@ public class CrewMemberResponseDto {
     private String memberProfileImage;
 
     public static CrewMemberResponseDto of(CrewMemberEntity crewMemberEntity, S3FileUtil s3FileUtil) {
+        return of(crewMemberEntity, s3FileUtil.createPresignedUrl(
+            ImageVariant.THUMB.of(crewMemberEntity.getMember().getProfileImageUrl())));
+    }
+
+    /**
+     * 목록 조회 시 presignAll 로 미리 서명한 프로필 이미지 url 을 사용한다.
+     */
+    public static CrewMemberResponseDto of(CrewMemberEntity crewMemberEntity,
+        String memberProfileImageUrl) {
         MemberEntity member = crewMemberEntity.getMember();
         return CrewMemberResponseDto.builder()
             .crewMemberId(crewMemberEntity.getId())
             .memberNickName(member.getNickName())
-            .memberProfileImage(s3FileUtil.createPresignedUrl(member.getProfileImageUrl()))
+            .memberProfileImage(memberProfileImageUrl)
             .build();
     }
 }
@@ -0,0 +1,49 @@
+package com.example.runningservice.dto.cursor;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 목록 응답 : 전체 개수 없이 다음 페이지 커서만 내려준다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorSliceResponseDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * size + 1 개를 조회한 결과로 슬라이스를 만든다. 마지막 요소의 커서가 다음 페이지의 시작점이 된다.
+     */
+    public static <T> CursorSliceResponseDto<T> of(List<T> fetched, int size,
+        Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return CursorSliceResponseDto.<T>builder()
+            .content(content)
+            .size(content.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    public <R> CursorSliceResponseDto<R> map(Function<T, R> converter) {
+        return CursorSliceResponseDto.<R>builder()
+            .content(content.stream().map(converter).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
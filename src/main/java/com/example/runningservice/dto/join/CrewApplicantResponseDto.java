@@ -1,6 +1,7 @@
 package com.example.runningservice.dto.join;
 
 import com.example.runningservice.entity.JoinApplyEntity;
+import com.example.runningservice.enums.ImageVariant;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -23,7 +24,7 @@ public class CrewApplicantResponseDto {
     public static CrewApplicantResponseDto of(JoinApplyEntity entity) {
         return CrewApplicantResponseDto.builder()
             .nickName(entity.getMember().getNickName())
-            .profileImage(entity.getMember().getProfileImageUrl())
+            .profileImage(ImageVariant.THUMB.of(entity.getMember().getProfileImageUrl()))
             .message(entity.getMessage())
             .appliedAt(entity.getCreatedAt())
             .build();
@@ -1,6 +1,7 @@
 package com.example.runningservice.dto.join;
 
 import com.example.runningservice.entity.JoinApplyEntity;
+import com.example.runningservice.enums.ImageVariant;
 import com.example.runningservice.enums.JoinStatus;
 import com.example.runningservice.enums.Region;
 import jakarta.validation.constraints.Size;
@@ -38,10 +39,10 @@ public class JoinApplyDto {
             return SimpleResponse.builder()
                 .joinApplyId(joinApplyEntity.getId())
                 .crewName(joinApplyEntity.getCrew().getCrewName())
-                .crewImage(joinApplyEntity.getCrew().getCrewImage())
+                .crewImage(ImageVariant.THUMB.of(joinApplyEntity.getCrew().getCrewImage()))
                 .status(joinApplyEntity.getStatus())
                 .capacity(joinApplyEntity.getCrew().getCrewCapacity())
-                .currentMemberCount(joinApplyEntity.getCrew().getCrewMember().size())
+                .currentMemberCount(joinApplyEntity.getCrew().getMemberCount())
                 .appliedAt(joinApplyEntity.getCreatedAt())
                 .updatedAt(joinApplyEntity.getUpdatedAt())
                 .build();
@@ -71,7 +72,7 @@ public class JoinApplyDto {
                 .crewImage(joinApplyEntity.getCrew().getCrewImage())
                 .status(joinApplyEntity.getStatus())
                 .capacity(joinApplyEntity.getCrew().getCrewCapacity())
-                .currentMemberCount(joinApplyEntity.getCrew().getCrewMember().size())
+                .currentMemberCount(joinApplyEntity.getCrew().getMemberCount())
                 .applyMessage(joinApplyEntity.getMessage())
                 .description(joinApplyEntity.getCrew().getDescription())
                 .activityRegion(joinApplyEntity.getCrew().getActivityRegion())
@@ -1,6 +1,7 @@
 package com.example.runningservice.dto.member;
 
 import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.Notification;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.enums.Visibility;
 import lombok.AllArgsConstructor;
@@ -27,4 +28,8 @@ public class UpdateMemberRequestDto {
     private Visibility genderVisibility;
     private Visibility birthYearVisibility;
     private Visibility runProfileVisibility;
+
+    // 알림 설정 (보내지 않으면 그대로 둔다)
+    private Notification activityNoti;
+    private Notification chattingNoti;
 }
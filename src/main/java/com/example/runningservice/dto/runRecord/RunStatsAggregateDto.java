@@ -0,0 +1,21 @@
+package com.example.runningservice.dto.runRecord;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원별 러닝 기록 집계 결과 (run_stats 재계산용)
+ */
+@Getter
+@AllArgsConstructor
+public class RunStatsAggregateDto {
+
+    private Long userId;
+    private Long runCount;
+    private Double totalDistance;
+    private Long totalRunningTime;
+    private Long paceSum;
+    private Integer bestPace;
+    private LocalDateTime lastRunDate;
+}
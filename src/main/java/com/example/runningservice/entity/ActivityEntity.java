@@ -8,10 +8,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -27,12 +30,16 @@ import org.hibernate.envers.AuditOverride;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "activity")
+@Table(name = "activity", indexes = {
+    // 크루 일정 날짜별 조회 / 커서 조회 : (date, id) 키셋
+    @Index(name = "idx_activity_crew_date_id", columnList = "crew_id, date, id")
+})
 @AuditOverride(forClass = BaseEntity.class)
 public class ActivityEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_seq")
+    @SequenceGenerator(name = "activity_seq", sequenceName = "activity_seq", allocationSize = 50)
     private Long id;
     @ManyToOne
     @JoinColumn(name = "author_id")
@@ -6,6 +6,7 @@ import com.example.runningservice.enums.Gender;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.util.converter.GenderConverter;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,6 +14,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,6 +24,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.envers.AuditOverride;
 
 @Getter
@@ -29,7 +32,13 @@ import org.hibernate.envers.AuditOverride;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
-@Table(name = "crew")
+@Table(name = "crew", indexes = {
+    // 지역 + 정원 필터링, 크루원 수 정렬 (크루 리스트 조회)
+    @Index(name = "idx_crew_region_member_count",
+        columnList = "activity_region, member_count, crew_capacity"),
+    // 커서 조회 : (member_count DESC, id DESC) 키셋
+    @Index(name = "idx_crew_member_count_id", columnList = "member_count, id")
+})
 @AuditOverride(forClass = BaseEntity.class)
 public class CrewEntity extends BaseEntity {
 
@@ -53,6 +62,10 @@ public class CrewEntity extends BaseEntity {
     private Boolean leaderRequired;
     @OneToMany(mappedBy = "crew", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CrewMemberEntity> crewMember;
+    // 크루원 수 :: CrewRepository 의 증감 쿼리로만 변경한다. (stale 값 덮어쓰기 방지)
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private int memberCount;
 
     public void updateCrewImageUrl(String imageUrl) {
         this.crewImage = imageUrl;
@@ -70,6 +83,7 @@ public class CrewEntity extends BaseEntity {
             .maxYear(dto.getMaxYear())
             .gender(dto.getGender())
             .leaderRequired(dto.getLeaderRequired())
+            .memberCount(1) // 크루 생성 시 리더가 함께 가입된다.
             .build();
     }
 
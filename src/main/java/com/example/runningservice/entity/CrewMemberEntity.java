@@ -10,8 +10,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -29,12 +31,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @Table(name = "crew_member", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"member_id", "crew_id"})
+}, indexes = {
+    // 크루원 목록 커서 조회 : (joined_at, id) 키셋
+    @Index(name = "idx_crew_member_crew_joined_at_id", columnList = "crew_id, joined_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class CrewMemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crew_member_seq")
+    @SequenceGenerator(name = "crew_member_seq", sequenceName = "crew_member_seq",
+        allocationSize = 50)
     private Long id;
     @ManyToOne
     @JoinColumn(name = "member_id")
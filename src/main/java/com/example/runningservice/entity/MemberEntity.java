@@ -30,6 +30,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.envers.AuditOverride;
 
 @Entity(name = "member")
@@ -62,7 +63,9 @@ public class MemberEntity extends BaseEntity {
     private Gender gender;
     @Enumerated(EnumType.STRING)
     private Region activityRegion;
+    // 목록 조회 시 회원마다 권한을 따로 읽지 않도록 IN 으로 모아서 읽는다.
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @CollectionTable(name = "member_roles", joinColumns = @JoinColumn(name = "member_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "role")
@@ -126,6 +129,12 @@ public class MemberEntity extends BaseEntity {
         this.phoneNumberVisibility = form.getPhoneNumberVisibility();
         this.genderVisibility = form.getGenderVisibility();
         this.birthYearVisibility = form.getBirthYearVisibility();
+        if (form.getActivityNoti() != null) {
+            this.activityNoti = form.getActivityNoti();
+        }
+        if (form.getChattingNoti() != null) {
+            this.chattingNoti = form.getChattingNoti();
+        }
     }
 
     public void updateAdditionalInfo(AdditionalInfoRequestDto form, AESUtil aesUtil) {
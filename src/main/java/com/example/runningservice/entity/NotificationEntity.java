@@ -1,6 +1,7 @@
 package com.example.runningservice.entity;
 
 import com.example.runningservice.dto.NotificationRequestDto;
+import com.example.runningservice.enums.NotificationStream;
 import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import jakarta.persistence.Entity;
@@ -10,6 +11,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -24,12 +27,19 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+    // 스트림 알림 조회 : 크루/채팅방마다 id 역순 탐색
+    @Index(name = "idx_notification_stream", columnList = "stream, stream_id, id"),
+    // 보관 기간 기준 알림 id 조회
+    @Index(name = "idx_notification_created_at", columnList = "created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class NotificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq",
+        allocationSize = 50)
     private Long id;
     @Enumerated(EnumType.STRING)
     private NotificationType type;
@@ -39,6 +49,10 @@ public class NotificationEntity {
     private Long relatedId;
     @Enumerated(EnumType.STRING)
     private TableType relatedType;
+    // 크루/채팅방 단위로 한 번만 저장한 알림이면 스트림, 사용자별로 저장한 알림이면 null
+    @Enumerated(EnumType.STRING)
+    private NotificationStream stream;
+    private Long streamId;
 
     public static NotificationEntity toEntity(NotificationRequestDto notificationDto) {
         return NotificationEntity.builder()
@@ -46,6 +60,8 @@ public class NotificationEntity {
             .message(notificationDto.getMessage())
             .relatedType(notificationDto.getRelatedType())
             .relatedId(notificationDto.getRelatedId())
+            .stream(notificationDto.getStream())
+            .streamId(notificationDto.getStreamId())
             .build();
     }
 }
@@ -0,0 +1,87 @@
+package com.example.runningservice.entity;
+
+import com.example.runningservice.enums.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 알림 전송 outbox :: 알림과 같은 트랜잭션에서 저장하고, NotificationOutboxDispatcher 가 수신자 저장/웹소켓 전송을 한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_status", columnList = "status, next_attempt_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutboxEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq",
+        allocationSize = 50)
+    private Long id;
+    private Long notificationId;
+    private String topic;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+    private int recipientCount;
+    @CreatedDate
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    public static NotificationOutboxEntity of(NotificationEntity notification, String topic) {
+        return NotificationOutboxEntity.builder()
+            .notificationId(notification.getId())
+            .topic(topic)
+            .status(OutboxStatus.PENDING)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+
+    public void sent(int recipientCount) {
+        this.status = OutboxStatus.SENT;
+        this.recipientCount = recipientCount;
+        this.sentAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 시 지수 백오프로 다시 시도하고, maxAttempts 번 실패하면 FAILED 로 남긴다.
+     */
+    public void retryLater(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error
+            : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        long backoffSeconds = Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+    }
+}
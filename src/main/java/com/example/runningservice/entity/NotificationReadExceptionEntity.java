@@ -0,0 +1,63 @@
+package com.example.runningservice.entity;
+
+import com.example.runningservice.enums.NotificationStream;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 워터마크보다 뒤에서 읽은 스트림 알림 :: 워터마크가 따라오면 지운다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_read_exception", indexes = {
+    @Index(name = "idx_notification_read_exception_stream",
+        columnList = "member_id, stream, stream_id, notification_id"),
+    // 보관 기간이 지난 스트림 알림 삭제 시 정리
+    @Index(name = "idx_notification_read_exception_notification_id",
+        columnList = "notification_id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_notification_read_exception_member_notification",
+        columnNames = {"member_id", "notification_id"})
+})
+public class NotificationReadExceptionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE,
+        generator = "notification_read_exception_seq")
+    @SequenceGenerator(name = "notification_read_exception_seq",
+        sequenceName = "notification_read_exception_seq", allocationSize = 50)
+    private Long id;
+    private Long memberId;
+    private Long notificationId;
+    @Enumerated(EnumType.STRING)
+    private NotificationStream stream;
+    private Long streamId;
+    private LocalDateTime readAt;
+
+    public static NotificationReadExceptionEntity of(Long memberId,
+        NotificationEntity notification) {
+        return NotificationReadExceptionEntity.builder()
+            .memberId(memberId)
+            .notificationId(notification.getId())
+            .stream(notification.getStream())
+            .streamId(notification.getStreamId())
+            .readAt(LocalDateTime.now())
+            .build();
+    }
+}
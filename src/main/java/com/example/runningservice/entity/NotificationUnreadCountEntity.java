@@ -0,0 +1,27 @@
+package com.example.runningservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽지 않은 알림 수 체크포인트 :: NotificationBadgeCounter 가 주기적으로 JDBC batch 로 저장하고 기동 시 읽는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_unread_count")
+public class NotificationUnreadCountEntity {
+
+    @Id
+    private Long memberId;
+    private int unreadCount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.example.runningservice.entity;
+
+import com.example.runningservice.enums.NotificationStream;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 스트림 읽음 워터마크 :: 스트림 알림 중 id 가 lastReadId 이하인 것은 모두 읽은 것으로 본다.
+ * 워터마크보다 뒤에서 따로 읽은 알림은 NotificationReadExceptionEntity 에 남긴다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_watermark", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_notification_watermark_member_stream",
+        columnNames = {"member_id", "stream", "stream_id"})
+})
+public class NotificationWatermarkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long memberId;
+    @Enumerated(EnumType.STRING)
+    private NotificationStream stream;
+    private Long streamId;
+    private long lastReadId;
+    private LocalDateTime readAt;
+
+    public static NotificationWatermarkEntity of(Long memberId, NotificationStream stream,
+        Long streamId) {
+        return NotificationWatermarkEntity.builder()
+            .memberId(memberId)
+            .stream(stream)
+            .streamId(streamId)
+            .lastReadId(0L)
+            .build();
+    }
+
+    public boolean covers(Long notificationId) {
+        return notificationId <= lastReadId;
+    }
+
+    public void advance(long notificationId) {
+        if (notificationId > lastReadId) {
+            lastReadId = notificationId;
+            readAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.runningservice.entity;
+
+import com.example.runningservice.dto.runRecord.RunStatsAggregateDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 러닝 누적 기록 :: 러닝 기록 생성/수정/삭제 시 RunStatsService 에서 함께 갱신한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "run_stats")
+public class RunStatsEntity {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+    private double totalDistance;
+    private long totalRunningTime;
+    // 평균 페이스 = paceSum / runCount
+    private long paceSum;
+    private int runCount;
+    private Integer bestPace;
+    private LocalDateTime lastRunDate;
+
+    public static RunStatsEntity of(Long memberId, RunStatsAggregateDto aggregate) {
+        RunStatsEntity stats = RunStatsEntity.builder()
+            .memberId(memberId)
+            .build();
+        stats.overwrite(aggregate);
+        return stats;
+    }
+
+    public Integer getAveragePace() {
+        if (runCount == 0) {
+            return null;
+        }
+        return (int) (paceSum / runCount);
+    }
+
+    public void add(RunRecordEntity runRecord) {
+        runCount++;
+        totalDistance += valueOf(runRecord.getDistance());
+        totalRunningTime += valueOf(runRecord.getRunningTime());
+        paceSum += valueOf(runRecord.getPace());
+        if (runRecord.getPace() != null && (bestPace == null || runRecord.getPace() < bestPace)) {
+            bestPace = runRecord.getPace();
+        }
+        if (runRecord.getRunningDate() != null
+            && (lastRunDate == null || runRecord.getRunningDate().isAfter(lastRunDate))) {
+            lastRunDate = runRecord.getRunningDate();
+        }
+    }
+
+    /**
+     * 기록을 빼고, 최고 페이스나 최근 러닝일이 빠진 기록의 값이었으면 true (재집계 필요)
+     */
+    public boolean subtract(RunRecordEntity runRecord) {
+        if (runCount <= 1) {
+            overwrite(null);
+            return false;
+        }
+        runCount--;
+        totalDistance -= valueOf(runRecord.getDistance());
+        totalRunningTime -= valueOf(runRecord.getRunningTime());
+        paceSum -= valueOf(runRecord.getPace());
+
+        return (runRecord.getPace() != null && Objects.equals(runRecord.getPace(), bestPace))
+            || (runRecord.getRunningDate() != null
+            && Objects.equals(runRecord.getRunningDate(), lastRunDate));
+    }
+
+    /**
+     * 집계 결과로 덮어쓴다. 기록이 없으면(null) 0 으로 초기화
+     */
+    public void overwrite(RunStatsAggregateDto aggregate) {
+        if (aggregate == null) {
+            runCount = 0;
+            totalDistance = 0;
+            totalRunningTime = 0;
+            paceSum = 0;
+            bestPace = null;
+            lastRunDate = null;
+            return;
+        }
+        runCount = Math.toIntExact(aggregate.getRunCount());
+        totalDistance = valueOf(aggregate.getTotalDistance());
+        totalRunningTime = valueOf(aggregate.getTotalRunningTime());
+        paceSum = valueOf(aggregate.getPaceSum());
+        bestPace = aggregate.getBestPace();
+        lastRunDate = aggregate.getLastRunDate();
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0 : value;
+    }
+
+    private static long valueOf(Number value) {
+        return value == null ? 0 : value.longValue();
+    }
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,11 +21,23 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "user_notification")
+@Table(name = "user_notification", indexes = {
+    // 알림 삭제 시 수신 기록 정리
+    @Index(name = "idx_user_notification_notification_id", columnList = "notification_id"),
+    // 보관 기간 정리 : 읽은 알림은 read_at 범위, 읽지 않은 알림은 (read_at IS NULL, notification_id) 범위
+    @Index(name = "idx_user_notification_read_at", columnList = "read_at, notification_id")
+}, uniqueConstraints = {
+    // outbox 재전송 시 중복 저장 방지, 알림함 조회 시 (member_id, notification_id) 키셋
+    @UniqueConstraint(name = "uk_user_notification_member_notification",
+        columnNames = {"member_id", "notification_id"})
+})
 public class UserNotificationEntity {
 
+    // NotificationOutboxDispatcher 의 JDBC insert 도 이 생성기로 id 를 받는다. (UserNotificationRepository.nextIds)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_notification_seq")
+    @SequenceGenerator(name = "user_notification_seq", sequenceName = "user_notification_seq",
+        allocationSize = 50)
     private Long id;
     @ManyToOne
     @JoinColumn(name = "member_id")
@@ -0,0 +1,64 @@
+package com.example.runningservice.entity.chat;
+
+import com.example.runningservice.enums.CleanupStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 삭제된 chat_join 의 메시지 연결 끊기 작업 :: 청크마다 진행 상황을 커밋하므로 중단돼도 이어서 처리한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "chat_cleanup_job", indexes = {
+    @Index(name = "idx_chat_cleanup_job_status", columnList = "status, id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class ChatCleanupJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long chatJoinId;
+    private Long roomId;
+    @Enumerated(EnumType.STRING)
+    private CleanupStatus status;
+    // 지금까지 연결을 끊은 메시지 수
+    private long detachedCount;
+    @CreatedDate
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public static ChatCleanupJobEntity of(Long chatJoinId, Long roomId, long detachedCount) {
+        return ChatCleanupJobEntity.builder()
+            .chatJoinId(chatJoinId)
+            .roomId(roomId)
+            .status(CleanupStatus.PENDING)
+            .detachedCount(detachedCount)
+            .build();
+    }
+
+    public void progress(int detached, boolean finished) {
+        this.detachedCount += detached;
+        if (finished) {
+            this.status = CleanupStatus.DONE;
+            this.finishedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,7 +19,8 @@ import java.util.List;
 public class ChatJoinEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_join_seq")
+    @SequenceGenerator(name = "chat_join_seq", sequenceName = "chat_join_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -33,6 +35,11 @@ public class ChatJoinEntity {
 
     private LocalDateTime readAt;
 
+    // 마지막 입장(readAt) 이후 다른 멤버가 보낸 메시지 수 :: ChatMessageWriter 의 증가 쿼리로만 늘린다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int unreadCount;
+
 //    @OneToMany(mappedBy = "chatJoin")
 //    private List<MessageEntity> messageEntity;
 
@@ -45,6 +52,7 @@ public class ChatJoinEntity {
 
     public void enterMemberChatRoom() {
         this.readAt = LocalDateTime.now();
+        this.unreadCount = 0;
     }
 
 }
@@ -14,25 +14,39 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity
 @SuperBuilder
+@Table(indexes = {
+    // 채팅방 이력 커서 조회 : WHERE room_id = ? AND id < ? ORDER BY id DESC
+    @Index(name = "idx_message_room_id", columnList = "room_id, id"),
+    // 퇴장/탈퇴 후 chat_join 연결 끊기 (ChatCleanupService)
+    @Index(name = "idx_message_chat_join_id", columnList = "chat_join_id")
+})
 public class MessageEntity extends BaseEntity {
 
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch 가 불가능하다. (ChatMessageWriter)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_seq")
+    @SequenceGenerator(name = "message_seq", sequenceName = "message_seq", allocationSize = 50)
     private Long id;
     private Message messageType;
     private String content;
     private String imageUrl;
 
-    @ManyToOne
-    @JoinColumn(name = "chat_join_id")
+    // 퇴장/탈퇴로 chat_join 이 끊겨도 이력이 남도록 방/보낸 사람을 직접 저장한다.
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    private String senderNickName;
+
+    // chat_join 은 바로 삭제하고 메시지 쪽 연결은 ChatCleanupService 가 나중에 끊을 수 있도록 FK 제약을 두지 않는다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_join_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatJoinEntity chatJoin;
 
     public String getSender() {
-        return this.chatJoin.getMember().getNickName();
-    }
-
-    public Long getRoomId() {
-        return this.chatJoin.getChatRoom().getId();
+        return this.senderNickName;
     }
 
     public void editContent(String content) {
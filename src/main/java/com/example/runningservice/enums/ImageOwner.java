@@ -0,0 +1,5 @@
+package com.example.runningservice.enums;
+
+public enum ImageOwner {
+    CREW, MEMBER
+}
@@ -0,0 +1,60 @@
+package com.example.runningservice.enums;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 이미지 크기별 variant :: s3 key 는 {baseKey}/{suffix} (crew-1/{uploadId}/thumb)
+ * 업로드가 끝난 이미지는 ORIGINAL key 로 저장되고, 이전에 올린 이미지와 기본 이미지는 variant 없이 key 하나뿐이다.
+ */
+@AllArgsConstructor
+@Getter
+public enum ImageVariant {
+    THUMB("thumb", 96, true),
+    CARD("card", 640, false),
+    ORIGINAL("original", 1600, false);
+
+    private final String suffix;
+    // crop 이면 size x size 정사각형, 아니면 긴 변이 size 이하
+    private final int size;
+    private final boolean crop;
+
+    public String key(String baseKey) {
+        return baseKey + "/" + suffix;
+    }
+
+    /**
+     * 저장된 이미지 key 에 해당하는 이 variant 의 key (variant 가 없는 이미지면 그대로)
+     */
+    public String of(String imageKey) {
+        if (!hasVariants(imageKey)) {
+            return imageKey;
+        }
+        return key(baseKey(imageKey));
+    }
+
+    public static boolean hasVariants(String imageKey) {
+        return imageKey != null && imageKey.endsWith("/" + ORIGINAL.suffix);
+    }
+
+    public static String baseKey(String imageKey) {
+        if (!hasVariants(imageKey)) {
+            return imageKey;
+        }
+        return imageKey.substring(0, imageKey.length() - ORIGINAL.suffix.length() - 1);
+    }
+
+    /**
+     * baseKey 로 올라간 모든 객체 (variant 이전 방식의 key 포함)
+     */
+    public static List<String> allKeys(String baseKey) {
+        List<String> keys = new ArrayList<>();
+        keys.add(baseKey);
+        for (ImageVariant variant : values()) {
+            keys.add(variant.key(baseKey));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.runningservice.enums;
+
+// 한 번만 저장하고 조회 시 병합하는 알림 스트림 (크루 일정 알림, 채팅 알림)
+public enum NotificationStream {
+    CREW, CHAT_ROOM
+}
@@ -3,6 +3,7 @@ package com.example.runningservice.enums;
 import com.example.runningservice.dto.crew.CrewFilterDto;
 import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.CrewDiscoveryService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -38,4 +39,15 @@ public enum OccupancyStatus {
 
     public abstract Page<CrewEntity> getCrewList(CrewRepository crewRepository,
         CrewFilterDto.CrewInfo crewFilter, Pageable pageable);
+
+    /**
+     * 크루 검색 메모리 인덱스로 조회한다. 인덱스가 준비되지 않았거나 기본 정렬이 아니면 JPQL 로 조회한다.
+     */
+    public Page<CrewEntity> getCrewList(CrewDiscoveryService crewDiscoveryService,
+        CrewRepository crewRepository, CrewFilterDto.CrewInfo crewFilter, Pageable pageable) {
+        if (crewDiscoveryService.canServe(pageable)) {
+            return crewDiscoveryService.search(this, crewFilter, pageable);
+        }
+        return getCrewList(crewRepository, crewFilter, pageable);
+    }
 }
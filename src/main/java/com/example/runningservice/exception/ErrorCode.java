@@ -17,6 +17,7 @@ public enum ErrorCode {
     ALREADY_EXIST_PHONE(HttpStatus.BAD_REQUEST, "해당 전화번호로 가입한 내역이 있습니다."),
     NO_VALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "유효한 리프레시 토큰이 없습니다."),
     FAILED_UPLOAD_IMAGE(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다."),
+    INVALID_IMAGE(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지입니다."),
     INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "잘못된 인증코드입니다."),
     INVALID_EMAIL(HttpStatus.BAD_REQUEST, "인증되지 않은 이메일 입니다."),
     ENCRYPTION_ERROR(HttpStatus.BAD_REQUEST, "암호화 과정에 문제가 발생했습니다."),
@@ -34,13 +35,16 @@ public enum ErrorCode {
     INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "시작 날짜가 종료 날짜보다 빨라야 합니다."),
     NOT_FOUND_CHATROOM(HttpStatus.BAD_REQUEST, "채팅방을 찾을 수 없습니다."),
     INVALID_SORT(HttpStatus.BAD_REQUEST, "유효한 정렬기준이 아닙니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     GOOGLE_LOGIN_FAILED(HttpStatus.BAD_REQUEST, "Google 로그인에 실패했습니다."),
     ALREADY_EXIST_NICKNAME(HttpStatus.BAD_REQUEST, "이미 존재하는 닉네임입니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "접근 권한이 없습니다."),
     MISSING_REQUIRED_INFORMATION(HttpStatus.BAD_REQUEST, "필수 정보가 누락되었습니다."),
     NOT_FOUND_USER_NOTIFICATION(HttpStatus.BAD_REQUEST, "사용자에게 전송된 알림을 찾을 수 없습니다."),
     REJECT_SUBSCRIBE_NOTIFICATION(HttpStatus.BAD_REQUEST, "사용자가 알림 수신을 거부하여 구독할 수 없습니다."),
+    NOT_JOINED_CHATROOM(HttpStatus.FORBIDDEN, "채팅방에 참여중이지 않습니다."),
     NOT_FOUND_CHAT_MESSAGE(HttpStatus.BAD_REQUEST, "채팅 메시지를 찾을 수 없습니다."),
+    CHAT_MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
     NOT_FOUND_RUN_RECORD(HttpStatus.NOT_FOUND, "러닝 기록을 찾을 수 없습니다."),
     NOT_FOUND_RUN_GOAL(HttpStatus.NOT_FOUND, "러닝 목표를 찾을 수 없습니다."),
     INVALID_RUN_ARGUMENT(HttpStatus.BAD_REQUEST, "러닝 기록이 없거나 유저정보가 없습니다."),
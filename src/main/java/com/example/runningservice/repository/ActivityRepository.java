@@ -3,8 +3,11 @@ package com.example.runningservice.repository;
 import com.example.runningservice.entity.ActivityEntity;
 import com.example.runningservice.enums.ActivityCategory;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +16,8 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ActivityRepository extends JpaRepository<ActivityEntity, Long> {
 
+    // 일정 목록은 작성자/정기러닝을 같이 읽는다. 참석자 수는 ParticipantRepository.countByActivityIds
+
     @Query("SELECT a "
         + "FROM ActivityEntity a "
         + "WHERE (:startDate IS NULL OR a.date >= :startDate) "
@@ -20,6 +25,7 @@ public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>
         + "AND (:category IS NULL OR a.category = :category)"
         + "AND a.crew.id = :crewId "
         + "ORDER BY a.date")
+    @EntityGraph(attributePaths = {"author", "regularRun"}, type = EntityGraphType.LOAD)
     Page<ActivityEntity> findByCrewIdAndCategoryAndDateBetween(
         @Param("crewId") Long crewId, @Param("category") ActivityCategory category,
         @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
@@ -31,10 +37,28 @@ public interface ActivityRepository extends JpaRepository<ActivityEntity, Long>
         + "AND (:category IS NULL OR a.category = :category)"
         + "AND a.crew.id = :crewId "
         + "ORDER BY a.date")
+    @EntityGraph(attributePaths = {"author", "regularRun"}, type = EntityGraphType.LOAD)
     Page<ActivityEntity> findByCrew_IdAndCategoryAndDateGreaterThanEqualOrderByDate(
         @Param("crewId") Long crewId, @Param("category") ActivityCategory category,
         Pageable pageable);
 
+    // 커서 조회 : (date, id) 키셋. 커서가 없으면 첫 페이지, count 쿼리 없이 pageable 크기만큼 조회한다.
+    @Query("SELECT a "
+        + "FROM ActivityEntity a "
+        + "WHERE (:startDate IS NULL OR a.date >= :startDate) "
+        + "AND (:endDate IS NULL OR a.date <= :endDate) "
+        + "AND (:category IS NULL OR a.category = :category) "
+        + "AND a.crew.id = :crewId "
+        + "AND (:lastDate IS NULL OR a.date > :lastDate "
+        + "OR (a.date = :lastDate AND a.id > :lastId)) "
+        + "ORDER BY a.date, a.id")
+    @EntityGraph(attributePaths = {"author", "regularRun"}, type = EntityGraphType.LOAD)
+    List<ActivityEntity> findByCrewIdAndCategoryAndDateBetweenAfter(
+        @Param("crewId") Long crewId, @Param("category") ActivityCategory category,
+        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+        @Param("lastDate") LocalDate lastDate, @Param("lastId") Long lastId,
+        Pageable pageable);
+
     int countByCrew_Id(Long crewId);
 
     void deleteByCrew_Id(Long crewId);
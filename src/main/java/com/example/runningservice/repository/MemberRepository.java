@@ -1,10 +1,13 @@
 package com.example.runningservice.repository;
 
+import com.example.runningservice.dto.NotificationPreferenceDto;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,4 +24,11 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     }
 
     Boolean existsByNickName(String nickName);
+
+    // 알림 설정만 조회 (roles 등 연관 엔티티를 읽지 않는다)
+    @Query("SELECT new com.example.runningservice.dto.NotificationPreferenceDto("
+        + "m.activityNoti, m.chattingNoti) "
+        + "FROM member m WHERE m.id = :memberId")
+    Optional<NotificationPreferenceDto> findNotificationPreference(
+        @Param("memberId") Long memberId);
 }
@@ -0,0 +1,22 @@
+package com.example.runningservice.repository;
+
+import com.example.runningservice.entity.NotificationOutboxEntity;
+import com.example.runningservice.enums.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    // 전송할 차례가 된 outbox (생성 순)
+    @Query("SELECT o.id FROM NotificationOutboxEntity o "
+        + "WHERE o.status = :status AND o.nextAttemptAt <= :now "
+        + "ORDER BY o.id")
+    List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+        Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package com.example.runningservice.repository;
+
+import com.example.runningservice.entity.NotificationReadExceptionEntity;
+import com.example.runningservice.enums.NotificationStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationReadExceptionRepository extends
+    JpaRepository<NotificationReadExceptionEntity, Long> {
+
+    Optional<NotificationReadExceptionEntity> findByMemberIdAndNotificationId(Long memberId,
+        Long notificationId);
+
+    List<NotificationReadExceptionEntity> findByMemberIdAndNotificationIdIn(Long memberId,
+        Collection<Long> notificationIds);
+
+    // 워터마크가 지나간 예외 정리
+    @Modifying
+    @Query("DELETE FROM NotificationReadExceptionEntity e "
+        + "WHERE e.memberId = :memberId AND e.stream = :stream AND e.streamId = :streamId "
+        + "AND e.notificationId <= :lastReadId")
+    int deleteCoveredBy(@Param("memberId") Long memberId,
+        @Param("stream") NotificationStream stream, @Param("streamId") Long streamId,
+        @Param("lastReadId") long lastReadId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationReadExceptionEntity e WHERE e.memberId = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
+}
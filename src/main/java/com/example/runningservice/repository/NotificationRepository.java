@@ -1,10 +1,64 @@
 package com.example.runningservice.repository;
 
+import com.example.runningservice.dto.NotificationStreamHeadDto;
 import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.enums.NotificationStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
 
+    // 가입한 크루들의 스트림 알림 (가입 이후 알림만, 일정 알림을 끄면 제외, id 역순)
+    @Query("SELECT n "
+        + "FROM NotificationEntity n, CrewMemberEntity cm "
+        + "WHERE cm.member.id = :memberId "
+        + "AND (cm.member.activityNoti IS NULL "
+        + "OR cm.member.activityNoti = com.example.runningservice.enums.Notification.ON) "
+        + "AND n.stream = com.example.runningservice.enums.NotificationStream.CREW "
+        + "AND n.streamId = cm.crew.id "
+        + "AND (cm.joinedAt IS NULL OR n.createdAt >= cm.joinedAt) "
+        + "AND (:beforeId IS NULL OR n.id < :beforeId) "
+        + "ORDER BY n.id DESC")
+    List<NotificationEntity> findCrewStreamBefore(@Param("memberId") Long memberId,
+        @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 참여중인 채팅방들의 스트림 알림 (참여 이후 알림만, 채팅 알림을 끄면 제외, id 역순)
+    @Query("SELECT n "
+        + "FROM NotificationEntity n, ChatJoinEntity cj "
+        + "WHERE cj.member.id = :memberId "
+        + "AND (cj.member.chattingNoti IS NULL "
+        + "OR cj.member.chattingNoti = com.example.runningservice.enums.Notification.ON) "
+        + "AND n.stream = com.example.runningservice.enums.NotificationStream.CHAT_ROOM "
+        + "AND n.streamId = cj.chatRoom.id "
+        + "AND (cj.joinedAt IS NULL OR n.createdAt >= cj.joinedAt) "
+        + "AND (:beforeId IS NULL OR n.id < :beforeId) "
+        + "ORDER BY n.id DESC")
+    List<NotificationEntity> findChatRoomStreamBefore(@Param("memberId") Long memberId,
+        @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 워터마크 뒤의 스트림 알림 id (오래된 순)
+    @Query("SELECT n.id "
+        + "FROM NotificationEntity n "
+        + "WHERE n.stream = :stream AND n.streamId = :streamId "
+        + "AND n.id > :afterId "
+        + "AND (:since IS NULL OR n.createdAt >= :since) "
+        + "ORDER BY n.id ASC")
+    List<Long> findStreamIdsAfter(@Param("stream") NotificationStream stream,
+        @Param("streamId") Long streamId, @Param("afterId") long afterId,
+        @Param("since") LocalDateTime since, Pageable pageable);
+
+    // 스트림별 마지막 알림 id
+    @Query("SELECT new com.example.runningservice.dto.NotificationStreamHeadDto(n.streamId, MAX(n.id)) "
+        + "FROM NotificationEntity n "
+        + "WHERE n.stream = :stream AND n.streamId IN :streamIds "
+        + "GROUP BY n.streamId")
+    List<NotificationStreamHeadDto> findStreamHeads(@Param("stream") NotificationStream stream,
+        @Param("streamIds") Collection<Long> streamIds);
 }
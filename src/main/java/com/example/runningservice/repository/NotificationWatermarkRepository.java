@@ -0,0 +1,25 @@
+package com.example.runningservice.repository;
+
+import com.example.runningservice.entity.NotificationWatermarkEntity;
+import com.example.runningservice.enums.NotificationStream;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationWatermarkRepository extends
+    JpaRepository<NotificationWatermarkEntity, Long> {
+
+    List<NotificationWatermarkEntity> findByMemberId(Long memberId);
+
+    Optional<NotificationWatermarkEntity> findByMemberIdAndStreamAndStreamId(Long memberId,
+        NotificationStream stream, Long streamId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationWatermarkEntity w WHERE w.memberId = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,9 +1,16 @@
 package com.example.runningservice.repository;
 
+import com.example.runningservice.dto.activity.ParticipantCountDto;
 import com.example.runningservice.entity.ParticipantEntity;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,5 +18,16 @@ public interface ParticipantRepository extends JpaRepository<ParticipantEntity,
 
     void deleteByMember_IdAndActivity_Id(Long userId, Long activityId);
 
+    // 참석자 목록 :: 회원을 같이 읽는다.
+    @EntityGraph(attributePaths = "member", type = EntityGraphType.LOAD)
     Page<ParticipantEntity> findByActivity_Id(Long activityId, Pageable pageable);
+
+    // 일정 목록의 참석자 수 :: 참석자 목록을 읽지 않고 일정별로 센다.
+    @Query("SELECT new com.example.runningservice.dto.activity.ParticipantCountDto("
+        + "p.activity.id, COUNT(p)) "
+        + "FROM ParticipantEntity p "
+        + "WHERE p.activity.id IN :activityIds "
+        + "GROUP BY p.activity.id")
+    List<ParticipantCountDto> countByActivityIds(
+        @Param("activityIds") Collection<Long> activityIds);
 }
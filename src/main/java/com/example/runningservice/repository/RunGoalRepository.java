@@ -4,13 +4,18 @@ import com.example.runningservice.entity.RunGoalEntity;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RunGoalRepository extends JpaRepository<RunGoalEntity, Long> {
     List<RunGoalEntity> findByUserId_Id(Long userId);
 
-    void deleteAllByUserId_Id(Long userId);
+    @Modifying
+    @Query("DELETE FROM runGoal g WHERE g.userId.id = :userId")
+    void deleteAllByUserId_Id(@Param("userId") Long userId);
 
     Optional<RunGoalEntity> findFirstByUserId_IdOrderByCreatedAtDesc(Long userId);
 
@@ -1,13 +1,54 @@
 package com.example.runningservice.repository;
 
+import com.example.runningservice.dto.runRecord.RunStatsAggregateDto;
 import com.example.runningservice.entity.RunRecordEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RunRecordRepository extends JpaRepository<RunRecordEntity, Long> {
     List<RunRecordEntity> findByUserId_Id(Long userId);
 
-    void deleteAllByUserId_Id(Long userId);
+    @Modifying
+    @Query("DELETE FROM runRecord r WHERE r.userId.id = :userId")
+    void deleteAllByUserId_Id(@Param("userId") Long userId);
+
+    @Query("SELECT new com.example.runningservice.dto.runRecord.RunStatsAggregateDto("
+        + "r.userId.id, COUNT(r), SUM(r.distance), SUM(r.runningTime), SUM(r.pace), "
+        + "MIN(r.pace), MAX(r.runningDate)) "
+        + "FROM runRecord r "
+        + "WHERE r.userId.id = :userId "
+        + "GROUP BY r.userId.id")
+    Optional<RunStatsAggregateDto> aggregateByUserId(@Param("userId") Long userId);
+
+    // 수정/삭제 중인 기록을 뺀 집계
+    @Query("SELECT new com.example.runningservice.dto.runRecord.RunStatsAggregateDto("
+        + "r.userId.id, COUNT(r), SUM(r.distance), SUM(r.runningTime), SUM(r.pace), "
+        + "MIN(r.pace), MAX(r.runningDate)) "
+        + "FROM runRecord r "
+        + "WHERE r.userId.id = :userId AND r.id <> :runRecordId "
+        + "GROUP BY r.userId.id")
+    Optional<RunStatsAggregateDto> aggregateByUserIdExcluding(@Param("userId") Long userId,
+        @Param("runRecordId") Long runRecordId);
+
+    @Query("SELECT new com.example.runningservice.dto.runRecord.RunStatsAggregateDto("
+        + "r.userId.id, COUNT(r), SUM(r.distance), SUM(r.runningTime), SUM(r.pace), "
+        + "MIN(r.pace), MAX(r.runningDate)) "
+        + "FROM runRecord r "
+        + "WHERE r.userId.id IN :userIds "
+        + "GROUP BY r.userId.id")
+    List<RunStatsAggregateDto> aggregateByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // run_stats 재구성 : 기록이 있는 회원 id 를 순서대로 나눠 조회
+    @Query("SELECT DISTINCT r.userId.id FROM runRecord r "
+        + "WHERE r.userId.id > :lastUserId "
+        + "ORDER BY r.userId.id")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
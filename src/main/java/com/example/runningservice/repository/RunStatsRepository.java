@@ -0,0 +1,39 @@
+package com.example.runningservice.repository;
+
+import com.example.runningservice.entity.RunStatsEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RunStatsRepository extends JpaRepository<RunStatsEntity, Long> {
+
+    // 같은 회원의 기록 변경이 동시에 들어와도 누적값이 어긋나지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RunStatsEntity s WHERE s.memberId = :memberId")
+    Optional<RunStatsEntity> findByMemberIdForUpdate(@Param("memberId") Long memberId);
+
+    // 없을 때만 만든다. 같은 회원의 첫 기록이 동시에 들어오면 먼저 넣은 트랜잭션이 끝날 때까지 기다린 뒤
+    // 아무것도 하지 않으므로, 중복 키로 호출한 트랜잭션이 깨지지 않는다. (PostgreSQL)
+    @Modifying
+    @Query(value = "INSERT INTO run_stats (member_id, total_distance, total_running_time, "
+        + "pace_sum, run_count, best_pace, last_run_date) "
+        + "VALUES (:#{#stats.memberId}, :#{#stats.totalDistance}, :#{#stats.totalRunningTime}, "
+        + ":#{#stats.paceSum}, :#{#stats.runCount}, :#{#stats.bestPace}, "
+        + ":#{#stats.lastRunDate}) "
+        + "ON CONFLICT DO NOTHING",
+        nativeQuery = true)
+    int insertIfAbsent(@Param("stats") RunStatsEntity stats);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RunStatsEntity s WHERE s.memberId IN :memberIds")
+    List<RunStatsEntity> findAllByMemberIdInForUpdate(
+        @Param("memberIds") Collection<Long> memberIds);
+}
@@ -1,16 +1,39 @@
 package com.example.runningservice.repository;
 
 import com.example.runningservice.entity.UserNotificationEntity;
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserNotificationRepository extends JpaRepository<UserNotificationEntity, Long> {
+public interface UserNotificationRepository extends JpaRepository<UserNotificationEntity, Long>,
+    UserNotificationRepositoryCustom {
 
-    Page<UserNotificationEntity> findByMember_IdOrderByNotification_CreatedAtDesc(Long memberId,
-        Pageable pageable);
+    // 직접 알림 : (member_id, notification_id) 키셋. 알림 id 역순이 최신순이며 스트림 알림과 같은 기준으로 병합한다.
+    @Query("SELECT un "
+        + "FROM UserNotificationEntity un "
+        + "JOIN FETCH un.notification n "
+        + "WHERE un.member.id = :memberId "
+        + "AND (:beforeId IS NULL OR n.id < :beforeId) "
+        + "ORDER BY n.id DESC")
+    List<UserNotificationEntity> findInboxBefore(@Param("memberId") Long memberId,
+        @Param("beforeId") Long beforeId, Pageable pageable);
 
-    void deleteAllByMember_Id(Long memberId);
+    Optional<UserNotificationEntity> findByMember_IdAndNotification_Id(Long memberId,
+        Long notificationId);
+
+    @Modifying
+    @Query("UPDATE UserNotificationEntity un SET un.readAt = :readAt "
+        + "WHERE un.member.id = :memberId AND un.readAt IS NULL")
+    int markAllRead(@Param("memberId") Long memberId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("DELETE FROM UserNotificationEntity un WHERE un.member.id = :memberId")
+    void deleteAllByMember_Id(@Param("memberId") Long memberId);
 }
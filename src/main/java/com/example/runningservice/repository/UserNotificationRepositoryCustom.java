@@ -0,0 +1,9 @@
+package com.example.runningservice.repository;
+
+import java.util.List;
+
+public interface UserNotificationRepositoryCustom {
+
+    // JDBC batch insert 용 id :: 엔티티와 같은 pooled 시퀀스 풀에서 count 개를 받는다.
+    List<Long> nextIds(int count);
+}
@@ -0,0 +1,33 @@
+package com.example.runningservice.repository;
+
+import com.example.runningservice.entity.UserNotificationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class UserNotificationRepositoryCustomImpl implements UserNotificationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Hibernate 의 id 생성기를 그대로 써서 시퀀스 호출은 50개에 한 번이고, JPA 로 저장하는 id 와 겹치지 않는다.
+    @Override
+    public List<Long> nextIds(int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(
+            SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+            .getMappingMetamodel()
+            .getEntityDescriptor(UserNotificationEntity.class)
+            .getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null));
+        }
+        return ids;
+    }
+}
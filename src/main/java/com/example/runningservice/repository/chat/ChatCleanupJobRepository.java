@@ -0,0 +1,16 @@
+package com.example.runningservice.repository.chat;
+
+import com.example.runningservice.entity.chat.ChatCleanupJobEntity;
+import com.example.runningservice.enums.CleanupStatus;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatCleanupJobRepository extends JpaRepository<ChatCleanupJobEntity, Long> {
+
+    List<ChatCleanupJobEntity> findByStatusOrderByIdAsc(CleanupStatus status, Pageable pageable);
+
+    long countByStatus(CleanupStatus status);
+}
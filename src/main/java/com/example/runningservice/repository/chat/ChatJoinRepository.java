@@ -2,13 +2,16 @@ package com.example.runningservice.repository.chat;
 
 import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.dto.chat.ChatJoinUnreadDto;
 import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.entity.chat.ChatRoomEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +24,13 @@ public interface ChatJoinRepository extends JpaRepository<ChatJoinEntity, Long>,
     ChatJoinEntity findByChatRoomAndMember(ChatRoomEntity chatRoom, MemberEntity member);
     ChatJoinEntity findByChatRoom_IdAndMember_Id(Long roomId, Long memberId);
 
+    // 채팅방 참여 확인 (채팅방 topic 구독 권한)
+    boolean existsByChatRoom_IdAndMember_Id(Long roomId, Long memberId);
+
+    // 크루 채팅방 참여 확인 (메시지 이력 조회 권한)
+    boolean existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(Long roomId, Long crewId,
+        Long memberId);
+
 
     // 멤버가 참여중인 크루 chatRoom 확인
     List<ChatJoinEntity> findByMemberAndChatRoom_Crew(MemberEntity member, CrewEntity crew);
@@ -35,6 +45,31 @@ public interface ChatJoinRepository extends JpaRepository<ChatJoinEntity, Long>,
 
     List<ChatJoinEntity> findAllByMember_Id(Long memberId);
 
-    void deleteAllByMember_Id(Long memberId);
+    // 크루 탈퇴/강제퇴장 시 퇴장시킬 크루 내 채팅방 참여
+    List<ChatJoinEntity> findAllByMember_IdAndChatRoom_Crew_Id(Long memberId, Long crewId);
+
+    @Query("SELECT cj.chatRoom.id FROM ChatJoinEntity cj WHERE cj.member.id = :memberId")
+    List<Long> findRoomIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 채팅 알림 수신자 : 채팅 알림을 끈 참여자 제외
+    @Query("SELECT cj.member.id FROM ChatJoinEntity cj "
+        + "WHERE cj.chatRoom.id = :roomId "
+        + "AND (cj.member.chattingNoti IS NULL "
+        + "OR cj.member.chattingNoti = com.example.runningservice.enums.Notification.ON)")
+    List<Long> findChatSubscriberIds(@Param("roomId") Long roomId);
+
+    // 채팅방별 안 읽은 메시지 수 (ChatUnreadCounter 적재용)
+    @Query("SELECT new com.example.runningservice.dto.chat.ChatJoinUnreadDto("
+        + "cj.chatRoom.id, cj.member.id, cj.unreadCount) "
+        + "FROM ChatJoinEntity cj "
+        + "WHERE cj.chatRoom.id IN :roomIds")
+    List<ChatJoinUnreadDto> findUnreadCountsByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 보낸 사람을 제외한 채팅방 멤버의 안 읽은 메시지 수 증가
+    @Modifying
+    @Query("UPDATE ChatJoinEntity cj SET cj.unreadCount = cj.unreadCount + :count "
+        + "WHERE cj.chatRoom.id = :roomId AND cj.id <> :senderChatJoinId")
+    int increaseUnreadCount(@Param("roomId") Long roomId,
+        @Param("senderChatJoinId") Long senderChatJoinId, @Param("count") int count);
 
 }
@@ -1,5 +1,13 @@
 package com.example.runningservice.repository.chat;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ChatJoinRepositoryCustom {
-    void deleteAllByMemberIdAndCrewId(Long memberId, Long crewId);
+
+    // 메시지 저장 중 보낸 사람 chat_join 을 공유 잠금 (남아 있는 id 만 반환)
+    List<Long> lockExistingIds(Collection<Long> ids);
+
+    // chat_join 삭제 전 배타 잠금 :: 저장 중인 메시지 트랜잭션이 끝날 때까지 기다린다.
+    void lockForRemoval(Collection<Long> ids);
 }
@@ -2,10 +2,10 @@ package com.example.runningservice.repository.chat;
 
 import static com.example.runningservice.entity.chat.QChatJoinEntity.chatJoinEntity;
 
-import com.querydsl.jpa.impl.JPADeleteClause;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -13,16 +13,28 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class ChatJoinRepositoryCustomImpl implements ChatJoinRepositoryCustom {
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public void deleteAllByMemberIdAndCrewId(Long memberId, Long crewId) {
-        new JPADeleteClause(entityManager, chatJoinEntity)
-            .where(chatJoinEntity.member.id.eq(memberId)
-                .and(chatJoinEntity.chatRoom.crew.id.eq(crewId)))
-            .execute();
+    public List<Long> lockExistingIds(Collection<Long> ids) {
+        return lockIds(ids, LockModeType.PESSIMISTIC_READ);
+    }
+
+    @Override
+    public void lockForRemoval(Collection<Long> ids) {
+        lockIds(ids, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    // 잠금 순서를 id 순으로 맞춰 교착을 피한다.
+    private List<Long> lockIds(Collection<Long> ids, LockModeType lockMode) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.select(chatJoinEntity.id)
+            .from(chatJoinEntity)
+            .where(chatJoinEntity.id.in(ids))
+            .orderBy(chatJoinEntity.id.asc())
+            .setLockMode(lockMode)
+            .fetch();
     }
 }
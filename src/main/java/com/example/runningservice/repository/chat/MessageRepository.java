@@ -2,7 +2,9 @@ package com.example.runningservice.repository.chat;
 
 import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.entity.chat.MessageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,12 +14,19 @@ import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
-    @Query("SELECT COUNT(m) FROM MessageEntity m WHERE m.chatJoin.id = :chatJoinId AND" +
-        " m.createdAt > (SELECT cj.readAt FROM ChatJoinEntity cj WHERE cj.id = :chatJoinId)")
-    int countMessagesAfterReadAt(@Param("chatJoinId") Long chatJoinId);
-
-
-
     List<MessageEntity> findAllByChatJoin(ChatJoinEntity chatJoin);
 
+    // 채팅방 이력 커서 조회 : before 보다 이전 메시지 (id 역순) :: idx_message_room_id
+    @Query("SELECT m FROM MessageEntity m "
+        + "WHERE m.roomId = :roomId AND m.id < :before "
+        + "ORDER BY m.id DESC")
+    List<MessageEntity> findByRoomIdBefore(@Param("roomId") Long roomId,
+        @Param("before") Long before, Pageable pageable);
+
+    // chat_join 연결 끊기 : 한 번에 최대 limit 건 (남은 건은 다시 호출해서 이어 처리)
+    @Modifying
+    @Query(value = "UPDATE message_entity SET chat_join_id = NULL "
+        + "WHERE id IN (SELECT id FROM message_entity WHERE chat_join_id = :chatJoinId LIMIT :limit)",
+        nativeQuery = true)
+    int detachChatJoin(@Param("chatJoinId") Long chatJoinId, @Param("limit") int limit);
 }
@@ -5,9 +5,15 @@ import com.example.runningservice.enums.Gender;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.service.discovery.CrewIndexEntry;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +23,7 @@ public interface CrewRepository extends JpaRepository<CrewEntity, Long>, CrewRep
 
     boolean existsByCrewName(String crewName);
 
+    // 목록 응답에 크루장 닉네임이 들어가므로 크루장을 같이 읽는다. (count 쿼리에는 적용되지 않는다)
     @Query("SELECT c "
         + "FROM CrewEntity c "
         + "WHERE (:region IS NULL OR c.activityRegion = :region OR c.activityRegion = 'NATIONWIDE') "
@@ -25,8 +32,9 @@ public interface CrewRepository extends JpaRepository<CrewEntity, Long>, CrewRep
         + "AND (:gender IS NULL OR c.gender = :gender) "
         + "AND (:runRecordPublic IS NULL OR c.runRecordOpen = :runRecordPublic) "
         + "AND (:leaderRequired IS NULL OR c.leaderRequired = :leaderRequired) "
-        + "AND c.crewCapacity <= SIZE(c.crewMember) "
-        + "ORDER BY SIZE(c.crewMember) DESC")
+        + "AND c.crewCapacity <= c.memberCount "
+        + "ORDER BY c.memberCount DESC")
+    @EntityGraph(attributePaths = "leader", type = EntityGraphType.LOAD)
     Page<CrewEntity> findFullCrewList(@Param("region") Region activityRegion,
         @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
         @Param("gender") Gender gender, @Param("runRecordPublic") Boolean runRecordPublic,
@@ -40,8 +48,9 @@ public interface CrewRepository extends JpaRepository<CrewEntity, Long>, CrewRep
         + "AND (:gender IS NULL OR c.gender = :gender) "
         + "AND (:runRecordPublic IS NULL OR c.runRecordOpen = :runRecordPublic) "
         + "AND (:leaderRequired IS NULL OR c.leaderRequired = :leaderRequired) "
-        + "AND c.crewCapacity > SIZE(c.crewMember) "
-        + "ORDER BY SIZE(c.crewMember) DESC")
+        + "AND c.crewCapacity > c.memberCount "
+        + "ORDER BY c.memberCount DESC")
+    @EntityGraph(attributePaths = "leader", type = EntityGraphType.LOAD)
     Page<CrewEntity> findAvailableCrewList(@Param("region") Region activityRegion,
         @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
         @Param("gender") Gender gender, @Param("runRecordPublic") Boolean runRecordPublic,
@@ -55,12 +64,49 @@ public interface CrewRepository extends JpaRepository<CrewEntity, Long>, CrewRep
         + "AND (:gender IS NULL OR c.gender = :gender) "
         + "AND (:runRecordPublic IS NULL OR c.runRecordOpen = :runRecordPublic) "
         + "AND (:leaderRequired IS NULL OR c.leaderRequired = :leaderRequired) "
-        + "ORDER BY SIZE(c.crewMember) DESC")
+        + "ORDER BY c.memberCount DESC")
+    @EntityGraph(attributePaths = "leader", type = EntityGraphType.LOAD)
     Page<CrewEntity> findAllCrewList(@Param("region") Region activityRegion,
         @Param("minYear") Integer minYear, @Param("maxYear") Integer maxYear,
         @Param("gender") Gender gender, @Param("runRecordPublic") Boolean runRecordPublic,
         @Param("leaderRequired") Boolean leaderRequired, Pageable pageable);
 
+    @Modifying
+    @Query("UPDATE CrewEntity c SET c.memberCount = c.memberCount + 1 WHERE c.id = :crewId")
+    void increaseMemberCount(@Param("crewId") Long crewId);
+
+    @Modifying
+    @Query("UPDATE CrewEntity c SET c.memberCount = c.memberCount - 1 "
+        + "WHERE c.id = :crewId AND c.memberCount > 0")
+    void decreaseMemberCount(@Param("crewId") Long crewId);
+
+    // 회원 탈퇴 시 가입해 있던 모든 크루의 크루원 수 감소 (crew_member 삭제 전에 호출)
+    @Modifying
+    @Query("UPDATE CrewEntity c SET c.memberCount = c.memberCount - 1 "
+        + "WHERE c.memberCount > 0 "
+        + "AND c.id IN (SELECT cm.crew.id FROM CrewMemberEntity cm WHERE cm.member.id = :memberId)")
+    void decreaseMemberCountByMemberId(@Param("memberId") Long memberId);
+
+    // crew_member 실제 수와 다른 크루의 member_count 보정
+    @Modifying
+    @Query(value = "UPDATE crew c "
+        + "SET member_count = (SELECT COUNT(*) FROM crew_member cm WHERE cm.crew_id = c.id) "
+        + "WHERE c.member_count <> (SELECT COUNT(*) FROM crew_member cm WHERE cm.crew_id = c.id)",
+        nativeQuery = true)
+    int reconcileMemberCount();
+
+    // 크루 검색 메모리 인덱스 조회 결과 :: 크루장을 같이 읽는다.
+    @EntityGraph(attributePaths = "leader", type = EntityGraphType.LOAD)
+    List<CrewEntity> findWithLeaderByIdIn(Collection<Long> crewIds);
+
+    // 크루 검색 메모리 인덱스 재구성용
+    @Query("SELECT new com.example.runningservice.service.discovery.CrewIndexEntry("
+        + "c.id, c.activityRegion, c.gender, c.runRecordOpen, c.leaderRequired, "
+        + "c.minYear, c.maxYear, c.crewCapacity, c.memberCount) "
+        + "FROM CrewEntity c "
+        + "ORDER BY c.id")
+    List<CrewIndexEntry> findAllIndexEntries();
+
     default CrewEntity findCrewById(Long crewId) {
         return findById(crewId)
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CREW));
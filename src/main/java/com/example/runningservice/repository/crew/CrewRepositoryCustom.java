@@ -1,9 +1,17 @@
 package com.example.runningservice.repository.crew;
 
 
+import com.example.runningservice.dto.crew.CrewFilterDto;
 import com.example.runningservice.entity.CrewEntity;
+import java.util.List;
 import java.util.Optional;
 
 public interface CrewRepositoryCustom {
     Optional<CrewEntity> findByIdAndMemberCountLessThanCapacity(Long crewId);
+
+    /**
+     * (member_count DESC, id DESC) 키셋 조회. 커서 다음부터 limit 개를 반환한다.
+     */
+    List<CrewEntity> findCrewListAfter(CrewFilterDto.CrewInfo crewFilter,
+        Integer lastMemberCount, Long lastCrewId, int limit);
 }
@@ -1,8 +1,13 @@
 package com.example.runningservice.repository.crew;
 
+import com.example.runningservice.dto.crew.CrewFilterDto;
 import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.entity.QCrewEntity;
+import com.example.runningservice.enums.OccupancyStatus;
+import com.example.runningservice.enums.Region;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
@@ -17,9 +22,59 @@ public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
 
         CrewEntity foundCrew = queryFactory.selectFrom(crew)
             .where(crew.id.eq(crewId)
-                .and(crew.crewMember.size().lt(crew.crewCapacity)))
+                .and(crew.memberCount.lt(crew.crewCapacity)))
             .fetchOne();
 
         return Optional.ofNullable(foundCrew);
     }
+
+    @Override
+    public List<CrewEntity> findCrewListAfter(CrewFilterDto.CrewInfo crewFilter,
+        Integer lastMemberCount, Long lastCrewId, int limit) {
+        QCrewEntity crew = QCrewEntity.crewEntity;
+
+        return queryFactory.selectFrom(crew)
+            .leftJoin(crew.leader).fetchJoin()
+            .where(
+                regionEq(crewFilter.getActivityRegion()),
+                crewFilter.getMinYear() != null ? crew.minYear.loe(crewFilter.getMinYear()) : null,
+                crewFilter.getMaxYear() != null ? crew.maxYear.goe(crewFilter.getMaxYear()) : null,
+                crewFilter.getGender() != null ? crew.gender.eq(crewFilter.getGender()) : null,
+                crewFilter.getRunRecordPublic() != null ?
+                    crew.runRecordOpen.eq(crewFilter.getRunRecordPublic()) : null,
+                crewFilter.getLeaderRequired() != null ?
+                    crew.leaderRequired.eq(crewFilter.getLeaderRequired()) : null,
+                occupancyEq(crewFilter.getOccupancyStatus()),
+                afterCursor(lastMemberCount, lastCrewId)
+            )
+            .orderBy(crew.memberCount.desc(), crew.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanExpression regionEq(Region region) {
+        QCrewEntity crew = QCrewEntity.crewEntity;
+        return region != null ?
+            crew.activityRegion.eq(region).or(crew.activityRegion.eq(Region.NATIONWIDE)) : null;
+    }
+
+    private BooleanExpression occupancyEq(OccupancyStatus occupancyStatus) {
+        QCrewEntity crew = QCrewEntity.crewEntity;
+        if (occupancyStatus == OccupancyStatus.FULL) {
+            return crew.crewCapacity.loe(crew.memberCount);
+        }
+        if (occupancyStatus == OccupancyStatus.AVAILABLE) {
+            return crew.crewCapacity.gt(crew.memberCount);
+        }
+        return null;
+    }
+
+    private BooleanExpression afterCursor(Integer lastMemberCount, Long lastCrewId) {
+        if (lastMemberCount == null || lastCrewId == null) {
+            return null;
+        }
+        QCrewEntity crew = QCrewEntity.crewEntity;
+        return crew.memberCount.lt(lastMemberCount)
+            .or(crew.memberCount.eq(lastMemberCount).and(crew.id.lt(lastCrewId)));
+    }
 }
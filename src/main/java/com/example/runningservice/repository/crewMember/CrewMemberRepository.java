@@ -8,7 +8,12 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +21,8 @@ public interface CrewMemberRepository extends JpaRepository<CrewMemberEntity, Lo
 
     void deleteAllByCrew_Id(Long crewId);
 
+    // 가입 크루 목록 :: 크루와 크루장을 같이 읽는다.
+    @EntityGraph(attributePaths = {"crew", "crew.leader"}, type = EntityGraphType.LOAD)
     Page<CrewMemberEntity> findByMember_IdOrderByJoinedAt(Long memberId, Pageable pageable);
 
     Optional<CrewMemberEntity> findByMember_IdAndCrew_Id(Long memberId, Long crewId);
@@ -24,15 +31,35 @@ public interface CrewMemberRepository extends JpaRepository<CrewMemberEntity, Lo
 
     Optional<CrewMemberEntity> findByCrew_IdAndMember_Id(Long crewId, Long memberId);
 
+    // 권한만 필요한 경우 (CrewRoleService) : 크루/회원 엔티티를 함께 읽지 않는다.
+    @Query("SELECT cm.role FROM CrewMemberEntity cm "
+        + "WHERE cm.crew.id = :crewId AND cm.member.id = :memberId")
+    Optional<CrewRole> findRoleByCrewIdAndMemberId(@Param("crewId") Long crewId,
+        @Param("memberId") Long memberId);
+
     Optional<CrewMemberEntity> findByCrewAndMember(CrewEntity crew, MemberEntity member);
 
     Optional<CrewMemberEntity> findByCrewAndMemberAndRoleIn(CrewEntity crew, MemberEntity member, List<CrewRole> roles);
 
     List<CrewMemberEntity> findByCrew(CrewEntity crew);
 
+    // 크루원 목록 :: 회원을 같이 읽는다.
+    @EntityGraph(attributePaths = "member", type = EntityGraphType.LOAD)
     Page<CrewMemberEntity> findByCrew_IdOrderByRoleOrderAsc(Long crewId, Pageable pageable);
 
     List<CrewMemberEntity> findAllByMember_Id(Long memberId);
 
-    void deleteAllByMember_Id(Long memberId);
+    @Query("SELECT cm.crew.id FROM CrewMemberEntity cm WHERE cm.member.id = :memberId")
+    List<Long> findCrewIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 크루 일정 알림 수신자 : 일정 알림을 끈 크루원 제외
+    @Query("SELECT cm.member.id FROM CrewMemberEntity cm "
+        + "WHERE cm.crew.id = :crewId "
+        + "AND (cm.member.activityNoti IS NULL "
+        + "OR cm.member.activityNoti = com.example.runningservice.enums.Notification.ON)")
+    List<Long> findActivitySubscriberIds(@Param("crewId") Long crewId);
+
+    @Modifying
+    @Query("DELETE FROM CrewMemberEntity cm WHERE cm.member.id = :memberId")
+    void deleteAllByMember_Id(@Param("memberId") Long memberId);
 }
@@ -2,6 +2,8 @@ package com.example.runningservice.repository.crewMember;
 
 import com.example.runningservice.dto.crewMember.GetCrewMemberRequestDto;
 import com.example.runningservice.entity.CrewMemberEntity;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,4 +11,11 @@ public interface CrewMemberRepositoryCustom {
 
     Page<CrewMemberEntity> findAllByCrewIdAndFilter(Long crewId,
         GetCrewMemberRequestDto.Filter filter, Pageable pageable);
+
+    /**
+     * (joined_at, id) 키셋 조회. 커서 다음부터 limit 개를 반환한다.
+     */
+    List<CrewMemberEntity> findAllByCrewIdAndFilterAfter(Long crewId,
+        GetCrewMemberRequestDto.Filter filter, LocalDateTime lastJoinedAt, Long lastId,
+        int limit);
 }
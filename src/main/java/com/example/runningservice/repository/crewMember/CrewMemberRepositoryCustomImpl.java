@@ -8,6 +8,7 @@ import com.example.runningservice.enums.Gender;
 import com.example.runningservice.util.QueryDslUtil;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,6 +29,7 @@ public class CrewMemberRepositoryCustomImpl implements CrewMemberRepositoryCusto
         // 쿼리 작성
 
         List<CrewMemberEntity> crewMembers = queryFactory.selectFrom(crewMember)
+            .join(crewMember.member).fetchJoin()
             .where(
                 crewIdEq(crewId),
                 genderEq(filterDto.getGender()),
@@ -56,6 +58,37 @@ public class CrewMemberRepositoryCustomImpl implements CrewMemberRepositoryCusto
         return new PageImpl<>(crewMembers, pageable, total != null ? total : 0);
     }
 
+    @Override
+    public List<CrewMemberEntity> findAllByCrewIdAndFilterAfter(Long crewId,
+        GetCrewMemberRequestDto.Filter filterDto, LocalDateTime lastJoinedAt, Long lastId,
+        int limit) {
+
+        QCrewMemberEntity crewMember = QCrewMemberEntity.crewMemberEntity;
+
+        return queryFactory.selectFrom(crewMember)
+            .join(crewMember.member).fetchJoin()
+            .where(
+                crewIdEq(crewId),
+                genderEq(filterDto.getGender()),
+                roleEq(filterDto.getCrewRole()),
+                birthYearGoe(filterDto.getMaxYear()),
+                birthYearLoe(filterDto.getMinYear()),
+                joinedAfter(lastJoinedAt, lastId)
+            )
+            .orderBy(crewMember.joinedAt.asc(), crewMember.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanExpression joinedAfter(LocalDateTime lastJoinedAt, Long lastId) {
+        if (lastJoinedAt == null || lastId == null) {
+            return null;
+        }
+        QCrewMemberEntity crewMember = QCrewMemberEntity.crewMemberEntity;
+        return crewMember.joinedAt.gt(lastJoinedAt)
+            .or(crewMember.joinedAt.eq(lastJoinedAt).and(crewMember.id.gt(lastId)));
+    }
+
     private BooleanExpression crewIdEq(Long crewId) {
         return crewId != null ? QCrewMemberEntity.crewMemberEntity.crew.id.eq(crewId) : null;
     }
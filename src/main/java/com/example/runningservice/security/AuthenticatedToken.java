@@ -0,0 +1,27 @@
+package com.example.runningservice.security;
+
+import com.example.runningservice.enums.Role;
+import java.time.Instant;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증이 끝난 access token 의 클레임. 요청당 한 번만 만들어 request attribute 로 공유한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedToken {
+
+    // LoginUserResolver, CrewRoleCheckAspect 에서 꺼내 쓰기 위한 request attribute 이름
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedToken.class.getName();
+
+    private final String email;
+    private final Long userId;
+    private final List<Role> roles;
+    private final Instant expiration;
+
+    public boolean isExpired() {
+        return !expiration.isAfter(Instant.now());
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.runningservice.security;
 
 import com.example.runningservice.exception.CustomException;
-import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,38 +21,41 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final RequestTracer requestTracer;
     private final String ACCESS_TOKEN_HEADER = "Authorization";
     private final String TOKEN_PREFIX = "Bearer ";
 
     //본인의 토큰이 맞고 유효기간이 지나지 않았을 때
     // 토큰이 없거나 유효하지 않은 경우 필터 체인으로 넘김
+    // 요청 로그는 RequestTracer 규칙(샘플/회원/경로)에 걸린 요청만 응답 후 한 줄로 남긴다.
     @Override
     protected void doFilterInternal(
         HttpServletRequest request,
         HttpServletResponse response,
         FilterChain chain
     ) throws ServletException, IOException {
+        long start = System.nanoTime();
         try {
             String accessJwt = resolveToken(request, ACCESS_TOKEN_HEADER);
-            log.info("request path: {}", request.getRequestURI());
-            log.info("accessJwt: {}", accessJwt);
+            AuthenticatedToken token = null;
             if (accessJwt != null) {
-                if (!jwtUtil.isTokenExpired(accessJwt)) {
-                    Authentication authentication = jwtUtil.getAuthentication(accessJwt);
-                    log.info("Filtering request token Authentication: {}", authentication);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.info(String.format("[%s] -> %s ",
-                        jwtUtil.extractEmail(accessJwt), request.getRequestURI())
-                    );
-                    // LoginUserResolver에서 request를 통해 가져오기 위해 토큰에서 id를 가져와 저장한다.
-                    request.setAttribute("loginId", jwtUtil.extractUserId(accessJwt));
-                } else {
-                    throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+                // 토큰 검증/파싱은 요청당 한 번만 수행한다. (만료 시 TOKEN_EXPIRED 예외)
+                token = jwtUtil.authenticate(accessJwt);
+                Authentication authentication = jwtUtil.getAuthentication(token);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // LoginUserResolver, CrewRoleCheckAspect 에서 다시 파싱하지 않도록 검증된 토큰을 저장한다.
+                request.setAttribute(AuthenticatedToken.REQUEST_ATTRIBUTE, token);
+                request.setAttribute("loginId", token.getUserId());
+            }
+            boolean traced = requestTracer.shouldTrace(request,
+                token == null ? null : token.getUserId());
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                if (traced) {
+                    requestTracer.trace(request, response, token, System.nanoTime() - start);
                 }
             }
-            log.info("Filtering request token: {}", accessJwt);
-            log.info("authentication: {}", SecurityContextHolder.getContext().getAuthentication());
-            chain.doFilter(request, response);
         } catch (CustomException e) {
             log.error("JWT authentication failed: {}", e.getMessage());
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);  // 401 Unauthorized
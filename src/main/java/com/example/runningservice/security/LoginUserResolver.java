@@ -21,6 +21,12 @@ public class LoginUserResolver implements HandlerMethodArgumentResolver {
     public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
+        Object token = webRequest.getAttribute(AuthenticatedToken.REQUEST_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        if (token instanceof AuthenticatedToken authenticatedToken) {
+            return authenticatedToken.getUserId();
+        }
+
         return (Long) webRequest.getAttribute("loginId", RequestAttributes.SCOPE_REQUEST);
     }
 }
@@ -0,0 +1,50 @@
+package com.example.runningservice.security;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 추적 규칙 조회/변경
+ * - GET /actuator/requesttrace : 현재 규칙
+ * - POST /actuator/requesttrace {"sampleRate":0.01, "memberId":1, "path":"/crew/**"} : 규칙 추가 (필요한 것만)
+ * - DELETE /actuator/requesttrace : 추적 끄기
+ */
+@Component
+@Endpoint(id = "requesttrace")
+@RequiredArgsConstructor
+public class RequestTraceEndpoint {
+
+    private final RequestTracer requestTracer;
+
+    @ReadOperation
+    public Map<String, Object> rules() {
+        return requestTracer.rules();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Double sampleRate, @Nullable Long memberId,
+        @Nullable String path) {
+        if (sampleRate != null) {
+            requestTracer.setSampleRate(sampleRate);
+        }
+        if (memberId != null) {
+            requestTracer.traceMember(memberId);
+        }
+        if (path != null && !path.isBlank()) {
+            requestTracer.tracePath(path);
+        }
+        return requestTracer.rules();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clear() {
+        requestTracer.clear();
+        return requestTracer.rules();
+    }
+}
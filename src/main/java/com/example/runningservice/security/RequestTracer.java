@@ -0,0 +1,87 @@
+package com.example.runningservice.security;
+
+import com.example.runningservice.config.SqlMetricsDataSource;
+import com.example.runningservice.config.SqlMetricsDataSource.SqlStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 요청 추적 로그 (key=value 한 줄)
+ * 기본은 꺼져 있고, 샘플 비율 또는 회원 id / 경로 패턴 규칙에 걸린 요청만 남긴다.
+ * 규칙은 실행 중에 /actuator/requesttrace 로 바꾼다. 토큰 원문은 남기지 않는다.
+ */
+@Slf4j(topic = "request.trace")
+@Component
+public class RequestTracer {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> pathPatterns = ConcurrentHashMap.newKeySet();
+
+    @Value("${trace.request.sample-rate:0}")
+    private volatile double sampleRate;
+
+    public boolean shouldTrace(HttpServletRequest request, Long memberId) {
+        if (memberId != null && memberIds.contains(memberId)) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : pathPatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        double rate = sampleRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    public void trace(HttpServletRequest request, HttpServletResponse response,
+        AuthenticatedToken token, long elapsedNanos) {
+        SqlStats sql = (SqlStats) request.getAttribute(SqlMetricsDataSource.REQUEST_ATTRIBUTE);
+        log.info("method={} path={} status={} memberId={} roles={} elapsedMs={} sqlStatements={} sqlMs={}",
+            request.getMethod(),
+            request.getRequestURI(),
+            response.getStatus(),
+            token == null ? null : token.getUserId(),
+            token == null ? null : token.getRoles(),
+            String.format("%.2f", elapsedNanos / 1_000_000.0),
+            sql == null ? null : sql.statements(),
+            sql == null ? null : String.format("%.2f", sql.millis()));
+    }
+
+    public Map<String, Object> rules() {
+        return Map.of(
+            "sampleRate", sampleRate,
+            "memberIds", Set.copyOf(memberIds),
+            "paths", Set.copyOf(pathPatterns));
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public void traceMember(Long memberId) {
+        memberIds.add(memberId);
+    }
+
+    public void tracePath(String pattern) {
+        pathPatterns.add(pattern);
+    }
+
+    public void clear() {
+        sampleRate = 0;
+        memberIds.clear();
+        pathPatterns.clear();
+    }
+}
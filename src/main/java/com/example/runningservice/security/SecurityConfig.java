@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -39,6 +40,7 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final RequestTracer requestTracer;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, LogoutService logoutService)
@@ -53,6 +55,10 @@ public class SecurityConfig {
                         "/swagger-ui/*",
                         "v3/api-docs/**"
                         ).permitAll()
+                    // actuator 는 루프백 주소의 관리 포트로만 연다. (RunningServiceApplication 기본 설정)
+                    // 헬스체크와 prometheus 수집만 인증 없이 열고, 나머지(perf, env, heapdump 등)는 관리자만
+                    .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                    .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAnyAuthority("ROLE_ADMIN")
                     .requestMatchers(
                         "/",
                         "/user/signup/**",
@@ -125,7 +131,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+        return new JwtAuthenticationFilter(jwtUtil, requestTracer);
     }
 
     @Bean
@@ -4,9 +4,10 @@ import com.example.runningservice.dto.activity.ActivityFilterDto;
 import com.example.runningservice.dto.activity.ActivityRequestDto.Create;
 import com.example.runningservice.dto.activity.ActivityRequestDto.Update;
 import com.example.runningservice.dto.activity.ActivityResponseDto;
+import com.example.runningservice.dto.activity.ParticipantCountDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.entity.ActivityEntity;
 import com.example.runningservice.entity.CrewEntity;
-import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.ActivityCategory;
 import com.example.runningservice.enums.CrewRole;
@@ -14,11 +15,17 @@ import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.ActivityRepository;
 import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.repository.ParticipantRepository;
 import com.example.runningservice.repository.crew.CrewRepository;
-import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.util.CursorUtil;
+import com.example.runningservice.util.CursorUtil.Cursor;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,10 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ActivityService {
 
+    private static final String ACTIVITY_CURSOR_SCOPE = "activity";
+
     private final ActivityRepository activityRepository;
     private final CrewRepository crewRepository;
-    private final CrewMemberRepository crewMemberRepository;
     private final MemberRepository memberRepository;
+    private final ParticipantRepository participantRepository;
+    private final CursorUtil cursorUtil;
+    private final CrewRoleService crewRoleService;
     // private final RegularRunMeetingRepository regularRunMeetingRepository;
     // private final NotificationService notificationService;
     // private final ActivityNotification activityNotification;
@@ -98,12 +109,9 @@ public class ActivityService {
 
     // 리더 또는 스탭 권한이 없는지 확인한다.
     private boolean hasNotLeaderOfStaffAuthority(Long crewId, Long userId) {
-        CrewMemberEntity crewMemberEntity = crewMemberRepository.findByCrew_IdAndMember_Id(
-                crewId, userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED_CREW_ACCESS));
+        CrewRole crewRole = crewRoleService.getRole(crewId, userId);
 
-        return !crewMemberEntity.getRole().equals(CrewRole.LEADER) &&
-            !crewMemberEntity.getRole().equals(CrewRole.STAFF);
+        return !crewRole.equals(CrewRole.LEADER) && !crewRole.equals(CrewRole.STAFF);
     }
 
     /**
@@ -175,7 +183,36 @@ public class ActivityService {
             crewId, activityFilter.getCategory(), activityFilter.getStartDate(),
             activityFilter.getEndDate(), pageable);
 
-        return activityPage.map(entity -> ActivityResponseDto.fromEntity(entity, userId));
+        Map<Long, Long> participantCounts = countParticipants(activityPage.getContent());
+        return activityPage.map(entity -> ActivityResponseDto.fromEntity(entity, userId,
+            participantCounts.getOrDefault(entity.getId(), 0L).intValue()));
+    }
+
+    /**
+     * 날짜별 크루 (정기/번개)러닝 일정 조회 (커서)
+     */
+    public CursorSliceResponseDto<ActivityResponseDto> getCrewActivityByDateCursor(Long crewId,
+        Long userId, ActivityFilterDto activityFilter, String cursor, int size) {
+        if (!validateDate(activityFilter.getStartDate(), activityFilter.getEndDate())) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        Cursor last = cursorUtil.decode(ACTIVITY_CURSOR_SCOPE, cursor);
+        int limit = CursorUtil.normalizeSize(size);
+
+        List<ActivityEntity> activities = activityRepository
+            .findByCrewIdAndCategoryAndDateBetweenAfter(crewId, activityFilter.getCategory(),
+                activityFilter.getStartDate(), activityFilter.getEndDate(),
+                last != null ? last.sortKeyAsDate() : null, last != null ? last.getId() : null,
+                PageRequest.of(0, limit + 1));
+
+        CursorSliceResponseDto<ActivityEntity> activitySlice = CursorSliceResponseDto.of(
+            activities, limit,
+            entity -> cursorUtil.encode(ACTIVITY_CURSOR_SCOPE, entity.getDate(), entity.getId()));
+
+        Map<Long, Long> participantCounts = countParticipants(activities);
+        return activitySlice.map(entity -> ActivityResponseDto.fromEntity(entity, userId,
+            participantCounts.getOrDefault(entity.getId(), 0L).intValue()));
     }
 
     /**
@@ -187,7 +224,22 @@ public class ActivityService {
             .findByCrew_IdAndCategoryAndDateGreaterThanEqualOrderByDate(
                 crewId, category, pageable);
 
-        return activityPage.map(entity -> ActivityResponseDto.fromEntity(entity, userId));
+        Map<Long, Long> participantCounts = countParticipants(activityPage.getContent());
+        return activityPage.map(entity -> ActivityResponseDto.fromEntity(entity, userId,
+            participantCounts.getOrDefault(entity.getId(), 0L).intValue()));
+    }
+
+    // 한 페이지의 참석자 수를 한 번에 센다. (일정마다 참석자 목록을 읽지 않는다)
+    private Map<Long, Long> countParticipants(List<ActivityEntity> activities) {
+        if (activities.isEmpty()) {
+            return Map.of();
+        }
+        return participantRepository.countByActivityIds(activities.stream()
+                .map(ActivityEntity::getId)
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(ParticipantCountDto::getActivityId,
+                ParticipantCountDto::getCount));
     }
 
     // 시작 날짜가 종료 날짜보다 빠르거나 같은지 체크한다.
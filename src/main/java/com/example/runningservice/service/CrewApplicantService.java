@@ -12,6 +12,7 @@ import com.example.runningservice.enums.JoinStatus;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.JoinApplicationRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.util.PageUtil;
 import com.example.runningservice.util.S3FileUtil;
@@ -27,6 +28,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CrewApplicantService {
 
     private final CrewMemberRepository crewMemberRepository;
+    private final CrewRepository crewRepository;
+    private final CrewMembershipService crewMembershipService;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final CrewRoleService crewRoleService;
     private final JoinApplicationRepository joinApplicationRepository;
     private final S3FileUtil s3FileUtil;
 
@@ -75,6 +80,10 @@ public class CrewApplicantService {
         CrewMemberEntity newMember = CrewMemberEntity.of(memberEntity, crewEntity);
         //DTO 변환
         CrewMemberEntity savedCrewMember = crewMemberRepository.save(newMember);
+        crewRepository.increaseMemberCount(crewEntity.getId());
+        crewDiscoveryService.memberCountChanged(crewEntity.getId(), 1);
+        crewMembershipService.evict(memberEntity.getId());
+        crewRoleService.evict(crewEntity.getId(), memberEntity.getId());
         return CrewMemberResponseDto.of(savedCrewMember, s3FileUtil);
     }
 
@@ -0,0 +1,184 @@
+package com.example.runningservice.service;
+
+import com.example.runningservice.dto.crew.CrewFilterDto;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.enums.OccupancyStatus;
+import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.discovery.CrewDiscoveryIndex;
+import com.example.runningservice.service.discovery.CrewIndexEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 크루 목록 필터링 조회용 메모리 인덱스 관리.
+ * 기동 시 전체 크루를 읽어 인덱스를 만들고, 크루 생성/수정/삭제와 크루원 수 변경은 커밋 후에 반영한다.
+ * 반영 누락(다른 인스턴스에서의 변경 등)은 주기적인 재구성으로 맞춘다.
+ * 재구성이 크루 목록을 읽는 동안에는 변경 커밋을 잠깐 막아서, 읽기 전 커밋은 스냅샷에만 들어가고
+ * 읽은 뒤 커밋은 새 인덱스로 교체할 때 다시 적용한다. (누락/중복 반영 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewDiscoveryService {
+
+    private final CrewRepository crewRepository;
+
+    @Value("${crew.discovery.index.enabled:true}")
+    private boolean enabled;
+
+    // 재구성 전(기동 직후)에는 null 이고, 그동안은 JPQL 로 조회한다.
+    private volatile CrewDiscoveryIndex index;
+
+    // 변경은 커밋 직전부터 반영까지 읽기 잠금, 재구성은 스냅샷을 읽는 동안 쓰기 잠금
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    // 스냅샷을 읽은 뒤 교체 전까지 반영된 변경 (재구성 중이 아니면 null, this 로 보호)
+    private List<Consumer<CrewDiscoveryIndex>> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성 :: 30분마다
+     */
+    @Scheduled(initialDelay = 60000 * 30, fixedDelay = 60000 * 30)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<CrewIndexEntry> entries;
+        snapshotLock.writeLock().lock();
+        try {
+            entries = crewRepository.findAllIndexEntries();
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        CrewDiscoveryIndex rebuilt = CrewDiscoveryIndex.of(entries);
+        synchronized (this) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+        }
+        log.info("crew discovery index rebuilt: {} crews in {} ms", rebuilt.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 인덱스는 기본 정렬(크루원 수 내림차순)만 지원한다.
+     */
+    public boolean canServe(Pageable pageable) {
+        return index != null && pageable.getSort().isUnsorted();
+    }
+
+    public Page<CrewEntity> search(OccupancyStatus occupancyStatus,
+        CrewFilterDto.CrewInfo crewFilter, Pageable pageable) {
+        CrewDiscoveryIndex.Result result = index.search(crewFilter, occupancyStatus,
+            pageable.getOffset(), pageable.getPageSize());
+
+        if (result.getCrewIds().length == 0) {
+            return new PageImpl<>(List.of(), pageable, result.getTotal());
+        }
+
+        // IN 조회 후 인덱스 순서대로 정렬 (인덱스 반영 전에 삭제된 크루는 제외)
+        List<Long> crewIds = Arrays.stream(result.getCrewIds()).boxed().toList();
+        Map<Long, CrewEntity> crewById = crewRepository.findWithLeaderByIdIn(crewIds).stream()
+            .collect(Collectors.toMap(CrewEntity::getId, Function.identity()));
+
+        return new PageImpl<>(crewIds.stream()
+            .map(crewById::get)
+            .filter(Objects::nonNull)
+            .toList(), pageable, result.getTotal());
+    }
+
+    public void crewSaved(CrewEntity crewEntity) {
+        CrewIndexEntry entry = CrewIndexEntry.from(crewEntity);
+        afterCommit(crewIndex -> crewIndex.upsert(entry));
+    }
+
+    public void crewDeleted(Long crewId) {
+        afterCommit(crewIndex -> crewIndex.remove(crewId));
+    }
+
+    public void memberCountChanged(Long crewId, int delta) {
+        afterCommit(crewIndex -> crewIndex.addMemberCount(crewId, delta));
+    }
+
+    public void memberCountChanged(Collection<Long> crewIds, int delta) {
+        List<Long> changedCrewIds = List.copyOf(crewIds);
+        afterCommit(crewIndex -> changedCrewIds.forEach(
+            crewId -> crewIndex.addMemberCount(crewId, delta)));
+    }
+
+    // 롤백된 변경이 인덱스에 남지 않도록 커밋 후에 반영한다.
+    private void afterCommit(Consumer<CrewDiscoveryIndex> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshotLock.readLock().lock();
+            try {
+                apply(change);
+            } finally {
+                snapshotLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                private boolean locked;
+
+                // 커밋과 반영 사이에 재구성 스냅샷을 읽지 않도록 커밋 전에 잠근다.
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    snapshotLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        locked = false;
+                        snapshotLock.readLock().unlock();
+                    }
+                }
+            });
+    }
+
+    private synchronized void apply(Consumer<CrewDiscoveryIndex> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+        CrewDiscoveryIndex current = index;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+}
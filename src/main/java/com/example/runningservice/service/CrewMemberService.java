@@ -4,6 +4,7 @@ import com.example.runningservice.dto.crewMember.ChangeCrewRoleRequestDto;
 import com.example.runningservice.dto.crewMember.ChangedLeaderResponseDto;
 import com.example.runningservice.dto.crewMember.CrewMemberResponseDetailDto;
 import com.example.runningservice.dto.crewMember.GetCrewMemberRequestDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.dto.runRecord.RunRecordResponseDto;
 import com.example.runningservice.entity.CrewMemberBlackListEntity;
 import com.example.runningservice.entity.CrewMemberEntity;
@@ -17,9 +18,13 @@ import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.JoinApplicationRepository;
 import com.example.runningservice.repository.RunGoalRepository;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.service.chat.ChatLeaveService;
 import com.example.runningservice.util.AESUtil;
+import com.example.runningservice.util.CursorUtil;
+import com.example.runningservice.util.CursorUtil.Cursor;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,13 +38,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class CrewMemberService {
 
+    private static final String CREW_MEMBER_CURSOR_SCOPE = "crew-member";
+
     private final CrewMemberRepository crewMemberRepository;
+    private final CrewRepository crewRepository;
+    private final CrewMembershipService crewMembershipService;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final CrewRoleService crewRoleService;
     private final JoinApplicationRepository joinApplicationRepository;
     private final CrewMemberBlackListRepository crewMemberBlackListRepository;
     private final ChatJoinRepository chatJoinRepository;
+    private final ChatLeaveService chatLeaveService;
     private final RunGoalRepository runGoalRepository;
     private final RunRecordService runRecordService;
     private final AESUtil aesUtil;
+    private final CursorUtil cursorUtil;
 
     /**
      * 크루원 조회
@@ -66,6 +79,25 @@ public class CrewMemberService {
         return crewMemberRepository.findAllByCrewIdAndFilter(crewId, filterDto, pageable);
     }
 
+    /**
+     * 크루원 조회 (커서) :: 가입일 순, 전체 개수는 세지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponseDto<CrewMemberEntity> getCrewMembersByCursor(Long crewId,
+        GetCrewMemberRequestDto.Filter filterDto, String cursor, int size) {
+        Cursor last = cursorUtil.decode(CREW_MEMBER_CURSOR_SCOPE + ":" + crewId, cursor);
+        int limit = CursorUtil.normalizeSize(size);
+
+        List<CrewMemberEntity> crewMembers = crewMemberRepository.findAllByCrewIdAndFilterAfter(
+            crewId, filterDto != null ? filterDto : new GetCrewMemberRequestDto.Filter(),
+            last != null ? last.sortKeyAsDateTime() : null, last != null ? last.getId() : null,
+            limit + 1);
+
+        return CursorSliceResponseDto.of(crewMembers, limit,
+            entity -> cursorUtil.encode(CREW_MEMBER_CURSOR_SCOPE + ":" + crewId,
+                entity.getJoinedAt(), entity.getId()));
+    }
+
     /**
      * 크루원 개별조회(상세조회)
      */
@@ -112,10 +144,14 @@ public class CrewMemberService {
 
         //크루멤버 테이블에서 지우기
         crewMemberRepository.delete(crewMemberEntity);
+        crewRepository.decreaseMemberCount(crewId);
+        crewDiscoveryService.memberCountChanged(crewId, -1);
+        crewMembershipService.evict(userId);
+        crewRoleService.evict(crewId, userId);
 
         //가입해있던 크루 내 모든 채팅방에서 퇴장(삭제)
-        chatJoinRepository.deleteAllByMemberIdAndCrewId(crewMemberEntity.getMember().getId(),
-            crewId);
+        chatLeaveService.leave(chatJoinRepository.findAllByMember_IdAndChatRoom_Crew_Id(
+            crewMemberEntity.getMember().getId(), crewId));
 
         StringBuilder sb = new StringBuilder();
         sb.append(joinApplyEntity.getMember().getEmail())
@@ -143,10 +179,14 @@ public class CrewMemberService {
 
         //크루멤버 테이블에서 지우기
         crewMemberRepository.delete(crewMemberEntity);
+        crewRepository.decreaseMemberCount(crewId);
+        crewDiscoveryService.memberCountChanged(crewId, -1);
+        crewMembershipService.evict(crewMemberEntity.getMember().getId());
+        crewRoleService.evict(crewId, crewMemberEntity.getMember().getId());
 
         //채팅방에서도 퇴장(해당 유저가 가입한 크루 내 모든 채팅방에서 퇴장)
-        chatJoinRepository.deleteAllByMemberIdAndCrewId(crewMemberEntity.getMember().getId(),
-            crewId);
+        chatLeaveService.leave(chatJoinRepository.findAllByMember_IdAndChatRoom_Crew_Id(
+            crewMemberEntity.getMember().getId(), crewId));
 
         //블랙리스트에 멤버 추가
         return crewMemberBlackListRepository.save(CrewMemberBlackListEntity.builder()
@@ -167,6 +207,8 @@ public class CrewMemberService {
 
         //크루원 권한 변경
         crewMemberEntity.changeRoleTo(requestDto.getNewRole());
+        crewRoleService.evict(crewMemberEntity.getCrew().getId(),
+            crewMemberEntity.getMember().getId());
 
         return crewMemberEntity;
     }
@@ -186,6 +228,8 @@ public class CrewMemberService {
         newLeader.acceptLeaderRole();
 
         oldLeader.changeRoleTo(CrewRole.MEMBER);
+        crewRoleService.evict(crewId, userId);
+        crewRoleService.evict(crewId, newLeader.getMember().getId());
 
         return ChangedLeaderResponseDto.builder()
             .oldLeaderNickName(oldLeader.getMember().getNickName())
@@ -0,0 +1,70 @@
+package com.example.runningservice.service;
+
+import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원이 가입한 크루 id 목록 조회 (크루 목록/상세의 가입 여부 판단용)
+ * 회원별로 한 번만 조회해서 캐싱하고, 가입/탈퇴 시 evict 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrewMembershipService {
+
+    private final CrewMemberRepository crewMemberRepository;
+
+    @Value("${crew.membership.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${crew.membership.cache.expire-minutes:10}")
+    private long cacheExpireMinutes;
+
+    private Cache<Long, Set<Long>> joinedCrewIdCache;
+
+    @PostConstruct
+    public void init() {
+        joinedCrewIdCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(Duration.ofMinutes(cacheExpireMinutes))
+            .build();
+    }
+
+    /**
+     * 가입한 크루 id 목록 (비로그인이면 빈 목록)
+     */
+    public Set<Long> getJoinedCrewIds(Long memberId) {
+        if (memberId == null) {
+            return Set.of();
+        }
+
+        return joinedCrewIdCache.get(memberId,
+            id -> Set.copyOf(crewMemberRepository.findCrewIdsByMemberId(id)));
+    }
+
+    /**
+     * 크루원 추가/삭제 시 호출한다.
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱할 수 있으므로 커밋 후에도 한 번 더 지운다.
+     */
+    public void evict(Long memberId) {
+        joinedCrewIdCache.invalidate(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        joinedCrewIdCache.invalidate(memberId);
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.runningservice.service;
+
+import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 크루 내 권한 조회 (CrewRoleCheck, 일정/채팅방 권한 확인 등)
+ * (crewId, memberId) 별로 처음 조회할 때 캐싱하고, 크루원이 아닌 경우도 짧게 캐싱한다.
+ * 권한 변경, 가입/탈퇴/강퇴, 크루 삭제 시 evict 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrewRoleService {
+
+    private final CrewMemberRepository crewMemberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${crew.role.cache.max-size:50000}")
+    private long cacheMaxSize;
+
+    @Value("${crew.role.cache.expire-minutes:10}")
+    private long cacheExpireMinutes;
+
+    // 크루원이 아닌 결과 : 가입 직후에도 evict 되지만, 다른 인스턴스를 고려해 짧게 둔다.
+    @Value("${crew.role.cache.negative-expire-seconds:60}")
+    private long negativeExpireSeconds;
+
+    private Cache<CrewMemberKey, Optional<CrewRole>> crewRoleCache;
+
+    @PostConstruct
+    public void init() {
+        long positiveNanos = Duration.ofMinutes(cacheExpireMinutes).toNanos();
+        long negativeNanos = Duration.ofSeconds(negativeExpireSeconds).toNanos();
+
+        crewRoleCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new Expiry<CrewMemberKey, Optional<CrewRole>>() {
+                @Override
+                public long expireAfterCreate(CrewMemberKey key, Optional<CrewRole> role,
+                    long currentTime) {
+                    return role.isPresent() ? positiveNanos : negativeNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(CrewMemberKey key, Optional<CrewRole> role,
+                    long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, role, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(CrewMemberKey key, Optional<CrewRole> role,
+                    long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        // hit / miss / eviction
+        CaffeineCacheMetrics.monitor(meterRegistry, crewRoleCache, "crew.role");
+    }
+
+    /**
+     * 크루원이 아니면 빈 값
+     */
+    public Optional<CrewRole> findRole(Long crewId, Long memberId) {
+        if (crewId == null || memberId == null) {
+            return Optional.empty();
+        }
+
+        return crewRoleCache.get(new CrewMemberKey(crewId, memberId),
+            key -> crewMemberRepository.findRoleByCrewIdAndMemberId(key.crewId, key.memberId));
+    }
+
+    /**
+     * 크루원이 아니면 UNAUTHORIZED_CREW_ACCESS
+     */
+    public CrewRole getRole(Long crewId, Long memberId) {
+        return findRole(crewId, memberId)
+            .orElseThrow(() -> new CustomException(ErrorCode.UNAUTHORIZED_CREW_ACCESS));
+    }
+
+    public boolean hasRole(Long crewId, Long memberId, Collection<CrewRole> allowedRoles) {
+        return findRole(crewId, memberId).filter(allowedRoles::contains).isPresent();
+    }
+
+    /**
+     * 허용된 권한이 아니면 UNAUTHORIZED_CREW_ACCESS
+     */
+    public void checkRole(Long crewId, Long memberId, Collection<CrewRole> allowedRoles) {
+        if (!hasRole(crewId, memberId, allowedRoles)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_CREW_ACCESS);
+        }
+    }
+
+    /**
+     * 크루원 권한 변경, 가입/탈퇴/강퇴 시 호출한다.
+     * 커밋 전에 다른 요청이 이전 권한을 다시 캐싱할 수 있으므로 커밋 후에도 한 번 더 지운다.
+     */
+    public void evict(Long crewId, Long memberId) {
+        CrewMemberKey key = new CrewMemberKey(crewId, memberId);
+        crewRoleCache.invalidate(key);
+        afterCommit(() -> crewRoleCache.invalidate(key));
+    }
+
+    /**
+     * 크루 삭제 시 해당 크루의 모든 권한을 지운다.
+     */
+    public void evictCrew(Long crewId) {
+        Runnable evictCrew = () -> crewRoleCache.asMap().keySet()
+            .removeIf(key -> key.crewId.equals(crewId));
+        evictCrew.run();
+        afterCommit(evictCrew);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class CrewMemberKey {
+
+        private final Long crewId;
+        private final Long memberId;
+    }
+}
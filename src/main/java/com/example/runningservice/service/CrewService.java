@@ -7,11 +7,14 @@ import com.example.runningservice.dto.crew.CrewFilterDto;
 import com.example.runningservice.dto.crew.CrewJoinStatusResponseDto;
 import com.example.runningservice.dto.crew.CrewRoleResponseDto;
 import com.example.runningservice.dto.crew.CrewUpdateRequestDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.ChatRoom;
 import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.ImageVariant;
 import com.example.runningservice.enums.OccupancyStatus;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.exception.CustomException;
@@ -25,15 +28,25 @@ import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.service.chat.ChatRoomService;
+import com.example.runningservice.service.upload.ImageUploadService;
+import com.example.runningservice.util.CursorUtil;
+import com.example.runningservice.util.CursorUtil.Cursor;
 import com.example.runningservice.util.S3FileUtil;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CrewService {
@@ -49,6 +62,12 @@ public class CrewService {
     private final CrewMemberBlackListRepository crewMemberBlackListRepository;
     private final JoinApplicationRepository joinApplicationRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final CrewMembershipService crewMembershipService;
+    private final CursorUtil cursorUtil;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final CrewRoleService crewRoleService;
+    private final ImageUploadService imageUploadService;
+    private static final String CREW_CURSOR_SCOPE = "crew";
 
     /**
      * 크루 생성 :: db에 크루 저장 - 이미지 s3 저장 - 생성한 크루 정보 리턴
@@ -61,14 +80,18 @@ public class CrewService {
         CrewEntity crewEntity = CrewEntity.toEntity(newCrew, memberEntity);
         crewRepository.save(crewEntity);
 
-        crewEntity.updateCrewImageUrl(uploadFileAndReturnFileName(crewEntity.getId(),
-            newCrew.getCrewImage()));
+        // 크루 이미지는 업로드가 끝난 뒤 바뀌므로 우선 기본 이미지로 저장한다.
+        crewEntity.updateCrewImageUrl(s3FileUtil.getImgUrl(DEFAULT_IMAGE_NAME));
+        uploadCrewImage(crewEntity.getId(), newCrew.getCrewImage());
 
         crewMemberRepository.save(CrewMemberEntity.builder()
             .crew(crewEntity)
             .member(memberEntity)
             .role(CrewRole.LEADER)
             .build());
+        crewMembershipService.evict(loginId);
+        crewRoleService.evict(crewEntity.getId(), loginId);
+        crewDiscoveryService.crewSaved(crewEntity);
 
         // crew 채팅방 생성
         chatRoomService.createChatRoom(crewEntity.getId(),
@@ -81,16 +104,11 @@ public class CrewService {
     }
 
     /**
-     * s3에 크루 이미지 저장 :: crew-{crewId}로 저장
+     * s3에 크루 이미지 저장 :: crew-{crewId}로 저장, 커밋 후 업로드가 끝나면 크루 이미지를 바꾼다.
      */
-    private String uploadFileAndReturnFileName(Long crewId, MultipartFile crewImage) {
+    private void uploadCrewImage(Long crewId, MultipartFile crewImage) {
         if (crewImage != null && !crewImage.isEmpty()) {
-            String fileName = "crew-" + crewId;
-            s3FileUtil.putObject(fileName, crewImage);
-
-            return s3FileUtil.getImgUrl(fileName);
-        } else { // 크루 이미지가 없으면 기본 이미지로 사용
-            return s3FileUtil.getImgUrl(DEFAULT_IMAGE_NAME);
+            imageUploadService.upload(ImageOwner.CREW, crewId, "crew-" + crewId, crewImage);
         }
     }
 
@@ -105,13 +123,18 @@ public class CrewService {
         crewEntity.updateFromDto(updateCrew);
 
         if (Boolean.TRUE.equals(updateCrew.getDeleteCrewImage())) {
-            s3FileUtil.deleteObject("crew-" + crewId);
-            crewEntity.updateCrewImageUrl(
-                uploadFileAndReturnFileName(crewEntity.getId(), updateCrew.getCrewImage()));
+            crewImageKeys(crewId, crewEntity.getCrewImage()).forEach(s3FileUtil::deleteObject);
+            imageUploadService.cancel("crew-" + crewId);
+            crewEntity.updateCrewImageUrl(s3FileUtil.getImgUrl(DEFAULT_IMAGE_NAME));
+            uploadCrewImage(crewEntity.getId(), updateCrew.getCrewImage());
         } else if (updateCrew.getCrewImage() != null) {
-            crewEntity.updateCrewImageUrl(uploadFileAndReturnFileName(crewEntity.getId(),
-                updateCrew.getCrewImage()));
+            if (updateCrew.getCrewImage().isEmpty()) {
+                crewEntity.updateCrewImageUrl(s3FileUtil.getImgUrl(DEFAULT_IMAGE_NAME));
+            }
+            // 새 이미지는 업로드가 끝날 때까지 기존 이미지를 유지한다.
+            uploadCrewImage(crewEntity.getId(), updateCrew.getCrewImage());
         }
+        crewDiscoveryService.crewSaved(crewEntity);
 
         return CrewBaseResponseDto.fromEntity(crewEntity, s3FileUtil);
     }
@@ -127,13 +150,14 @@ public class CrewService {
         // 삭제하기 전에 리턴하기 위한 데이터를 미리 저장해둔다.
         CrewBaseResponseDto crewData = CrewBaseResponseDto.fromEntity(crewEntity, s3FileUtil);
 
-        // 이미지가 디폴트가 아닌 경우에만 삭제
-        String fileName = findLastPath(crewEntity.getCrewImage());
+        // 이미지가 디폴트가 아닌 경우에만 삭제 (크기별 이미지 포함)
+        String fileName = uploadedBaseKey(crewEntity.getCrewImage());
         if (!fileName.equals(DEFAULT_IMAGE_NAME)) {
-            s3FileUtil.deleteObject(fileName);
+            ImageVariant.allKeys(fileName).forEach(s3FileUtil::deleteObject);
         }
 
         // 외래키로 사용중인 테이블에서 모두 삭제 (크루원, 정기러닝 정보, 활동, 크루블랙리스트, 가입 신청, 채팅방)
+        // 크루원들의 가입 크루 캐시에 남는 삭제된 crewId 는 조회 결과에 영향이 없으므로 만료를 기다린다.
         crewMemberRepository.deleteAllByCrew_Id(crewId);
         regularRunMeetingRepository.deleteByCrew_Id(crewId);
         activityRepository.deleteByCrew_Id(crewId);
@@ -142,6 +166,8 @@ public class CrewService {
         chatRoomRepository.deleteByCrew_Id(crewId);
 
         crewRepository.delete(crewEntity);
+        crewDiscoveryService.crewDeleted(crewId);
+        crewRoleService.evictCrew(crewId);
 
         return crewData;
     }
@@ -154,17 +180,29 @@ public class CrewService {
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CREW));
 
         return CrewDetailResponseDto.fromEntity(crewEntity,
-            checkJoinedCrew(crewEntity.getCrewMember(), loginId), activityRepository, s3FileUtil);
+            crewMembershipService.getJoinedCrewIds(loginId).contains(crewId), activityRepository,
+            s3FileUtil);
     }
 
     /**
      * 참가 중인 크루 리스트 조회
      */
     public Page<CrewRoleResponseDto> getParticipateCrewList(Long loginId, Pageable pageable) {
+        // 가입한 크루가 없으면 목록/count 쿼리를 생략한다.
+        if (crewMembershipService.getJoinedCrewIds(loginId).isEmpty()) {
+            return Page.empty(pageable);
+        }
+
         Page<CrewMemberEntity> crewMemberEntities = crewMemberRepository
             .findByMember_IdOrderByJoinedAt(loginId, pageable);
 
-        return crewMemberEntities.map(entity -> CrewRoleResponseDto.fromEntity(entity, s3FileUtil));
+        // 목록에는 썸네일을 쓴다.
+        Map<String, String> crewImageUrls = s3FileUtil.presignAll(crewMemberEntities.stream()
+            .map(entity -> ImageVariant.THUMB.of(entity.getCrew().getCrewImage()))
+            .toList());
+
+        return crewMemberEntities.map(entity -> CrewRoleResponseDto.fromEntity(entity,
+            crewImageUrls.get(ImageVariant.THUMB.of(entity.getCrew().getCrewImage()))));
     }
 
     /**
@@ -184,11 +222,90 @@ public class CrewService {
         }
 
         Page<CrewEntity> crewEntityList = (crewFilter.getOccupancyStatus() != null) ?
-            crewFilter.getOccupancyStatus().getCrewList(crewRepository, crewFilter, pageable) :
-            OccupancyStatus.ALL.getCrewList(crewRepository, crewFilter, pageable);
+            crewFilter.getOccupancyStatus()
+                .getCrewList(crewDiscoveryService, crewRepository, crewFilter, pageable) :
+            OccupancyStatus.ALL.getCrewList(crewDiscoveryService, crewRepository, crewFilter,
+                pageable);
+
+        // 가입 여부는 크루원 목록을 읽지 않고 회원의 가입 크루 id 로 판단한다.
+        Set<Long> joinedCrewIds = crewMembershipService.getJoinedCrewIds(loginId);
+
+        // 한 페이지의 카드 이미지 url 을 한 번에 서명한다.
+        Map<String, String> crewImageUrls = s3FileUtil.presignAll(crewEntityList.stream()
+            .map(entity -> ImageVariant.CARD.of(entity.getCrewImage()))
+            .toList());
 
         return crewEntityList.map(entity -> CrewJoinStatusResponseDto.fromEntity(entity,
-            checkJoinedCrew(entity.getCrewMember(), loginId), s3FileUtil));
+            joinedCrewIds.contains(entity.getId()),
+            crewImageUrls.get(ImageVariant.CARD.of(entity.getCrewImage()))));
+    }
+
+    /**
+     * 전체 크루 필터링 조회 (커서) :: 크루원 수 많은 순, 전체 개수는 세지 않는다.
+     */
+    public CursorSliceResponseDto<CrewJoinStatusResponseDto> getCrewListByCursor(Long loginId,
+        CrewFilterDto.CrewInfo crewFilter, String cursor, int size) {
+
+        if (crewFilter.getActivityRegion() == null && loginId != null) {
+            crewFilter.updateRegionForLoginUser(getRegionForLoginUser(loginId));
+        }
+
+        if (Region.NATIONWIDE.equals(crewFilter.getActivityRegion())) {
+            crewFilter.updateRegionForLoginUser(null);
+        }
+
+        Cursor last = cursorUtil.decode(CREW_CURSOR_SCOPE, cursor);
+        int limit = CursorUtil.normalizeSize(size);
+
+        CursorSliceResponseDto<CrewEntity> crewSlice = CursorSliceResponseDto.of(
+            crewRepository.findCrewListAfter(crewFilter,
+                last != null ? last.sortKeyAsInt() : null,
+                last != null ? last.getId() : null, limit + 1),
+            limit,
+            entity -> cursorUtil.encode(CREW_CURSOR_SCOPE, entity.getMemberCount(),
+                entity.getId()));
+
+        Set<Long> joinedCrewIds = crewMembershipService.getJoinedCrewIds(loginId);
+
+        Map<String, String> crewImageUrls = s3FileUtil.presignAll(crewSlice.getContent().stream()
+            .map(entity -> ImageVariant.CARD.of(entity.getCrewImage()))
+            .toList());
+
+        return crewSlice.map(entity -> CrewJoinStatusResponseDto.fromEntity(entity,
+            joinedCrewIds.contains(entity.getId()),
+            crewImageUrls.get(ImageVariant.CARD.of(entity.getCrewImage()))));
+    }
+
+    /**
+     * 크루원 수(member_count) 보정 :: 기동 직후 한 번, 이후 6시간마다 실제 crew_member 수와 맞춘다.
+     * 보정한 크루가 있으면 커밋 후 크루 검색 인덱스도 다시 만든다.
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000 * 60 * 6)
+    @Transactional
+    public void reconcileMemberCount() {
+        int repaired = crewRepository.reconcileMemberCount();
+        if (repaired > 0) {
+            log.warn("crew member_count drift repaired: {} crews", repaired);
+            afterCommit(crewDiscoveryService::rebuild);
+        }
+    }
+
+    // 업로드한 크루 이미지의 baseKey (crew-{id}/{uploadId}), 크기별 이미지 이전 방식이면 마지막 경로
+    private String uploadedBaseKey(String crewImage) {
+        if (ImageVariant.hasVariants(crewImage)) {
+            return ImageVariant.baseKey(crewImage);
+        }
+        return findLastPath(crewImage);
+    }
+
+    // 크루 이미지 삭제 시 지울 s3 객체 :: 현재 이미지와 이전 방식의 crew-{id} 객체
+    private Set<String> crewImageKeys(Long crewId, String crewImage) {
+        Set<String> keys = new LinkedHashSet<>(ImageVariant.allKeys("crew-" + crewId));
+        String baseKey = uploadedBaseKey(crewImage);
+        if (!baseKey.equals(DEFAULT_IMAGE_NAME)) {
+            keys.addAll(ImageVariant.allKeys(baseKey));
+        }
+        return keys;
     }
 
     /**
@@ -200,20 +317,24 @@ public class CrewService {
         return paths[paths.length - 1];
     }
 
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+    }
+
     // 사용자의 활동 지역 조회
     private Region getRegionForLoginUser(Long loginId) {
         MemberEntity memberEntity = memberRepository.findMemberById(loginId);
 
         return memberEntity.getActivityRegion();
     }
-
-    // 조회한 크루가 가입한 크루인지 확인한다.
-    private boolean checkJoinedCrew(List<CrewMemberEntity> crewMemberList, Long userId) {
-        if (userId == null) {
-            return false;
-        }
-
-        return crewMemberList.stream()
-            .anyMatch(crewMemberEntity -> crewMemberEntity.getMember().getId().equals(userId));
-    }
 }
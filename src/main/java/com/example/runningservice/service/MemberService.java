@@ -1,5 +1,6 @@
 package com.example.runningservice.service;
 
+import com.example.runningservice.dto.NotificationPreferenceDto;
 import com.example.runningservice.dto.member.DeleteRequestDto;
 import com.example.runningservice.dto.member.MemberResponseDto;
 import com.example.runningservice.dto.member.PasswordRequestDto;
@@ -8,13 +9,20 @@ import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.Notification;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.*;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
-import com.example.runningservice.repository.chat.MessageRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.service.chat.ChatLeaveService;
+import com.example.runningservice.service.notification.NotificationBadgeCounter;
+import com.example.runningservice.service.notification.NotificationInboxService;
+import com.example.runningservice.service.notification.NotificationPreferenceCache;
+import com.example.runningservice.service.upload.ImageUploadService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.S3FileUtil;
 import lombok.RequiredArgsConstructor;
@@ -36,13 +44,22 @@ public class MemberService {
     private final AESUtil aesUtil;
     private final S3FileUtil s3FileUtil;
     private final NotificationRepository notificationRepository;
+    private final UserNotificationRepository userNotificationRepository;
     private final RunGoalRepository runGoalRepository;
     private final RunRecordRepository runRecordRepository;
+    private final RunStatsService runStatsService;
     private final JoinApplicationRepository joinApplicationRepository;
     private final CrewMemberBlackListRepository crewMemberBlackListRepository;
     private final CrewMemberRepository crewMemberRepository;
+    private final CrewRepository crewRepository;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final CrewRoleService crewRoleService;
     private final ChatJoinRepository chatJoinRepository;
-    private final MessageRepository messageRepository;
+    private final ChatLeaveService chatLeaveService;
+    private final NotificationInboxService notificationInboxService;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final NotificationBadgeCounter notificationBadgeCounter;
+    private final ImageUploadService imageUploadService;
 
     // 사용자 정보 조회
     @Transactional
@@ -58,12 +75,22 @@ public class MemberService {
         MemberEntity memberEntity = memberRepository.findMemberById(memberId);
 
         // 프로필 이미지 업로드
-        profileImageUploadHandler(updateMemberRequestDto.getProfileImage(), memberId, memberEntity);
+        profileImageUploadHandler(updateMemberRequestDto.getProfileImage(), memberId);
 
+        Notification activityNoti = memberEntity.getActivityNoti();
+        Notification chattingNoti = memberEntity.getChattingNoti();
         memberEntity.updateMemberProfile(updateMemberRequestDto);
 
         memberRepository.save(memberEntity);
 
+        // 알림 설정이 바뀌면 캐시를 교체하고, 받는 스트림이 달라지므로 배지를 다시 센다.
+        if (activityNoti != memberEntity.getActivityNoti()
+            || chattingNoti != memberEntity.getChattingNoti()) {
+            notificationPreferenceCache.update(memberId, new NotificationPreferenceDto(
+                memberEntity.getActivityNoti(), memberEntity.getChattingNoti()));
+            notificationBadgeCounter.recount(memberId);
+        }
+
         return MemberResponseDto.of(memberEntity, aesUtil, s3FileUtil);
     }
 
@@ -100,13 +127,17 @@ public class MemberService {
         }
 
         // 사용자 알람 제거
+        userNotificationRepository.deleteAllByMember_Id(memberId);
+        notificationInboxService.deleteReadState(memberId);
+        notificationPreferenceCache.evict(memberId);
+
+        // 사용자 기록 제거 (기록이 목표를 참조하므로 먼저)
+        runRecordRepository.deleteAllByUserId_Id(memberId);
+        runStatsService.deleteStats(memberId);
 
         // 사용자 목표 제거
         runGoalRepository.deleteAllByUserId_Id(memberId);
 
-        // 사용자 기록 제거
-        runRecordRepository.deleteAllByUserId_Id(memberId);
-
         // 크루 가입 상태 확인
         List<CrewMemberEntity> crewMemberEntities = crewMemberRepository.findAllByMember_Id(memberId);
         if (!crewMemberEntities.isEmpty()){
@@ -123,17 +154,16 @@ public class MemberService {
             List<ChatJoinEntity> chatJoinEntities = chatJoinRepository.findAllByMember_Id(memberId);
 
             if (!chatJoinEntities.isEmpty()){
-                // 참여중인 채팅방의 메시지 연결 끊기
-                chatJoinEntities.stream()
-                    .flatMap(chatJoinEntity -> messageRepository.findAllByChatJoin(chatJoinEntity).stream())
-                    .forEach(message -> message.setChatJoinNull(null));
-
-                // 참여중인 채팅방 퇴장
-                chatJoinRepository.deleteAllByMember_Id(memberId);
+                // 참여중인 채팅방 퇴장 (메시지 연결 끊기, 커밋 후 보낸 사람 캐시/카운터 정리 포함)
+                chatLeaveService.leave(chatJoinEntities);
             }
 
             joinApplicationRepository.deleteAllByMember_Id(memberId);
             crewMemberBlackListRepository.deleteAllByMember_Id(memberId);
+            List<Long> joinedCrewIds = crewMemberRepository.findCrewIdsByMemberId(memberId);
+            crewDiscoveryService.memberCountChanged(joinedCrewIds, -1);
+            joinedCrewIds.forEach(crewId -> crewRoleService.evict(crewId, memberId));
+            crewRepository.decreaseMemberCountByMemberId(memberId);
             crewMemberRepository.deleteAllByMember_Id(memberId);
         }
 
@@ -141,14 +171,10 @@ public class MemberService {
         memberRepository.delete(memberEntity);
     }
 
-    // 이미지 업데이트
-    private void profileImageUploadHandler(
-        MultipartFile profileImage, Long userId, MemberEntity memberEntity) {
+    // 이미지 업데이트 :: 커밋 후 업로드가 끝나면 프로필 이미지를 바꾼다. (그 전까지 기존 이미지 유지)
+    private void profileImageUploadHandler(MultipartFile profileImage, Long userId) {
         if (profileImage != null && !profileImage.isEmpty()) {
-            String fileName = "user-" + userId;
-            s3FileUtil.putObject(fileName, profileImage);
-            String imageUrl = s3FileUtil.getImgUrl(fileName);
-            memberEntity.updateProfileImageUrl(imageUrl);
+            imageUploadService.upload(ImageOwner.MEMBER, userId, "user-" + userId, profileImage);
         }
     }
 
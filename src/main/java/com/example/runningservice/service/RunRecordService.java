@@ -5,6 +5,7 @@ import com.example.runningservice.dto.runRecord.RunRecordResponseDto;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.entity.RunGoalEntity;
 import com.example.runningservice.entity.RunRecordEntity;
+import com.example.runningservice.entity.RunStatsEntity;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.MemberRepository;
@@ -15,6 +16,7 @@ import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +30,7 @@ public class RunRecordService {
     private final RunRecordRepository runRecordRepository;
     private final MemberRepository memberRepository;
     private final RunGoalRepository runGoalRepository;
+    private final RunStatsService runStatsService;
 
     public List<RunRecordResponseDto> findByUserId(Long userId) {
         List<RunRecordEntity> runRecords = runRecordRepository.findByUserId_Id(userId);
@@ -37,6 +40,7 @@ public class RunRecordService {
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public RunRecordResponseDto createRunRecord(Long userId, RunRecordRequestDto runRecordRequestDto) {
         MemberEntity member = memberRepository.findById(userId)
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
@@ -59,9 +63,11 @@ public class RunRecordService {
             .build();
 
         RunRecordEntity savedEntity = runRecordRepository.save(runRecordEntity);
+        runStatsService.recordAdded(savedEntity);
         return entityToDto(savedEntity);
     }
 
+    @Transactional
     public RunRecordResponseDto updateRunRecord(Long runningId, RunRecordRequestDto runRecordRequestDto) {
         RunRecordEntity existingEntity = runRecordRepository
             .findById(runningId)
@@ -82,6 +88,8 @@ public class RunRecordService {
             .updatedAt(LocalDateTime.now())
             .build();
 
+        // save(merge) 후에는 existingEntity 도 수정된 값이 되므로 저장 전에 반영한다.
+        runStatsService.recordUpdated(existingEntity, updatedEntity);
         RunRecordEntity savedEntity = runRecordRepository.save(updatedEntity);
         return entityToDto(savedEntity);
     }
@@ -91,37 +99,31 @@ public class RunRecordService {
         return runRecordRepository.findById(id).map(this::entityToDto);
     }
 
+    @Transactional
     public void deleteById(Long id) {
-        runRecordRepository.deleteById(id);
+        runRecordRepository.findById(id).ifPresent(runRecord -> {
+            runStatsService.recordRemoved(runRecord);
+            runRecordRepository.delete(runRecord);
+        });
     }
 
+    /**
+     * 누적 기록 : run_stats 한 행으로 조회 (페이스는 평균, 나머지는 합)
+     */
     public RunRecordResponseDto calculateTotalRunRecords(Long userId) {
-        List<RunRecordEntity> runRecords = runRecordRepository.findByUserId_Id(userId);
+        RunStatsEntity runStats = runStatsService.getStats(userId);
 
-        if (runRecords.isEmpty()) {
+        if (runStats.getRunCount() == 0) {
             throw new CustomException(ErrorCode.NOT_FOUND_RUN_RECORD);
         }
 
-
-        double totalDistance = runRecords.stream()
-            .mapToDouble(RunRecordEntity::getDistance)
-            .sum();
-
-        int totalRunningTime = runRecords.stream()
-            .mapToInt(RunRecordEntity::getRunningTime)
-            .sum();
-
-        int totalPace = runRecords.stream()
-            .mapToInt(RunRecordEntity::getPace)
-            .sum();
-
-        int averagePace = totalPace / (runRecords.size());
-
         return RunRecordResponseDto.builder()
             .userId(userId)
-            .distance(totalDistance)
-            .runningTime(totalRunningTime)
-            .pace(averagePace)
+            .distance(runStats.getTotalDistance())
+            .runningTime(Math.toIntExact(runStats.getTotalRunningTime()))
+            .pace(runStats.getAveragePace())
+            .runCount(runStats.getRunCount())
+            .runningDate(runStats.getLastRunDate())
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
@@ -0,0 +1,154 @@
+package com.example.runningservice.service;
+
+import com.example.runningservice.dto.runRecord.RunStatsAggregateDto;
+import com.example.runningservice.entity.RunRecordEntity;
+import com.example.runningservice.entity.RunStatsEntity;
+import com.example.runningservice.repository.RunRecordRepository;
+import com.example.runningservice.repository.RunStatsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원별 러닝 누적 기록(run_stats) 관리
+ * 러닝 기록 생성/수정/삭제와 같은 트랜잭션에서 증감하고, 주기적으로 전체 기록 기준으로 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RunStatsService {
+
+    private final RunStatsRepository runStatsRepository;
+    private final RunRecordRepository runRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${run.stats.rebuild.chunk-size:500}")
+    private int rebuildChunkSize;
+
+    /**
+     * 누적 기록 조회 :: run_stats 가 아직 없으면(재구성 전) 집계 쿼리 한 번으로 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public RunStatsEntity getStats(Long userId) {
+        return runStatsRepository.findById(userId)
+            .orElseGet(() -> RunStatsEntity.of(userId,
+                runRecordRepository.aggregateByUserId(userId).orElse(null)));
+    }
+
+    /**
+     * 저장된 기록을 누적값에 더한다.
+     */
+    @Transactional
+    public void recordAdded(RunRecordEntity runRecord) {
+        Long userId = runRecord.getUserId().getId();
+        RunStatsEntity stats = runStatsRepository.findByMemberIdForUpdate(userId)
+            .orElseGet(() -> createAndLock(userId, runRecord.getId()));
+
+        stats.add(runRecord);
+    }
+
+    /**
+     * 수정 전 기록을 빼고 수정 후 기록을 더한다. 수정 내용을 저장하기 전에 호출한다.
+     */
+    @Transactional
+    public void recordUpdated(RunRecordEntity before, RunRecordEntity after) {
+        RunStatsEntity stats = subtract(before);
+        stats.add(after);
+    }
+
+    /**
+     * 삭제할 기록을 누적값에서 뺀다.
+     */
+    @Transactional
+    public void recordRemoved(RunRecordEntity runRecord) {
+        subtract(runRecord);
+    }
+
+    @Transactional
+    public void deleteStats(Long userId) {
+        runStatsRepository.findById(userId).ifPresent(runStatsRepository::delete);
+    }
+
+    /**
+     * run_stats 재구성 (backfill, 누적값 보정) :: 기동 직후 한 번, 이후 하루마다
+     * 회원 id 순으로 chunk 단위 트랜잭션에서 잠금 후 덮어쓴다.
+     */
+    @Scheduled(initialDelay = 60000 * 2, fixedDelay = 60000 * 60 * 24)
+    public void rebuildAll() {
+        long lastUserId = 0;
+        int rebuilt = 0;
+        while (true) {
+            List<Long> userIds = runRecordRepository.findUserIdsAfter(lastUserId,
+                PageRequest.of(0, rebuildChunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> rebuild(userIds));
+            lastUserId = userIds.get(userIds.size() - 1);
+            rebuilt += userIds.size();
+        }
+        log.info("run_stats rebuilt: {} members", rebuilt);
+    }
+
+    void rebuild(List<Long> userIds) {
+        // 잠금을 먼저 잡아야 집계 도중 들어온 증감이 덮어써지지 않는다.
+        Map<Long, RunStatsEntity> statsByUserId = runStatsRepository
+            .findAllByMemberIdInForUpdate(userIds).stream()
+            .collect(Collectors.toMap(RunStatsEntity::getMemberId, Function.identity()));
+        Map<Long, RunStatsAggregateDto> aggregateByUserId = runRecordRepository
+            .aggregateByUserIds(userIds).stream()
+            .collect(Collectors.toMap(RunStatsAggregateDto::getUserId, Function.identity()));
+
+        List<RunStatsEntity> created = new ArrayList<>();
+        for (Long userId : userIds) {
+            RunStatsAggregateDto aggregate = aggregateByUserId.get(userId);
+            RunStatsEntity stats = statsByUserId.get(userId);
+            if (stats == null) {
+                created.add(RunStatsEntity.of(userId, aggregate));
+            } else {
+                stats.overwrite(aggregate);
+            }
+        }
+        runStatsRepository.saveAll(created);
+    }
+
+    // runRecord 를 뺀 누적값 (잠금)
+    private RunStatsEntity subtract(RunRecordEntity runRecord) {
+        Long userId = runRecord.getUserId().getId();
+        Optional<RunStatsEntity> locked = runStatsRepository.findByMemberIdForUpdate(userId);
+        if (locked.isEmpty()) {
+            return createAndLock(userId, runRecord.getId());
+        }
+
+        RunStatsEntity stats = locked.get();
+        if (stats.subtract(runRecord)) {
+            // 최고 페이스 / 최근 러닝일이 빠진 경우에만 집계 쿼리로 다시 맞춘다.
+            stats.overwrite(runRecordRepository.aggregateByUserIdExcluding(userId,
+                runRecord.getId()).orElse(null));
+        }
+        return stats;
+    }
+
+    // run_stats 가 없는 회원 : runRecordId 를 제외한 기록으로 같은 트랜잭션에서 생성한 뒤 잠근다.
+    // 없는 행은 잠글 수 없으므로 같은 회원의 첫 기록이 동시에 들어오면 한쪽의 insert 는 무시되고,
+    // 먼저 만들어진 행을 잠가서 더한다. (커넥션을 하나 더 쓰지 않는다)
+    private RunStatsEntity createAndLock(Long userId, Long excludedRunRecordId) {
+        RunStatsAggregateDto aggregate = runRecordRepository
+            .aggregateByUserIdExcluding(userId, excludedRunRecordId).orElse(null);
+        runStatsRepository.insertIfAbsent(RunStatsEntity.of(userId, aggregate));
+        return runStatsRepository.findByMemberIdForUpdate(userId)
+            .orElseThrow(() -> new IllegalStateException("run_stats " + userId + " not found"));
+    }
+}
@@ -4,18 +4,25 @@ import com.example.runningservice.client.MailgunClient;
 import com.example.runningservice.dto.member.MemberResponseDto;
 import com.example.runningservice.dto.auth.SignupRequestDto;
 import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.ImageOwner;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.service.upload.ImageUploadService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.S3FileUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SignupService {
@@ -25,6 +32,9 @@ public class SignupService {
     private final AESUtil aesUtil;
     private final MemberRepository memberRepository;
     private final S3FileUtil s3FileUtil;
+    // AsyncConfig.IO_TASK_EXECUTOR
+    private final TaskExecutor ioTaskExecutor;
+    private final ImageUploadService imageUploadService;
 
     @Transactional
     public MemberResponseDto signup(SignupRequestDto registerForm) throws Exception {
@@ -35,10 +45,9 @@ public class SignupService {
         MemberEntity memberEntity = registerForm.toEntity(passwordEncoder, aesUtil);
         memberRepository.save(memberEntity);
 
-        //imageUrl을 엔티티에 저장
-        String imageUrl = uploadFileAndReturnFileName(memberEntity.getId(),
-            registerForm.getProfileImage());
-        memberEntity.updateProfileImageUrl(imageUrl);
+        //프로필 이미지는 업로드가 끝난 뒤 바뀌므로 우선 기본 이미지로 저장
+        memberEntity.updateProfileImageUrl(s3FileUtil.getImgUrl("user-default"));
+        uploadProfileImage(memberEntity.getId(), registerForm.getProfileImage());
 
         return MemberResponseDto.of(memberEntity, aesUtil, s3FileUtil);
     }
@@ -52,12 +61,18 @@ public class SignupService {
         String code = getRandomCode();
         memberEntity.saveVerificationCode(code);
 
-        //이메일 전송
+        //이메일 전송 :: 인증코드가 커밋된 뒤 ioTaskExecutor 에서 보낸다. (메일 API 를 기다리는 동안 커넥션을 잡지 않는다)
         String from = "simzoo93@naver.com";
         String to = email;
         String subject = "Email 인증메일입니다.";
         String text = getBody(email, memberEntity.getName(), code);
-        mailgunClient.sendEmail(from, to, subject, text);
+        afterCommit(() -> ioTaskExecutor.execute(() -> {
+            try {
+                mailgunClient.sendEmail(from, to, subject, text);
+            } catch (RuntimeException e) {
+                log.error("verification mail failed. to: {}", to, e);
+            }
+        }));
     }
 
     @Transactional
@@ -107,16 +122,11 @@ public class SignupService {
     }
 
     /**
-     * s3에 회원 이미지 저장 :: user-{userId}로 저장
+     * s3에 회원 이미지 저장 :: user-{userId}로 저장, 커밋 후 업로드가 끝나면 프로필 이미지를 바꾼다.
      */
-    private String uploadFileAndReturnFileName(Long userId, MultipartFile userImage) {
+    private void uploadProfileImage(Long userId, MultipartFile userImage) {
         if (userImage != null && !userImage.isEmpty()) {
-            String fileName = "user-" + userId;
-            s3FileUtil.putObject(fileName, userImage);
-
-            return s3FileUtil.getImgUrl(fileName);
-        } else { // 크루 이미지가 없으면 기본 이미지로 사용
-            return s3FileUtil.getImgUrl("user-default");
+            imageUploadService.upload(ImageOwner.MEMBER, userId, "user-" + userId, userImage);
         }
     }
 
@@ -126,4 +136,18 @@ public class SignupService {
             throw new CustomException(ErrorCode.ALREADY_EXIST_NICKNAME);
         }
     }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+    }
 }
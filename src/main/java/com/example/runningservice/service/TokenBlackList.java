@@ -2,30 +2,64 @@ package com.example.runningservice.service;
 
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.service.blacklist.RevokedTokenJournal;
+import com.example.runningservice.service.blacklist.RevokedTokenStore;
+import com.example.runningservice.service.blacklist.TokenDigest;
 import com.example.runningservice.util.JwtUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlackList {
+public class TokenBlackList implements MeterBinder {
+    // 저널 크기가 살아있는 항목 수의 배수를 넘으면 compaction
+    private static final int JOURNAL_COMPACTION_RATIO = 2;
+
     private final JwtUtil jwtUtil;
 
-    private final Map<String, Date> blacklist = new ConcurrentHashMap<>();
+    // 재배포(deploy.sh) 후에도 남도록 jar 바깥 경로에 저장한다. 비우면 저널을 쓰지 않는다.
+    @Value("${token.blacklist.journal-path:data/token-blacklist.journal}")
+    private String journalPath;
+
+    @Value("${token.blacklist.bucket-seconds:600}")
+    private long bucketSeconds;
+
+    @Value("${token.blacklist.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    private RevokedTokenStore store;
+    private RevokedTokenJournal journal;
+
+    @PostConstruct
+    public void init() {
+        store = new RevokedTokenStore(bucketSeconds, expectedInsertions);
+        if (journalPath != null && !journalPath.isBlank()) {
+            journal = new RevokedTokenJournal(Path.of(journalPath));
+            int loaded = journal.replay(store, now());
+            log.info("token blacklist restored from journal: {} entries", loaded);
+        }
+    }
 
     public void add(String refreshToken) {
         log.debug("logoutService: refreshToken: {}", refreshToken);
-        Date expiry = jwtUtil.extractAllClaims(refreshToken)
-                .getExpiration();
-        // 토큰을 블랙리스트에 추가
-        blacklist.put(refreshToken, expiry);
+        long expiresAt = expiresAt(refreshToken);
+        // 토큰을 블랙리스트에 추가 (처음 폐기된 경우에만 저널에 기록)
+        TokenDigest digest = TokenDigest.of(refreshToken);
+        if (store.add(digest, expiresAt) && journal != null) {
+            journal.append(digest, expiresAt);
+        }
     }
 
     // 토큰이 블랙리스트에 있는지 확인
@@ -33,16 +67,48 @@ public class TokenBlackList {
         if (token == null) {
             throw new CustomException(ErrorCode.NO_VALID_REFRESH_TOKEN);
         }
-        if (blacklist.isEmpty()) {
-            return false;
-        }
 
-        return blacklist.containsKey(token) &&
-                blacklist.get(token).after(new Date());
+        return store.isRevoked(TokenDigest.of(token), expiresAt(token), now());
     }
-    // 주기적으로 블랙리스트에서 만료된 토큰 제거
-    @Scheduled(fixedRate = 60000 * 60) //1시간
+
+    // 주기적으로 블랙리스트에서 만료된 버킷 제거
+    @Scheduled(fixedRate = 60000 * 10) //10분
     public void removeExpiredTokens() {
-        blacklist.entrySet().removeIf(entry -> entry.getValue().before(new Date()));
+        int removed = store.purgeExpired(now());
+        if (journal != null
+            && journal.recordCount() > (long) store.size() * JOURNAL_COMPACTION_RATIO) {
+            journal.compact(store);
+        }
+        log.debug("token blacklist purged: {} removed, {} remaining", removed, store.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("token.blacklist.size", this, blackList -> blackList.store.size())
+            .description("폐기된 토큰 수")
+            .register(registry);
+        Gauge.builder("token.blacklist.buckets", this, blackList -> blackList.store.bucketCount())
+            .description("만료 시각 버킷 수")
+            .register(registry);
+        Gauge.builder("token.blacklist.footprint", this,
+                blackList -> blackList.store.footprintBytes())
+            .description("digest 테이블 + Bloom filter 크기")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private long expiresAt(String token) {
+        return jwtUtil.extractAllClaims(token).getExpiration().toInstant().getEpochSecond();
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
     }
 }
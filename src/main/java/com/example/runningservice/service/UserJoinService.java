@@ -32,6 +32,9 @@ public class UserJoinService {
     private final MemberRepository memberRepository;
     private final CrewRepository crewRepository;
     private final CrewMemberRepository crewMemberRepository;
+    private final CrewMembershipService crewMembershipService;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final CrewRoleService crewRoleService;
 
     @Transactional
     public JoinApplyDto.DetailResponse saveJoinApply(Long crewId, Long userId,
@@ -57,6 +60,10 @@ public class UserJoinService {
             // 크루원으로 자동 가입 처리
             CrewMemberEntity crewMemberEntity = CrewMemberEntity.of(memberEntity, crewEntity);
             crewMemberRepository.save(crewMemberEntity);
+            crewRepository.increaseMemberCount(crewEntity.getId());
+            crewDiscoveryService.memberCountChanged(crewEntity.getId(), 1);
+            crewMembershipService.evict(userId);
+            crewRoleService.evict(crewEntity.getId(), userId);
         } else {
             // 가입 승인이 필요한 경우
             joinApplyEntity.initializeStatusAsPending();
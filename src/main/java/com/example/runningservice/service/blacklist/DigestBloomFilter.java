@@ -0,0 +1,56 @@
+package com.example.runningservice.service.blacklist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * "폐기되지 않은 토큰" 판정을 테이블 조회 없이 끝내기 위한 Bloom filter.
+ * digest 가 이미 균등 분포이므로 high/low 를 double hashing 에 그대로 사용한다.
+ */
+class DigestBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    DigestBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    void put(long high, long low) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(high, low, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long high, long low) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(high, low, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long footprintBytes() {
+        return bitSize / 8;
+    }
+
+    private long bitIndex(long high, long low, int i) {
+        return Math.floorMod(low + i * high, bitSize);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.runningservice.service.blacklist;
+
+/**
+ * 만료 버킷 하나에 들어가는 digest 집합.
+ * 객체를 만들지 않도록 primitive 배열 기반 open addressing 으로 저장한다. (슬롯당 24byte)
+ * 버킷은 통째로 버려지므로 개별 삭제는 지원하지 않는다. 동기화는 호출하는 쪽에서 한다.
+ */
+class DigestTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] highs;
+    private long[] lows;
+    private long[] expirations;
+    private int size;
+
+    DigestTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    boolean add(long high, long low, long expiresAtSeconds) {
+        if ((size + 1) * 2 > highs.length) {
+            resize();
+        }
+        int mask = highs.length - 1;
+        int index = indexFor(low, mask);
+        while (!isEmpty(index)) {
+            if (highs[index] == high && lows[index] == low) {
+                expirations[index] = Math.max(expirations[index], expiresAtSeconds);
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        highs[index] = high;
+        lows[index] = low;
+        expirations[index] = expiresAtSeconds;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return 저장된 만료 시각(epoch second), 없으면 -1
+     */
+    long expiresAt(long high, long low) {
+        int mask = highs.length - 1;
+        int index = indexFor(low, mask);
+        while (!isEmpty(index)) {
+            if (highs[index] == high && lows[index] == low) {
+                return expirations[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long footprintBytes() {
+        return (long) highs.length * (Long.BYTES * 3);
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < highs.length; i++) {
+            if (!isEmpty(i)) {
+                visitor.visit(highs[i], lows[i], expirations[i]);
+            }
+        }
+    }
+
+    private boolean isEmpty(int index) {
+        return highs[index] == 0 && lows[index] == 0;
+    }
+
+    private void resize() {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        long[] oldExpirations = expirations;
+        allocate(oldHighs.length * 2);
+        size = 0;
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (oldHighs[i] != 0 || oldLows[i] != 0) {
+                add(oldHighs[i], oldLows[i], oldExpirations[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+        expirations = new long[capacity];
+    }
+
+    private static int indexFor(long low, int mask) {
+        // digest 자체가 균등 분포이므로 하위 비트를 그대로 쓴다.
+        return (int) (low ^ (low >>> 32)) & mask;
+    }
+
+    interface Visitor {
+
+        void visit(long high, long low, long expiresAtSeconds);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.runningservice.service.blacklist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기 토큰 append-only 저널. 재배포 후에도 블랙리스트가 유지되도록 기동 시 replay 한다.
+ * 레코드 형식 :: high(8) + low(8) + expiresAtSeconds(8), 고정 24byte
+ */
+@Slf4j
+public class RevokedTokenJournal implements Closeable {
+
+    static final int RECORD_SIZE = Long.BYTES * 3;
+
+    private final Path path;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(RECORD_SIZE);
+    private FileChannel channel;
+    private long recordCount;
+
+    public RevokedTokenJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 저널을 읽어 만료되지 않은 항목을 store 에 적재하고, 이후 append 를 위해 파일을 연다.
+     *
+     * @return 적재한 항목 수
+     */
+    public synchronized int replay(RevokedTokenStore store, long nowSeconds) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            int loaded = 0;
+            long validLength = 0;
+            if (Files.exists(path)) {
+                try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+                    ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+                    while (readFully(reader, record)) {
+                        record.flip();
+                        long high = record.getLong();
+                        long low = record.getLong();
+                        long expiresAt = record.getLong();
+                        record.clear();
+                        validLength += RECORD_SIZE;
+                        if (expiresAt > nowSeconds && store.add(new TokenDigest(high, low), expiresAt)) {
+                            loaded++;
+                        }
+                    }
+                }
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // 쓰다가 중단된 마지막 레코드는 잘라낸다.
+            channel.truncate(validLength);
+            channel.position(validLength);
+            recordCount = validLength / RECORD_SIZE;
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void append(TokenDigest digest, long expiresAtSeconds) {
+        try {
+            writeBuffer.clear();
+            writeBuffer.putLong(digest.getHigh())
+                .putLong(digest.getLow())
+                .putLong(expiresAtSeconds)
+                .flip();
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+            channel.force(false);
+            recordCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 살아있는 항목만으로 저널을 다시 쓴다. (임시 파일에 쓴 뒤 교체)
+     */
+    public synchronized void compact(RevokedTokenStore store) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            long[] written = {0};
+            try (FileChannel writer = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+                store.forEach((high, low, expiresAt) -> {
+                    if (!buffer.hasRemaining()) {
+                        flush(writer, buffer);
+                    }
+                    buffer.putLong(high).putLong(low).putLong(expiresAt);
+                    written[0]++;
+                });
+                flush(writer, buffer);
+                writer.force(true);
+            }
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            recordCount = written[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized long recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private static boolean readFully(FileChannel reader, ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            if (reader.read(record) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void flush(FileChannel writer, ByteBuffer buffer) {
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                writer.write(buffer);
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
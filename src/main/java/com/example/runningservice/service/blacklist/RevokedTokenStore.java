@@ -0,0 +1,164 @@
+package com.example.runningservice.service.blacklist;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 폐기된 토큰 digest 저장소.
+ * - 만료 시각 기준 time-wheel 버킷에 나눠 담아, 만료된 버킷은 통째로 버린다.
+ * - Bloom filter 를 앞에 두어 대부분의 "폐기되지 않음" 조회는 버킷을 보지 않는다.
+ * - 조회하는 토큰의 만료 시각을 받으므로 Bloom filter 를 통과해도 그 시각의 버킷 하나만 본다.
+ */
+public class RevokedTokenStore {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final long bucketSeconds;
+    private final long expectedInsertions;
+    private final NavigableMap<Long, DigestTable> buckets = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile DigestBloomFilter bloomFilter;
+    private int size;
+
+    public RevokedTokenStore(long bucketSeconds, long expectedInsertions) {
+        if (bucketSeconds <= 0) {
+            throw new IllegalArgumentException("bucketSeconds must be positive");
+        }
+        this.bucketSeconds = bucketSeconds;
+        this.expectedInsertions = expectedInsertions;
+        this.bloomFilter = new DigestBloomFilter(expectedInsertions, BLOOM_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * @return 새로 추가되었으면 true (이미 폐기된 토큰이면 false)
+     */
+    public boolean add(TokenDigest digest, long expiresAtSeconds) {
+        lock.writeLock().lock();
+        try {
+            boolean added = buckets.computeIfAbsent(slotOf(expiresAtSeconds), k -> new DigestTable())
+                .add(digest.getHigh(), digest.getLow(), expiresAtSeconds);
+            if (added) {
+                size++;
+            }
+            bloomFilter.put(digest.getHigh(), digest.getLow());
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 아직 만료되지 않은 폐기 토큰인지 확인 (expiresAtSeconds : 토큰의 exp)
+    public boolean isRevoked(TokenDigest digest, long expiresAtSeconds, long nowSeconds) {
+        // 만료된 토큰은 폐기 여부와 관계없이 쓸 수 없다.
+        if (expiresAtSeconds <= nowSeconds
+            || !bloomFilter.mightContain(digest.getHigh(), digest.getLow())) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            // 폐기 시 같은 exp 로 담았으므로 그 slot 의 버킷만 본다.
+            DigestTable table = buckets.get(slotOf(expiresAtSeconds));
+            return table != null && table.expiresAt(digest.getHigh(), digest.getLow()) > nowSeconds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰이 만료된 버킷을 통째로 제거한다.
+     *
+     * @return 제거된 digest 수
+     */
+    public int purgeExpired(long nowSeconds) {
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            // slot 이 현재 slot 보다 작으면 버킷 안의 모든 토큰이 이미 만료되었다.
+            Map<Long, DigestTable> expired = buckets.headMap(slotOf(nowSeconds), false);
+            if (expired.isEmpty()) {
+                return 0;
+            }
+            for (DigestTable table : expired.values()) {
+                removed += table.size();
+            }
+            expired.clear();
+            size -= removed;
+            // 읽기 잠금으로 낮춰서 다시 만드는 동안 조회는 막지 않는다. (추가만 기다린다)
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            rebuildBloomFilter();
+            return removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int bucketCount() {
+        lock.readLock().lock();
+        try {
+            return buckets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 테이블 + Bloom filter 배열 크기 (객체 헤더 제외)
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = bloomFilter.footprintBytes();
+            for (DigestTable table : buckets.values()) {
+                bytes += table.footprintBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 저널 compaction 용 (살아있는 항목 전체 순회)
+    public void forEach(Entry entry) {
+        lock.readLock().lock();
+        try {
+            for (DigestTable table : buckets.values()) {
+                table.forEach(entry::accept);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 호출 :: 새 필터를 다 채운 뒤 교체하므로 조회는 기존 필터를 계속 쓴다.
+    private void rebuildBloomFilter() {
+        DigestBloomFilter rebuilt = new DigestBloomFilter(
+            Math.max(expectedInsertions, size), BLOOM_FALSE_POSITIVE_RATE);
+        for (DigestTable table : buckets.values()) {
+            table.forEach((high, low, expiresAt) -> rebuilt.put(high, low));
+        }
+        bloomFilter = rebuilt;
+    }
+
+    private long slotOf(long epochSeconds) {
+        return Math.floorDiv(epochSeconds, bucketSeconds);
+    }
+
+    public interface Entry {
+
+        void accept(long high, long low, long expiresAtSeconds);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.runningservice.service.blacklist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 문자열 대신 저장하는 128bit 고정 길이 digest (SHA-256 앞 16byte)
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final long high;
+    private final long low;
+
+    public static TokenDigest of(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        long high = buffer.getLong();
+        long low = buffer.getLong();
+        // (0, 0) 은 DigestTable 의 빈 슬롯 표시로 쓰므로 피한다.
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        return new TokenDigest(high, low);
+    }
+}
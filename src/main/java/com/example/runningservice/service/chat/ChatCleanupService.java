@@ -0,0 +1,110 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.entity.chat.ChatCleanupJobEntity;
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.enums.CleanupStatus;
+import com.example.runningservice.repository.chat.ChatCleanupJobRepository;
+import com.example.runningservice.repository.chat.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 퇴장/탈퇴한 멤버의 메시지와 chat_join 연결 끊기
+ * 메시지를 엔티티로 읽지 않고 UPDATE 한 번으로 끊는다. 한 번에 끝나지 않는 방은 정리 작업으로 넘겨
+ * 청크 단위로 커밋하며 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatCleanupService {
+
+    private final MessageRepository messageRepository;
+    private final ChatCleanupJobRepository chatCleanupJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 요청 트랜잭션에서 바로 끊는 최대 메시지 수
+    @Value("${chat.cleanup.inline-limit:1000}")
+    private int inlineLimit;
+
+    @Value("${chat.cleanup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${chat.cleanup.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    private Counter detachedCounter;
+
+    @PostConstruct
+    public void init() {
+        detachedCounter = Counter.builder("chat.cleanup.detached")
+            .description("chat_join 연결을 끊은 메시지 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * chat_join 삭제 전 호출 (호출한 트랜잭션에서 실행) : 방마다 UPDATE 한 번, 남으면 정리 작업으로 넘긴다.
+     */
+    public void detach(List<ChatJoinEntity> chatJoins) {
+        for (ChatJoinEntity chatJoin : chatJoins) {
+            int detached = messageRepository.detachChatJoin(chatJoin.getId(), inlineLimit);
+            detachedCounter.increment(detached);
+            if (detached >= inlineLimit) {
+                chatCleanupJobRepository.save(ChatCleanupJobEntity.of(chatJoin.getId(),
+                    chatJoin.getChatRoom().getId(), detached));
+                log.info("chat cleanup scheduled. chatJoinId: {}, roomId: {}", chatJoin.getId(),
+                    chatJoin.getChatRoom().getId());
+            }
+        }
+    }
+
+    /**
+     * 남은 정리 작업을 청크 단위로 처리한다. 청크마다 커밋하므로 중단돼도 다음 실행에서 이어간다.
+     */
+    @Scheduled(initialDelayString = "${chat.cleanup.initial-delay-ms:60000}",
+        fixedDelayString = "${chat.cleanup.interval-ms:10000}")
+    public void runPendingJobs() {
+        List<ChatCleanupJobEntity> jobs = chatCleanupJobRepository.findByStatusOrderByIdAsc(
+            CleanupStatus.PENDING, PageRequest.of(0, jobsPerRun));
+        for (ChatCleanupJobEntity job : jobs) {
+            run(job.getId());
+        }
+    }
+
+    void run(Long jobId) {
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> detachChunk(jobId)));
+        }
+    }
+
+    private boolean detachChunk(Long jobId) {
+        ChatCleanupJobEntity job = chatCleanupJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == CleanupStatus.DONE) {
+            return false;
+        }
+
+        int detached = messageRepository.detachChatJoin(job.getChatJoinId(), chunkSize);
+        boolean finished = detached < chunkSize;
+        job.progress(detached, finished);
+        detachedCounter.increment(detached);
+
+        if (finished) {
+            log.info("chat cleanup done. jobId: {}, chatJoinId: {}, detached: {}", job.getId(),
+                job.getChatJoinId(), job.getDetachedCount());
+        } else {
+            log.debug("chat cleanup progress. jobId: {}, detached: {}", job.getId(),
+                job.getDetachedCount());
+        }
+        return !finished;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.dto.chat.MessageResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
+import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.chat.MessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방 메시지 이력 조회
+ * 방마다 최근 메시지를 ring buffer 에 보관해서 "입장 후 최근 50개" 같은 첫 페이지는 DB 를 조회하지 않는다.
+ * ring buffer 에는 ChatMessageWriter 가 저장(commit)한 메시지가 이어 붙는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 100;
+
+    private final MessageRepository messageRepository;
+    private final ChatJoinRepository chatJoinRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 방마다 보관하는 최근 메시지 수 (MAX_LIMIT 보다 커야 한 페이지를 메모리에서 줄 수 있다)
+    @Value("${chat.history.cache.capacity:200}")
+    private int capacity;
+
+    @Value("${chat.history.cache.max-rooms:1000}")
+    private long maxRooms;
+
+    @Value("${chat.history.cache.expire-minutes:30}")
+    private long expireMinutes;
+
+    private Cache<Long, MessageRing> rings;
+    private Counter cachePageCounter;
+    private Counter databasePageCounter;
+
+    @PostConstruct
+    public void init() {
+        rings = Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rings, "chat.history");
+        cachePageCounter = Counter.builder("chat.history.page")
+            .tag("source", "cache")
+            .description("ring buffer 로 응답한 이력 페이지 수")
+            .register(meterRegistry);
+        databasePageCounter = Counter.builder("chat.history.page")
+            .tag("source", "db")
+            .description("DB 에서 조회한 이력 페이지 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * before 보다 이전 메시지를 최신순으로 limit 개 조회한다. 첫 페이지는 before 없이 호출한다.
+     * 권한은 캐시가 아닌 chat_join 으로 확인한다 (퇴장 직후의 캐시로 이력이 열리지 않도록).
+     */
+    public CursorSliceResponseDto<MessageResponseDto> getMessages(Long crewId, Long roomId,
+        Long memberId, Long before, int limit) {
+        if (!chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(roomId, crewId,
+            memberId)) {
+            throw new CustomException(ErrorCode.NOT_JOINED_CHATROOM);
+        }
+        int size = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+
+        List<MessageResponseDto> fetched = ring(roomId).before(beforeId, size + 1);
+        if (fetched != null) {
+            cachePageCounter.increment();
+        } else {
+            databasePageCounter.increment();
+            fetched = findBefore(roomId, beforeId, size + 1);
+        }
+        return CursorSliceResponseDto.of(fetched, size, message -> String.valueOf(message.getId()));
+    }
+
+    /**
+     * ChatMessageWriter 의 트랜잭션 commit 후 호출 : 메모리에 올라와 있는 방에만 이어 붙인다.
+     */
+    public void messagesSaved(List<MessageEntity> messages) {
+        for (MessageEntity message : messages) {
+            // getIfPresent 는 캐시 hit 통계에 잡히므로 asMap 으로 조회
+            MessageRing ring = rings.asMap().get(message.getRoomId());
+            if (ring != null) {
+                ring.append(MessageResponseDto.of(message));
+            }
+        }
+    }
+
+    private MessageRing ring(Long roomId) {
+        MessageRing ring = rings.get(roomId, id -> new MessageRing(capacity));
+        if (!ring.isLoaded()) {
+            // ring 을 캐시에 먼저 올린 뒤 조회하므로, 조회 중에 저장된 메시지는 pending 으로 받아 이어 붙인다.
+            try {
+                ring.load(findBefore(roomId, Long.MAX_VALUE, capacity));
+            } catch (RuntimeException e) {
+                rings.asMap().remove(roomId, ring);
+                throw e;
+            }
+        }
+        return ring;
+    }
+
+    private List<MessageResponseDto> findBefore(Long roomId, long beforeId, int count) {
+        return messageRepository.findByRoomIdBefore(roomId, beforeId, PageRequest.of(0, count))
+            .stream()
+            .map(MessageResponseDto::of)
+            .toList();
+    }
+
+    /**
+     * 방 하나의 최근 메시지 (id 오름차순, 가득 차면 가장 오래된 메시지를 덮어쓴다)
+     */
+    static class MessageRing {
+
+        private final MessageResponseDto[] slots;
+        private final List<MessageResponseDto> pending = new ArrayList<>();
+        private int start;
+        private int size;
+        private boolean loaded;
+        // 방의 첫 메시지부터 모두 들고 있는지 :: 이 경우 ring 에 없는 이전 메시지는 없다.
+        private boolean fromStart;
+
+        MessageRing(int capacity) {
+            this.slots = new MessageResponseDto[capacity];
+        }
+
+        synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        /**
+         * DB 에서 조회한 최근 메시지(id 역순)로 채운다.
+         */
+        synchronized void load(List<MessageResponseDto> latest) {
+            if (loaded) {
+                return;
+            }
+            loaded = true;
+            fromStart = latest.size() < slots.length;
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                append(latest.get(i));
+            }
+            pending.forEach(this::append);
+            pending.clear();
+        }
+
+        synchronized void append(MessageResponseDto message) {
+            if (!loaded) {
+                pending.add(message);
+                return;
+            }
+            // 적재 쿼리에 이미 포함된 메시지
+            if (size > 0 && message.getId() <= slots[(start + size - 1) % slots.length].getId()) {
+                return;
+            }
+            if (size == slots.length) {
+                start = (start + 1) % slots.length;
+                size--;
+                fromStart = false;
+            }
+            slots[(start + size) % slots.length] = message;
+            size++;
+        }
+
+        /**
+         * beforeId 보다 이전 메시지를 최신순으로 count 개. ring 만으로 답할 수 없으면 null
+         */
+        synchronized List<MessageResponseDto> before(long beforeId, int count) {
+            List<MessageResponseDto> result = new ArrayList<>(count);
+            for (int i = size - 1; i >= 0 && result.size() < count; i--) {
+                MessageResponseDto message = slots[(start + i) % slots.length];
+                if (message.getId() < beforeId) {
+                    result.add(message);
+                }
+            }
+            if (result.size() < count && !fromStart) {
+                return null;
+            }
+            return result;
+        }
+    }
+}
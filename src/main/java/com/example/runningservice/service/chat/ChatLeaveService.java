@@ -0,0 +1,63 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * chat_join 삭제 (채팅방 퇴장/강제퇴장, 크루 탈퇴/강제퇴장, 회원 탈퇴) 는 모두 여기를 거친다.
+ * 호출한 트랜잭션에서 chat_join 을 잠그고 메시지 연결을 끊은 뒤 삭제하고,
+ * 보낸 사람 캐시와 방별 멤버/안 읽은 수 카운터는 커밋 후에 정리한다. (롤백되면 그대로 둔다)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatLeaveService {
+
+    private final ChatJoinRepository chatJoinRepository;
+    private final ChatCleanupService chatCleanupService;
+    private final MessageService messageService;
+    private final ChatUnreadCounter chatUnreadCounter;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void leave(List<ChatJoinEntity> chatJoins) {
+        if (chatJoins.isEmpty()) {
+            return;
+        }
+        List<Long> chatJoinIds = chatJoins.stream().map(ChatJoinEntity::getId).toList();
+
+        // 저장 중인 메시지(ChatMessageWriter 가 보낸 사람 chat_join 을 공유 잠금)가 커밋된 뒤에 끊는다.
+        // 잠근 뒤에 저장되는 메시지는 chat_join 없이 저장된다.
+        chatJoinRepository.lockForRemoval(chatJoinIds);
+        chatCleanupService.detach(chatJoins);
+        chatJoinRepository.deleteAllByIdInBatch(chatJoinIds);
+
+        List<ChatMember> members = chatJoins.stream()
+            .map(chatJoin -> new ChatMember(chatJoin.getId(), chatJoin.getChatRoom().getId(),
+                chatJoin.getMember().getId()))
+            .toList();
+        afterCommit(() -> members.forEach(member -> {
+            messageService.closeSender(member.chatJoinId());
+            chatUnreadCounter.memberLeft(member.roomId(), member.memberId());
+        }));
+    }
+
+    private void afterCommit(Runnable change) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+    }
+
+    private record ChatMember(Long chatJoinId, Long roomId, Long memberId) {
+
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 write-behind 저장
+ * STOMP 수신 스레드는 bounded queue 에 넣기만 하고, 전용 스레드 하나가 모인 만큼 한 트랜잭션에서 batch insert 한다.
+ * 스레드가 하나이고 queue 가 FIFO 이므로 같은 방의 메시지는 넣은 순서대로 저장(id 증가)된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ChatJoinRepository chatJoinRepository;
+    private final ChatHistoryService chatHistoryService;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${chat.message.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.message.writer.batch-size:200}")
+    private int batchSize;
+
+    // queue 가 가득 찼을 때 수신 스레드가 기다리는 최대 시간 (backpressure)
+    @Value("${chat.message.writer.offer-timeout-ms:200}")
+    private long offerTimeoutMillis;
+
+    @Value("${chat.message.writer.poll-interval-ms:50}")
+    private long pollIntervalMillis;
+
+    // 종료 시 writer 스레드가 남은 메시지를 저장하고 끝나기를 기다리는 시간
+    @Value("${chat.message.writer.stop-timeout-ms:30000}")
+    private long stopTimeoutMillis;
+
+    private BlockingQueue<PendingChatMessage> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // 방별 마지막으로 넣은 메시지 :: 그 메시지가 처리되면 방에 먼저 넣은 메시지도 모두 처리된 것이다. (FIFO)
+    private final Map<Long, PendingChatMessage> lastEnqueuedByRoom = new ConcurrentHashMap<>();
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("chat.message.queue.size", queue, Collection::size)
+            .description("저장 대기중인 채팅 메시지 수")
+            .register(meterRegistry);
+        flushTimer = Timer.builder("chat.message.flush")
+            .description("채팅 메시지 batch 저장 시간")
+            .register(meterRegistry);
+        droppedCounter = Counter.builder("chat.message.dropped")
+            .description("저장에 실패한 채팅 메시지 수")
+            .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::run, "chat-message-writer");
+        writerThread.start();
+    }
+
+    /**
+     * queue 에 넣는다. offer-timeout 동안 자리가 나지 않으면 false
+     * 같은 방의 enqueue 는 호출하는 쪽(MessageService)에서 방 단위로 직렬화한다.
+     */
+    public boolean enqueue(PendingChatMessage message) {
+        if (!running) {
+            return false;
+        }
+        // writer 가 처리 후 지울 수 있도록 queue 에 넣기 전에 등록한다.
+        PendingChatMessage previous = lastEnqueuedByRoom.put(message.getRoomId(), message);
+        boolean offered;
+        try {
+            offered = queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered) {
+            lastEnqueuedByRoom.remove(message.getRoomId(), message);
+            if (previous != null && !previous.getWritten().isDone()) {
+                lastEnqueuedByRoom.putIfAbsent(message.getRoomId(), previous);
+            }
+        }
+        return offered;
+    }
+
+    /**
+     * 호출 시점까지 이 방에 넣은 메시지가 모두 처리(저장 또는 버림)되면 완료된다.
+     */
+    public CompletableFuture<Void> whenWritten(Long roomId) {
+        PendingChatMessage last = lastEnqueuedByRoom.get(roomId);
+        return last == null ? CompletableFuture.completedFuture(null) : last.getWritten().copy();
+    }
+
+    /**
+     * 호출 시점까지 넣은 모든 방의 메시지가 처리될 때까지 기다린다.
+     */
+    public boolean awaitWritten(long timeoutMillis) {
+        CompletableFuture<?>[] pending = lastEnqueuedByRoom.values().stream()
+            .map(PendingChatMessage::getWritten)
+            .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(pending).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 저장한다.
+     * writer 스레드가 stop-timeout 안에 끝나지 않으면 남은 메시지는 저장하지 않는다.
+     * (아직 write 중인 스레드와 같이 저장하면 방별 저장 순서가 깨진다)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(stopTimeoutMillis);
+
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            queue.drainTo(remaining);
+            for (PendingChatMessage message : remaining) {
+                droppedCounter.increment();
+                lastEnqueuedByRoom.remove(message.getRoomId(), message);
+                message.getWritten().complete(null);
+            }
+            log.error("chat message writer did not stop in {} ms: {} messages left unwritten",
+                stopTimeoutMillis, remaining.size());
+            return;
+        }
+
+        // writer 가 끝난 뒤 (running 확인 직후) 들어온 메시지
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("chat message writer stopped: {} written on shutdown", remaining.size());
+    }
+
+    private void run() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            PendingChatMessage first;
+            try {
+                first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            // 기다리는 동안 쌓인 만큼 한 번에 저장 (group commit)
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    void write(List<PendingChatMessage> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<MessageEntity> saved = new ArrayList<>(batch.size());
+        try {
+            saved.addAll(save(batch));
+        } catch (RuntimeException e) {
+            // 제약 위반 등 : 한 건씩 다시 저장하고 실패한 메시지만 버린다.
+            log.warn("chat message batch insert failed ({} messages), retrying one by one",
+                batch.size(), e);
+            for (PendingChatMessage message : batch) {
+                try {
+                    saved.addAll(save(List.of(message)));
+                } catch (RuntimeException ex) {
+                    droppedCounter.increment();
+                    log.error("chat message dropped. roomId: {}, chatJoinId: {}",
+                        message.getRoomId(), message.getChatJoinId(), ex);
+                }
+            }
+        } finally {
+            try {
+                // 저장(commit)된 메시지만 이력 캐시에 이어 붙이고 안 읽은 수를 올린다.
+                chatHistoryService.messagesSaved(saved);
+                increaseUnreadCounts(saved);
+            } finally {
+                for (PendingChatMessage message : batch) {
+                    lastEnqueuedByRoom.remove(message.getRoomId(), message);
+                    message.getWritten().complete(null);
+                }
+                sample.stop(flushTimer);
+            }
+        }
+    }
+
+    // DB 와 같이 (방, 보낸 사람) 별로 묶어 메모리의 안 읽은 수를 올린다.
+    private void increaseUnreadCounts(List<MessageEntity> saved) {
+        Map<Long, Map<Long, Integer>> savedCounts = new LinkedHashMap<>();
+        for (MessageEntity message : saved) {
+            savedCounts.computeIfAbsent(message.getRoomId(), roomId -> new LinkedHashMap<>())
+                .merge(message.getSenderId(), 1, Integer::sum);
+        }
+        savedCounts.forEach((roomId, countBySender) -> countBySender.forEach(
+            (senderId, count) -> chatUnreadCounter.messagesSaved(roomId, senderId, count)));
+    }
+
+    private List<MessageEntity> save(List<PendingChatMessage> messages) {
+        List<MessageEntity> saved = new ArrayList<>(messages.size());
+        transactionTemplate.executeWithoutResult(status -> saved.addAll(persist(messages)));
+        return saved;
+    }
+
+    private List<MessageEntity> persist(List<PendingChatMessage> messages) {
+        // message id 는 pooled sequence 라 insert 가 JDBC batch 로 묶인다.
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        // 보낸 사람 chat_join 을 공유 잠금으로 확인한다. 퇴장(ChatLeaveService)은 같은 행을 배타 잠금하므로
+        // 퇴장이 먼저 커밋됐으면 없는 것으로 보이고, 메시지는 chat_join 없이 (방/보낸 사람만) 저장된다.
+        Set<Long> activeChatJoinIds = new HashSet<>(chatJoinRepository.lockExistingIds(
+            messages.stream().map(PendingChatMessage::getChatJoinId).distinct().toList()));
+
+        List<MessageEntity> entities = new ArrayList<>(messages.size());
+        for (PendingChatMessage message : messages) {
+            ChatJoinEntity chatJoin = activeChatJoinIds.contains(message.getChatJoinId())
+                ? entityManager.getReference(ChatJoinEntity.class, message.getChatJoinId())
+                : null;
+            MessageEntity entity = message.toEntity(chatJoin);
+            entityManager.persist(entity);
+            entities.add(entity);
+        }
+        entityManager.flush();
+
+        // 안 읽은 메시지 수 : (방, 보낸 사람) 별로 묶어 한 번씩 증가
+        Map<Long, Map<Long, Integer>> sentCounts = new LinkedHashMap<>();
+        for (PendingChatMessage message : messages) {
+            sentCounts.computeIfAbsent(message.getRoomId(), roomId -> new LinkedHashMap<>())
+                .merge(message.getChatJoinId(), 1, Integer::sum);
+        }
+        sentCounts.forEach((roomId, countBySender) -> countBySender.forEach(
+            (chatJoinId, count) -> chatJoinRepository.increaseUnreadCount(roomId, chatJoinId,
+                count)));
+        entityManager.clear();
+        return entities;
+    }
+}
@@ -5,18 +5,17 @@ import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.entity.chat.ChatRoomEntity;
-import com.example.runningservice.entity.chat.MessageEntity;
 import com.example.runningservice.enums.ChatRoom;
 import com.example.runningservice.enums.CrewRole;
-import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.repository.MemberRepository;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
 import com.example.runningservice.repository.chat.ChatRoomRepository;
-import com.example.runningservice.repository.chat.MessageRepository;
 import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.CrewRoleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,10 +29,12 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final CrewRepository crewRepository;
-    private final CrewMemberRepository crewMemberRepository;
+    private final CrewRoleService crewRoleService;
     private final MemberRepository memberRepository;
     private final ChatJoinRepository chatJoinRepository;
-    private final MessageRepository messageRepository;
+    private final ChatLeaveService chatLeaveService;
+    private final MessageService messageService;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     public void createChatRoom(Long crewId, String roomName, ChatRoom roomType) {
         CrewEntity crewEntity = crewRepository.findCrewById(crewId);
@@ -56,23 +57,14 @@ public class ChatRoomService {
         // 멤버가 참여중인 크루 채팅방 리스트 조회
         List<ChatJoinEntity> chatJoinList = chatJoinRepository.findByMemberAndChatRoom_Crew(memberEntity, crewEntity);
 
+        // 안 읽은 메시지 수, 참여 인원 : 방마다 쿼리하지 않고 메모리 카운터에서 한 번에 조회
+        Map<Long, ChatRoomDetailsDto> roomDetails = chatUnreadCounter.getRoomDetails(memberId,
+            chatJoinList.stream().map(chatJoinEntity -> chatJoinEntity.getChatRoom().getId()).toList());
+
         return chatJoinList.stream()
             .collect(Collectors.toMap(
                 ChatJoinEntity::getChatRoom,
-                chatJoinEntity -> {
-                    ChatRoomEntity chatRoomEntity = chatJoinEntity.getChatRoom();
-//                    List<MemberEntity> memberList = chatJoinRepository.findMemberNicknamesByChatRoom(chatRoomEntity);
-                    int messageCount = messageRepository.countMessagesAfterReadAt(chatJoinEntity.getId());
-                    log.info("messageCount: {}", messageCount);
-
-                    int memberCount = chatJoinRepository.countByChatRoom(chatRoomEntity);
-
-                    return ChatRoomDetailsDto.builder()
-                        .messageCount(messageCount)
-                        .memberCount(memberCount)
-//                        .memberEntityList(memberList)
-                        .build();
-                }
+                chatJoinEntity -> roomDetails.get(chatJoinEntity.getChatRoom().getId())
             ));
     }
 
@@ -100,15 +92,16 @@ public class ChatRoomService {
 
     // 채팅방 참여
     public void joinChatRoom(Long crewId, Long roomId, Long memberId) {
-        // 크루 확인
-        CrewEntity crewEntity = crewRepository.findCrewById(crewId);
+        // 저장 대기중인 메시지가 참여 후에 안 읽은 수로 더해지지 않도록 먼저 기다린다. (DB 접근 전)
+        messageService.awaitPendingMessages(roomId);
+
         // 사용자 확인
         MemberEntity memberEntity = memberRepository.findMemberById(memberId);
         // chatroom 확인
         ChatRoomEntity chatRoomEntity = chatRoomRepository.findChatRoomById(roomId);
 
         // 사용자가 해당 크루에 가입되어 있는지 확인
-        validateCrewMember(crewEntity, memberEntity);
+        validateCrewMember(crewId, memberId);
 
         // 중복 참여 확인
         if (chatJoinRepository.existsByChatRoomAndMember(chatRoomEntity, memberEntity)) {
@@ -123,18 +116,25 @@ public class ChatRoomService {
             chatJoinEntity.addMemberChatRoom(chatRoomEntity, memberEntity);
         } else if (chatRoomEntity.getRoomType().equals(ChatRoom.CREW_STAFF)) {
             // 멤버가 crew의 staff인지 확인
-            validateCrewLeaderOrStaff(crewEntity, memberEntity);
+            validateCrewLeaderOrStaff(crewId, memberId);
             chatJoinEntity.addMemberChatRoom(chatRoomEntity, memberEntity);
         }
 
         chatJoinRepository.save(chatJoinEntity);
+        chatUnreadCounter.memberJoined(roomId, memberId);
 
         // 채팅방 입장
-        enterChatRoom(crewId, roomId, memberId);
+        enter(roomId, memberId);
     }
 
     // 채팅방 입장
     public void enterChatRoom(Long crewId, Long roomId, Long memberId) {
+        // read_at, unread_count 초기화 전에 저장 대기중인 메시지를 먼저 저장한다. (DB 접근 전)
+        messageService.awaitPendingMessages(roomId);
+        enter(roomId, memberId);
+    }
+
+    private void enter(Long roomId, Long memberId) {
         // 사용자 확인
         MemberEntity memberEntity = memberRepository.findMemberById(memberId);
         // 채팅방 확인
@@ -145,13 +145,15 @@ public class ChatRoomService {
             throw new RuntimeException("멤버가 채팅방에 참여중이지 않습니다.");
         }
 
-        // read_at 업데이트
+        // read_at, unread_count 초기화
         chatJoinEntity.enterMemberChatRoom();
+        chatUnreadCounter.markRead(roomId, memberId);
 
         chatJoinRepository.save(chatJoinEntity);
     }
 
     // 채팅방 퇴장
+    @Transactional
     public void leaveChatRoom(Long crewId, Long roomId, Long memberId) {
         // 사용자가 채팅방에 있는지 확인
         ChatJoinEntity chatJoinEntity = chatJoinRepository.findByChatRoom_IdAndMember_Id(roomId, memberId);
@@ -159,24 +161,17 @@ public class ChatRoomService {
             throw new RuntimeException("멤버가 채팅방에 참여중이지 않습니다.");
         }
 
-        List<MessageEntity> messages = messageRepository.findAllByChatJoin(chatJoinEntity);
-        for (MessageEntity message : messages) {
-            message.setChatJoinNull(null);
-        }
-
-        // 채팅방 퇴장
-        chatJoinRepository.delete(chatJoinEntity);
+        // 채팅방 퇴장 (메시지 연결 끊기, 커밋 후 보낸 사람 캐시/카운터 정리 포함)
+        chatLeaveService.leave(List.of(chatJoinEntity));
     }
 
     // 채팅방 강제퇴장
+    @Transactional
     public void ejectionChatRoom(Long crewId, Long roomId, Long memberId, Long adminId) {
-        // 크루 확인
-        CrewEntity crewEntity = crewRepository.findCrewById(crewId);
         // 채팅방 확인
         ChatRoomEntity chatRoomEntity = chatRoomRepository.findChatRoomById(roomId);
         // 사용자 확인
         MemberEntity memberEntity = memberRepository.findMemberById(memberId);
-        MemberEntity adminEntity = memberRepository.findMemberById(adminId);
 
         // 채팅방 참여중인지 확인
         ChatJoinEntity memberChatJoinEntity = chatJoinRepository.findByChatRoom_IdAndMember_Id(roomId, memberId);
@@ -186,22 +181,22 @@ public class ChatRoomService {
         }
 
         // 크루 운영자 권한 확인
-        validateCrewLeaderOrStaff(crewEntity, adminEntity);
+        validateCrewLeaderOrStaff(crewId, adminId);
 
         // 채팅방 강제퇴장
-        chatJoinRepository.delete(memberChatJoinEntity);
+        chatLeaveService.leave(List.of(memberChatJoinEntity));
     }
 
     // 크루 멤버인지 확인
-    public void validateCrewMember(CrewEntity crew, MemberEntity member) {
-        if (crewMemberRepository.findByCrewAndMember(crew, member).isEmpty()) {
+    public void validateCrewMember(Long crewId, Long memberId) {
+        if (crewRoleService.findRole(crewId, memberId).isEmpty()) {
             throw new RuntimeException("해당 사용자가 크루에 가입되어 있지 않습니다.");
         }
     }
 
-    public void validateCrewLeaderOrStaff(CrewEntity crew, MemberEntity member) {
+    public void validateCrewLeaderOrStaff(Long crewId, Long memberId) {
         List<CrewRole> crewRoles = Arrays.asList(CrewRole.LEADER, CrewRole.STAFF);
-        if (crewMemberRepository.findByCrewAndMemberAndRoleIn(crew, member, crewRoles).isEmpty()) {
+        if (!crewRoleService.hasRole(crewId, memberId, crewRoles)) {
             throw new RuntimeException("해당 멤버는 운영진이 아닙니다.");
         }
     }
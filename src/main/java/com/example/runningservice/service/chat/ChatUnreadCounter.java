@@ -0,0 +1,130 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.dto.chat.ChatJoinUnreadDto;
+import com.example.runningservice.dto.chat.ChatRoomDetailsDto;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 (멤버 -> 안 읽은 메시지 수) 메모리 카운터
+ * 처음 조회할 때 chat_join.unread_count 에서 방 단위로 적재하고, 이후에는 메시지 저장/입장/참여/퇴장 시 메모리에서 바로 갱신한다.
+ * DB 값은 ChatMessageWriter 가 메시지 저장과 같은 트랜잭션에서 증가시키고, 메모리 값은 커밋 후 저장된 메시지만큼 증가시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+    private final ChatJoinRepository chatJoinRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.unread.cache.max-rooms:10000}")
+    private long maxRooms;
+
+    @Value("${chat.unread.cache.expire-minutes:30}")
+    private long expireMinutes;
+
+    private Cache<Long, RoomCounters> roomCounters;
+
+    @PostConstruct
+    public void init() {
+        roomCounters = Caffeine.newBuilder()
+            .maximumSize(maxRooms)
+            .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roomCounters, "chat.unread");
+    }
+
+    /**
+     * 보낸 사람을 제외한 방 멤버의 안 읽은 수 +count (ChatMessageWriter, 메시지 저장 커밋 후)
+     * 메모리에 없는 방은 다음 적재 때 이미 증가된 DB 값을 읽으므로 건너뛴다.
+     */
+    public void messagesSaved(Long roomId, Long senderId, int count) {
+        roomCounters.asMap().computeIfPresent(roomId, (id, counters) -> {
+            counters.unreadByMemberId.forEach((memberId, unread) -> {
+                if (!memberId.equals(senderId)) {
+                    unread.addAndGet(count);
+                }
+            });
+            return counters;
+        });
+    }
+
+    public void markRead(Long roomId, Long memberId) {
+        RoomCounters counters = roomCounters.getIfPresent(roomId);
+        if (counters != null) {
+            counters.unreadByMemberId.computeIfAbsent(memberId, id -> new AtomicInteger()).set(0);
+        }
+    }
+
+    public void memberJoined(Long roomId, Long memberId) {
+        RoomCounters counters = roomCounters.getIfPresent(roomId);
+        if (counters != null) {
+            counters.unreadByMemberId.putIfAbsent(memberId, new AtomicInteger());
+        }
+    }
+
+    public void memberLeft(Long roomId, Long memberId) {
+        RoomCounters counters = roomCounters.getIfPresent(roomId);
+        if (counters != null) {
+            counters.unreadByMemberId.remove(memberId);
+        }
+    }
+
+    public void evictRooms(Collection<Long> roomIds) {
+        roomCounters.invalidateAll(roomIds);
+    }
+
+    /**
+     * 멤버가 참여중인 방들의 (안 읽은 메시지 수, 참여 인원) :: 메모리에 없는 방만 쿼리 한 번으로 적재
+     */
+    public Map<Long, ChatRoomDetailsDto> getRoomDetails(Long memberId, Collection<Long> roomIds) {
+        Map<Long, RoomCounters> countersByRoomId = roomCounters.getAll(roomIds, this::loadRooms);
+
+        Map<Long, ChatRoomDetailsDto> details = new HashMap<>();
+        countersByRoomId.forEach((roomId, counters) -> {
+            AtomicInteger unread = counters.unreadByMemberId.get(memberId);
+            details.put(roomId, ChatRoomDetailsDto.builder()
+                .messageCount(unread == null ? 0 : unread.get())
+                .memberCount(counters.unreadByMemberId.size())
+                .build());
+        });
+        return details;
+    }
+
+    private Map<Long, RoomCounters> loadRooms(Set<? extends Long> roomIds) {
+        Map<Long, RoomCounters> loaded = new HashMap<>();
+        roomIds.forEach(roomId -> loaded.put(roomId, new RoomCounters()));
+
+        List<ChatJoinUnreadDto> rows = chatJoinRepository.findUnreadCountsByRoomIds(
+            List.copyOf(roomIds));
+        for (ChatJoinUnreadDto row : rows) {
+            if (row.getMemberId() == null) {
+                continue;
+            }
+            loaded.get(row.getRoomId()).unreadByMemberId
+                .put(row.getMemberId(), new AtomicInteger(row.getUnreadCount()));
+        }
+        return loaded;
+    }
+
+    private static class RoomCounters {
+
+        private final Map<Long, AtomicInteger> unreadByMemberId = new ConcurrentHashMap<>();
+    }
+}
@@ -1,44 +1,132 @@
-//package com.example.runningservice.service.chat;
-//
-//import com.example.runningservice.dto.chat.MessageEditRequestDto;
-//import com.example.runningservice.dto.chat.MessageRequestDto;
-//import com.example.runningservice.entity.chat.ChatJoinEntity;
-//import com.example.runningservice.entity.chat.MessageEntity;
-//import com.example.runningservice.enums.Message;
-//import com.example.runningservice.repository.chat.ChatJoinRepository;
-//import com.example.runningservice.repository.chat.MessageRepository;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.stereotype.Service;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class MessageService {
-//
-//    private final MessageRepository messageRepository;
-//    private final ChatJoinRepository chatJoinRepository;
-//
-//    public MessageEntity saveMessage(MessageRequestDto messageRequestDto) throws Exception {
-//        ChatJoinEntity chatJoinEntity = chatJoinRepository.findById(messageRequestDto.getChatJoinId())
-//            .orElseThrow(() -> new RuntimeException("사용자가 채팅방에 참여중이지 않습니다."));
-//
-//        MessageEntity messageEntity = messageRequestDto.toEntity(chatJoinEntity);
-//
-//        return messageRepository.save(messageEntity);
-//    }
-//
-//    public MessageEntity editMessage(Long messageId, MessageEditRequestDto MessageEditRequestDto) {
-//        MessageEntity messageEntity = messageRepository.findById(messageId)
-//            .orElseThrow(() -> new RuntimeException("해당 메시지를 찾을 수 없습니다."));
-//
-//        messageEntity.editContent(MessageEditRequestDto.getContent());
-//
-//        return messageRepository.save(messageEntity);
-//    }
-//
-//    public void deleteMessage(Long messageId) {
-//        MessageEntity messageEntity = messageRepository.findById(messageId)
-//            .orElseThrow(() -> new RuntimeException("해당 메시지를 찾을 수 없습니다."));
-//
-//        messageRepository.delete(messageEntity);
-//    }
-//}
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.dto.chat.MessageRequestDto;
+import com.example.runningservice.dto.chat.MessageResponseDto;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageService {
+
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chatroom.";
+    private static final int ROOM_LOCK_STRIPES = 64;
+    private static final long AWAIT_WRITTEN_TIMEOUT_MILLIS = 1000;
+
+    private final ChatJoinRepository chatJoinRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // chatJoinId -> 보낸 사람 (방, 멤버, 닉네임) :: 메시지마다 chat_join 을 조회하지 않도록 캐싱
+    private final Cache<Long, ChatSender> senderCache = Caffeine.newBuilder()
+        .maximumSize(10000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build();
+
+    // 같은 방의 queue 순서와 브로드캐스트 순서를 맞추기 위한 lock
+    private final Object[] roomLocks = createRoomLocks();
+
+    /**
+     * 메시지를 바로 브로드캐스트하고, 저장은 ChatMessageWriter 에 맡긴다.
+     * chat_join 이 인증된 회원(memberId)의 것이고 그 방의 것일 때만 보낸다.
+     */
+    public MessageResponseDto sendMessage(Long roomId, Long memberId,
+        MessageRequestDto messageRequestDto) {
+        ChatSender sender = senderCache.get(messageRequestDto.getChatJoinId(), this::loadSender);
+        if (sender == null || !sender.getRoomId().equals(roomId)
+            || !sender.getMemberId().equals(memberId)) {
+            throw new CustomException(ErrorCode.NOT_JOINED_CHATROOM);
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        PendingChatMessage message = new PendingChatMessage(roomId,
+            messageRequestDto.getChatJoinId(), sender.getMemberId(), sender.getNickName(),
+            messageRequestDto.getType(),
+            messageRequestDto.getContent(), messageRequestDto.getImageUrl(), sentAt);
+        MessageResponseDto messageResponseDto = MessageResponseDto.builder()
+            .roomId(roomId)
+            .type(messageRequestDto.getType())
+            .content(messageRequestDto.getContent())
+            .imageUrl(messageRequestDto.getImageUrl())
+            .sender(sender.getNickName())
+            .createdAt(sentAt)
+            .build();
+
+        synchronized (roomLock(roomId)) {
+            if (!chatMessageWriter.enqueue(message)) {
+                log.warn("chat message queue full. roomId: {}", roomId);
+                throw new CustomException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+            }
+            messagingTemplate.convertAndSend(CHAT_TOPIC_PREFIX + roomId, messageResponseDto);
+        }
+        return messageResponseDto;
+    }
+
+    /**
+     * chat_join 삭제 커밋 후 호출 (ChatLeaveService) : 더 이상 이 chat_join 으로 보낼 수 없다.
+     */
+    public void closeSender(Long chatJoinId) {
+        senderCache.invalidate(chatJoinId);
+    }
+
+    /**
+     * 이 방에 지금까지 보낸 메시지가 저장될 때까지 기다린다. (채팅방 입장 시 unread_count 초기화 전)
+     * 트랜잭션/커넥션을 잡기 전에 호출한다.
+     */
+    public void awaitPendingMessages(Long roomId) {
+        try {
+            chatMessageWriter.whenWritten(roomId)
+                .get(AWAIT_WRITTEN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("pending chat messages of room {} not written within {} ms", roomId,
+                AWAIT_WRITTEN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ChatSender loadSender(Long chatJoinId) {
+        return chatJoinRepository.findById(chatJoinId)
+            .map(chatJoin -> new ChatSender(chatJoin.getChatRoom().getId(),
+                chatJoin.getMember().getId(), chatJoin.getMember().getNickName()))
+            .orElse(null);
+    }
+
+    private Object roomLock(Long roomId) {
+        return roomLocks[Math.floorMod(roomId.hashCode(), ROOM_LOCK_STRIPES)];
+    }
+
+    private static Object[] createRoomLocks() {
+        Object[] locks = new Object[ROOM_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChatSender {
+
+        private final Long roomId;
+        private final Long memberId;
+        private final String nickName;
+    }
+}
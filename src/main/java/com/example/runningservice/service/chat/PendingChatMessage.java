@@ -0,0 +1,42 @@
+package com.example.runningservice.service.chat;
+
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.enums.Message;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 브로드캐스트 후 저장 대기중인 채팅 메시지
+ */
+@Getter
+@AllArgsConstructor
+public class PendingChatMessage {
+
+    private Long roomId;
+    private Long chatJoinId;
+    private Long senderId;
+    private String senderNickName;
+    private Message messageType;
+    private String content;
+    private String imageUrl;
+    private LocalDateTime sentAt;
+
+    // 저장(또는 버림) 처리가 끝나면 완료 :: ChatMessageWriter.whenWritten
+    private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+    public MessageEntity toEntity(ChatJoinEntity chatJoin) {
+        return MessageEntity.builder()
+            .messageType(messageType)
+            .content(content)
+            .imageUrl(imageUrl)
+            .roomId(roomId)
+            .senderId(senderId)
+            .senderNickName(senderNickName)
+            .chatJoin(chatJoin)
+            .createdAt(sentAt)
+            .build();
+    }
+}
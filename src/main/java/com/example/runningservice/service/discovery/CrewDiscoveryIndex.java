@@ -0,0 +1,319 @@
+package com.example.runningservice.service.discovery;
+
+import com.example.runningservice.dto.crew.CrewFilterDto;
+import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.OccupancyStatus;
+import com.example.runningservice.enums.Region;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 크루 검색용 메모리 인덱스.
+ * <p>
+ * 크루 하나가 slot 하나를 차지하고, 숫자 컬럼은 slot 별 primitive 배열에, 지역/성별/boolean 조건은 값마다 BitSet
+ * 하나에 담는다. 조회는 BitSet AND 로 후보를 좁힌 뒤 연도/정원 조건을 확인하고, 크루원 수 내림차순(같으면 id 내림차순)
+ * 상위 offset + size 개만 힙으로 골라낸다.
+ * <p>
+ * 삭제된 slot 은 live 에서만 빠지고 자리는 남는다. 전체 재구성 시 정리된다.
+ */
+public class CrewDiscoveryIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // minYear/maxYear/crewCapacity 가 null 인 크루 (SQL 비교식에서 항상 false)
+    private static final int NULL_VALUE = Integer.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] crewIds = new long[INITIAL_CAPACITY];
+    private int[] memberCounts = new int[INITIAL_CAPACITY];
+    private int[] crewCapacities = new int[INITIAL_CAPACITY];
+    private int[] minYears = new int[INITIAL_CAPACITY];
+    private int[] maxYears = new int[INITIAL_CAPACITY];
+    private int slotCount;
+
+    private final Map<Long, Integer> slotByCrewId = new HashMap<>();
+
+    private final BitSet live = new BitSet();
+    private final BitSet[] regionBits = newBitSets(Region.values().length);
+    private final BitSet[] genderBits = newBitSets(Gender.values().length);
+    private final BitSet runRecordOpenBits = new BitSet();
+    private final BitSet runRecordClosedBits = new BitSet();
+    private final BitSet leaderRequiredBits = new BitSet();
+    private final BitSet leaderNotRequiredBits = new BitSet();
+
+    public static CrewDiscoveryIndex of(List<CrewIndexEntry> entries) {
+        CrewDiscoveryIndex index = new CrewDiscoveryIndex();
+        for (CrewIndexEntry entry : entries) {
+            index.upsert(entry);
+        }
+        return index;
+    }
+
+    /**
+     * 크루 생성/수정 반영. 이미 있는 크루는 크루원 수를 유지한다. (크루원 수는 addMemberCount 로만 바뀐다)
+     */
+    public void upsert(CrewIndexEntry entry) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByCrewId.get(entry.getId());
+            if (slot == null) {
+                slot = allocate(entry.getId());
+                memberCounts[slot] = entry.getMemberCount() != null ? entry.getMemberCount() : 0;
+            } else {
+                clearBits(slot);
+            }
+
+            crewCapacities[slot] = orNull(entry.getCrewCapacity());
+            minYears[slot] = orNull(entry.getMinYear());
+            maxYears[slot] = orNull(entry.getMaxYear());
+
+            live.set(slot);
+            if (entry.getActivityRegion() != null) {
+                regionBits[entry.getActivityRegion().ordinal()].set(slot);
+            }
+            if (entry.getGender() != null) {
+                genderBits[entry.getGender().ordinal()].set(slot);
+            }
+            setFlag(entry.getRunRecordOpen(), slot, runRecordOpenBits, runRecordClosedBits);
+            setFlag(entry.getLeaderRequired(), slot, leaderRequiredBits, leaderNotRequiredBits);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long crewId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByCrewId.remove(crewId);
+            if (slot != null) {
+                clearBits(slot);
+                live.clear(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addMemberCount(Long crewId, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByCrewId.get(crewId);
+            if (slot != null) {
+                memberCounts[slot] = Math.max(0, memberCounts[slot] + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 맞는 크루를 크루원 수 내림차순으로 정렬해 offset 부터 pageSize 개의 id 를 반환한다.
+     */
+    public Result search(CrewFilterDto.CrewInfo crewFilter, OccupancyStatus occupancyStatus,
+        long offset, int pageSize) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(crewFilter);
+
+            Integer minYear = crewFilter.getMinYear();
+            Integer maxYear = crewFilter.getMaxYear();
+            long limit = offset + pageSize;
+            int heapCapacity = (int) Math.min(limit, candidates.cardinality());
+            int[] heap = new int[heapCapacity];
+            int heapSize = 0;
+            long total = 0;
+
+            for (int slot = candidates.nextSetBit(0); slot >= 0;
+                slot = candidates.nextSetBit(slot + 1)) {
+                if (minYear != null && (minYears[slot] == NULL_VALUE || minYears[slot] > minYear)) {
+                    continue;
+                }
+                if (maxYear != null && (maxYears[slot] == NULL_VALUE || maxYears[slot] < maxYear)) {
+                    continue;
+                }
+                if (!matchesOccupancy(occupancyStatus, slot)) {
+                    continue;
+                }
+
+                total++;
+                if (heapCapacity == 0) {
+                    continue;
+                }
+                if (heapSize < heapCapacity) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++);
+                } else if (ranksBefore(slot, heap[0])) {
+                    heap[0] = slot;
+                    siftDown(heap, heapSize);
+                }
+            }
+
+            // 힙을 비우면서 뒤에서부터 채우면 내림차순이 된다.
+            int[] sorted = new int[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                sorted[i] = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize);
+            }
+
+            int from = (int) Math.min(offset, sorted.length);
+            long[] pageIds = new long[sorted.length - from];
+            for (int i = from; i < sorted.length; i++) {
+                pageIds[i - from] = crewIds[sorted[i]];
+            }
+            return new Result(pageIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByCrewId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet candidates(CrewFilterDto.CrewInfo crewFilter) {
+        BitSet candidates = (BitSet) live.clone();
+
+        // 선택한 지역 + 전국 크루
+        Region region = crewFilter.getActivityRegion();
+        if (region != null) {
+            BitSet regions = (BitSet) regionBits[region.ordinal()].clone();
+            regions.or(regionBits[Region.NATIONWIDE.ordinal()]);
+            candidates.and(regions);
+        }
+        if (crewFilter.getGender() != null) {
+            candidates.and(genderBits[crewFilter.getGender().ordinal()]);
+        }
+        if (crewFilter.getRunRecordPublic() != null) {
+            candidates.and(crewFilter.getRunRecordPublic() ? runRecordOpenBits
+                : runRecordClosedBits);
+        }
+        if (crewFilter.getLeaderRequired() != null) {
+            candidates.and(crewFilter.getLeaderRequired() ? leaderRequiredBits
+                : leaderNotRequiredBits);
+        }
+        return candidates;
+    }
+
+    private boolean matchesOccupancy(OccupancyStatus occupancyStatus, int slot) {
+        if (occupancyStatus == null || occupancyStatus == OccupancyStatus.ALL) {
+            return true;
+        }
+        if (crewCapacities[slot] == NULL_VALUE) {
+            return false;
+        }
+        return occupancyStatus == OccupancyStatus.FULL
+            ? crewCapacities[slot] <= memberCounts[slot]
+            : crewCapacities[slot] > memberCounts[slot];
+    }
+
+    // a 가 b 보다 앞 순서인지 (크루원 수 내림차순, id 내림차순)
+    private boolean ranksBefore(int a, int b) {
+        if (memberCounts[a] != memberCounts[b]) {
+            return memberCounts[a] > memberCounts[b];
+        }
+        return crewIds[a] > crewIds[b];
+    }
+
+    // heap[0] 이 가장 뒤 순서인 min-heap
+    private void siftUp(int[] heap, int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], slot)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = 0;
+        int slot = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && ranksBefore(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksBefore(slot, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    private int allocate(Long crewId) {
+        if (slotCount == crewIds.length) {
+            int capacity = crewIds.length * 2;
+            crewIds = Arrays.copyOf(crewIds, capacity);
+            memberCounts = Arrays.copyOf(memberCounts, capacity);
+            crewCapacities = Arrays.copyOf(crewCapacities, capacity);
+            minYears = Arrays.copyOf(minYears, capacity);
+            maxYears = Arrays.copyOf(maxYears, capacity);
+        }
+        int slot = slotCount++;
+        crewIds[slot] = crewId;
+        slotByCrewId.put(crewId, slot);
+        return slot;
+    }
+
+    private void clearBits(int slot) {
+        for (BitSet bits : regionBits) {
+            bits.clear(slot);
+        }
+        for (BitSet bits : genderBits) {
+            bits.clear(slot);
+        }
+        runRecordOpenBits.clear(slot);
+        runRecordClosedBits.clear(slot);
+        leaderRequiredBits.clear(slot);
+        leaderNotRequiredBits.clear(slot);
+    }
+
+    private static void setFlag(Boolean value, int slot, BitSet trueBits, BitSet falseBits) {
+        if (value != null) {
+            (value ? trueBits : falseBits).set(slot);
+        }
+    }
+
+    private static int orNull(Integer value) {
+        return value != null ? value : NULL_VALUE;
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final long[] crewIds;
+        private final long total;
+    }
+}
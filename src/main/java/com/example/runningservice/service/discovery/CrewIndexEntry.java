@@ -0,0 +1,32 @@
+package com.example.runningservice.service.discovery;
+
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.Region;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 크루 검색 인덱스에 필요한 컬럼만 담은 projection (CrewRepository.findAllIndexEntries)
+ */
+@Getter
+@AllArgsConstructor
+public class CrewIndexEntry {
+
+    private final Long id;
+    private final Region activityRegion;
+    private final Gender gender;
+    private final Boolean runRecordOpen;
+    private final Boolean leaderRequired;
+    private final Integer minYear;
+    private final Integer maxYear;
+    private final Integer crewCapacity;
+    private final Integer memberCount;
+
+    public static CrewIndexEntry from(CrewEntity crewEntity) {
+        return new CrewIndexEntry(crewEntity.getId(), crewEntity.getActivityRegion(),
+            crewEntity.getGender(), crewEntity.getRunRecordOpen(), crewEntity.getLeaderRequired(),
+            crewEntity.getMinYear(), crewEntity.getMaxYear(), crewEntity.getCrewCapacity(),
+            crewEntity.getMemberCount());
+    }
+}
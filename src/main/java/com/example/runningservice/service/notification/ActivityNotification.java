@@ -1,15 +1,14 @@
 package com.example.runningservice.service.notification;
 
 import com.example.runningservice.entity.ActivityEntity;
-import com.example.runningservice.entity.CrewMemberEntity;
-import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.NotificationStream;
+import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.ActivityRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,27 +20,33 @@ public class ActivityNotification implements NotificationManagerService {
     private final CrewMemberRepository crewMemberRepository;
 
     @Override
-    public String getMessage(Long relatedId, TableType relatedType) {
-        ActivityEntity activityEntity = activityRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ACTIVITY));
+    public NotificationType getNotificationType() {
+        return NotificationType.ACTIVITY;
+    }
 
-        return "새 일정이 등록되었습니다. "
+    @Override
+    public NotificationContent getContent(Long relatedId, TableType relatedType) {
+        ActivityEntity activityEntity = findActivity(relatedId);
+
+        String message = "새 일정이 등록되었습니다. "
             + activityEntity.getCrew().getCrewName()
             + " :: "
             + activityEntity.getDate()
             + " "
             + activityEntity.getStartTime();
+
+        return NotificationContent.stream(message, NotificationStream.CREW,
+            activityEntity.getCrew().getId());
     }
 
     @Override
-    public List<MemberEntity> findSubscriber(Long relatedId, TableType relatedType) {
-        ActivityEntity activityEntity = activityRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ACTIVITY));
-
-        List<CrewMemberEntity> crewMemberList = crewMemberRepository.findByCrew(
-            activityEntity.getCrew());
+    public List<Long> findSubscriberIds(Long relatedId, TableType relatedType) {
+        return crewMemberRepository.findActivitySubscriberIds(
+            findActivity(relatedId).getCrew().getId());
+    }
 
-        return crewMemberList.stream().map(CrewMemberEntity::getMember)
-            .collect(Collectors.toList());
+    private ActivityEntity findActivity(Long activityId) {
+        return activityRepository.findById(activityId)
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_ACTIVITY));
     }
 }
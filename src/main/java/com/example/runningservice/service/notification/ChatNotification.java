@@ -1,8 +1,8 @@
 package com.example.runningservice.service.notification;
 
-import com.example.runningservice.entity.MemberEntity;
-import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.enums.NotificationStream;
+import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
@@ -10,7 +10,9 @@ import com.example.runningservice.repository.chat.ChatJoinRepository;
 import com.example.runningservice.repository.chat.MessageRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
 
+@Service
 @RequiredArgsConstructor
 public class ChatNotification implements NotificationManagerService {
 
@@ -18,23 +20,29 @@ public class ChatNotification implements NotificationManagerService {
     private final ChatJoinRepository chatJoinRepository;
 
     @Override
-    public String getMessage(Long relatedId, TableType relatedType) {
-        MessageEntity messageEntity = messageRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_MESSAGE));
+    public NotificationType getNotificationType() {
+        return NotificationType.CHATTING;
+    }
 
-        return messageEntity.getSender()
+    @Override
+    public NotificationContent getContent(Long relatedId, TableType relatedType) {
+        MessageEntity messageEntity = findMessage(relatedId);
+
+        String message = messageEntity.getSender()
             + " : "
             + messageEntity.getContent();
+
+        return NotificationContent.stream(message, NotificationStream.CHAT_ROOM,
+            messageEntity.getRoomId());
     }
 
     @Override
-    public List<MemberEntity> findSubscriber(Long relatedId, TableType relatedType) {
-        MessageEntity messageEntity = messageRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_MESSAGE));
-
-        List<ChatJoinEntity> chatJoinList = chatJoinRepository.findByChatRoom_Id(
-            messageEntity.getChatJoin().getChatRoom().getId());
+    public List<Long> findSubscriberIds(Long relatedId, TableType relatedType) {
+        return chatJoinRepository.findChatSubscriberIds(findMessage(relatedId).getRoomId());
+    }
 
-        return chatJoinList.stream().map(ChatJoinEntity::getMember).toList();
+    private MessageEntity findMessage(Long messageId) {
+        return messageRepository.findById(messageId)
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT_MESSAGE));
     }
 }
@@ -1,7 +1,7 @@
 package com.example.runningservice.service.notification;
 
 import com.example.runningservice.entity.JoinApplyEntity;
-import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
@@ -17,21 +17,27 @@ public class JoinApplyNotification implements NotificationManagerService {
     private final JoinApplicationRepository joinApplicationRepository;
 
     @Override
-    public String getMessage(Long relatedId, TableType relatedType) {
-        JoinApplyEntity joinApplyEntity = joinApplicationRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_APPLY));
+    public NotificationType getNotificationType() {
+        return NotificationType.APPLY_RESULT;
+    }
+
+    @Override
+    public NotificationContent getContent(Long relatedId, TableType relatedType) {
+        JoinApplyEntity joinApplyEntity = findJoinApply(relatedId);
 
-        return  "크루 가입 신청 결과가 나왔습니다. "
+        return NotificationContent.direct("크루 가입 신청 결과가 나왔습니다. "
             + joinApplyEntity.getCrew().getCrewName()
             + " :: "
-            + joinApplyEntity.getStatus();
+            + joinApplyEntity.getStatus());
     }
 
     @Override
-    public List<MemberEntity> findSubscriber(Long relatedId, TableType relatedType) {
-        JoinApplyEntity joinApplyEntity = joinApplicationRepository.findById(relatedId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_APPLY));
+    public List<Long> findSubscriberIds(Long relatedId, TableType relatedType) {
+        return List.of(findJoinApply(relatedId).getMember().getId());
+    }
 
-        return List.of(joinApplyEntity.getMember());
+    private JoinApplyEntity findJoinApply(Long joinApplyId) {
+        return joinApplicationRepository.findById(joinApplyId)
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_APPLY));
     }
 }
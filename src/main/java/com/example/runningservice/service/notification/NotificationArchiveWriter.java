@@ -0,0 +1,50 @@
+package com.example.runningservice.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간이 지나 삭제하는 알림 행을 로컬 파일에 남긴다.
+ * 파일 :: {dir}/{삭제일 yyyy-MM-dd}/{테이블}.jsonl.gz, 청크마다 gzip member 하나를 이어 붙인다. (zcat 으로 한 번에 읽힌다)
+ * 삭제 트랜잭션 안에서 쓰므로 삭제가 롤백되면 같은 행이 다시 기록될 수 있다.
+ */
+public class NotificationArchiveWriter {
+
+    private final Path dir;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public NotificationArchiveWriter(Path dir) {
+        this.dir = dir;
+    }
+
+    public synchronized void append(String table, LocalDate purgedOn,
+        List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Path file = dir.resolve(purgedOn.toString()).resolve(table + ".jsonl.gz");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                for (Map<String, Object> row : rows) {
+                    out.write(objectMapper.writeValueAsBytes(row));
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
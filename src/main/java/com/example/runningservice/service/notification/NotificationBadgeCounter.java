@@ -0,0 +1,376 @@
+package com.example.runningservice.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (배지) 메모리 카운터
+ * 회원 id 로 나눈 stripe 마다 잠금을 따로 둔다. 알림 전송 시 증가, 읽음/모두 읽음 시 감소하고 (커밋 후 반영),
+ * 바뀐 값만 주기적으로 notification_unread_count 에 체크포인트한다.
+ * 기동 시 체크포인트를 읽어 복구한다. 정상 종료 표시가 없으면 (첫 기동, 비정상 종료로 체크포인트 이후 증감이 유실됨)
+ * 원본 테이블에서 다시 센다.
+ * 알림 설정을 끈 사용자는 스트림 알림 수에서 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBadgeCounter {
+
+    static final String SELECT_CHECKPOINTS =
+        "SELECT member_id, unread_count FROM notification_unread_count";
+    static final String UPDATE_CHECKPOINT =
+        "UPDATE notification_unread_count SET unread_count = ?, updated_at = ? WHERE member_id = ?";
+    static final String INSERT_CHECKPOINT =
+        "INSERT INTO notification_unread_count (member_id, unread_count, updated_at) "
+            + "VALUES (?, ?, ?)";
+    static final String DELETE_CHECKPOINT =
+        "DELETE FROM notification_unread_count WHERE member_id = ?";
+    // 정상 종료 표시 :: 종료 시 마지막 체크포인트에 성공하면 저장하고, 기동 시 읽은 뒤 지운다.
+    static final long CLEAN_SHUTDOWN_MARKER = -1L;
+
+    static final String COUNT_DIRECT_UNREAD =
+        "SELECT un.member_id AS member_id, COUNT(*) AS unread_count FROM user_notification un "
+            + "WHERE un.read_at IS NULL GROUP BY un.member_id";
+    // 스트림 알림 : 해당 알림을 켠 구독자의 가입 이후 알림 중 워터마크 뒤에 있고 따로 읽지 않은 것
+    private static final String CREW_STREAM_UNREAD =
+        "FROM crew_member cm "
+            + "JOIN member m ON m.id = cm.member_id "
+            + "AND (m.activity_noti IS NULL OR m.activity_noti = 0) "
+            + "JOIN notification n ON n.stream = 'CREW' AND n.stream_id = cm.crew_id "
+            + "AND (cm.joined_at IS NULL OR n.created_at >= cm.joined_at) "
+            + "LEFT JOIN notification_watermark w ON w.member_id = cm.member_id "
+            + "AND w.stream = 'CREW' AND w.stream_id = cm.crew_id "
+            + "WHERE n.id > COALESCE(w.last_read_id, 0) "
+            + "AND NOT EXISTS (SELECT 1 FROM notification_read_exception e "
+            + "WHERE e.member_id = cm.member_id AND e.notification_id = n.id) ";
+    private static final String CHAT_ROOM_STREAM_UNREAD =
+        "FROM chat_join_entity cj "
+            + "JOIN member m ON m.id = cj.user_id "
+            + "AND (m.chatting_noti IS NULL OR m.chatting_noti = 0) "
+            + "JOIN notification n ON n.stream = 'CHAT_ROOM' AND n.stream_id = cj.room_id "
+            + "AND (cj.joined_at IS NULL OR n.created_at >= cj.joined_at) "
+            + "LEFT JOIN notification_watermark w ON w.member_id = cj.user_id "
+            + "AND w.stream = 'CHAT_ROOM' AND w.stream_id = cj.room_id "
+            + "WHERE n.id > COALESCE(w.last_read_id, 0) "
+            + "AND NOT EXISTS (SELECT 1 FROM notification_read_exception e "
+            + "WHERE e.member_id = cj.user_id AND e.notification_id = n.id) ";
+    static final String COUNT_CREW_STREAM_UNREAD =
+        "SELECT cm.member_id AS member_id, COUNT(*) AS unread_count " + CREW_STREAM_UNREAD
+            + "GROUP BY cm.member_id";
+    static final String COUNT_CHAT_ROOM_STREAM_UNREAD =
+        "SELECT cj.user_id AS member_id, COUNT(*) AS unread_count " + CHAT_ROOM_STREAM_UNREAD
+            + "GROUP BY cj.user_id";
+    // id 구간의 스트림 알림만 센다. (보관 기간이 지난 알림 삭제 시)
+    static final String COUNT_CREW_STREAM_UNREAD_BETWEEN =
+        "SELECT cm.member_id AS member_id, COUNT(*) AS unread_count " + CREW_STREAM_UNREAD
+            + "AND n.id BETWEEN ? AND ? GROUP BY cm.member_id";
+    static final String COUNT_CHAT_ROOM_STREAM_UNREAD_BETWEEN =
+        "SELECT cj.user_id AS member_id, COUNT(*) AS unread_count " + CHAT_ROOM_STREAM_UNREAD
+            + "AND n.id BETWEEN ? AND ? GROUP BY cj.user_id";
+    static final List<String> COUNT_UNREAD = List.of(COUNT_DIRECT_UNREAD,
+        COUNT_CREW_STREAM_UNREAD, COUNT_CHAT_ROOM_STREAM_UNREAD);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.badge.stripes:64}")
+    private int stripeCount;
+
+    @Value("${notification.badge.checkpoint-batch-size:500}")
+    private int batchSize;
+
+    private Stripe[] stripes;
+    private volatile boolean loaded;
+
+    private Counter checkpointCounter;
+
+    @PostConstruct
+    public void init() {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        checkpointCounter = Counter.builder("notification.badge.checkpointed")
+            .description("체크포인트에 저장한 회원별 읽지 않은 알림 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 체크포인트 (정상 종료 표시가 없으면 원본 테이블) 에서 적재한다. 적재 전에 반영된 증감은 더한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        Map<Long, Integer> checkpoints = new HashMap<>();
+        jdbcTemplate.query(SELECT_CHECKPOINTS, (RowCallbackHandler) rs ->
+            checkpoints.put(rs.getLong(1), rs.getInt(2)));
+
+        boolean recounted = checkpoints.remove(CLEAN_SHUTDOWN_MARKER) == null;
+        Map<Long, Integer> counts = recounted ? countUnread() : checkpoints;
+        if (recounted) {
+            // 다시 센 결과에 없는 회원의 체크포인트는 다음 체크포인트에서 지운다.
+            checkpoints.keySet().stream()
+                .filter(memberId -> !counts.containsKey(memberId))
+                .forEach(memberId -> stripe(memberId).markDirty(memberId));
+        } else {
+            // 이번 실행이 비정상 종료되면 다음 기동에서 다시 세도록 표시를 지운다.
+            jdbcTemplate.update(DELETE_CHECKPOINT, CLEAN_SHUTDOWN_MARKER);
+        }
+
+        counts.forEach((memberId, unread) -> stripe(memberId).load(memberId, unread, recounted));
+        loaded = true;
+        log.info("notification badge counters loaded: {} members from {} in {} ms", counts.size(),
+            recounted ? "source tables" : "checkpoint", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public int get(Long memberId) {
+        return stripe(memberId).get(memberId);
+    }
+
+    /**
+     * 알림 전송 후 (NotificationOutboxDispatcher 커밋 후) 수신자마다 +1
+     */
+    public void increment(Collection<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            stripe(memberId).add(memberId, 1);
+        }
+    }
+
+    public void decrement(Long memberId) {
+        afterCommit(() -> stripe(memberId).add(memberId, -1));
+    }
+
+    public void reset(Long memberId) {
+        afterCommit(() -> stripe(memberId).set(memberId, 0));
+    }
+
+    public void remove(Long memberId) {
+        afterCommit(() -> stripe(memberId).remove(memberId));
+    }
+
+    /**
+     * 읽지 않은 알림이 삭제된 회원마다 삭제된 수만큼 뺀다. (커밋 후)
+     */
+    public void subtract(Map<Long, Integer> unreadByMember) {
+        if (unreadByMember.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> unreadByMember.forEach(
+            (memberId, unread) -> stripe(memberId).add(memberId, -unread)));
+    }
+
+    /**
+     * [fromId, toId] 구간의 스트림 알림을 읽지 않은 회원별 알림 수
+     */
+    public Map<Long, Integer> countStreamUnread(long fromId, long toId) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (String sql : List.of(COUNT_CREW_STREAM_UNREAD_BETWEEN,
+            COUNT_CHAT_ROOM_STREAM_UNREAD_BETWEEN)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                counts.merge(rs.getLong(1), rs.getInt(2), Integer::sum), fromId, toId);
+        }
+        return counts;
+    }
+
+    /**
+     * 한 회원의 카운터를 원본 테이블에서 다시 센다. (알림 설정 변경 등 증감으로 맞출 수 없을 때, 커밋 후)
+     */
+    public void recount(Long memberId) {
+        afterCommit(() -> {
+            int unread = 0;
+            for (String sql : COUNT_UNREAD) {
+                Integer count = jdbcTemplate.query(
+                    "SELECT t.unread_count FROM (" + sql + ") t WHERE t.member_id = ?",
+                    rs -> rs.next() ? rs.getInt(1) : 0, memberId);
+                unread += count == null ? 0 : count;
+            }
+            stripe(memberId).set(memberId, unread);
+        });
+    }
+
+    /**
+     * 바뀐 카운터만 저장한다. 실패하면 다음 체크포인트에서 다시 저장한다.
+     */
+    @Scheduled(initialDelayString = "${notification.badge.checkpoint-delay-ms:60000}",
+        fixedDelayString = "${notification.badge.checkpoint-interval-ms:30000}")
+    public void checkpoint() {
+        if (!loaded) {
+            return;
+        }
+
+        Map<Long, Integer> dirty = new TreeMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.drainDirty(dirty);
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(dirty);
+            checkpointCounter.increment(dirty.size());
+        } catch (RuntimeException e) {
+            log.warn("notification badge checkpoint failed. members: {}", dirty.size(), e);
+            dirty.keySet().forEach(memberId -> stripe(memberId).markDirty(memberId));
+        }
+    }
+
+    /**
+     * 종료 시 마지막 체크포인트 :: 바뀐 값을 모두 저장했을 때만 정상 종료 표시를 남긴다.
+     */
+    @PreDestroy
+    public void flush() {
+        if (!loaded) {
+            return;
+        }
+        checkpoint();
+        for (Stripe stripe : stripes) {
+            if (stripe.hasDirty()) {
+                log.warn("notification badge checkpoint incomplete. recount on next startup");
+                return;
+            }
+        }
+        try {
+            jdbcTemplate.update(INSERT_CHECKPOINT, CLEAN_SHUTDOWN_MARKER, 0,
+                Timestamp.valueOf(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("notification badge clean shutdown marker failed", e);
+        }
+    }
+
+    private void write(Map<Long, Integer> dirty) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> removed = new ArrayList<>();
+        List<Map.Entry<Long, Integer>> changed = new ArrayList<>();
+        dirty.entrySet().forEach(entry -> {
+            if (entry.getValue() == null) {
+                removed.add(entry.getKey());
+            } else {
+                changed.add(entry);
+            }
+        });
+
+        jdbcTemplate.batchUpdate(DELETE_CHECKPOINT, removed, batchSize,
+            (ps, memberId) -> ps.setLong(1, memberId));
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_CHECKPOINT, changed, batchSize,
+            (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, entry.getKey());
+            });
+
+        // 처음 저장하는 회원만 INSERT
+        List<Map.Entry<Long, Integer>> inserts = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                if (count == 0) {
+                    inserts.add(changed.get(index));
+                }
+                index++;
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHECKPOINT, inserts, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    private Map<Long, Integer> countUnread() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (String sql : COUNT_UNREAD) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                counts.merge(rs.getLong(1), rs.getInt(2), Integer::sum));
+        }
+        return counts;
+    }
+
+    private Stripe stripe(Long memberId) {
+        return stripes[Math.floorMod(memberId.hashCode(), stripes.length)];
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+    }
+
+    private static class Stripe {
+
+        private final Map<Long, Integer> counts = new HashMap<>();
+        // 마지막 체크포인트 이후 바뀐 회원
+        private final Set<Long> dirty = new HashSet<>();
+
+        synchronized int get(Long memberId) {
+            return counts.getOrDefault(memberId, 0);
+        }
+
+        synchronized void add(Long memberId, int delta) {
+            counts.put(memberId, Math.max(0, counts.getOrDefault(memberId, 0) + delta));
+            dirty.add(memberId);
+        }
+
+        synchronized void set(Long memberId, int unread) {
+            counts.put(memberId, unread);
+            dirty.add(memberId);
+        }
+
+        synchronized void remove(Long memberId) {
+            counts.remove(memberId);
+            dirty.add(memberId);
+        }
+
+        synchronized void load(Long memberId, int unread, boolean markDirty) {
+            counts.merge(memberId, unread, Integer::sum);
+            if (markDirty) {
+                dirty.add(memberId);
+            }
+        }
+
+        synchronized void markDirty(Long memberId) {
+            dirty.add(memberId);
+        }
+
+        synchronized boolean hasDirty() {
+            return !dirty.isEmpty();
+        }
+
+        // 삭제된 회원은 null 로 담는다.
+        synchronized void drainDirty(Map<Long, Integer> target) {
+            dirty.forEach(memberId -> target.put(memberId, counts.get(memberId)));
+            dirty.clear();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.runningservice.service.notification;
+
+import com.example.runningservice.enums.NotificationStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 대상 엔티티를 한 번 읽어 만든 알림 내용 :: 스트림 알림이면 스트림과 스트림 id 를 함께 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationContent {
+
+    private final String message;
+    private final NotificationStream stream;
+    private final Long streamId;
+
+    public static NotificationContent direct(String message) {
+        return new NotificationContent(message, null, null);
+    }
+
+    public static NotificationContent stream(String message, NotificationStream stream,
+        Long streamId) {
+        return new NotificationContent(message, stream, streamId);
+    }
+}
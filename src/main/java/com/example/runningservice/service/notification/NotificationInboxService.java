@@ -0,0 +1,278 @@
+package com.example.runningservice.service.notification;
+
+import com.example.runningservice.dto.NotificationResponseDto;
+import com.example.runningservice.dto.NotificationStreamHeadDto;
+import com.example.runningservice.entity.CrewMemberEntity;
+import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.entity.NotificationReadExceptionEntity;
+import com.example.runningservice.entity.NotificationWatermarkEntity;
+import com.example.runningservice.entity.UserNotificationEntity;
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.enums.NotificationStream;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.NotificationReadExceptionRepository;
+import com.example.runningservice.repository.NotificationRepository;
+import com.example.runningservice.repository.NotificationWatermarkRepository;
+import com.example.runningservice.repository.UserNotificationRepository;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림함 (fan-out-on-read)
+ * 크루 일정/채팅 알림은 크루·채팅방 스트림에 한 번만 저장하고, 조회할 때 사용자의 직접 알림과 병합한다.
+ * 스트림 알림의 읽음 상태는 (사용자, 스트림) 워터마크와 워터마크 뒤에서 따로 읽은 알림 (읽음 예외) 으로 관리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private final NotificationRepository notificationRepository;
+    private final UserNotificationRepository userNotificationRepository;
+    private final NotificationWatermarkRepository notificationWatermarkRepository;
+    private final NotificationReadExceptionRepository notificationReadExceptionRepository;
+    private final CrewMemberRepository crewMemberRepository;
+    private final ChatJoinRepository chatJoinRepository;
+    private final NotificationBadgeCounter notificationBadgeCounter;
+
+    // 읽음 처리 시 워터마크를 올리기 위해 확인하는 최대 알림 수
+    @Value("${notification.inbox.compact-size:100}")
+    private int compactSize;
+
+    /**
+     * beforeId 보다 오래된 알림을 최신순으로 limit 건 조회한다.
+     * 직접 알림, 크루 스트림, 채팅방 스트림을 각각 id 역순으로 limit 건씩 읽어 병합한다.
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationResponseDto> getInbox(Long memberId, Long beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<UserNotificationEntity> direct = userNotificationRepository.findInboxBefore(memberId,
+            beforeId, page);
+        List<NotificationEntity> streamed = new ArrayList<>(
+            notificationRepository.findCrewStreamBefore(memberId, beforeId, page));
+        streamed.addAll(notificationRepository.findChatRoomStreamBefore(memberId, beforeId, page));
+        streamed.sort(Comparator.comparing(NotificationEntity::getId).reversed());
+
+        ReadState readState = loadReadState(memberId, streamed);
+
+        List<NotificationResponseDto> inbox = new ArrayList<>(limit);
+        int d = 0;
+        int s = 0;
+        while (inbox.size() < limit && (d < direct.size() || s < streamed.size())) {
+            boolean takeDirect = s >= streamed.size() || (d < direct.size()
+                && direct.get(d).getNotification().getId() > streamed.get(s).getId());
+            if (takeDirect) {
+                inbox.add(NotificationResponseDto.of(direct.get(d++)));
+            } else {
+                NotificationEntity notification = streamed.get(s++);
+                inbox.add(NotificationResponseDto.of(notification, readState.readAt(notification)));
+            }
+        }
+        return inbox;
+    }
+
+    /**
+     * 스트림 알림 읽음 처리 : 워터마크 뒤의 알림이면 읽음 예외를 남기고,
+     * 워터마크 바로 뒤부터 이어서 읽은 알림이 있으면 워터마크를 올리고 그 예외들을 지운다.
+     */
+    @Transactional
+    public LocalDateTime markRead(Long memberId, NotificationEntity notification) {
+        LocalDateTime joinedAt = findJoinedAt(memberId, notification);
+
+        NotificationWatermarkEntity watermark = notificationWatermarkRepository
+            .findByMemberIdAndStreamAndStreamId(memberId, notification.getStream(),
+                notification.getStreamId())
+            .orElseGet(() -> notificationWatermarkRepository.save(
+                NotificationWatermarkEntity.of(memberId, notification.getStream(),
+                    notification.getStreamId())));
+        if (watermark.covers(notification.getId())) {
+            return watermark.getReadAt();
+        }
+
+        NotificationReadExceptionEntity readException = notificationReadExceptionRepository
+            .findByMemberIdAndNotificationId(memberId, notification.getId()).orElse(null);
+        if (readException != null) {
+            return readException.getReadAt();
+        }
+
+        readException = notificationReadExceptionRepository.save(
+            NotificationReadExceptionEntity.of(memberId, notification));
+        notificationBadgeCounter.decrement(memberId);
+        compact(watermark, joinedAt);
+        return readException.getReadAt();
+    }
+
+    /**
+     * 구독중인 모든 스트림의 워터마크를 마지막 알림으로 올리고 읽음 예외를 지운다.
+     */
+    @Transactional
+    public void markAllRead(Long memberId) {
+        Map<String, NotificationWatermarkEntity> watermarks = new HashMap<>();
+        for (NotificationWatermarkEntity watermark : notificationWatermarkRepository.findByMemberId(
+            memberId)) {
+            watermarks.put(streamKey(watermark.getStream(), watermark.getStreamId()), watermark);
+        }
+
+        advanceToHead(memberId, NotificationStream.CREW,
+            crewMemberRepository.findCrewIdsByMemberId(memberId), watermarks);
+        advanceToHead(memberId, NotificationStream.CHAT_ROOM,
+            chatJoinRepository.findRoomIdsByMemberId(memberId), watermarks);
+        notificationReadExceptionRepository.deleteAllByMemberId(memberId);
+    }
+
+    /**
+     * 스트림 구독자 (크루원, 채팅방 참여자 중 해당 알림을 켠 사용자) id
+     */
+    public List<Long> findStreamSubscriberIds(NotificationStream stream, Long streamId) {
+        if (stream == NotificationStream.CREW) {
+            return crewMemberRepository.findActivitySubscriberIds(streamId);
+        }
+        return chatJoinRepository.findChatSubscriberIds(streamId);
+    }
+
+    /**
+     * 탈퇴한 사용자의 스트림 읽음 상태와 배지 카운터 제거
+     */
+    public void deleteReadState(Long memberId) {
+        notificationReadExceptionRepository.deleteAllByMemberId(memberId);
+        notificationWatermarkRepository.deleteAllByMemberId(memberId);
+        notificationBadgeCounter.remove(memberId);
+    }
+
+    private void advanceToHead(Long memberId, NotificationStream stream, List<Long> streamIds,
+        Map<String, NotificationWatermarkEntity> watermarks) {
+        if (streamIds.isEmpty()) {
+            return;
+        }
+
+        for (NotificationStreamHeadDto head : notificationRepository.findStreamHeads(stream,
+            streamIds)) {
+            NotificationWatermarkEntity watermark = watermarks.get(
+                streamKey(stream, head.getStreamId()));
+            if (watermark == null) {
+                watermark = notificationWatermarkRepository.save(
+                    NotificationWatermarkEntity.of(memberId, stream, head.getStreamId()));
+            }
+            watermark.advance(head.getLastId());
+        }
+    }
+
+    private void compact(NotificationWatermarkEntity watermark, LocalDateTime joinedAt) {
+        List<Long> nextIds = notificationRepository.findStreamIdsAfter(watermark.getStream(),
+            watermark.getStreamId(), watermark.getLastReadId(), joinedAt,
+            PageRequest.of(0, compactSize));
+        if (nextIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> readIds = notificationReadExceptionRepository
+            .findByMemberIdAndNotificationIdIn(watermark.getMemberId(), nextIds).stream()
+            .map(NotificationReadExceptionEntity::getNotificationId)
+            .collect(Collectors.toSet());
+        long lastReadId = watermark.getLastReadId();
+        for (Long id : nextIds) {
+            if (!readIds.contains(id)) {
+                break;
+            }
+            lastReadId = id;
+        }
+
+        if (lastReadId > watermark.getLastReadId()) {
+            watermark.advance(lastReadId);
+            notificationReadExceptionRepository.deleteCoveredBy(watermark.getMemberId(),
+                watermark.getStream(), watermark.getStreamId(), lastReadId);
+        }
+    }
+
+    // 스트림 구독 시작 시각 (크루 가입일, 채팅방 참여일). 구독 전 알림이거나 구독중이 아니면 찾을 수 없는 알림이다.
+    private LocalDateTime findJoinedAt(Long memberId, NotificationEntity notification) {
+        LocalDateTime joinedAt;
+        if (notification.getStream() == NotificationStream.CREW) {
+            joinedAt = crewMemberRepository.findByCrew_IdAndMember_Id(notification.getStreamId(),
+                    memberId)
+                .map(CrewMemberEntity::getJoinedAt)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER_NOTIFICATION));
+        } else {
+            ChatJoinEntity chatJoin = chatJoinRepository.findByChatRoom_IdAndMember_Id(
+                notification.getStreamId(), memberId);
+            if (chatJoin == null) {
+                throw new CustomException(ErrorCode.NOT_FOUND_USER_NOTIFICATION);
+            }
+            joinedAt = chatJoin.getJoinedAt();
+        }
+
+        if (joinedAt != null && notification.getCreatedAt() != null
+            && notification.getCreatedAt().isBefore(joinedAt)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_USER_NOTIFICATION);
+        }
+        return joinedAt;
+    }
+
+    private ReadState loadReadState(Long memberId, List<NotificationEntity> streamed) {
+        if (streamed.isEmpty()) {
+            return new ReadState(Map.of(), Map.of());
+        }
+
+        Map<String, NotificationWatermarkEntity> watermarks = new HashMap<>();
+        for (NotificationWatermarkEntity watermark : notificationWatermarkRepository.findByMemberId(
+            memberId)) {
+            watermarks.put(streamKey(watermark.getStream(), watermark.getStreamId()), watermark);
+        }
+
+        List<Long> aboveWatermark = streamed.stream()
+            .filter(notification -> !covered(watermarks, notification))
+            .map(NotificationEntity::getId)
+            .toList();
+        Map<Long, LocalDateTime> exceptions = aboveWatermark.isEmpty() ? Map.of()
+            : notificationReadExceptionRepository.findByMemberIdAndNotificationIdIn(memberId,
+                    aboveWatermark).stream()
+                .collect(Collectors.toMap(NotificationReadExceptionEntity::getNotificationId,
+                    NotificationReadExceptionEntity::getReadAt));
+
+        return new ReadState(watermarks, exceptions);
+    }
+
+    private static boolean covered(Map<String, NotificationWatermarkEntity> watermarks,
+        NotificationEntity notification) {
+        NotificationWatermarkEntity watermark = watermarks.get(
+            streamKey(notification.getStream(), notification.getStreamId()));
+        return watermark != null && watermark.covers(notification.getId());
+    }
+
+    private static String streamKey(NotificationStream stream, Long streamId) {
+        return stream + ":" + streamId;
+    }
+
+    private static class ReadState {
+
+        private final Map<String, NotificationWatermarkEntity> watermarks;
+        private final Map<Long, LocalDateTime> exceptions;
+
+        private ReadState(Map<String, NotificationWatermarkEntity> watermarks,
+            Map<Long, LocalDateTime> exceptions) {
+            this.watermarks = watermarks;
+            this.exceptions = exceptions;
+        }
+
+        private LocalDateTime readAt(NotificationEntity notification) {
+            if (covered(watermarks, notification)) {
+                return watermarks.get(streamKey(notification.getStream(),
+                    notification.getStreamId())).getReadAt();
+            }
+            return exceptions.get(notification.getId());
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.runningservice.service.notification;
 
-import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.NotificationType;
 import com.example.runningservice.enums.TableType;
 import java.util.List;
 
 public interface NotificationManagerService {
 
-    String getMessage(Long relatedId, TableType relatedType);
+    // NotificationOutboxDispatcher 가 저장된 알림의 종류로 구현체를 찾을 때 사용
+    NotificationType getNotificationType();
 
-    List<MemberEntity> findSubscriber(Long relatedId, TableType relatedType);
+    // 알림 대상 엔티티를 한 번 읽어 메시지와 (크루/채팅방 단위 알림이면) 스트림을 만든다.
+    NotificationContent getContent(Long relatedId, TableType relatedType);
+
+    // 수신자별로 저장하는 알림의 수신자 id :: 알림 설정을 끈 사용자는 쿼리에서 제외한다.
+    List<Long> findSubscriberIds(Long relatedId, TableType relatedType);
 }
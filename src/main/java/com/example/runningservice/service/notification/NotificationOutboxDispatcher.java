@@ -0,0 +1,178 @@
+package com.example.runningservice.service.notification;
+
+import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.entity.NotificationOutboxEntity;
+import com.example.runningservice.enums.NotificationType;
+import com.example.runningservice.enums.OutboxStatus;
+import com.example.runningservice.repository.NotificationOutboxRepository;
+import com.example.runningservice.repository.NotificationRepository;
+import com.example.runningservice.repository.UserNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 outbox 전송
+ * outbox 한 건마다 한 트랜잭션에서 수신자를 조회해 user_notification 을 JDBC batch 로 저장하고 SENT 로 바꾼다.
+ * 이미 저장된 (알림, 수신자) 는 건너뛰므로 다시 전송해도 중복 저장되지 않는다. 웹소켓 전송은 커밋 후에 한다.
+ * 크루/채팅방 스트림 알림은 조회 시 병합하므로 수신자별로 저장하지 않고 전송만 한다.
+ * 커밋 후 수신자 (스트림 알림은 스트림 구독자) 의 읽지 않은 알림 수를 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    static final String INSERT_USER_NOTIFICATION =
+        "INSERT INTO user_notification (id, member_id, notification_id) "
+            + "SELECT ?, ?, ? WHERE NOT EXISTS ("
+            + "SELECT 1 FROM user_notification WHERE member_id = ? AND notification_id = ?)";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserNotificationRepository userNotificationRepository;
+    private final List<NotificationManagerService> notificationManagers;
+    private final NotificationInboxService notificationInboxService;
+    private final NotificationBadgeCounter notificationBadgeCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.insert-batch-size:500}")
+    private int insertBatchSize;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    private final Map<NotificationType, NotificationManagerService> managerByType =
+        new EnumMap<>(NotificationType.class);
+
+    private Timer dispatchTimer;
+    private Counter sentCounter;
+    private Counter recipientCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        notificationManagers.forEach(manager ->
+            managerByType.put(manager.getNotificationType(), manager));
+
+        dispatchTimer = Timer.builder("notification.outbox.dispatch")
+            .description("outbox 한 건 전송 시간")
+            .register(meterRegistry);
+        sentCounter = Counter.builder("notification.outbox.sent")
+            .description("전송 완료된 알림 수")
+            .register(meterRegistry);
+        recipientCounter = Counter.builder("notification.outbox.recipients")
+            .description("저장한 사용자별 알림 수")
+            .register(meterRegistry);
+        failedCounter = Counter.builder("notification.outbox.failed")
+            .description("전송 실패 (재시도 포함) 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${notification.outbox.initial-delay-ms:10000}",
+        fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        List<Long> outboxIds = notificationOutboxRepository.findDueIds(OutboxStatus.PENDING,
+            LocalDateTime.now(), PageRequest.of(0, batchSize));
+        outboxIds.forEach(this::dispatch);
+    }
+
+    void dispatch(Long outboxId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Delivery delivery = transactionTemplate.execute(status -> deliver(outboxId));
+            if (delivery == null) {
+                return;
+            }
+            notificationBadgeCounter.increment(delivery.getUnreadMemberIds());
+            messagingTemplate.convertAndSend(delivery.getTopic(), delivery.getMessage());
+            sentCounter.increment();
+            recipientCounter.increment(delivery.getRecipientCount());
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("notification outbox dispatch failed. outboxId: {}", outboxId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                notificationOutboxRepository.findById(outboxId)
+                    .ifPresent(outbox -> outbox.retryLater(e.toString(), maxAttempts)));
+        } finally {
+            sample.stop(dispatchTimer);
+        }
+    }
+
+    private Delivery deliver(Long outboxId) {
+        NotificationOutboxEntity outbox = notificationOutboxRepository.findById(outboxId)
+            .orElse(null);
+        // 다른 실행에서 이미 처리됨
+        if (outbox == null || outbox.getStatus() != OutboxStatus.PENDING) {
+            return null;
+        }
+
+        NotificationEntity notification = notificationRepository.findById(
+                outbox.getNotificationId())
+            .orElseThrow(() -> new IllegalStateException(
+                "notification " + outbox.getNotificationId() + " not found"));
+        if (notification.getStream() != null) {
+            outbox.sent(0);
+            return new Delivery(outbox.getTopic(), notification.getMessage(), 0,
+                notificationInboxService.findStreamSubscriberIds(notification.getStream(),
+                    notification.getStreamId()));
+        }
+
+        NotificationManagerService manager = managerByType.get(notification.getType());
+        if (manager == null) {
+            throw new IllegalStateException("no notification manager for " + notification.getType());
+        }
+
+        List<Long> recipientIds = manager.findSubscriberIds(notification.getRelatedId(),
+                notification.getRelatedType()).stream()
+            .distinct()
+            .toList();
+        // id 는 엔티티 시퀀스에서 미리 받는다. (이미 저장된 수신자 몫의 id 는 쓰이지 않고 버려진다)
+        Iterator<Long> ids = userNotificationRepository.nextIds(recipientIds.size()).iterator();
+        jdbcTemplate.batchUpdate(INSERT_USER_NOTIFICATION, recipientIds, insertBatchSize,
+            (ps, memberId) -> {
+                ps.setLong(1, ids.next());
+                ps.setLong(2, memberId);
+                ps.setLong(3, notification.getId());
+                ps.setLong(4, memberId);
+                ps.setLong(5, notification.getId());
+            });
+        outbox.sent(recipientIds.size());
+
+        return new Delivery(outbox.getTopic(), notification.getMessage(), recipientIds.size(),
+            recipientIds);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Delivery {
+
+        private final String topic;
+        private final String message;
+        private final int recipientCount;
+        private final List<Long> unreadMemberIds;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.runningservice.service.notification;
+
+import com.example.runningservice.dto.NotificationPreferenceDto;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 알림 설정 캐시 :: STOMP 구독마다 회원 엔티티 (roles 포함) 를 읽지 않도록 설정 컬럼만 projection 으로 적재한다.
+ * 설정을 바꾸면 커밋 후 새 값으로 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPreferenceCache {
+
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.preference.cache.max-members:100000}")
+    private long maxMembers;
+
+    @Value("${notification.preference.cache.expire-minutes:60}")
+    private long expireMinutes;
+
+    private Cache<Long, NotificationPreferenceDto> preferences;
+
+    @PostConstruct
+    public void init() {
+        preferences = Caffeine.newBuilder()
+            .maximumSize(maxMembers)
+            .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, preferences, "notification.preference");
+    }
+
+    public NotificationPreferenceDto get(Long memberId) {
+        return preferences.get(memberId, id -> memberRepository.findNotificationPreference(id)
+            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER)));
+    }
+
+    public void update(Long memberId, NotificationPreferenceDto preference) {
+        afterCommit(() -> preferences.put(memberId, preference));
+    }
+
+    public void evict(Long memberId) {
+        afterCommit(() -> preferences.invalidate(memberId));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+    }
+}
@@ -0,0 +1,327 @@
+package com.example.runningservice.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 보관 기간 정리
+ * 읽은 직접 알림은 읽은 지 read-days, 읽지 않은 알림은 생성된 지 unread-days 가 지나면 지운다.
+ * 크루/채팅방 스트림 알림은 사용자마다 행이 없으므로 unread-days 기준으로 지우고, 수신 기록이 모두 지워진 직접 알림은
+ * read-days 가 지나면 지운다.
+ * 청크마다 커밋하고 사이에 쉬어 잠금을 오래 잡지 않으며, 한 번 실행에 max-chunks-per-run 청크까지만 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    static final String SELECT_CUTOFF_ID =
+        "SELECT MAX(id) FROM notification WHERE created_at < ?";
+    static final String SELECT_READ_DIRECT =
+        "SELECT id, member_id, notification_id, read_at FROM user_notification "
+            + "WHERE read_at < ? ORDER BY read_at LIMIT ?";
+    static final String SELECT_UNREAD_DIRECT =
+        "SELECT id, member_id, notification_id, read_at FROM user_notification "
+            + "WHERE read_at IS NULL AND notification_id <= ? ORDER BY notification_id LIMIT ?";
+    static final String DELETE_DIRECT = "DELETE FROM user_notification WHERE id = ?";
+    static final String SELECT_STREAM =
+        "SELECT id, type, message, created_at, related_id, related_type, stream, stream_id "
+            + "FROM notification WHERE stream IS NOT NULL AND id > ? AND id <= ? "
+            + "ORDER BY id LIMIT ?";
+    static final String DELETE_STREAM =
+        "DELETE FROM notification WHERE stream IS NOT NULL AND id BETWEEN ? AND ?";
+    static final String DELETE_STREAM_READ_EXCEPTIONS =
+        "DELETE FROM notification_read_exception WHERE notification_id BETWEEN ? AND ?";
+    static final String SELECT_ORPHAN =
+        "SELECT n.id, n.type, n.message, n.created_at, n.related_id, n.related_type "
+            + "FROM notification n WHERE n.stream IS NULL AND n.id > ? AND n.id <= ? "
+            + "AND NOT EXISTS (SELECT 1 FROM user_notification un WHERE un.notification_id = n.id) "
+            + "ORDER BY n.id LIMIT ?";
+    static final String DELETE_NOTIFICATION = "DELETE FROM notification WHERE id = ?";
+
+    private static final String USER_NOTIFICATION = "user_notification";
+    private static final String NOTIFICATION = "notification";
+
+    enum Policy {
+        READ(USER_NOTIFICATION),
+        UNREAD(USER_NOTIFICATION),
+        STREAM(NOTIFICATION),
+        ORPHAN(NOTIFICATION);
+
+        private final String table;
+
+        Policy(String table) {
+            this.table = table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBadgeCounter notificationBadgeCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    // 0 이하면 해당 정책으로 지우지 않는다.
+    @Value("${notification.retention.read-days:30}")
+    private int readDays;
+
+    @Value("${notification.retention.unread-days:90}")
+    private int unreadDays;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${notification.retention.pause-ms:100}")
+    private long pauseMillis;
+
+    @Value("${notification.retention.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${notification.retention.table-size-refresh-minutes:60}")
+    private long tableSizeRefreshMinutes;
+
+    // 비우면 삭제한 행을 남기지 않는다.
+    @Value("${notification.retention.archive-path:}")
+    private String archivePath;
+
+    private NotificationArchiveWriter archive;
+    private final Map<Policy, Counter> purgedCounters = new EnumMap<>(Policy.class);
+    private final Map<Policy, Timer> chunkTimers = new EnumMap<>(Policy.class);
+    private final Map<String, AtomicLong> tableRows = new LinkedHashMap<>();
+    private LocalDateTime tableSizeRefreshedAt;
+
+    @PostConstruct
+    public void init() {
+        if (archivePath != null && !archivePath.isBlank()) {
+            archive = new NotificationArchiveWriter(Path.of(archivePath));
+        }
+        for (Policy policy : Policy.values()) {
+            purgedCounters.put(policy, Counter.builder("notification.retention.purged")
+                .description("보관 기간이 지나 삭제한 알림 행 수")
+                .tag("table", policy.table)
+                .tag("policy", policy.name().toLowerCase())
+                .register(meterRegistry));
+            chunkTimers.put(policy, Timer.builder("notification.retention.chunk")
+                .description("알림 정리 청크 하나의 삭제 시간")
+                .tag("policy", policy.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        for (String table : List.of(USER_NOTIFICATION, NOTIFICATION)) {
+            AtomicLong rows = new AtomicLong(-1);
+            tableRows.put(table, rows);
+            Gauge.builder("notification.retention.table.rows", rows, AtomicLong::get)
+                .description("알림 테이블 행 수 (정리 후 갱신, 아직 세지 않았으면 -1)")
+                .tag("table", table)
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${notification.retention.initial-delay-ms:300000}",
+        fixedDelayString = "${notification.retention.interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long purged = 0;
+        try {
+            Budget budget = new Budget(maxChunksPerRun);
+            if (readDays > 0) {
+                LocalDateTime readCutoff = now.minusDays(readDays);
+                purged += runChunks(Policy.READ, budget, () -> purgeReadDirect(readCutoff));
+            }
+            if (unreadDays > 0) {
+                Long unreadCutoffId = findCutoffId(now.minusDays(unreadDays));
+                if (unreadCutoffId != null) {
+                    purged += runChunks(Policy.UNREAD, budget,
+                        () -> purgeUnreadDirect(unreadCutoffId));
+                    AtomicLong afterId = new AtomicLong();
+                    purged += runChunks(Policy.STREAM, budget,
+                        () -> purgeStream(afterId, unreadCutoffId));
+                }
+            }
+            if (readDays > 0) {
+                Long readCutoffId = findCutoffId(now.minusDays(readDays));
+                if (readCutoffId != null) {
+                    AtomicLong afterId = new AtomicLong();
+                    purged += runChunks(Policy.ORPHAN, budget,
+                        () -> purgeOrphans(afterId, readCutoffId));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("notification retention purge stopped. purged so far: {}", purged, e);
+        } finally {
+            if (purged > 0) {
+                log.info("notification retention purged {} rows", purged);
+            }
+            refreshTableSizes(now, purged > 0);
+        }
+    }
+
+    /**
+     * 청크를 하나씩 커밋한다. 청크가 가득 차지 않았거나 이번 실행의 청크를 다 쓰면 멈춘다.
+     */
+    private long runChunks(Policy policy, Budget budget, Supplier<Integer> chunk) {
+        long purged = 0;
+        boolean hasMore = true;
+        while (hasMore && budget.take()) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Integer rows = transactionTemplate.execute(status -> chunk.get());
+            sample.stop(chunkTimers.get(policy));
+
+            int deleted = rows == null ? 0 : rows;
+            purgedCounters.get(policy).increment(deleted);
+            purged += deleted;
+            hasMore = deleted >= chunkSize;
+            if (hasMore && !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private int purgeReadDirect(LocalDateTime readCutoff) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_READ_DIRECT,
+            Timestamp.valueOf(readCutoff), chunkSize);
+        archive(USER_NOTIFICATION, rows);
+        deleteById(DELETE_DIRECT, rows);
+        return rows.size();
+    }
+
+    private int purgeUnreadDirect(long cutoffId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_UNREAD_DIRECT,
+            cutoffId, chunkSize);
+        archive(USER_NOTIFICATION, rows);
+        deleteById(DELETE_DIRECT, rows);
+
+        Map<Long, Integer> unreadByMember = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            unreadByMember.merge(longValue(row, "member_id"), 1, Integer::sum);
+        }
+        notificationBadgeCounter.subtract(unreadByMember);
+        return rows.size();
+    }
+
+    // 청크는 id 순으로 읽으므로 [첫 id, 마지막 id] 구간의 스트림 알림이 곧 청크다.
+    private int purgeStream(AtomicLong afterId, long cutoffId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_STREAM,
+            afterId.get(), cutoffId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        long fromId = longValue(rows.get(0), "id");
+        long toId = longValue(rows.get(rows.size() - 1), "id");
+
+        archive(NOTIFICATION, rows);
+        Map<Long, Integer> unreadByMember = notificationBadgeCounter.countStreamUnread(fromId,
+            toId);
+        jdbcTemplate.update(DELETE_STREAM_READ_EXCEPTIONS, fromId, toId);
+        jdbcTemplate.update(DELETE_STREAM, fromId, toId);
+        notificationBadgeCounter.subtract(unreadByMember);
+
+        afterId.set(toId);
+        return rows.size();
+    }
+
+    private int purgeOrphans(AtomicLong afterId, long cutoffId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_ORPHAN,
+            afterId.get(), cutoffId, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        archive(NOTIFICATION, rows);
+        deleteById(DELETE_NOTIFICATION, rows);
+
+        afterId.set(longValue(rows.get(rows.size() - 1), "id"));
+        return rows.size();
+    }
+
+    private Long findCutoffId(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForObject(SELECT_CUTOFF_ID, Long.class,
+            Timestamp.valueOf(cutoff));
+    }
+
+    private void deleteById(String sql, List<Map<String, Object>> rows) {
+        List<Long> ids = rows.stream().map(row -> longValue(row, "id")).toList();
+        jdbcTemplate.batchUpdate(sql, ids, chunkSize, (ps, id) -> ps.setLong(1, id));
+    }
+
+    private void archive(String table, List<Map<String, Object>> rows) {
+        if (archive != null) {
+            archive.append(table, LocalDate.now(), rows);
+        }
+    }
+
+    // COUNT(*) 는 큰 테이블에서 비싸므로 처음 한 번, 이후에는 지운 행이 있을 때 refresh 간격마다 한 번만 센다.
+    private void refreshTableSizes(LocalDateTime now, boolean purged) {
+        if (tableSizeRefreshedAt != null && (!purged
+            || now.isBefore(tableSizeRefreshedAt.plusMinutes(tableSizeRefreshMinutes)))) {
+            return;
+        }
+        try {
+            tableRows.forEach((table, rows) -> rows.set(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class)));
+            tableSizeRefreshedAt = now;
+        } catch (RuntimeException e) {
+            log.warn("notification table size refresh failed", e);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long longValue(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+
+    private static class Budget {
+
+        private int remaining;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean take() {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+    }
+}
@@ -2,21 +2,23 @@ package com.example.runningservice.service.notification;
 
 import com.example.runningservice.dto.NotificationRequestDto;
 import com.example.runningservice.dto.NotificationResponseDto;
-import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.dto.NotificationUnreadCountResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
 import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.entity.NotificationOutboxEntity;
 import com.example.runningservice.entity.UserNotificationEntity;
-import com.example.runningservice.enums.Notification;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
-import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.repository.NotificationOutboxRepository;
 import com.example.runningservice.repository.NotificationRepository;
 import com.example.runningservice.repository.UserNotificationRepository;
+import com.example.runningservice.util.CursorUtil;
+import com.example.runningservice.util.CursorUtil.Cursor;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,74 +26,122 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final String NOTIFICATION_CURSOR_SCOPE = "notification";
+
     private final NotificationRepository notificationRepository;
     private final UserNotificationRepository userNotificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final MemberRepository memberRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationInboxService notificationInboxService;
+    private final NotificationBadgeCounter notificationBadgeCounter;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final CursorUtil cursorUtil;
 
     /**
-     * 사용자에게 온 모든 알림을 조회한다.
+     * 사용자에게 온 모든 알림을 조회한다. (직접 알림 + 크루/채팅방 스트림 알림, 최신순)
      */
     public List<NotificationResponseDto> getNotification(Long userId, Pageable pageable) {
-        Page<UserNotificationEntity> notificationList = userNotificationRepository
-            .findByMember_IdOrderByNotification_CreatedAtDesc(userId, pageable);
+        int offset = (int) pageable.getOffset();
+        List<NotificationResponseDto> inbox = notificationInboxService.getInbox(userId, null,
+            offset + pageable.getPageSize());
 
-        List<NotificationResponseDto> response = new ArrayList<>();
-        for (UserNotificationEntity notificationEntity : notificationList) {
-            response.add(NotificationResponseDto.of(notificationEntity));
-        }
+        return new ArrayList<>(inbox.subList(Math.min(offset, inbox.size()), inbox.size()));
+    }
 
-        return response;
+    /**
+     * 사용자에게 온 알림을 최신순으로 커서 조회한다. 커서는 알림 id
+     */
+    public CursorSliceResponseDto<NotificationResponseDto> getNotificationByCursor(Long userId,
+        String cursor, int size) {
+        Cursor last = cursorUtil.decode(NOTIFICATION_CURSOR_SCOPE, cursor);
+        int limit = CursorUtil.normalizeSize(size);
+
+        return CursorSliceResponseDto.of(
+            notificationInboxService.getInbox(userId, last != null ? last.sortKeyAsLong() : null,
+                limit + 1),
+            limit,
+            notification -> cursorUtil.encode(NOTIFICATION_CURSOR_SCOPE,
+                notification.getNotificationId(), notification.getNotificationId()));
     }
 
     /**
      * 사용자들에게 알림을 전송한다.
+     * 호출한 트랜잭션에서는 알림과 outbox 만 저장하고, 수신자별 알림 저장과 메시지 전송은
+     * 커밋 후 NotificationOutboxDispatcher 가 처리한다.
      */
+    @Transactional
     public void sendNotification(NotificationManagerService notificationManager,
         NotificationRequestDto request) {
-        // 전송할 메시지 설정
-        request.setNotiMessage(
-            notificationManager.getMessage(request.getRelatedId(), request.getRelatedType()));
+        // 전송할 메시지 설정 (알림 대상 엔티티는 한 번만 읽는다)
+        NotificationContent content = notificationManager.getContent(request.getRelatedId(),
+            request.getRelatedType());
+        request.setNotiMessage(content.getMessage());
+
+        // 크루/채팅방 단위 알림은 스트림으로 한 번만 저장
+        if (content.getStream() != null) {
+            request.setStream(content.getStream(), content.getStreamId());
+        }
 
         // 알림 DB 저장
         NotificationEntity notificationEntity = NotificationEntity.toEntity(request);
         notificationRepository.save(notificationEntity);
 
-        // 메시지 전송
-        messagingTemplate.convertAndSend(request.getTopic(), request.getMessage());
-
-        // 사용자별 알림 저장
-        List<MemberEntity> subscriberList = notificationManager.findSubscriber(
-            request.getRelatedId(), request.getRelatedType());
-
-        userNotificationRepository.saveAll(subscriberList.stream().map(member ->
-            UserNotificationEntity.builder()
-                .notification(notificationEntity)
-                .member(member)
-                .build()
-        ).toList());
+        // 전송 대기 등록
+        notificationOutboxRepository.save(
+            NotificationOutboxEntity.of(notificationEntity, request.getTopic()));
     }
 
     /**
      * 사용자가 알림을 읽어서 읽은 표시를 남긴다.
+     * 직접 알림은 user_notification 에, 스트림 알림은 워터마크/읽음 예외에 남긴다.
      */
     @Transactional
-    public NotificationResponseDto readNotification(Long userNotiId) {
-        UserNotificationEntity userNotiEntity = userNotificationRepository.findById(userNotiId)
+    public NotificationResponseDto readNotification(Long userId, Long notificationId) {
+        UserNotificationEntity userNotiEntity = userNotificationRepository
+            .findByMember_IdAndNotification_Id(userId, notificationId).orElse(null);
+        if (userNotiEntity != null) {
+            if (userNotiEntity.getReadAt() == null) {
+                notificationBadgeCounter.decrement(userId);
+            }
+            userNotiEntity.read();
+            return NotificationResponseDto.of(userNotiEntity);
+        }
+
+        NotificationEntity notificationEntity = notificationRepository.findById(notificationId)
+            .filter(notification -> notification.getStream() != null)
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER_NOTIFICATION));
 
-        userNotiEntity.read();
+        return NotificationResponseDto.of(notificationEntity,
+            notificationInboxService.markRead(userId, notificationEntity));
+    }
+
+    /**
+     * 사용자에게 온 알림을 모두 읽음 처리한다.
+     */
+    @Transactional
+    public NotificationUnreadCountResponseDto readAllNotifications(Long userId) {
+        userNotificationRepository.markAllRead(userId, LocalDateTime.now());
+        notificationInboxService.markAllRead(userId);
+        notificationBadgeCounter.reset(userId);
+
+        return NotificationUnreadCountResponseDto.builder()
+            .unreadCount(0)
+            .build();
+    }
 
-        return NotificationResponseDto.of(userNotiEntity);
+    /**
+     * 읽지 않은 알림 수 (배지) :: 메모리 카운터에서 바로 읽는다.
+     */
+    public NotificationUnreadCountResponseDto getUnreadCount(Long userId) {
+        return NotificationUnreadCountResponseDto.builder()
+            .unreadCount(notificationBadgeCounter.get(userId))
+            .build();
     }
 
     /**
      * 크루 일정 생성 알림을 꺼둔 사용자는 토픽 구독을 거부한다.
      */
     public void subscribeActivityNotification(Long loginId) {
-        MemberEntity memberEntity = memberRepository.findMemberById(loginId);
-
-        if (memberEntity.getActivityNoti() == Notification.OFF) {
+        if (!notificationPreferenceCache.get(loginId).isActivityOn()) {
             throw new CustomException(ErrorCode.REJECT_SUBSCRIBE_NOTIFICATION);
         }
     }
@@ -100,9 +150,7 @@ public class NotificationService {
      * 채팅 메시지 알림을 꺼둔 사용자는 토픽 구독을 거부한다.
      */
     public void subscribeChatNotification(Long loginId) {
-        MemberEntity memberEntity = memberRepository.findMemberById(loginId);
-
-        if (memberEntity.getChattingNoti() == Notification.OFF) {
+        if (!notificationPreferenceCache.get(loginId).isChattingOn()) {
             throw new CustomException(ErrorCode.REJECT_SUBSCRIBE_NOTIFICATION);
         }
     }
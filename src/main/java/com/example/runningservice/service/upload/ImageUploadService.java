@@ -0,0 +1,325 @@
+package com.example.runningservice.service.upload;
+
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.ImageVariant;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.CrewDiscoveryService;
+import com.example.runningservice.util.S3FileUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 크루/프로필 이미지 업로드
+ * 요청 스레드는 본문을 UploadSpool 에 쓰기만 하고, 커밋 후 업로드 스레드 (s3.upload.workers 개) 가
+ * 크기별 이미지 (ImageVariant) 를 만들어 {key}/{uploadId}/{variant} 로 s3 에 올린다.
+ * 실패하면 backoff 후 재시도하고, 성공한 뒤에만 크루/회원 이미지를 {key}/{uploadId}/original 로 바꾼다.
+ * (끝내 실패하면 기본 이미지 또는 이전 이미지 유지)
+ * 같은 key 에 여러 번 올리면 마지막으로 커밋된 업로드만 반영한다. 업로드마다 객체가 다르므로 서로 덮어쓰지 않고,
+ * 이전 이미지 객체는 새 이미지가 커밋된 뒤 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageUploadService {
+
+    private final UploadSpool uploadSpool;
+    private final S3FileUtil s3FileUtil;
+    private final CrewRepository crewRepository;
+    private final MemberRepository memberRepository;
+    private final CrewDiscoveryService crewDiscoveryService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator();
+
+    @Value("${s3.upload.workers:4}")
+    private int workers;
+
+    @Value("${s3.upload.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${s3.upload.backoff-ms:1000}")
+    private long backoffMillis;
+
+    @Value("${s3.upload.max-backoff-ms:60000}")
+    private long maxBackoffMillis;
+
+    // key -> 마지막으로 커밋된 uploadId
+    private final Map<String, String> latestUploads = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingUploads = new AtomicInteger();
+
+    private ScheduledThreadPoolExecutor executor;
+    private Timer uploadTimer;
+    private Counter succeededCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter skippedCounter;
+
+    @PostConstruct
+    public void init() {
+        executor = new ScheduledThreadPoolExecutor(workers,
+            new CustomizableThreadFactory("s3-upload-"));
+        // 종료 시 backoff 대기중인 재시도는 버린다. (spool 에 남아 다음 기동 때 다시 올린다)
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        Gauge.builder("s3.upload.pending", pendingUploads, AtomicInteger::get)
+            .description("업로드 대기중인 파일 수 (재시도 대기 포함)")
+            .register(meterRegistry);
+        uploadTimer = Timer.builder("s3.upload")
+            .description("s3 업로드 시간 (시도 1회)")
+            .register(meterRegistry);
+        succeededCounter = Counter.builder("s3.upload.succeeded")
+            .description("업로드 후 이미지를 반영한 파일 수")
+            .register(meterRegistry);
+        retriedCounter = Counter.builder("s3.upload.retried")
+            .description("업로드 재시도 횟수")
+            .register(meterRegistry);
+        failedCounter = Counter.builder("s3.upload.failed")
+            .description("재시도 후에도 업로드에 실패한 파일 수")
+            .register(meterRegistry);
+        skippedCounter = Counter.builder("s3.upload.skipped")
+            .description("더 최근 업로드로 대체되어 올리지 않은 파일 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 이미지를 spool 에 쓰고, 트랜잭션이 커밋되면 업로드한다. (롤백되면 지운다)
+     */
+    public void upload(ImageOwner owner, Long ownerId, String key, MultipartFile file) {
+        SpooledUpload upload = uploadSpool.write(owner, ownerId, key, file);
+        afterCompletion(committed -> {
+            if (!committed) {
+                uploadSpool.delete(upload);
+            } else if (uploadSpool.markReady(upload)) {
+                latestUploads.put(key, upload.getUploadId());
+                submit(upload);
+            }
+        });
+    }
+
+    /**
+     * key 의 대기중인 업로드를 반영하지 않는다. (이미지 삭제 시, 커밋 후)
+     */
+    public void cancel(String key) {
+        afterCompletion(committed -> {
+            if (committed) {
+                latestUploads.remove(key);
+            }
+        });
+    }
+
+    /**
+     * 기동 전에 남은 업로드를 다시 올린다. key 마다 가장 최근 업로드만 올린다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<SpooledUpload> uploads = uploadSpool.recover();
+        Map<String, SpooledUpload> newest = new HashMap<>();
+        uploads.forEach(upload -> newest.put(upload.getKey(), upload));
+
+        for (SpooledUpload upload : uploads) {
+            if (newest.get(upload.getKey()) != upload
+                || latestUploads.putIfAbsent(upload.getKey(), upload.getUploadId()) != null) {
+                skippedCounter.increment();
+                uploadSpool.delete(upload);
+                continue;
+            }
+            submit(upload);
+        }
+        if (!uploads.isEmpty()) {
+            log.info("upload spool recovered: {} files, {} keys", uploads.size(), newest.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        if (pendingUploads.get() > 0) {
+            log.info("upload spool kept {} files for next start", pendingUploads.get());
+        }
+    }
+
+    private void submit(SpooledUpload upload) {
+        pendingUploads.incrementAndGet();
+        try {
+            executor.execute(() -> attempt(upload, 1));
+        } catch (RejectedExecutionException e) {
+            // 종료중 :: spool 에 남겨 다음 기동 때 올린다.
+            pendingUploads.decrementAndGet();
+        }
+    }
+
+    private void attempt(SpooledUpload upload, int attempt) {
+        if (!upload.getUploadId().equals(latestUploads.get(upload.getKey()))) {
+            skippedCounter.increment();
+            finish(upload);
+            return;
+        }
+
+        boolean applied;
+        try {
+            Map<ImageVariant, Path> variants = imageVariantGenerator.generate(upload.getData(),
+                variant -> uploadSpool.variantFile(upload, variant));
+            uploadTimer.record(() -> variants.forEach((variant, file) ->
+                s3FileUtil.putObject(variant.key(upload.getBaseKey()), "image/jpeg", file)));
+            applied = Boolean.TRUE.equals(
+                transactionTemplate.execute(status -> applyImage(upload)));
+            if (!applied) {
+                // 이 업로드만의 객체이므로 반영하지 않으면 바로 지운다.
+                deleteObjects(upload.getBaseKey());
+            }
+        } catch (CustomException e) {
+            // 이미지가 아니거나 너무 큰 파일 :: 재시도하지 않는다.
+            failedCounter.increment();
+            log.warn("image upload rejected. key: {}, reason: {}", upload.getKey(),
+                e.getErrorCode());
+            finish(upload);
+            return;
+        } catch (RuntimeException e) {
+            if (attempt < maxAttempts) {
+                retry(upload, attempt, e);
+                return;
+            }
+            failedCounter.increment();
+            log.error("s3 upload failed. key: {}, attempts: {}", upload.getKey(), attempt, e);
+            finish(upload);
+            return;
+        }
+
+        if (applied) {
+            succeededCounter.increment();
+        } else {
+            skippedCounter.increment();
+        }
+        finish(upload);
+    }
+
+    /**
+     * backoff 후 다시 올린다. 종료중이라 예약하지 못하면 spool 에 남겨 다음 기동 때 올린다.
+     */
+    private void retry(SpooledUpload upload, int attempt, RuntimeException cause) {
+        long delay = Math.min(backoffMillis << Math.min(attempt - 1, 20), maxBackoffMillis);
+        // 같은 시점에 실패한 업로드가 한꺼번에 다시 몰리지 않도록 절반은 무작위로 둔다.
+        delay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            executor.schedule(() -> attempt(upload, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+            log.warn("s3 upload failed, retrying. key: {}, attempt: {}, cause: {}",
+                upload.getKey(), attempt, cause.toString());
+        } catch (RejectedExecutionException e) {
+            pendingUploads.decrementAndGet();
+            log.info("s3 upload failed during shutdown, kept in spool for next start. "
+                + "key: {}, attempt: {}, cause: {}", upload.getKey(), attempt, cause.toString());
+        }
+    }
+
+    /**
+     * 업로드한 이미지 ({key}/{uploadId}/original) 로 바꾸고, 커밋되면 이전에 올린 이미지 객체를 지운다.
+     * 업로드 중에 취소(이미지 삭제)되거나 더 최근 업로드가 커밋됐거나 크루/회원이 삭제됐으면 바꾸지 않고 false 를 반환한다.
+     */
+    private boolean applyImage(SpooledUpload upload) {
+        // 업로드 전 확인 이후의 취소를 놓치지 않도록 컬럼을 바꾸는 트랜잭션 안에서 다시 확인한다.
+        if (!upload.getUploadId().equals(latestUploads.get(upload.getKey()))) {
+            return false;
+        }
+        String imageUrl = s3FileUtil.getImgUrl(ImageVariant.ORIGINAL.key(upload.getBaseKey()));
+        Optional<String> previousImage = switch (upload.getOwner()) {
+            case CREW -> crewRepository.findById(upload.getOwnerId())
+                .map(crewEntity -> {
+                    String previous = Objects.toString(crewEntity.getCrewImage(), "");
+                    crewEntity.updateCrewImageUrl(imageUrl);
+                    crewDiscoveryService.crewSaved(crewEntity);
+                    return previous;
+                });
+            case MEMBER -> memberRepository.findById(upload.getOwnerId())
+                .map(memberEntity -> {
+                    String previous = Objects.toString(memberEntity.getProfileImageUrl(), "");
+                    memberEntity.updateProfileImageUrl(imageUrl);
+                    return previous;
+                });
+        };
+        if (previousImage.isEmpty()) {
+            return false;
+        }
+        String previousBaseKey = uploadedBaseKey(upload.getKey(), previousImage.get());
+        if (previousBaseKey != null && !previousBaseKey.equals(upload.getBaseKey())) {
+            afterCompletion(committed -> {
+                if (committed) {
+                    deleteObjects(previousBaseKey);
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 이전 이미지가 이 key 로 올린 이미지면 그 객체들의 baseKey, 기본 이미지면 null
+     */
+    private String uploadedBaseKey(String key, String imageKey) {
+        if (ImageVariant.hasVariants(imageKey)) {
+            return ImageVariant.baseKey(imageKey);
+        }
+        return key.equals(imageKey) ? imageKey : null;
+    }
+
+    private void deleteObjects(String baseKey) {
+        try {
+            ImageVariant.allKeys(baseKey).forEach(s3FileUtil::deleteObject);
+        } catch (RuntimeException e) {
+            // 지우지 못한 객체는 더 이상 참조되지 않으므로 반영 결과에는 영향이 없다.
+            log.warn("image object delete failed. baseKey: {}, cause: {}", baseKey, e.toString());
+        }
+    }
+
+    private void finish(SpooledUpload upload) {
+        latestUploads.remove(upload.getKey(), upload.getUploadId());
+        uploadSpool.delete(upload);
+        pendingUploads.decrementAndGet();
+    }
+
+    private void afterCompletion(Consumer<Boolean> task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    task.accept(status == STATUS_COMMITTED);
+                }
+            });
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.runningservice.service.upload;
+
+import com.example.runningservice.enums.ImageVariant;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 업로드 이미지에서 ImageVariant 크기별 jpeg 를 만든다.
+ * - 헤더에서 크기만 먼저 읽고, ORIGINAL 크기에 필요한 만큼만 subsampling 해서 한 번 디코딩한다.
+ *   (원본 해상도와 무관하게 디코딩 결과는 긴 변 2 * ORIGINAL.size 미만)
+ * - JPEG EXIF orientation 을 픽셀에 반영해서 다시 인코딩한다. (EXIF 등 메타데이터는 남지 않는다)
+ */
+public class ImageVariantGenerator {
+
+    // 헤더 기준 상한 :: 디코딩은 subsampling 으로 메모리가 제한되지만 시간은 원본 크기에 비례한다.
+    static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+    // APP1(EXIF) 세그먼트는 64KB 이하이고 파일 앞쪽에 있다.
+    private static final int EXIF_SCAN_LIMIT = 128 * 1024;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    /**
+     * variant 별 jpeg 파일을 targetFile 경로에 만든다.
+     * 이미지가 아니거나 너무 크면 CustomException(INVALID_IMAGE), 파일 입출력 실패는 UncheckedIOException
+     */
+    public Map<ImageVariant, Path> generate(Path source,
+        Function<ImageVariant, Path> targetFile) {
+        Map<ImageVariant, Path> variants = new EnumMap<>(ImageVariant.class);
+        try {
+            int orientation = readExifOrientation(source);
+            BufferedImage decoded = decode(source);
+            for (ImageVariant variant : ImageVariant.values()) {
+                BufferedImage resized = variant.isCrop()
+                    ? cropSquare(decoded, variant.getSize())
+                    : fit(decoded, variant.getSize());
+                Path target = targetFile.apply(variant);
+                writeJpeg(orient(resized, orientation), target);
+                variants.put(variant, target);
+            }
+            return variants;
+        } catch (IIOException e) {
+            deleteAll(variants);
+            throw new CustomException(ErrorCode.INVALID_IMAGE);
+        } catch (IOException e) {
+            deleteAll(variants);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteAll(variants);
+            throw e;
+        }
+    }
+
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new CustomException(ErrorCode.INVALID_IMAGE);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new CustomException(ErrorCode.INVALID_IMAGE);
+                }
+                // 긴 변이 ORIGINAL.size 이상 남는 가장 큰 간격으로 읽는다.
+                int factor = Math.max(1,
+                    Math.max(width, height) / ImageVariant.ORIGINAL.getSize());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 size 이하가 되도록 줄인다. (작은 이미지는 늘리지 않는다)
+     */
+    private BufferedImage fit(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int longSide = Math.max(width, height);
+        if (longSide <= size) {
+            return scale(source, width, height);
+        }
+        double ratio = (double) size / longSide;
+        return scale(source, Math.max(1, (int) Math.round(width * ratio)),
+            Math.max(1, (int) Math.round(height * ratio)));
+    }
+
+    /**
+     * 가운데 정사각형을 잘라 size x size 로 줄인다.
+     */
+    private BufferedImage cropSquare(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage square = source.getSubimage((source.getWidth() - side) / 2,
+            (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+        return scale(square, target, target);
+    }
+
+    /**
+     * 절반씩 줄여가며 bilinear 로 축소한다. (한 번에 크게 줄이면 계단 현상이 생긴다)
+     * 결과는 알파 없는 RGB (투명 영역은 흰색)
+     */
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                    RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, currentWidth, currentHeight);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    /**
+     * EXIF orientation (1 ~ 8) 대로 돌리거나 뒤집는다.
+     */
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = orientation >= 5;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { // 좌우 반전
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> { // 180도
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> { // 상하 반전
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> { // transpose
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> { // 시계 방향 90도
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> { // transverse
+                transform.translate(height, width);
+                transform.scale(-1, -1);
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            default -> { // 8 :: 반시계 방향 90도
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+        }
+
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height,
+            BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG APP1(EXIF) 의 IFD0 에서 orientation 을 읽는다. 없거나 JPEG 가 아니면 1
+     */
+    static int readExifOrientation(Path source) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(source)) {
+            head = in.readNBytes(EXIF_SCAN_LIMIT);
+        }
+        if (head.length < 4 || (head[0] & 0xFF) != 0xFF || (head[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= head.length && (head[pos] & 0xFF) == 0xFF) {
+            int marker = head[pos + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) { // SOS, EOI
+                return 1;
+            }
+            int length = ((head[pos + 2] & 0xFF) << 8) | (head[pos + 3] & 0xFF);
+            if (marker == 0xE1 && length >= 16 && pos + 2 + length <= head.length
+                && isExifHeader(head, pos + 4)) {
+                return readTiffOrientation(ByteBuffer.wrap(head, pos + 10, length - 8).slice());
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static boolean isExifHeader(byte[] data, int offset) {
+        return data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i'
+            && data[offset + 3] == 'f' && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(ByteBuffer tiff) {
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 1;
+        }
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 1;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private void deleteAll(Map<ImageVariant, Path> variants) {
+        for (Path file : variants.values()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // spool 정리 시 같이 지워진다.
+            }
+        }
+    }
+}
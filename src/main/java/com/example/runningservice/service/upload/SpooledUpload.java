@@ -0,0 +1,31 @@
+package com.example.runningservice.service.upload;
+
+import com.example.runningservice.enums.ImageOwner;
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로컬 spool 에 저장된 업로드 대기 파일
+ * key 는 업로드 대상 이름 (crew-{id}, user-{id}), s3 객체는 업로드마다 {key}/{uploadId} 아래에 올린다.
+ */
+@Getter
+@AllArgsConstructor
+public class SpooledUpload {
+
+    private String uploadId;
+    private ImageOwner owner;
+    private Long ownerId;
+    private String key;
+    private String contentType;
+    private long createdAt;
+    private Path data;
+    private long size;
+
+    /**
+     * 이 업로드의 s3 객체 key 접두사 (ImageVariant 의 baseKey)
+     */
+    public String getBaseKey() {
+        return key + "/" + uploadId;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.runningservice.service.upload;
+
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.ImageVariant;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드할 요청 본문을 로컬 디렉토리에 보관한다.
+ * - {uploadId}.pending : 요청 스레드에서 쓴 파일 (트랜잭션 커밋 전)
+ * - {uploadId}.data : 커밋 후 rename, 업로드 대상
+ * - {uploadId}.meta : key, contentType, owner (properties)
+ * - {uploadId}.{variant}.tmp : 업로드 중에 만든 크기별 이미지
+ * 재시작 시 .data 만 다시 업로드하고, 커밋 여부를 알 수 없는 .pending 은 지운다. (이미지는 업로드 후에 바뀌므로 지워도 DB 와 어긋나지 않는다)
+ */
+@Slf4j
+@Component
+public class UploadSpool {
+
+    private static final String PENDING = ".pending";
+    private static final String DATA = ".data";
+    private static final String META = ".meta";
+    private static final String TMP = ".tmp";
+    private static final long TRANSFER_CHUNK = 8 * 1024 * 1024;
+
+    @Value("${s3.upload.spool-path:${java.io.tmpdir}/wadadak-upload-spool}")
+    private String spoolPath;
+
+    private Path dir;
+    // 기동 이후에 만들어진 파일은 recover 대상이 아니다. (이미 처리중인 요청)
+    private FileTime startedAt;
+
+    @PostConstruct
+    public void init() throws IOException {
+        dir = Paths.get(spoolPath);
+        Files.createDirectories(dir);
+        startedAt = FileTime.from(Instant.now());
+    }
+
+    /**
+     * 요청 본문을 {uploadId}.pending 으로 옮긴다.
+     * 채널 간 전송이라 힙에 복사하지 않는다. (multipart 임시 파일이면 FileChannel 끼리 전송된다)
+     */
+    public SpooledUpload write(ImageOwner owner, Long ownerId, String key, MultipartFile file) {
+        String uploadId = UUID.randomUUID().toString();
+        Path pending = dir.resolve(uploadId + PENDING);
+        long size = 0;
+        try (InputStream in = file.getInputStream();
+            ReadableByteChannel source = Channels.newChannel(in);
+            FileChannel target = FileChannel.open(pending, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE)) {
+            long transferred;
+            while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                size += transferred;
+            }
+        } catch (IOException e) {
+            deleteQuietly(pending);
+            log.error(ErrorCode.FAILED_UPLOAD_IMAGE.name(), e);
+            throw new CustomException(ErrorCode.FAILED_UPLOAD_IMAGE);
+        }
+
+        SpooledUpload upload = new SpooledUpload(uploadId, owner, ownerId, key,
+            file.getContentType(), System.currentTimeMillis(), dir.resolve(uploadId + DATA), size);
+        try {
+            writeMeta(upload);
+        } catch (IOException e) {
+            deleteQuietly(pending);
+            log.error(ErrorCode.FAILED_UPLOAD_IMAGE.name(), e);
+            throw new CustomException(ErrorCode.FAILED_UPLOAD_IMAGE);
+        }
+        return upload;
+    }
+
+    /**
+     * 커밋 후 .pending -> .data (업로드 대상으로 표시)
+     */
+    public boolean markReady(SpooledUpload upload) {
+        try {
+            Files.move(dir.resolve(upload.getUploadId() + PENDING), upload.getData(),
+                StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            log.error("upload spool rename failed. key: {}", upload.getKey(), e);
+            delete(upload);
+            return false;
+        }
+    }
+
+    /**
+     * 업로드할 variant 이미지를 만들 경로
+     */
+    public Path variantFile(SpooledUpload upload, ImageVariant variant) {
+        return dir.resolve(upload.getUploadId() + "." + variant.getSuffix() + TMP);
+    }
+
+    /**
+     * 업로드가 끝났거나 (성공, 포기, 대체됨) 롤백된 파일을 지운다.
+     */
+    public void delete(SpooledUpload upload) {
+        deleteQuietly(dir.resolve(upload.getUploadId() + PENDING));
+        deleteQuietly(upload.getData());
+        deleteQuietly(dir.resolve(upload.getUploadId() + META));
+        for (ImageVariant variant : ImageVariant.values()) {
+            deleteQuietly(variantFile(upload, variant));
+        }
+    }
+
+    /**
+     * 기동 전에 남은 .data 를 만든 순서대로 돌려준다. 남은 .pending / .tmp / 짝 없는 .meta 는 지운다.
+     */
+    public List<SpooledUpload> recover() {
+        List<SpooledUpload> ready = new ArrayList<>();
+        List<Path> metas = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(startedAt) >= 0) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (name.endsWith(DATA)) {
+                    String uploadId = name.substring(0, name.length() - DATA.length());
+                    SpooledUpload upload = readMeta(uploadId);
+                    if (upload == null) {
+                        deleteQuietly(file);
+                    } else {
+                        ready.add(upload);
+                    }
+                } else if (name.endsWith(META)) {
+                    metas.add(file);
+                } else if (name.endsWith(PENDING) || name.endsWith(TMP)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.error("upload spool scan failed. dir: {}", dir, e);
+        }
+
+        for (Path meta : metas) {
+            String name = meta.getFileName().toString();
+            String uploadId = name.substring(0, name.length() - META.length());
+            if (!Files.exists(dir.resolve(uploadId + DATA))) {
+                deleteQuietly(meta);
+            }
+        }
+
+        ready.sort(Comparator.comparingLong(SpooledUpload::getCreatedAt));
+        return ready;
+    }
+
+    private void writeMeta(SpooledUpload upload) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("owner", upload.getOwner().name());
+        meta.setProperty("ownerId", String.valueOf(upload.getOwnerId()));
+        meta.setProperty("key", upload.getKey());
+        if (upload.getContentType() != null) {
+            meta.setProperty("contentType", upload.getContentType());
+        }
+        meta.setProperty("createdAt", String.valueOf(upload.getCreatedAt()));
+        meta.setProperty("size", String.valueOf(upload.getSize()));
+
+        Path tmp = dir.resolve(upload.getUploadId() + META + TMP);
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            meta.store(out, null);
+        }
+        Files.move(tmp, dir.resolve(upload.getUploadId() + META), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private SpooledUpload readMeta(String uploadId) {
+        Path file = dir.resolve(uploadId + META);
+        Properties meta = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            meta.load(reader);
+            return new SpooledUpload(uploadId,
+                ImageOwner.valueOf(meta.getProperty("owner")),
+                Long.valueOf(meta.getProperty("ownerId")),
+                meta.getProperty("key"),
+                meta.getProperty("contentType"),
+                Long.parseLong(meta.getProperty("createdAt")),
+                dir.resolve(uploadId + DATA),
+                Long.parseLong(meta.getProperty("size")));
+        } catch (IOException | RuntimeException e) {
+            log.warn("upload spool meta unreadable. uploadId: {}", uploadId, e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("upload spool delete failed. file: {}", file, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.runningservice.util;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -10,7 +11,12 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -20,6 +26,7 @@ import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +40,20 @@ public class AESUtil {
     private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
     private static final int KEY_SIZE = 256;
     private static final int IV_LENGTH_BYTE = 16;
+    // 암호문 형식 :: {keyVersion}:{iv}.{cipherText}
+    private static final char VERSION_SEPARATOR = ':';
+    // 버전 prefix 가 없는 기존 암호문은 최초 키 버전으로 복호화한다.
+    private static final String LEGACY_KEY_VERSION = "1";
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    // Cipher 는 thread-safe 하지 않으므로 스레드별로 재사용한다.
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     @Value("${aes.password}")
     private String password;
@@ -40,6 +61,34 @@ public class AESUtil {
     @Value("${aes.salt}")
     private String salt;
 
+    // 현재 암호화에 사용하는 키 버전
+    @Value("${aes.key-version:1}")
+    private String keyVersion = LEGACY_KEY_VERSION;
+
+    // 키 교체 시 이전 버전 키 (기존 암호문 복호화용, 선택)
+    @Value("${aes.previous.key-version:}")
+    private String previousKeyVersion;
+
+    @Value("${aes.previous.password:}")
+    private String previousPassword;
+
+    @Value("${aes.previous.salt:}")
+    private String previousSalt;
+
+    // PBKDF2 로 유도한 키는 버전별로 한 번만 만든다.
+    @Setter(AccessLevel.NONE)
+    private final Map<String, SecretKey> derivedKeys = new ConcurrentHashMap<>();
+
+    public void setPassword(String password) {
+        this.password = password;
+        derivedKeys.clear();
+    }
+
+    public void setSalt(String salt) {
+        this.salt = salt;
+        derivedKeys.clear();
+    }
+
     private SecretKey getSigningKey(String password, String salt)
             throws NoSuchAlgorithmException, InvalidKeySpecException {
         SecretKeyFactory factory =
@@ -55,44 +104,59 @@ public class AESUtil {
                 factory.generateSecret(spec).getEncoded(), ALGORITHM);
     }
 
+    private SecretKey getSigningKey(String version) {
+        return derivedKeys.computeIfAbsent(version, v -> {
+            try {
+                if (v.equals(keyVersion)) {
+                    return getSigningKey(password, salt);
+                }
+                if (v.equals(previousKeyVersion) && previousPassword != null
+                    && !previousPassword.isEmpty()) {
+                    return getSigningKey(previousPassword, previousSalt);
+                }
+            } catch (GeneralSecurityException e) {
+                log.error("Failed to obtain signing key", e);
+                throw new CustomException(ErrorCode.DECRYPTION_ERROR);
+            }
+            log.error("Unknown key version: {}", v);
+            throw new CustomException(ErrorCode.DECRYPTION_ERROR);
+        });
+    }
+
     public String encrypt(String input) throws Exception {
-        SecretKey secretKey = getSigningKey(password, salt);
-        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        SecretKey secretKey = getSigningKey(keyVersion);
+        Cipher cipher = CIPHER.get();
         IvParameterSpec ivParameterSpec = generateIv();
         cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
         byte[] cipherText = cipher.doFinal(input.getBytes());
 
-        return  Base64.getEncoder().encodeToString(ivParameterSpec.getIV()) + "." +
+        return keyVersion + VERSION_SEPARATOR +
+                Base64.getEncoder().encodeToString(ivParameterSpec.getIV()) + "." +
                 Base64.getEncoder().encodeToString(cipherText);
     }
 
     public String decrypt(String encryptedData) {
-        SecretKey secretKey = null;
         try {
             log.debug("encryptedData: {}", encryptedData);
 
+            // 키 버전 확인 (prefix 가 없으면 기존 형식)
+            int versionIndex = encryptedData.indexOf(VERSION_SEPARATOR);
+            String version = versionIndex == -1 ? LEGACY_KEY_VERSION
+                : encryptedData.substring(0, versionIndex);
+
             // Base64 디코딩 및 문자열 조작
-            int separatorIndex = encryptedData.indexOf(".");
+            int separatorIndex = encryptedData.indexOf(".", versionIndex + 1);
             if (separatorIndex == -1) {
                 throw new IllegalArgumentException("Invalid encrypted data format.");
             }
 
-            byte[] decodedIv = Base64.getDecoder().decode(encryptedData.substring(0, separatorIndex));
+            byte[] decodedIv = Base64.getDecoder()
+                .decode(encryptedData.substring(versionIndex + 1, separatorIndex));
             String afterEncryptedData = encryptedData.substring(separatorIndex + 1);
 
             // 키 및 Cipher 초기화
-            try {
-                secretKey = getSigningKey(password, salt);
-            } catch (Exception e) {
-                log.error("Failed to obtain signing key", e);
-                throw new CustomException(ErrorCode.DECRYPTION_ERROR);
-            }
-
-            if (secretKey == null) {
-                throw new CustomException(ErrorCode.DECRYPTION_ERROR); // secretKey가 null인 경우 처리
-            }
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            SecretKey secretKey = getSigningKey(version);
+            Cipher cipher = CIPHER.get();
             IvParameterSpec ivParameterSpec = new IvParameterSpec(decodedIv);
             cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
 
@@ -100,22 +164,33 @@ public class AESUtil {
             byte[] plainText = cipher.doFinal(Base64.getDecoder().decode(afterEncryptedData));
             return new String(plainText, StandardCharsets.UTF_8);  // UTF-8로 문자열 변환
 
+        } catch (CustomException e) {
+            throw e;
         } catch (IllegalArgumentException | IllegalBlockSizeException | BadPaddingException |
-                 NoSuchAlgorithmException | NoSuchPaddingException |
                  InvalidAlgorithmParameterException |
                  InvalidKeyException e) {
             log.error("Decryption failed", e);
             throw new CustomException(ErrorCode.DECRYPTION_ERROR);
         } catch (Exception e) {
-            // getSigningKey에서 발생하지 않는 다른 예외 처리
             log.error("Unexpected error during decryption", e);
             throw new CustomException(ErrorCode.DECRYPTION_ERROR);
         }
     }
 
+    /**
+     * 목록 조회 시 한 페이지의 암호문을 한 번에 복호화한다. (null 은 그대로 null)
+     */
+    public List<String> decryptAll(Collection<String> encryptedData) {
+        List<String> result = new ArrayList<>(encryptedData.size());
+        for (String data : encryptedData) {
+            result.add(data == null ? null : decrypt(data));
+        }
+        return result;
+    }
+
     private static IvParameterSpec generateIv() {
         byte[] iv = new byte[IV_LENGTH_BYTE];
-        new SecureRandom().nextBytes(iv);
+        SECURE_RANDOM.nextBytes(iv);
         return new IvParameterSpec(iv);
     }
 
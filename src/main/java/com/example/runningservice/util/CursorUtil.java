@@ -0,0 +1,161 @@
+package com.example.runningservice.util;
+
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서 인코딩/검증.
+ * <p>
+ * 커서 형식 : base64url("정렬키|id") + "." + base64url(HMAC 태그)
+ * 태그는 목록 종류(scope)까지 포함해 서명하므로 다른 목록의 커서를 재사용하거나 값을 바꾸면 거부된다.
+ */
+@Component
+public class CursorUtil {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TAG_LENGTH = 12;
+    private static final char SEPARATOR = '|';
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${cursor.secret:${jwt.secret}}")
+    private String secretStr;
+
+    private SecretKeySpec keySpec;
+
+    // Mac 은 thread-safe 하지 않으므로 스레드마다 하나씩 재사용한다.
+    private final ThreadLocal<Mac> macHolder = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        // jwt 서명 키를 그대로 쓰지 않도록 커서 전용 키를 파생한다.
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secretStr.getBytes(StandardCharsets.UTF_8),
+                HMAC_ALGORITHM));
+            keySpec = new SecretKeySpec(mac.doFinal("cursor".getBytes(StandardCharsets.UTF_8)),
+                HMAC_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cursor key initialization failed", e);
+        }
+    }
+
+    public String encode(String scope, Object sortKey, Long id) {
+        String payload = String.valueOf(sortKey) + SEPARATOR + id;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(
+            sign(scope, payloadBytes));
+    }
+
+    /**
+     * 첫 페이지 요청(커서 없음)이면 null 을 반환한다.
+     */
+    public Cursor decode(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        int dot = cursor.indexOf('.');
+        if (dot <= 0 || dot == cursor.length() - 1) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        try {
+            byte[] payloadBytes = DECODER.decode(cursor.substring(0, dot));
+            byte[] tag = DECODER.decode(cursor.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(scope, payloadBytes), tag)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            String payload = new String(payloadBytes, StandardCharsets.UTF_8);
+            int separator = payload.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(payload.substring(0, separator),
+                Long.parseLong(payload.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // base64 형식 오류, id 파싱 오류
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 요청 크기를 1 ~ MAX_SIZE 로 제한한다.
+     */
+    public static int normalizeSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    private byte[] sign(String scope, byte[] payloadBytes) {
+        Mac mac = macHolder.get();
+        mac.update(scope.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) SEPARATOR);
+        return Arrays.copyOf(mac.doFinal(payloadBytes), TAG_LENGTH);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cursor mac initialization failed", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Cursor {
+
+        private final String sortKey;
+        private final Long id;
+
+        public int sortKeyAsInt() {
+            return parse(Integer::parseInt);
+        }
+
+        public long sortKeyAsLong() {
+            return parse(Long::parseLong);
+        }
+
+        public LocalDate sortKeyAsDate() {
+            return parse(LocalDate::parse);
+        }
+
+        public LocalDateTime sortKeyAsDateTime() {
+            return parse(LocalDateTime::parse);
+        }
+
+        // 서명은 맞지만 다른 정렬키 형식인 경우 (목록 간 커서 혼용)
+        private <T> T parse(Function<String, T> parser) {
+            try {
+                return parser.apply(sortKey);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+    }
+}
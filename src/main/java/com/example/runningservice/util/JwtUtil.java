@@ -5,12 +5,25 @@ import static io.jsonwebtoken.Jwts.SIG.HS256;
 import com.example.runningservice.enums.Role;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.security.AuthenticatedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -30,11 +43,16 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     @Value("${jwt.secret}")
     private String secretStr;
     private SecretKey SECRET_KEY;
+    private JwtParser jwtParser;
+    // 검증된 access token 캐시 (key: 토큰 SHA-256 digest). 토큰 만료 시각에 맞춰 함께 만료된다.
+    @Value("${jwt.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+    private Cache<String, AuthenticatedToken> tokenCache;
     private final Long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7; //7일
     private final Long ACCESS_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24; //1일
 
@@ -42,6 +60,38 @@ public class JwtUtil {
     public void init() {
         byte[] decodedKey = Base64.getDecoder().decode(secretStr);
         SECRET_KEY = new SecretKeySpec(decodedKey, 0, decodedKey.length, "HmacSHA256");
+        jwtParser = Jwts.parser().verifyWith(SECRET_KEY).build();
+        tokenCache = Caffeine.newBuilder()
+            .maximumSize(tokenCacheMaxSize)
+            .expireAfter(new Expiry<String, AuthenticatedToken>() {
+                @Override
+                public long expireAfterCreate(String key, AuthenticatedToken value,
+                    long currentTime) {
+                    long remaining = Duration.between(Instant.now(), value.getExpiration())
+                        .toNanos();
+                    return Math.max(remaining, 0L);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, AuthenticatedToken value,
+                    long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, AuthenticatedToken value,
+                    long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    // 검증된 토큰 캐시 hit / miss / 크기
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokenCache, "jwt.token");
     }
 
     public String generateToken(String email, Long userId, List<GrantedAuthority> authorities) {
@@ -68,8 +118,7 @@ public class JwtUtil {
         log.debug("extract token: {}", token);
         try {
             log.debug("token: {}", token);
-            return Jwts.parser().verifyWith(SECRET_KEY).build().parseSignedClaims(token)
-                .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
             throw new CustomException(ErrorCode.INVALID_TOKEN);
@@ -85,6 +134,33 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * access token 을 한 번만 검증/파싱하여 AuthenticatedToken 으로 반환한다.
+     * 이미 검증한 토큰은 만료 전까지 캐시에서 꺼내 서명 검증을 생략한다.
+     */
+    public AuthenticatedToken authenticate(String token) {
+        String cacheKey = digest(token);
+        AuthenticatedToken cached = tokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            tokenCache.invalidate(cacheKey);
+        }
+
+        Claims claims = extractAllClaims(token);
+        AuthenticatedToken authenticatedToken = new AuthenticatedToken(claims.getSubject(),
+            claims.get("userId", Long.class), toRoles(claims),
+            claims.getExpiration().toInstant());
+
+        if (authenticatedToken.isExpired()) {
+            throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+        }
+        tokenCache.put(cacheKey, authenticatedToken);
+
+        return authenticatedToken;
+    }
+
     public boolean isTokenExpired(String token) {
         boolean result = extractAllClaims(token).getExpiration().before(new Date());
         log.debug("result: {}", result);
@@ -100,7 +176,11 @@ public class JwtUtil {
     }
 
     public List<Role> extractRoles(String token) {
-        List<String> roles = extractAllClaims(token).get("roles", List.class);
+        return toRoles(extractAllClaims(token));
+    }
+
+    private List<Role> toRoles(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
         return roles.stream().map(Role::valueOf).collect(Collectors.toList());
     }
 
@@ -115,10 +195,17 @@ public class JwtUtil {
     }
 
     public Authentication getAuthentication(String jwt) {
-        log.info("Jwt : {}", jwt);
-        String email = extractEmail(jwt);
-        List<Role> roles = extractRoles(jwt);
+        log.debug("Jwt : {}", jwt);
+        Claims claims = extractAllClaims(jwt);
+
+        return createAuthentication(claims.getSubject(), toRoles(claims));
+    }
+
+    public Authentication getAuthentication(AuthenticatedToken token) {
+        return createAuthentication(token.getEmail(), token.getRoles());
+    }
 
+    private Authentication createAuthentication(String email, List<Role> roles) {
         User userDetails = new User(email, "",
             roles.stream().map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
                 .collect(Collectors.toList()));
@@ -126,4 +213,15 @@ public class JwtUtil {
         return new UsernamePasswordAuthenticationToken(userDetails, "",
             userDetails.getAuthorities());
     }
+
+    // 캐시 key 로 원본 토큰 대신 고정 길이 digest 를 사용한다.
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
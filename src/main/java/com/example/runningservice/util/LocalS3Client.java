@@ -0,0 +1,150 @@
+package com.example.runningservice.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * 로컬 디렉토리를 버킷처럼 쓰는 S3Client (aws.s3.local.path 설정 시, 오프라인 개발/테스트용)
+ * 객체 :: {root}/{bucket}/{url 인코딩한 key} (crew-1 과 crew-1/thumb 이 같이 있을 수 있도록 key 를 파일 이름 하나로 쓴다)
+ * put / head / get / delete 만 지원한다.
+ */
+public class LocalS3Client implements S3Client {
+
+    private final Path root;
+    private final AtomicInteger injectedFailures = new AtomicInteger();
+
+    public LocalS3Client(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 다음 put 요청 count 건을 실패시킨다. (재시도 확인용)
+     */
+    public void failNextPuts(int count) {
+        injectedFailures.set(count);
+    }
+
+    public boolean exists(String bucket, String key) {
+        return Files.exists(resolve(bucket, key));
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest,
+        RequestBody requestBody) {
+        if (injectedFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            throw SdkClientException.create("injected failure: " + putObjectRequest.key());
+        }
+        Path object = resolve(putObjectRequest.bucket(), putObjectRequest.key());
+        try {
+            Files.createDirectories(object.getParent());
+            Path tmp = Files.createTempFile(object.getParent(), ".put-", ".tmp");
+            try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(tmp, object, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw SdkClientException.create("local put failed: " + putObjectRequest.key(), e);
+        }
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest headObjectRequest) {
+        Path object = existing(headObjectRequest.bucket(), headObjectRequest.key());
+        try {
+            return HeadObjectResponse.builder()
+                .contentLength(Files.size(object))
+                .build();
+        } catch (IOException e) {
+            throw SdkClientException.create("local head failed: " + headObjectRequest.key(), e);
+        }
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest getObjectRequest,
+        ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        Path object = existing(getObjectRequest.bucket(), getObjectRequest.key());
+        AbortableInputStream in = null;
+        try {
+            in = AbortableInputStream.create(Files.newInputStream(object));
+            ReturnT result = responseTransformer.transform(GetObjectResponse.builder()
+                .contentLength(Files.size(object))
+                .build(), in);
+            // toInputStream 처럼 스트림을 돌려주는 경우에는 호출한 쪽에서 닫는다.
+            if (!responseTransformer.needsConnectionLeftOpen()) {
+                in.close();
+            }
+            return result;
+        } catch (Exception e) {
+            closeQuietly(in);
+            throw SdkClientException.create("local get failed: " + getObjectRequest.key(), e);
+        }
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        try {
+            Files.deleteIfExists(resolve(deleteObjectRequest.bucket(), deleteObjectRequest.key()));
+        } catch (IOException e) {
+            throw SdkClientException.create("local delete failed: " + deleteObjectRequest.key(),
+                e);
+        }
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 이미 실패한 요청
+        }
+    }
+
+    private Path existing(String bucket, String key) {
+        Path object = resolve(bucket, key);
+        if (!Files.exists(object)) {
+            throw NoSuchKeyException.builder().message("no such key: " + key).build();
+        }
+        return object;
+    }
+
+    private Path resolve(String bucket, String key) {
+        String fileName = URLEncoder.encode(key, StandardCharsets.UTF_8);
+        if (fileName.isEmpty() || fileName.startsWith(".")) {
+            throw SdkClientException.create("invalid key: " + key);
+        }
+        return root.resolve(bucket).resolve(fileName);
+    }
+}
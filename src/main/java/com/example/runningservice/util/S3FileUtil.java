@@ -1,19 +1,22 @@
 package com.example.runningservice.util;
 
-import com.example.runningservice.exception.CustomException;
-import com.example.runningservice.exception.ErrorCode;
-import java.io.IOException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -29,20 +32,39 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 @Slf4j
 public class S3FileUtil {
 
+    // 만료 2분 전부터 조회 시 백그라운드에서 다시 서명하고, 1분 전에는 캐시에서 내린다.
+    private static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(2);
+    private static final Duration EVICT_BEFORE_EXPIRY = Duration.ofMinutes(1);
+
     private final S3Client amazonS3Client;
+    private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
 
     @Value("${aws.s3.bucketName}")
     private String bucketName;
 
-    private final Map<String, PresignedUrl> signedUrlCache = new HashMap<>();
+    @Value("${aws.s3.presigned-url.cache-size:10000}")
+    private long presignedUrlCacheSize;
 
     private final Duration duration = Duration.ofMinutes(10);
 
-    @AllArgsConstructor
-    private static class PresignedUrl {
-
-        private String url;
-        private LocalDateTime expiration;
+    private LoadingCache<String, String> signedUrlCache;
+    private Timer presignTimer;
+
+    @PostConstruct
+    public void init() {
+        signedUrlCache = Caffeine.newBuilder()
+            .maximumSize(presignedUrlCacheSize)
+            .refreshAfterWrite(duration.minus(REFRESH_BEFORE_EXPIRY))
+            .expireAfterWrite(duration.minus(EVICT_BEFORE_EXPIRY))
+            .recordStats()
+            .build(this::presign);
+        // hit / miss / eviction
+        CaffeineCacheMetrics.monitor(meterRegistry, signedUrlCache, "s3.presignedUrl");
+        // 캐시 miss 시 서명 소요 시간
+        presignTimer = Timer.builder("s3.presign")
+            .description("presigned url 서명 시간")
+            .register(meterRegistry);
     }
 
     /**
@@ -53,26 +75,17 @@ public class S3FileUtil {
     }
 
     /**
-     * s3 이미지 업로드 :: s3 버킷에 multipartFile을 fileName으로 저장
+     * s3 이미지 업로드 :: s3 버킷에 로컬 파일을 fileName으로 저장 (파일에서 바로 읽어 보낸다)
+     * 요청에서는 ImageUploadService 를 통해 올린다.
      */
-    @Async
-    public void putObject(String fileName, MultipartFile multipartFile) {
-        PutObjectRequest putObjectRequest;
-        try {
-            putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .contentType(multipartFile.getContentType())
-                .contentLength(multipartFile.getSize())
-                .build();
+    public void putObject(String fileName, String contentType, Path file) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(fileName)
+            .contentType(contentType)
+            .build();
 
-            amazonS3Client.putObject(putObjectRequest,
-                RequestBody.fromInputStream(multipartFile.getInputStream(),
-                    multipartFile.getSize()));
-        } catch (IOException e) {
-            log.error(ErrorCode.FAILED_UPLOAD_IMAGE.name(), e);
-            throw new CustomException(ErrorCode.FAILED_UPLOAD_IMAGE);
-        }
+        amazonS3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
     }
 
     /**
@@ -89,12 +102,22 @@ public class S3FileUtil {
      * 인증된 파일 URL 조회
      */
     public String createPresignedUrl(String keyName) {
-        if (verifyUrl(keyName)) {
-            return signedUrlCache.get(keyName).url;
-        }
+        return signedUrlCache.get(keyName);
+    }
+
+    /**
+     * 목록 페이지의 파일 URL 을 한 번에 조회한다. (key -> 인증된 URL, null key 는 제외)
+     */
+    public Map<String, String> presignAll(Collection<String> keyNames) {
+        Set<String> keys = keyNames.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
 
-        try (S3Presigner presigner = S3Presigner.create()) {
+        return signedUrlCache.getAll(keys);
+    }
 
+    private String presign(String keyName) {
+        return presignTimer.record(() -> {
             GetObjectRequest objectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(keyName)
@@ -105,21 +128,10 @@ public class S3FileUtil {
                 .getObjectRequest(objectRequest)
                 .build();
 
-            PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(presignRequest);
-
-            LocalDateTime expirationDate = LocalDateTime.now().plus(duration);
-
-            String presignedUrl = presignedRequest.url().toExternalForm();
-            signedUrlCache.put(keyName, new PresignedUrl(presignedUrl, expirationDate));
-
-            return presignedUrl;
-        }
-    }
-
-    private boolean verifyUrl(String keyName) {
-        PresignedUrl presignedUrl = signedUrlCache.get(keyName);
+            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(
+                presignRequest);
 
-        return presignedUrl != null &&
-            presignedUrl.expiration.isAfter(LocalDateTime.now().plusMinutes(1));
+            return presignedRequest.url().toExternalForm();
+        });
     }
 }
@@ -0,0 +1,86 @@
+package com.example.runningservice.websocket;
+
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.security.AuthenticatedToken;
+import com.example.runningservice.util.JwtUtil;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * STOMP 인증
+ * CONNECT 의 Authorization 헤더(Bearer access token)를 검증해 세션 principal 로 둔다.
+ * 인증되지 않은 세션의 SEND / SUBSCRIBE 는 거절한다.
+ * 채팅방 topic (/topic/chatroom.{roomId}, /topic/chat/{roomId}) 은 참여중인 채팅방만 구독할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String ACCESS_TOKEN_HEADER = "Authorization";
+    private static final String TOKEN_PREFIX = "Bearer ";
+    private static final List<String> CHAT_ROOM_TOPIC_PREFIXES = List.of(
+        "/topic/chatroom.", "/topic/chat/");
+
+    private final JwtUtil jwtUtil;
+    private final ChatJoinRepository chatJoinRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message,
+            StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String header = accessor.getFirstNativeHeader(ACCESS_TOKEN_HEADER);
+            if (ObjectUtils.isEmpty(header) || !header.startsWith(TOKEN_PREFIX)) {
+                throw new CustomException(ErrorCode.UNABLE_TO_GET_TOKEN);
+            }
+            AuthenticatedToken token = jwtUtil.authenticate(
+                header.substring(TOKEN_PREFIX.length()));
+            accessor.setUser(new StompPrincipal(token.getUserId()));
+        } else if ((StompCommand.SEND.equals(accessor.getCommand())
+            || StompCommand.SUBSCRIBE.equals(accessor.getCommand()))
+            && !(accessor.getUser() instanceof StompPrincipal)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkChatRoomJoined((StompPrincipal) accessor.getUser(), accessor.getDestination());
+        }
+        return message;
+    }
+
+    private void checkChatRoomJoined(StompPrincipal principal, String destination) {
+        if (destination == null) {
+            return;
+        }
+        for (String prefix : CHAT_ROOM_TOPIC_PREFIXES) {
+            if (destination.startsWith(prefix)) {
+                Long roomId = parseRoomId(destination.substring(prefix.length()));
+                if (!chatJoinRepository.existsByChatRoom_IdAndMember_Id(roomId,
+                    principal.getMemberId())) {
+                    throw new CustomException(ErrorCode.NOT_JOINED_CHATROOM);
+                }
+                return;
+            }
+        }
+    }
+
+    private Long parseRoomId(String roomId) {
+        try {
+            return Long.parseLong(roomId);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.NOT_FOUND_CHATROOM);
+        }
+    }
+}
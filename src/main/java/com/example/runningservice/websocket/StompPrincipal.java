@@ -0,0 +1,20 @@
+package com.example.runningservice.websocket;
+
+import java.security.Principal;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP CONNECT 때 access token 으로 인증한 회원
+ */
+@Getter
+@RequiredArgsConstructor
+public class StompPrincipal implements Principal {
+
+    private final Long memberId;
+
+    @Override
+    public String getName() {
+        return String.valueOf(memberId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.runningservice.websocket;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 채널 대기열과 웹소켓 세션 지표
+ * - websocket.channel.queued / active : clientInbound(수신), clientOutbound(발신) 채널 실행기 대기/처리중 메시지 수
+ * - websocket.sessions : 열려 있는 웹소켓 세션 수, websocket.sessions.opened : 누적 세션 수
+ */
+@Component
+public class WebSocketMetrics implements MeterBinder {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+    private final WebSocketMessageBrokerStats brokerStats;
+
+    public WebSocketMetrics(
+        @Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+        @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor,
+        WebSocketMessageBrokerStats brokerStats) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.brokerStats = brokerStats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindChannel(registry, "inbound", inboundExecutor);
+        bindChannel(registry, "outbound", outboundExecutor);
+
+        Gauge.builder("websocket.sessions", brokerStats,
+                stats -> sessionStats(stats) == null ? 0 : sessionStats(stats).getWebSocketSessions())
+            .description("열려 있는 웹소켓 세션 수")
+            .register(registry);
+        FunctionCounter.builder("websocket.sessions.opened", brokerStats,
+                stats -> sessionStats(stats) == null ? 0 : sessionStats(stats).getTotalSessions())
+            .description("누적 웹소켓 세션 수")
+            .register(registry);
+    }
+
+    private void bindChannel(MeterRegistry registry, String channel, Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor taskExecutor)) {
+            return;
+        }
+        Gauge.builder("websocket.channel.queued", taskExecutor,
+                e -> queued(e.getThreadPoolExecutor()))
+            .description("채널 실행기에서 대기중인 메시지 수")
+            .tag("channel", channel)
+            .register(registry);
+        Gauge.builder("websocket.channel.active", taskExecutor,
+                ThreadPoolTaskExecutor::getActiveCount)
+            .description("채널 실행기에서 처리중인 메시지 수")
+            .tag("channel", channel)
+            .register(registry);
+    }
+
+    private static int queued(ThreadPoolExecutor executor) {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    private static SubProtocolWebSocketHandler.Stats sessionStats(
+        WebSocketMessageBrokerStats stats) {
+        return stats.getWebSocketSessionStats();
+    }
+}
@@ -0,0 +1,57 @@
+-- 쓰기가 많은 테이블의 id 를 IDENTITY 에서 pooled 시퀀스(allocationSize = 50)로 옮긴다. (H2)
+-- Hibernate pooled optimizer 는 시퀀스 값 v 를 받으면 v-49 ~ v 를 쓰므로,
+-- 기존 id 와 겹치지 않도록 시퀀스를 max(id) + 50 부터 시작시킨다.
+-- Flyway 를 쓰지 않으므로 배포 전에 한 번 직접 실행한다.
+
+-- activity
+CREATE SEQUENCE IF NOT EXISTS activity_seq INCREMENT BY 50;
+ALTER SEQUENCE activity_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM activity);
+ALTER TABLE activity ALTER COLUMN id DROP IDENTITY;
+
+-- crew_member
+CREATE SEQUENCE IF NOT EXISTS crew_member_seq INCREMENT BY 50;
+ALTER SEQUENCE crew_member_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM crew_member);
+ALTER TABLE crew_member ALTER COLUMN id DROP IDENTITY;
+
+-- participant
+CREATE SEQUENCE IF NOT EXISTS participant_seq INCREMENT BY 50;
+ALTER SEQUENCE participant_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM participant);
+ALTER TABLE participant ALTER COLUMN id DROP IDENTITY;
+
+-- run_record
+CREATE SEQUENCE IF NOT EXISTS run_record_seq INCREMENT BY 50;
+ALTER SEQUENCE run_record_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM run_record);
+ALTER TABLE run_record ALTER COLUMN id DROP IDENTITY;
+
+-- notification
+CREATE SEQUENCE IF NOT EXISTS notification_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM notification);
+ALTER TABLE notification ALTER COLUMN id DROP IDENTITY;
+
+-- notification_outbox
+CREATE SEQUENCE IF NOT EXISTS notification_outbox_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_outbox_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM notification_outbox);
+ALTER TABLE notification_outbox ALTER COLUMN id DROP IDENTITY;
+
+-- notification_read_exception
+CREATE SEQUENCE IF NOT EXISTS notification_read_exception_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_read_exception_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM notification_read_exception);
+ALTER TABLE notification_read_exception ALTER COLUMN id DROP IDENTITY;
+
+-- user_notification
+CREATE SEQUENCE IF NOT EXISTS user_notification_seq INCREMENT BY 50;
+ALTER SEQUENCE user_notification_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM user_notification);
+ALTER TABLE user_notification ALTER COLUMN id DROP IDENTITY;
+
+-- chat_join_entity
+CREATE SEQUENCE IF NOT EXISTS chat_join_seq INCREMENT BY 50;
+ALTER SEQUENCE chat_join_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM chat_join_entity);
+ALTER TABLE chat_join_entity ALTER COLUMN id DROP IDENTITY;
+
+-- message_entity
+CREATE SEQUENCE IF NOT EXISTS message_seq INCREMENT BY 50;
+ALTER SEQUENCE message_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM message_entity);
+ALTER TABLE message_entity ALTER COLUMN id DROP IDENTITY;
+
+-- ActivityEntity 가 기본 전략(@GeneratedValue)일 때 만들어진 시퀀스
+DROP SEQUENCE IF EXISTS activity_entity_seq;
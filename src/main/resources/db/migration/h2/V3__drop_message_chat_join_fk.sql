@@ -0,0 +1,12 @@
+-- message_entity.chat_join_id -> chat_join_entity 의 FK 를 없앤다. (H2)
+-- chat_join 은 퇴장/탈퇴 시 바로 삭제하고 메시지 쪽 연결은 ChatCleanupService 가 나중에 끊으므로,
+-- 엔티티의 @ForeignKey(NO_CONSTRAINT) 는 새로 만드는 스키마에만 적용되고 기존 DB 의 제약은 여기서 지운다.
+-- H2 는 스크립트에서 제약 이름을 찾아 지울 수 없어서, 컬럼을 새로 만들어 옮긴다.
+-- (단일 컬럼 제약/인덱스는 컬럼과 함께 삭제된다) 제약이 없는 스키마에서 실행해도 된다.
+-- Flyway 를 쓰지 않으므로 배포 전에 한 번 직접 실행한다.
+
+ALTER TABLE message_entity ADD COLUMN chat_join_id_new BIGINT;
+UPDATE message_entity SET chat_join_id_new = chat_join_id;
+ALTER TABLE message_entity DROP COLUMN chat_join_id;
+ALTER TABLE message_entity ALTER COLUMN chat_join_id_new RENAME TO chat_join_id;
+CREATE INDEX IF NOT EXISTS idx_message_chat_join_id ON message_entity (chat_join_id);
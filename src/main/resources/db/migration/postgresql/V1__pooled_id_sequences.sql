@@ -0,0 +1,57 @@
+-- 쓰기가 많은 테이블의 id 를 IDENTITY 에서 pooled 시퀀스(allocationSize = 50)로 옮긴다.
+-- Hibernate pooled optimizer 는 시퀀스 값 v 를 받으면 v-49 ~ v 를 쓰므로,
+-- 기존 id 와 겹치지 않도록 시퀀스를 max(id) + 50 부터 시작시킨다.
+-- Flyway 를 쓰지 않으므로 배포 전에 한 번 직접 실행한다.
+
+-- activity
+CREATE SEQUENCE IF NOT EXISTS activity_seq INCREMENT BY 50;
+SELECT setval('activity_seq', COALESCE((SELECT MAX(id) FROM activity), 0) + 50, false);
+ALTER TABLE activity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- crew_member
+CREATE SEQUENCE IF NOT EXISTS crew_member_seq INCREMENT BY 50;
+SELECT setval('crew_member_seq', COALESCE((SELECT MAX(id) FROM crew_member), 0) + 50, false);
+ALTER TABLE crew_member ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- participant
+CREATE SEQUENCE IF NOT EXISTS participant_seq INCREMENT BY 50;
+SELECT setval('participant_seq', COALESCE((SELECT MAX(id) FROM participant), 0) + 50, false);
+ALTER TABLE participant ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- run_record
+CREATE SEQUENCE IF NOT EXISTS run_record_seq INCREMENT BY 50;
+SELECT setval('run_record_seq', COALESCE((SELECT MAX(id) FROM run_record), 0) + 50, false);
+ALTER TABLE run_record ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- notification
+CREATE SEQUENCE IF NOT EXISTS notification_seq INCREMENT BY 50;
+SELECT setval('notification_seq', COALESCE((SELECT MAX(id) FROM notification), 0) + 50, false);
+ALTER TABLE notification ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- notification_outbox
+CREATE SEQUENCE IF NOT EXISTS notification_outbox_seq INCREMENT BY 50;
+SELECT setval('notification_outbox_seq', COALESCE((SELECT MAX(id) FROM notification_outbox), 0) + 50, false);
+ALTER TABLE notification_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- notification_read_exception
+CREATE SEQUENCE IF NOT EXISTS notification_read_exception_seq INCREMENT BY 50;
+SELECT setval('notification_read_exception_seq', COALESCE((SELECT MAX(id) FROM notification_read_exception), 0) + 50, false);
+ALTER TABLE notification_read_exception ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- user_notification
+CREATE SEQUENCE IF NOT EXISTS user_notification_seq INCREMENT BY 50;
+SELECT setval('user_notification_seq', COALESCE((SELECT MAX(id) FROM user_notification), 0) + 50, false);
+ALTER TABLE user_notification ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- chat_join_entity
+CREATE SEQUENCE IF NOT EXISTS chat_join_seq INCREMENT BY 50;
+SELECT setval('chat_join_seq', COALESCE((SELECT MAX(id) FROM chat_join_entity), 0) + 50, false);
+ALTER TABLE chat_join_entity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- message_entity
+CREATE SEQUENCE IF NOT EXISTS message_seq INCREMENT BY 50;
+SELECT setval('message_seq', COALESCE((SELECT MAX(id) FROM message_entity), 0) + 50, false);
+ALTER TABLE message_entity ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- ActivityEntity 가 기본 전략(@GeneratedValue)일 때 만들어진 시퀀스
+DROP SEQUENCE IF EXISTS activity_entity_seq;
@@ -0,0 +1,12 @@
+-- 메시지 이력 조회((room_id, id) 인덱스)와 채팅 알림이 쓰는 message_entity 의 room_id / sender_id / sender_nick_name 을
+-- 기존 메시지에 채운다. 값은 보낸 사람의 chat_join_entity 와 member 에서 가져온다.
+-- 새 컬럼이 생긴 뒤 한 번 실행한다. 이미 채워진 행은 건너뛰므로 다시 실행해도 된다.
+
+UPDATE message_entity m
+SET room_id          = cj.room_id,
+    sender_id        = cj.user_id,
+    sender_nick_name = COALESCE(m.sender_nick_name, mb.nick_name)
+FROM chat_join_entity cj
+         LEFT JOIN member mb ON mb.id = cj.user_id
+WHERE cj.id = m.chat_join_id
+  AND m.room_id IS NULL;
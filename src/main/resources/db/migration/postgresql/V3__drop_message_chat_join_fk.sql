@@ -0,0 +1,22 @@
+-- message_entity.chat_join_id -> chat_join_entity 의 FK 를 없앤다.
+-- chat_join 은 퇴장/탈퇴 시 바로 삭제하고 메시지 쪽 연결은 ChatCleanupService 가 나중에 끊으므로,
+-- 엔티티의 @ForeignKey(NO_CONSTRAINT) 는 새로 만드는 스키마에만 적용되고 기존 DB 의 제약은 여기서 지운다.
+-- Hibernate 가 만든 제약 이름은 DB 마다 다르므로 카탈로그에서 찾는다. 다시 실행해도 된다.
+-- Flyway 를 쓰지 않으므로 배포 전에 한 번 직접 실행한다.
+
+DO $$
+DECLARE
+    fk_name text;
+BEGIN
+    FOR fk_name IN
+        SELECT con.conname
+        FROM pg_constraint con
+                 JOIN pg_attribute att
+                      ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'message_entity'::regclass
+          AND con.contype = 'f'
+          AND att.attname = 'chat_join_id'
+    LOOP
+        EXECUTE format('ALTER TABLE message_entity DROP CONSTRAINT %I', fk_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,8 @@
+-- crew.member_count 를 실제 crew_member 수로 채운다.
+-- 새 컬럼은 0 으로 생기고 크루 검색 인덱스는 기동 직후 이 값으로 만들어지므로, 컬럼이 생긴 뒤 기동 전에 한 번 실행한다.
+-- 값이 맞는 행은 건너뛰므로 다시 실행해도 된다. (이후 차이는 CrewService.reconcileMemberCount 가 맞춘다)
+-- Flyway 를 쓰지 않으므로 배포 전에 한 번 직접 실행한다.
+
+UPDATE crew c
+SET member_count = (SELECT COUNT(*) FROM crew_member cm WHERE cm.crew_id = c.id)
+WHERE c.member_count <> (SELECT COUNT(*) FROM crew_member cm WHERE cm.crew_id = c.id);
@@ -0,0 +1,69 @@
+package com.example.runningservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 10);
+    }
+
+    @Test
+    void getConnection_overLimit_rejected() throws Exception {
+        //given
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        //when
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        //then
+        assertEquals(1, dataSource.getActive());
+        assertEquals(1, dataSource.getRejected());
+        verify(target, times(1)).getConnection();
+
+        // 닫으면 permit 을 반납한다. 두 번 닫아도 한 번만 반납한다.
+        first.close();
+        first.close();
+        assertEquals(0, dataSource.getActive());
+        verify(connection, times(2)).close();
+        dataSource.getConnection();
+        assertEquals(1, dataSource.getActive());
+    }
+
+    @Test
+    void getConnection_poolFailure_releasesPermit() throws Exception {
+        //given
+        when(target.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        //when
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        //then
+        assertEquals(0, dataSource.getActive());
+        assertEquals(0, dataSource.getRejected());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.runningservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ContextCopyingTaskDecoratorTest {
+
+    private final ContextCopyingTaskDecorator decorator = new ContextCopyingTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void decorate_copiesSecurityContextAndMdcToVirtualThread() throws Exception {
+        //given
+        Authentication authentication = new UsernamePasswordAuthenticationToken(1L, null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "req-1");
+
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        AtomicReference<String> seenRequestId = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> {
+            seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+            seenRequestId.set(MDC.get("requestId"));
+        });
+
+        //when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(task).get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        assertEquals(authentication, seenAuthentication.get());
+        assertEquals("req-1", seenRequestId.get());
+    }
+
+    @Test
+    void decorate_restoresWorkerContextAfterRun() {
+        //given
+        Authentication authentication = new UsernamePasswordAuthenticationToken(1L, null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "req-1");
+        AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> seenAuthentication.set(
+            SecurityContextHolder.getContext().getAuthentication()));
+
+        // 작업 스레드의 원래 상태 (비어 있음)
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+
+        //when
+        task.run();
+
+        //then
+        assertEquals(authentication, seenAuthentication.get());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNull(MDC.get("requestId"));
+    }
+}
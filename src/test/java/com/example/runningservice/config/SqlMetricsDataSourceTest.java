@@ -0,0 +1,88 @@
+package com.example.runningservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.config.SqlMetricsDataSource.SqlStats;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SqlMetricsDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    private SqlMetricsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new SqlMetricsDataSource(target);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlMetricsDataSource.endRequest();
+    }
+
+    @Test
+    void execute_countedPerRequest() throws Exception {
+        //given
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        SqlMetricsDataSource.beginRequest();
+
+        //when
+        try (Connection measured = dataSource.getConnection()) {
+            PreparedStatement select = measured.prepareStatement("SELECT 1");
+            select.setLong(1, 1L);
+            select.executeQuery();
+            select.executeQuery();
+            measured.createStatement().executeUpdate("DELETE FROM member");
+        }
+        SqlStats stats = SqlMetricsDataSource.endRequest();
+
+        //then
+        assertEquals(3, stats.statements());
+        assertEquals(3, dataSource.getStatements());
+        verify(preparedStatement).setLong(1, 1L);
+        verify(connection).close();
+    }
+
+    @Test
+    void execute_outsideRequest_countedGloballyOnly() throws Exception {
+        //given
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute("SELECT 1")).thenThrow(new SQLException("syntax error"));
+
+        //when
+        Statement measured = dataSource.getConnection().createStatement();
+        assertThrows(SQLException.class, () -> measured.execute("SELECT 1"));
+
+        //then :: 실패한 문장도 센다.
+        assertEquals(1, dataSource.getStatements());
+        assertNull(SqlMetricsDataSource.endRequest());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.runningservice.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestTracerTest {
+
+    private RequestTracer requestTracer;
+
+    @BeforeEach
+    void setUp() {
+        requestTracer = new RequestTracer();
+    }
+
+    @Test
+    void shouldTrace_offByDefault() {
+        assertFalse(requestTracer.shouldTrace(request("/crew/1"), 1L));
+        assertFalse(requestTracer.shouldTrace(request("/crew/1"), null));
+    }
+
+    @Test
+    void shouldTrace_memberRule() {
+        //given
+        requestTracer.traceMember(1L);
+
+        //when //then
+        assertTrue(requestTracer.shouldTrace(request("/crew/1"), 1L));
+        assertFalse(requestTracer.shouldTrace(request("/crew/1"), 2L));
+        assertFalse(requestTracer.shouldTrace(request("/crew/1"), null));
+    }
+
+    @Test
+    void shouldTrace_pathRule() {
+        //given
+        requestTracer.tracePath("/crew/*/activity/**");
+
+        //when //then
+        assertTrue(requestTracer.shouldTrace(request("/crew/1/activity/2"), null));
+        assertFalse(requestTracer.shouldTrace(request("/crew/1/member"), 1L));
+    }
+
+    @Test
+    void shouldTrace_sampleRate() {
+        //given
+        requestTracer.setSampleRate(1);
+
+        //when //then
+        assertTrue(requestTracer.shouldTrace(request("/crew/1"), null));
+
+        requestTracer.clear();
+        assertFalse(requestTracer.shouldTrace(request("/crew/1"), null));
+    }
+
+    @Test
+    void setSampleRate_outOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> requestTracer.setSampleRate(1.5));
+    }
+
+    private MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.runningservice.config.QueryDslConfig;
+import com.example.runningservice.dto.activity.ActivityFilterDto;
+import com.example.runningservice.dto.activity.ActivityResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
+import com.example.runningservice.entity.ActivityEntity;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.entity.ParticipantEntity;
+import com.example.runningservice.enums.ActivityCategory;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.support.QueryCount;
+import com.example.runningservice.support.QueryCountDataJpaTest;
+import com.example.runningservice.support.QueryCounter;
+import com.example.runningservice.util.CursorUtil;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 크루 일정 목록 조회의 SQL 실행 횟수가 페이지 크기(일정 수)와 무관한지 확인한다.
+ * 일정마다 작성자가 다르고 참석자가 수백 명인 데이터로 조회한다.
+ */
+@QueryCountDataJpaTest(properties = "cursor.secret=test-cursor-secret")
+@Import({QueryDslConfig.class, ActivityService.class, CursorUtil.class})
+class ActivityServiceQueryCountTest {
+
+    private static final int ACTIVITY_COUNT = 21;
+    private static final int PARTICIPANTS_PER_ACTIVITY = 200;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 20;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private CrewRoleService crewRoleService;
+
+    private CrewEntity crew;
+    private MemberEntity viewer;
+
+    @BeforeEach
+    void setUp() {
+        viewer = saveMember("viewer");
+        crew = entityManager.persist(CrewEntity.builder()
+            .leader(viewer)
+            .crewName("crew")
+            .crewCapacity(1000)
+            .activityRegion(Region.SEOUL)
+            .memberCount(1)
+            .build());
+
+        List<MemberEntity> runners = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS_PER_ACTIVITY; i++) {
+            runners.add(saveMember("runner-" + i));
+        }
+        for (int i = 0; i < ACTIVITY_COUNT; i++) {
+            ActivityEntity activity = entityManager.persistAndFlush(ActivityEntity.builder()
+                .author(saveMember("author-" + i))
+                .crew(crew)
+                .category(ActivityCategory.ON_DEMAND)
+                .title("activity-" + i)
+                .date(LocalDate.now().plusDays(i + 1))
+                .startTime(LocalTime.of(7, 0))
+                .endTime(LocalTime.of(8, 0))
+                .build());
+            for (MemberEntity runner : runners) {
+                entityManager.persist(ParticipantEntity.builder()
+                    .activity(activity)
+                    .member(runner)
+                    .build());
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void getCrewActivity_queryCountIndependentOfPageSize() {
+        QueryCount small = countUpcomingPage(SMALL_PAGE);
+        QueryCount large = countUpcomingPage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    @Test
+    void getCrewActivityByDate_queryCountIndependentOfPageSize() {
+        QueryCount small = countDatePage(SMALL_PAGE);
+        QueryCount large = countDatePage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    @Test
+    void getCrewActivityByDateCursor_queryCountIndependentOfPageSize() {
+        QueryCount small = countDateCursorPage(SMALL_PAGE);
+        QueryCount large = countDateCursorPage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    private QueryCount countUpcomingPage(int pageSize) {
+        entityManager.clear();
+
+        //when
+        QueryCounter.start();
+        Page<ActivityResponseDto> page = activityService.getCrewActivity(crew.getId(),
+            viewer.getId(), null, PageRequest.of(0, pageSize));
+        QueryCount queryCount = QueryCounter.stop("upcoming activity list / page size "
+            + pageSize);
+
+        //then
+        assertPage(page.getContent(), pageSize);
+        assertEquals(ACTIVITY_COUNT, page.getTotalElements());
+        return queryCount;
+    }
+
+    private QueryCount countDatePage(int pageSize) {
+        entityManager.clear();
+
+        //when
+        QueryCounter.start();
+        Page<ActivityResponseDto> page = activityService.getCrewActivityByDate(crew.getId(),
+            viewer.getId(), new ActivityFilterDto(), PageRequest.of(0, pageSize));
+        QueryCount queryCount = QueryCounter.stop("activity list by date / page size "
+            + pageSize);
+
+        //then
+        assertPage(page.getContent(), pageSize);
+        assertEquals(ACTIVITY_COUNT, page.getTotalElements());
+        return queryCount;
+    }
+
+    private QueryCount countDateCursorPage(int size) {
+        entityManager.clear();
+
+        //when
+        QueryCounter.start();
+        CursorSliceResponseDto<ActivityResponseDto> slice = activityService
+            .getCrewActivityByDateCursor(crew.getId(), viewer.getId(), new ActivityFilterDto(),
+                null, size);
+        QueryCount queryCount = QueryCounter.stop("activity list by date (cursor) / size "
+            + size);
+
+        //then
+        assertPage(slice.getContent(), size);
+        return queryCount;
+    }
+
+    private void assertPage(List<ActivityResponseDto> content, int size) {
+        assertEquals(size, content.size());
+        assertTrue(content.stream().allMatch(dto -> dto.getAuthor().startsWith("author-")));
+        assertTrue(content.stream()
+            .allMatch(dto -> dto.getParticipant() == PARTICIPANTS_PER_ACTIVITY));
+    }
+
+    private MemberEntity saveMember(String name) {
+        return entityManager.persist(MemberEntity.builder()
+            .email(name + "@example.com")
+            .nickName(name)
+            .build());
+    }
+}
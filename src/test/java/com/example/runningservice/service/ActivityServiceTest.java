@@ -17,7 +17,6 @@ import com.example.runningservice.dto.activity.ActivityRequestDto.Update;
 import com.example.runningservice.dto.activity.ActivityResponseDto;
 import com.example.runningservice.entity.ActivityEntity;
 import com.example.runningservice.entity.CrewEntity;
-import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.entity.ParticipantEntity;
 import com.example.runningservice.entity.RegularRunMeetingEntity;
@@ -27,8 +26,8 @@ import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.ActivityRepository;
 import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.repository.ParticipantRepository;
 import com.example.runningservice.repository.crew.CrewRepository;
-import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -50,9 +49,11 @@ class ActivityServiceTest {
     @Mock
     private CrewRepository crewRepository;
     @Mock
-    private CrewMemberRepository crewMemberRepository;
+    private CrewRoleService crewRoleService;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private ParticipantRepository participantRepository;
     /*@Mock
     private RegularRunMeetingRepository regularRunMeetingRepository;*/
     @InjectMocks
@@ -70,17 +71,13 @@ class ActivityServiceTest {
         // when(activityDto.getRegularId()).thenReturn(regularId);
         when(activityDto.getCategory()).thenReturn(ActivityCategory.REGULAR);
 
-        CrewMemberEntity crewMemberEntity = CrewMemberEntity.builder()
-            .role(CrewRole.LEADER)
-            .build();
         /*RegularRunMeetingEntity regularEntity = RegularRunMeetingEntity.builder()
             .id(regularId)
             .build();*/
 
         given(crewRepository.findById(crewId)).willReturn(Optional.of(mock(CrewEntity.class)));
         given(memberRepository.findById(userId)).willReturn(Optional.of(mock(MemberEntity.class)));
-        given(crewMemberRepository.findByCrew_IdAndMember_Id(crewId, userId)).willReturn(
-            Optional.of(crewMemberEntity));
+        given(crewRoleService.getRole(crewId, userId)).willReturn(CrewRole.LEADER);
         /*given(regularRunMeetingRepository.findById(activityDto.getRegularId())).willReturn(
             Optional.of(regularEntity));*/
 
@@ -103,14 +100,10 @@ class ActivityServiceTest {
 
         ActivityRequestDto.Create activityDto = mock(ActivityRequestDto.Create.class);
 
-        CrewMemberEntity crewMemberEntity = CrewMemberEntity.builder()
-            .role(CrewRole.MEMBER)
-            .build();
 
         given(crewRepository.findById(crewId)).willReturn(Optional.of(mock(CrewEntity.class)));
         given(memberRepository.findById(userId)).willReturn(Optional.of(mock(MemberEntity.class)));
-        given(crewMemberRepository.findByCrew_IdAndMember_Id(crewId, userId)).willReturn(
-            Optional.of(crewMemberEntity));
+        given(crewRoleService.getRole(crewId, userId)).willReturn(CrewRole.MEMBER);
 
         // when
         CustomException exception = assertThrows(CustomException.class, () ->
@@ -166,13 +159,9 @@ class ActivityServiceTest {
             .author(memberEntity)
             .category(ActivityCategory.REGULAR)
             .build();
-        CrewMemberEntity crewMemberEntity = CrewMemberEntity.builder()
-            .role(CrewRole.LEADER)
-            .build();
 
         given(activityRepository.findById(activityId)).willReturn(Optional.of(activityEntity));
-        given(crewMemberRepository.findByCrew_IdAndMember_Id(crewId, userId)).willReturn(
-            Optional.of(crewMemberEntity));
+        given(crewRoleService.getRole(crewId, userId)).willReturn(CrewRole.LEADER);
 
         // when
         ActivityResponseDto response = activityService.updateActivity(userId, crewId, activityId,
@@ -212,7 +201,7 @@ class ActivityServiceTest {
         assertEquals(response.getCategory(), ActivityCategory.ON_DEMAND);
         assertEquals(response.getDate(), LocalDate.of(2024, 1, 1));
         assertEquals(response.getAuthor(), memberEntity.getNickName());
-        verify(crewMemberRepository, never()).findByCrew_IdAndMember_Id(any(), any());
+        verify(crewRoleService, never()).getRole(any(), any());
     }
 
     @Test
@@ -255,8 +244,7 @@ class ActivityServiceTest {
 
         given(activityRepository.findById(activityId)).willReturn(
             Optional.of(ActivityEntity.builder().author(authorEntity).build()));
-        given(crewMemberRepository.findByCrew_IdAndMember_Id(crewId, userId)).willReturn(
-            Optional.of(CrewMemberEntity.builder().role(CrewRole.LEADER).build()));
+        given(crewRoleService.getRole(crewId, userId)).willReturn(CrewRole.LEADER);
 
         // when
         ActivityResponseDto response = activityService.deleteActivity(userId, crewId, activityId);
@@ -277,8 +265,7 @@ class ActivityServiceTest {
 
         given(activityRepository.findById(activityId)).willReturn(
             Optional.of(ActivityEntity.builder().author(authorEntity).build()));
-        given(crewMemberRepository.findByCrew_IdAndMember_Id(crewId, userId)).willReturn(
-            Optional.of(CrewMemberEntity.builder().role(CrewRole.MEMBER).build()));
+        given(crewRoleService.getRole(crewId, userId)).willReturn(CrewRole.MEMBER);
 
         // when
         ActivityResponseDto response = activityService.deleteActivity(userId, crewId, activityId);
@@ -4,8 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,13 +17,14 @@ import com.example.runningservice.entity.chat.ChatJoinEntity;
 import com.example.runningservice.entity.chat.ChatRoomEntity;
 import com.example.runningservice.enums.ChatRoom;
 import com.example.runningservice.enums.CrewRole;
-import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.repository.MemberRepository;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
 import com.example.runningservice.repository.chat.ChatRoomRepository;
-import com.example.runningservice.repository.chat.MessageRepository;
 import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.chat.ChatLeaveService;
 import com.example.runningservice.service.chat.ChatRoomService;
+import com.example.runningservice.service.chat.ChatUnreadCounter;
+import com.example.runningservice.service.chat.MessageService;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -51,13 +52,19 @@ public class ChatRoomServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private CrewMemberRepository crewMemberRepository;
+    private CrewRoleService crewRoleService;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
 
     @Mock
     private ChatJoinRepository chatJoinRepository;
 
     @Mock
-    private MessageRepository messageRepository;
+    private ChatLeaveService chatLeaveService;
 
     private CrewEntity crewEntity;
     private MemberEntity memberAEntity;
@@ -257,7 +264,6 @@ public class ChatRoomServiceTest {
             .crew(crewEntity)
             .build();
 
-        when(crewRepository.findCrewById(crewEntity.getId())).thenReturn(crewEntity);
         when(memberRepository.findMemberById(memberAEntity.getId())).thenReturn(memberAEntity);
         when(chatRoomRepository.findChatRoomById(chatRoomEntity.getId())).thenReturn(chatRoomEntity);
         when(chatJoinRepository.existsByChatRoomAndMember(chatRoomEntity, memberAEntity)).thenReturn(false);
@@ -265,8 +271,8 @@ public class ChatRoomServiceTest {
         ChatJoinEntity chatJoinEntity = new ChatJoinEntity();
         when(chatJoinRepository.save(any(ChatJoinEntity.class))).thenReturn(chatJoinEntity);
 
-        when(crewMemberRepository.findByCrewAndMember(crewEntity, memberAEntity))
-            .thenReturn(Optional.of(crewMemberAEntity));
+        when(crewRoleService.findRole(crewEntity.getId(), memberAEntity.getId()))
+            .thenReturn(Optional.of(crewMemberAEntity.getRole()));
 
         when(chatJoinRepository.findByChatRoomAndMember(chatRoomEntity, memberAEntity)).thenReturn(chatJoinEntity);
 
@@ -274,11 +280,12 @@ public class ChatRoomServiceTest {
         chatRoomService.joinChatRoom(crewEntity.getId(), chatRoomEntity.getId(), memberAEntity.getId());
 
         // Then
-        verify(crewRepository, times(1)).findCrewById(crewEntity.getId());
+        verify(crewRoleService, times(1)).findRole(crewEntity.getId(), memberAEntity.getId());
         verify(memberRepository, times(2)).findMemberById(memberAEntity.getId());
         verify(chatRoomRepository, times(2)).findChatRoomById(chatRoomEntity.getId());
         verify(chatJoinRepository, times(1)).existsByChatRoomAndMember(chatRoomEntity, memberAEntity);
         verify(chatJoinRepository, times(1)).save(chatJoinEntity);
+        verify(chatUnreadCounter, times(1)).memberJoined(chatRoomEntity.getId(), memberAEntity.getId());
     }
 
     @Test
@@ -300,7 +307,9 @@ public class ChatRoomServiceTest {
         chatRoomService.enterChatRoom(crewEntity.getId(), chatRoomEntity.getId(), memberAEntity.getId());
 
         // then
+        verify(messageService, times(1)).awaitPendingMessages(chatRoomEntity.getId());
         verify(chatJoinRepository, times(1)).save(chatJoinEntity);
+        verify(chatUnreadCounter, times(1)).markRead(chatRoomEntity.getId(), memberAEntity.getId());
     }
 
     @Test
@@ -317,13 +326,13 @@ public class ChatRoomServiceTest {
         
         when(chatJoinRepository.findByChatRoom_IdAndMember_Id(chatRoomEntity.getId(), memberAEntity.getId())).thenReturn(chatJoinEntity);
 
-        doNothing().when(chatJoinRepository).delete(any(ChatJoinEntity.class));
-
         // When
         chatRoomService.leaveChatRoom(crewEntity.getId(), chatRoomEntity.getId(), memberAEntity.getId());
 
         // Then
-        verify(chatJoinRepository, times(1)).delete(chatJoinEntity);
+        verify(chatLeaveService, times(1)).leave(List.of(chatJoinEntity));
+        // 카운터는 커밋 후 ChatLeaveService 가 정리한다.
+        verify(chatUnreadCounter, never()).memberLeft(chatRoomEntity.getId(), memberAEntity.getId());
     }
 
     @Test
@@ -336,15 +345,13 @@ public class ChatRoomServiceTest {
             .crew(crewEntity)
             .build();
 
-        when(crewRepository.findCrewById(crewEntity.getId())).thenReturn(crewEntity);
         when(chatRoomRepository.findChatRoomById(chatRoomEntity.getId())).thenReturn(chatRoomEntity);
-        when(memberRepository.findMemberById(memberAEntity.getId())).thenReturn(memberAEntity);
         when(memberRepository.findMemberById(memberBEntity.getId())).thenReturn(memberBEntity);
 
         List<CrewRole> crewRoles = Arrays.asList(CrewRole.LEADER, CrewRole.STAFF);
 
-        when(crewMemberRepository.findByCrewAndMemberAndRoleIn(crewEntity, memberAEntity, crewRoles))
-            .thenReturn(Optional.of(crewMemberAEntity));
+        when(crewRoleService.hasRole(crewEntity.getId(), memberAEntity.getId(), crewRoles))
+            .thenReturn(true);
 
         ChatJoinEntity adminChatJoinEntity = new ChatJoinEntity();
         ChatJoinEntity memberChatJoinEntity = new ChatJoinEntity();
@@ -353,13 +360,12 @@ public class ChatRoomServiceTest {
             .thenReturn(adminChatJoinEntity);
         when(chatJoinRepository.findByChatRoom_IdAndMember_Id(chatRoomEntity.getId(), memberBEntity.getId()))
             .thenReturn(memberChatJoinEntity);
-        doNothing().when(chatJoinRepository).delete(memberChatJoinEntity);
 
         // when
         chatRoomService.ejectionChatRoom(crewEntity.getId(), chatRoomEntity.getId(), memberBEntity.getId(), memberAEntity.getId());
 
         // then
-        verify(chatJoinRepository, times(1)).delete(memberChatJoinEntity);
+        verify(chatLeaveService, times(1)).leave(List.of(memberChatJoinEntity));
     }
 
 }
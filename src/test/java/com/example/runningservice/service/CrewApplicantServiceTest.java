@@ -18,6 +18,7 @@ import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.JoinStatus;
 import com.example.runningservice.enums.Visibility;
 import com.example.runningservice.repository.JoinApplicationRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.PageUtil;
@@ -42,6 +43,18 @@ class CrewApplicantServiceTest {
     @Mock
     private CrewMemberRepository crewMemberRepository;
 
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Mock
+    private CrewMembershipService crewMembershipService;
+
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+
+    @Mock
+    private CrewRoleService crewRoleService;
+
     @Mock
     private JoinApplicationRepository joinApplicationRepository;
 
@@ -144,6 +157,7 @@ class CrewApplicantServiceTest {
             .build();
 
         CrewEntity crewEntity = CrewEntity.builder()
+            .id(3L)
             .crewName("testCrew")
             .build();
 
@@ -171,6 +185,7 @@ class CrewApplicantServiceTest {
         assertNotNull(result);
         assertEquals(memberEntity.getNickName(), result.getMemberNickName());
         assertEquals(signedUrl, result.getMemberProfileImage());
+        verify(crewRepository).increaseMemberCount(3L);
     }
 
     @Test
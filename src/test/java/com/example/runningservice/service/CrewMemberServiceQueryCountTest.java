@@ -0,0 +1,136 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.runningservice.config.QueryDslConfig;
+import com.example.runningservice.dto.crewMember.CrewMemberResponseDto;
+import com.example.runningservice.dto.crewMember.GetCrewMemberRequestDto;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.CrewMemberEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.service.chat.ChatLeaveService;
+import com.example.runningservice.support.QueryCount;
+import com.example.runningservice.support.QueryCountDataJpaTest;
+import com.example.runningservice.support.QueryCounter;
+import com.example.runningservice.util.AESUtil;
+import com.example.runningservice.util.CursorUtil;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 크루원 목록 조회의 SQL 실행 횟수가 페이지 크기와 무관한지 확인한다. (크루원 수백 명)
+ */
+@QueryCountDataJpaTest(properties = "cursor.secret=test-cursor-secret")
+@Import({QueryDslConfig.class, CrewMemberService.class, CrewMembershipService.class,
+    CrewDiscoveryService.class, CursorUtil.class})
+class CrewMemberServiceQueryCountTest {
+
+    private static final int MEMBER_COUNT = 300;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 50;
+
+    @Autowired
+    private CrewMemberService crewMemberService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private CrewRoleService crewRoleService;
+
+    @MockBean
+    private RunRecordService runRecordService;
+
+    @MockBean
+    private AESUtil aesUtil;
+
+    @MockBean
+    private ChatLeaveService chatLeaveService;
+
+    private CrewEntity crew;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity leader = saveMember("leader");
+        crew = entityManager.persist(CrewEntity.builder()
+            .leader(leader)
+            .crewName("crew")
+            .crewCapacity(1000)
+            .activityRegion(Region.SEOUL)
+            .memberCount(MEMBER_COUNT + 1)
+            .build());
+        saveCrewMember(leader, CrewRole.LEADER);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            saveCrewMember(saveMember("member-" + i), CrewRole.MEMBER);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void getCrewMembers_queryCountIndependentOfPageSize() {
+        GetCrewMemberRequestDto.Filter noFilter = new GetCrewMemberRequestDto.Filter();
+
+        QueryCount small = countCrewMemberPage("crew member list", noFilter, SMALL_PAGE);
+        QueryCount large = countCrewMemberPage("crew member list", noFilter, LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    @Test
+    void getCrewMembers_withFilter_queryCountIndependentOfPageSize() {
+        GetCrewMemberRequestDto.Filter roleFilter = GetCrewMemberRequestDto.Filter.builder()
+            .crewRole(CrewRole.MEMBER)
+            .build();
+
+        QueryCount small = countCrewMemberPage("crew member list (filter)", roleFilter,
+            SMALL_PAGE);
+        QueryCount large = countCrewMemberPage("crew member list (filter)", roleFilter,
+            LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    private QueryCount countCrewMemberPage(String label, GetCrewMemberRequestDto.Filter filter,
+        int pageSize) {
+        entityManager.clear();
+
+        //when :: 컨트롤러와 같이 회원 정보까지 응답으로 바꾼다.
+        QueryCounter.start();
+        Page<CrewMemberEntity> page = crewMemberService.getCrewMembers(crew.getId(), filter,
+            PageRequest.of(0, pageSize, Sort.by("joinedAt")));
+        List<CrewMemberResponseDto> content = page.getContent().stream()
+            .map(entity -> CrewMemberResponseDto.of(entity, entity.getMember()
+                .getProfileImageUrl()))
+            .toList();
+        QueryCount queryCount = QueryCounter.stop(label + " / page size " + pageSize);
+
+        //then
+        assertEquals(pageSize, content.size());
+        return queryCount;
+    }
+
+    private MemberEntity saveMember(String name) {
+        return entityManager.persist(MemberEntity.builder()
+            .email(name + "@example.com")
+            .nickName(name)
+            .build());
+    }
+
+    private void saveCrewMember(MemberEntity member, CrewRole role) {
+        entityManager.persist(CrewMemberEntity.builder()
+            .crew(crew)
+            .member(member)
+            .role(role)
+            .build());
+    }
+}
@@ -32,8 +32,10 @@ import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.JoinApplicationRepository;
 import com.example.runningservice.repository.RunGoalRepository;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.service.chat.ChatLeaveService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.PageUtil;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -60,6 +62,18 @@ class CrewMemberServiceTest {
     @Mock
     private CrewMemberRepository crewMemberRepository;
 
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Mock
+    private CrewMembershipService crewMembershipService;
+
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+
+    @Mock
+    private CrewRoleService crewRoleService;
+
     @Mock
     private JoinApplicationRepository joinApplicationRepository;
 
@@ -75,6 +89,9 @@ class CrewMemberServiceTest {
     @Mock
     private ChatJoinRepository chatJoinRepository;
 
+    @Mock
+    private ChatLeaveService chatLeaveService;
+
     @Mock
     private JPAQueryFactory queryFactory;
 
@@ -247,9 +264,12 @@ class CrewMemberServiceTest {
         assertEquals(JoinStatus.WITHDRAWN, joinEntity.getStatus());
         verify(crewMemberRepository, times(1)).findByCrew_IdAndMember_Id(crewId, memberId);
         verify(crewMemberRepository, times(1)).delete(crewMember);
+        verify(crewRepository, times(1)).decreaseMemberCount(crewId);
+        verify(crewMembershipService, times(1)).evict(memberId);
         verify(joinApplicationRepository,
             times(1)).findTopByMember_IdAndCrew_IdOrderByCreatedAtDesc(memberId, crewId);
-        verify(chatJoinRepository, times(1)).deleteAllByMemberIdAndCrewId(memberId, crewId);
+        verify(chatJoinRepository, times(1)).findAllByMember_IdAndChatRoom_Crew_Id(memberId, crewId);
+        verify(chatLeaveService, times(1)).leave(List.of());
     }
 
     @Test
@@ -348,6 +368,7 @@ class CrewMemberServiceTest {
         assertEquals(newRole, result.getRole());
 
         verify(crewMemberRepository, times(1)).findById(crewMemberId);
+        verify(crewRoleService, times(1)).evict(crewId, memberId);
     }
 
     @Test
@@ -551,8 +572,10 @@ class CrewMemberServiceTest {
             .findTopByMember_IdAndCrew_IdOrderByCreatedAtDesc(crewMember.getMember().getId(),
                 crewId);
         verify(crewMemberRepository, times(1)).delete(crewMember);
-        verify(chatJoinRepository, times(1)).deleteAllByMemberIdAndCrewId(
+        verify(crewRepository, times(1)).decreaseMemberCount(crewId);
+        verify(chatJoinRepository, times(1)).findAllByMember_IdAndChatRoom_Crew_Id(
             crewMember.getMember().getId(), crewId);
+        verify(chatLeaveService, times(1)).leave(List.of());
         verify(crewMemberBlackListRepository, times(1)).save(any(CrewMemberBlackListEntity.class));
     }
 
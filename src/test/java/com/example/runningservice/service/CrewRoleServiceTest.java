@@ -0,0 +1,132 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CrewRoleServiceTest {
+
+    private static final List<CrewRole> LEADER_OR_STAFF = List.of(CrewRole.LEADER,
+        CrewRole.STAFF);
+
+    @Mock
+    private CrewMemberRepository crewMemberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CrewRoleService crewRoleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        crewRoleService = new CrewRoleService(crewMemberRepository, meterRegistry);
+        ReflectionTestUtils.setField(crewRoleService, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(crewRoleService, "cacheExpireMinutes", 10L);
+        ReflectionTestUtils.setField(crewRoleService, "negativeExpireSeconds", 60L);
+        crewRoleService.init();
+    }
+
+    @Test
+    void findRole_loadsOncePerCrewMember() {
+        //given
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(1L, 2L))
+            .thenReturn(Optional.of(CrewRole.STAFF));
+
+        //when
+        CrewRole first = crewRoleService.getRole(1L, 2L);
+        boolean allowed = crewRoleService.hasRole(1L, 2L, LEADER_OR_STAFF);
+
+        //then
+        assertEquals(CrewRole.STAFF, first);
+        assertTrue(allowed);
+        verify(crewMemberRepository, times(1)).findRoleByCrewIdAndMemberId(1L, 2L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "crew.role")
+            .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "crew.role")
+            .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getRole_notCrewMember_cachedAndThrows() {
+        //given
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(1L, 3L))
+            .thenReturn(Optional.empty());
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> crewRoleService.getRole(1L, 3L));
+
+        //then
+        assertEquals(ErrorCode.UNAUTHORIZED_CREW_ACCESS, exception.getErrorCode());
+        assertFalse(crewRoleService.hasRole(1L, 3L, LEADER_OR_STAFF));
+        verify(crewMemberRepository, times(1)).findRoleByCrewIdAndMemberId(1L, 3L);
+    }
+
+    @Test
+    void checkRole_notAllowedRole() {
+        //given
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(1L, 2L))
+            .thenReturn(Optional.of(CrewRole.MEMBER));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> crewRoleService.checkRole(1L, 2L, LEADER_OR_STAFF));
+
+        //then
+        assertEquals(ErrorCode.UNAUTHORIZED_CREW_ACCESS, exception.getErrorCode());
+    }
+
+    @Test
+    void evict_reloadsChangedRole() {
+        //given
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(1L, 2L))
+            .thenReturn(Optional.of(CrewRole.MEMBER), Optional.of(CrewRole.STAFF));
+        crewRoleService.getRole(1L, 2L);
+
+        //when
+        crewRoleService.evict(1L, 2L);
+
+        //then
+        assertEquals(CrewRole.STAFF, crewRoleService.getRole(1L, 2L));
+        verify(crewMemberRepository, times(2)).findRoleByCrewIdAndMemberId(1L, 2L);
+    }
+
+    @Test
+    void evictCrew_removesOnlyThatCrew() {
+        //given
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(1L, 2L))
+            .thenReturn(Optional.of(CrewRole.LEADER), Optional.empty());
+        when(crewMemberRepository.findRoleByCrewIdAndMemberId(5L, 2L))
+            .thenReturn(Optional.of(CrewRole.MEMBER));
+        crewRoleService.getRole(1L, 2L);
+        crewRoleService.getRole(5L, 2L);
+
+        //when
+        crewRoleService.evictCrew(1L);
+
+        //then
+        assertTrue(crewRoleService.findRole(1L, 2L).isEmpty());
+        assertEquals(CrewRole.MEMBER, crewRoleService.getRole(5L, 2L));
+        verify(crewMemberRepository, times(2)).findRoleByCrewIdAndMemberId(1L, 2L);
+        verify(crewMemberRepository, times(1)).findRoleByCrewIdAndMemberId(5L, 2L);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.runningservice.config.QueryDslConfig;
+import com.example.runningservice.dto.crew.CrewFilterDto.CrewInfo;
+import com.example.runningservice.dto.crew.CrewJoinStatusResponseDto;
+import com.example.runningservice.dto.crew.CrewRoleResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.CrewMemberEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.service.chat.ChatRoomService;
+import com.example.runningservice.service.upload.ImageUploadService;
+import com.example.runningservice.support.QueryCount;
+import com.example.runningservice.support.QueryCountDataJpaTest;
+import com.example.runningservice.support.QueryCounter;
+import com.example.runningservice.util.CursorUtil;
+import com.example.runningservice.util.S3FileUtil;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 크루 목록 조회의 SQL 실행 횟수가 페이지 크기(크루 수)와 무관한지 확인한다.
+ * 크루마다 크루장이 다르고 크루원이 수백 명인 데이터로 조회한다.
+ */
+@QueryCountDataJpaTest(properties = "cursor.secret=test-cursor-secret")
+@Import({QueryDslConfig.class, CrewService.class, CrewMembershipService.class,
+    CrewDiscoveryService.class, CursorUtil.class})
+class CrewServiceQueryCountTest {
+
+    private static final int CREW_COUNT = 21;
+    private static final int MEMBERS_PER_CREW = 200;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 20;
+
+    @Autowired
+    private CrewService crewService;
+
+    @Autowired
+    private CrewMembershipService crewMembershipService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private S3FileUtil s3FileUtil;
+
+    @MockBean
+    private ChatRoomService chatRoomService;
+
+    @MockBean
+    private CrewRoleService crewRoleService;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    private MemberEntity viewer;
+
+    @BeforeEach
+    void setUp() {
+        viewer = saveMember("viewer");
+
+        // 모든 크루에 가입한 회원 (가입 크루 목록용) 과, 절반의 크루에 가입한 viewer
+        MemberEntity joiner = saveMember("joiner");
+        for (int i = 0; i < CREW_COUNT; i++) {
+            String crewName = "crew-" + i;
+            MemberEntity leader = saveMember(crewName + "-leader");
+            boolean viewerJoined = i % 2 == 0;
+            CrewEntity crew = entityManager.persist(CrewEntity.builder()
+                .leader(leader)
+                .crewName(crewName)
+                .crewCapacity(1000)
+                .activityRegion(Region.SEOUL)
+                .memberCount(MEMBERS_PER_CREW + 2 + (viewerJoined ? 1 : 0))
+                .build());
+            saveCrewMember(crew, leader, CrewRole.LEADER);
+            saveCrewMember(crew, joiner, CrewRole.MEMBER);
+            for (int m = 0; m < MEMBERS_PER_CREW; m++) {
+                saveCrewMember(crew, saveMember(crewName + "-member-" + m), CrewRole.MEMBER);
+            }
+            if (viewerJoined) {
+                saveCrewMember(crew, viewer, CrewRole.MEMBER);
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void getCrewList_queryCountIndependentOfPageSize() {
+        QueryCount small = countCrewPage(SMALL_PAGE);
+        QueryCount large = countCrewPage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    @Test
+    void getCrewListByCursor_queryCountIndependentOfPageSize() {
+        QueryCount small = countCrewCursorPage(SMALL_PAGE);
+        QueryCount large = countCrewCursorPage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    @Test
+    void getParticipateCrewList_queryCountIndependentOfPageSize() {
+        MemberEntity joiner = entityManager.getEntityManager()
+            .createQuery("SELECT m FROM member m WHERE m.nickName = 'joiner'", MemberEntity.class)
+            .getSingleResult();
+
+        QueryCount small = countParticipateCrewPage(joiner.getId(), SMALL_PAGE);
+        QueryCount large = countParticipateCrewPage(joiner.getId(), LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    private QueryCount countCrewPage(int pageSize) {
+        beginUnitOfWork(viewer.getId());
+
+        //when
+        QueryCounter.start();
+        Page<CrewJoinStatusResponseDto> page = crewService.getCrewList(viewer.getId(),
+            CrewInfo.builder().activityRegion(Region.SEOUL).build(),
+            PageRequest.of(0, pageSize));
+        QueryCount queryCount = QueryCounter.stop("crew list / page size " + pageSize);
+
+        //then
+        List<CrewJoinStatusResponseDto> content = page.getContent();
+        assertEquals(pageSize, content.size());
+        assertEquals(CREW_COUNT, page.getTotalElements());
+        assertTrue(content.stream().allMatch(dto -> dto.getLeader().endsWith("-leader")));
+        assertTrue(content.stream().anyMatch(CrewJoinStatusResponseDto::isJoined));
+        return queryCount;
+    }
+
+    private QueryCount countCrewCursorPage(int size) {
+        beginUnitOfWork(viewer.getId());
+
+        //when
+        QueryCounter.start();
+        CursorSliceResponseDto<CrewJoinStatusResponseDto> slice = crewService
+            .getCrewListByCursor(viewer.getId(),
+                CrewInfo.builder().activityRegion(Region.SEOUL).build(), null, size);
+        QueryCount queryCount = QueryCounter.stop("crew list (cursor) / size " + size);
+
+        //then
+        assertEquals(size, slice.getContent().size());
+        assertTrue(slice.getContent().stream()
+            .allMatch(dto -> dto.getLeader().endsWith("-leader")));
+        return queryCount;
+    }
+
+    private QueryCount countParticipateCrewPage(Long memberId, int pageSize) {
+        beginUnitOfWork(memberId);
+
+        //when
+        QueryCounter.start();
+        Page<CrewRoleResponseDto> page = crewService.getParticipateCrewList(memberId,
+            PageRequest.of(0, pageSize));
+        QueryCount queryCount = QueryCounter.stop("participating crew list / page size "
+            + pageSize);
+
+        //then
+        assertEquals(pageSize, page.getContent().size());
+        assertEquals(CREW_COUNT, page.getTotalElements());
+        assertTrue(page.getContent().stream()
+            .allMatch(dto -> dto.getLeader().endsWith("-leader")));
+        return queryCount;
+    }
+
+    // 영속성 컨텍스트와 가입 크루 캐시를 비워서 요청 하나와 같은 조건으로 조회한다.
+    private void beginUnitOfWork(Long memberId) {
+        entityManager.clear();
+        crewMembershipService.evict(memberId);
+    }
+
+    private MemberEntity saveMember(String name) {
+        return entityManager.persist(MemberEntity.builder()
+            .email(name + "@example.com")
+            .nickName(name)
+            .build());
+    }
+
+    private void saveCrewMember(CrewEntity crew, MemberEntity member, CrewRole role) {
+        entityManager.persist(CrewMemberEntity.builder()
+            .crew(crew)
+            .member(member)
+            .role(role)
+            .build());
+    }
+}
@@ -2,12 +2,12 @@ package com.example.runningservice.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -25,6 +25,7 @@ import com.example.runningservice.entity.CrewEntity;
 import com.example.runningservice.entity.CrewMemberEntity;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.CrewRole;
+import com.example.runningservice.enums.ImageOwner;
 import com.example.runningservice.enums.OccupancyStatus;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.repository.ActivityRepository;
@@ -36,9 +37,11 @@ import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
 import com.example.runningservice.service.chat.ChatRoomService;
+import com.example.runningservice.service.upload.ImageUploadService;
 import com.example.runningservice.util.S3FileUtil;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -76,6 +79,14 @@ class CrewServiceTest {
     private ChatRoomRepository chatRoomRepository;
     @Mock
     private ActivityRepository activityRepository;
+    @Mock
+    private CrewMembershipService crewMembershipService;
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+    @Mock
+    private CrewRoleService crewRoleService;
+    @Mock
+    private ImageUploadService imageUploadService;
     @InjectMocks
     private CrewService crewService;
 
@@ -93,17 +104,18 @@ class CrewServiceTest {
 
         given(memberRepository.findById(leaderId)).willReturn(Optional.of(memberEntity));
         given(crewRepository.save(any(CrewEntity.class))).willReturn(crewEntity);
-        given(s3FileUtil.getImgUrl(anyString())).willReturn("http://example.com/image");
-        doNothing().when(s3FileUtil).putObject(anyString(), any(MultipartFile.class));
+        given(s3FileUtil.getImgUrl(anyString())).willReturn("http://example.com/default");
 
         // when
         CrewBaseResponseDto response = crewService.createCrew(create, leaderId);
 
         // then
         assertEquals(crewEntity.getId(), response.getCrewId());
-        verify(s3FileUtil, times(1)).putObject("crew-" + crewEntity.getId(),
-            create.getCrewImage());
-        verify(s3FileUtil, times(1)).getImgUrl("crew-" + crewEntity.getId());
+        // 업로드가 끝나기 전까지는 기본 이미지
+        assertEquals("http://example.com/default", crewEntity.getCrewImage());
+        verify(imageUploadService, times(1)).upload(ImageOwner.CREW, crewEntity.getId(),
+            "crew-" + crewEntity.getId(), create.getCrewImage());
+        verify(s3FileUtil, times(1)).getImgUrl("crew-default");
         verify(crewRepository, times(1)).save(any(CrewEntity.class));
     }
 
@@ -128,8 +140,9 @@ class CrewServiceTest {
 
         // then
         assertEquals(crewEntity.getId(), response.getCrewId());
-        // 이미지가 없는 경우 putObject는 호출되지 않아야 함
-        verify(s3FileUtil, never()).putObject(anyString(), any(MultipartFile.class));
+        // 이미지가 없는 경우 업로드하지 않아야 함
+        verify(imageUploadService, never()).upload(any(), any(), anyString(),
+            any(MultipartFile.class));
         verify(s3FileUtil, times(1)).getImgUrl("crew-default");
         verify(crewRepository, times(1)).save(any(CrewEntity.class));
     }
@@ -161,18 +174,17 @@ class CrewServiceTest {
         CrewEntity crewEntity = CrewEntity.builder().id(crewId).leader(memberEntity).build();
 
         given(crewRepository.findById(crewId)).willReturn(Optional.of(crewEntity));
-        given(s3FileUtil.getImgUrl(anyString())).willReturn("http://example.com/image");
-        doNothing().when(s3FileUtil).putObject(anyString(), any(MultipartFile.class));
 
         // when
         CrewBaseResponseDto response = crewService.updateCrew(update, crewId);
 
         // then
         assertEquals(crewEntity.getId(), response.getCrewId());
-        assertEquals(crewEntity.getCrewImage(), "http://example.com/image");
-        verify(s3FileUtil, times(1)).putObject("crew-" + crewEntity.getId(),
-            update.getCrewImage());
-        verify(s3FileUtil, times(1)).getImgUrl("crew-" + crewEntity.getId());
+        // 업로드가 끝나기 전까지는 기존 이미지 유지
+        assertNull(crewEntity.getCrewImage());
+        verify(imageUploadService, times(1)).upload(ImageOwner.CREW, crewEntity.getId(),
+            "crew-" + crewEntity.getId(), update.getCrewImage());
+        verify(s3FileUtil, never()).getImgUrl(anyString());
     }
 
     @Test
@@ -228,6 +240,8 @@ class CrewServiceTest {
         // then
         assertEquals(crewEntity.getId(), response.getCrewId());
         assertEquals("signed-defaultUrl", response.getCrewImage());
+        verify(s3FileUtil, times(1)).deleteObject("crew-1");
+        verify(imageUploadService, times(1)).cancel("crew-1");
     }
 
     @Test
@@ -253,6 +267,55 @@ class CrewServiceTest {
         verify(s3FileUtil, times(1)).deleteObject("crew-1");
     }
 
+    @Test
+    @DisplayName("크루 삭제 - 크기별 이미지")
+    public void deleteCrew_WithImageVariants() {
+        // given
+        Long crewId = 1L;
+
+        MemberEntity memberEntity = MemberEntity.builder().nickName("hi").build();
+        CrewEntity crewEntity = CrewEntity.builder()
+            .id(crewId)
+            .leader(memberEntity)
+            .crewImage("crew-1/original")
+            .build();
+
+        given(crewRepository.findById(crewId)).willReturn(Optional.of(crewEntity));
+
+        // when
+        crewService.deleteCrew(crewId);
+
+        // then
+        verify(s3FileUtil, times(1)).deleteObject("crew-1");
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/thumb");
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/card");
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/original");
+    }
+
+    @Test
+    @DisplayName("크루 삭제 - 업로드별 이미지")
+    public void deleteCrew_WithUploadedImage() {
+        // given
+        Long crewId = 1L;
+
+        MemberEntity memberEntity = MemberEntity.builder().nickName("hi").build();
+        CrewEntity crewEntity = CrewEntity.builder()
+            .id(crewId)
+            .leader(memberEntity)
+            .crewImage("crew-1/upload-1/original")
+            .build();
+
+        given(crewRepository.findById(crewId)).willReturn(Optional.of(crewEntity));
+
+        // when
+        crewService.deleteCrew(crewId);
+
+        // then
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/upload-1/thumb");
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/upload-1/card");
+        verify(s3FileUtil, times(1)).deleteObject("crew-1/upload-1/original");
+    }
+
     @Test
     @DisplayName("크루 삭제 - 기본 이미지")
     public void deleteCrew_WithoutImage() {
@@ -290,6 +353,7 @@ class CrewServiceTest {
             .leaderRequired(true)
             .runRecordOpen(true)
             .crewMember(List.of(CrewMemberEntity.builder().member(memberEntity).build()))
+            .memberCount(1)
             .build();
 
         given(crewRepository.findById(crewId)).willReturn(Optional.of(crewEntity));
@@ -323,6 +387,7 @@ class CrewServiceTest {
                 .build());
         Page<CrewMemberEntity> result = new PageImpl<>(crewMembers, pageable, crewMembers.size());
 
+        given(crewMembershipService.getJoinedCrewIds(loginId)).willReturn(Set.of(5L, 10L));
         given(crewMemberRepository.findByMember_IdOrderByJoinedAt(loginId, pageable))
             .willReturn(result);
 
@@ -355,6 +420,7 @@ class CrewServiceTest {
         given(crewRepository.findFullCrewList(any(), any(), any(), any(), any(), any(), any()))
             .willReturn(result);
         given(memberRepository.findMemberById(loginId)).willReturn(member);
+        given(crewMembershipService.getJoinedCrewIds(loginId)).willReturn(Set.of(5L));
 
         Page<CrewJoinStatusResponseDto> response = crewService.getCrewList(loginId, crewInfo,
             pageable);
@@ -363,6 +429,7 @@ class CrewServiceTest {
             any(), any(), any(), any());
         assertEquals(response.getContent().size(), 2);
         assertTrue(response.getContent().getFirst().isJoined());
+        assertFalse(response.getContent().get(1).isJoined());
     }
 
     @Test
@@ -392,4 +459,30 @@ class CrewServiceTest {
         assertEquals(response.getContent().size(), 2);
         assertFalse(response.getContent().getFirst().isJoined());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("크루원 수 보정 - 보정한 크루가 있으면 검색 인덱스 재구성")
+    public void reconcileMemberCount_RebuildsIndex() {
+        // given
+        given(crewRepository.reconcileMemberCount()).willReturn(2);
+
+        // when
+        crewService.reconcileMemberCount();
+
+        // then
+        verify(crewDiscoveryService, times(1)).rebuild();
+    }
+
+    @Test
+    @DisplayName("크루원 수 보정 - 차이가 없으면 인덱스 유지")
+    public void reconcileMemberCount_NoDrift() {
+        // given
+        given(crewRepository.reconcileMemberCount()).willReturn(0);
+
+        // when
+        crewService.reconcileMemberCount();
+
+        // then
+        verify(crewDiscoveryService, never()).rebuild();
+    }
+}
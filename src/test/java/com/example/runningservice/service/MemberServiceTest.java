@@ -1,26 +1,35 @@
 package com.example.runningservice.service;
 
+import com.example.runningservice.dto.NotificationPreferenceDto;
 import com.example.runningservice.dto.member.DeleteRequestDto;
 import com.example.runningservice.dto.member.MemberResponseDto;
 import com.example.runningservice.dto.member.PasswordRequestDto;
 import com.example.runningservice.dto.member.UpdateMemberRequestDto;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.Notification;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.enums.Role;
 import com.example.runningservice.enums.Visibility;
 import com.example.runningservice.repository.MemberRepository;
 import com.example.runningservice.repository.RunGoalRepository;
 import com.example.runningservice.repository.RunRecordRepository;
+import com.example.runningservice.repository.UserNotificationRepository;
 import com.example.runningservice.repository.chat.ChatJoinRepository;
-import com.example.runningservice.repository.chat.MessageRepository;
 import com.example.runningservice.repository.crew.CrewRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberBlackListRepository;
 import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import com.example.runningservice.service.chat.ChatLeaveService;
+import com.example.runningservice.service.notification.NotificationBadgeCounter;
+import com.example.runningservice.service.notification.NotificationInboxService;
+import com.example.runningservice.service.notification.NotificationPreferenceCache;
+import com.example.runningservice.service.upload.ImageUploadService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.S3FileUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,8 +39,11 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,17 +58,39 @@ public class MemberServiceTest {
     @Mock
     private RunRecordRepository runRecordRepository;
 
+    @Mock
+    private RunStatsService runStatsService;
+
     @Mock
     private CrewMemberRepository crewMemberRepository;
 
     @Mock
     private CrewRepository crewRepository;
 
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+
+    @Mock
+    private CrewRoleService crewRoleService;
+
     @Mock
     private ChatJoinRepository chatJoinRepository;
 
     @Mock
-    private MessageRepository messageRepository;
+    private ChatLeaveService chatLeaveService;
+
+    @Mock
+    private UserNotificationRepository userNotificationRepository;
+
+
+    @Mock
+    private NotificationInboxService notificationInboxService;
+
+    @Mock
+    private NotificationPreferenceCache notificationPreferenceCache;
+
+    @Mock
+    private NotificationBadgeCounter notificationBadgeCounter;
 
     @Mock
     private CrewMemberBlackListRepository crewMemberBlackListRepository;
@@ -70,6 +104,9 @@ public class MemberServiceTest {
     @Mock
     private S3FileUtil s3FileUtil;
 
+    @Mock
+    private ImageUploadService imageUploadService;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -149,8 +186,6 @@ public class MemberServiceTest {
             .birthYearVisibility(Visibility.PRIVATE)
             .build();
 
-        when(s3FileUtil.getImgUrl(fileName)).thenReturn(imageUrl);
-
         // when
         MemberResponseDto memberResponseDto = memberService.updateMemberProfile(userId, updateMemberRequestDto);
 
@@ -163,6 +198,42 @@ public class MemberServiceTest {
         assertEquals(Gender.FEMALE, memberResponseDto.getGender());
         assertEquals(Region.INCHEON, memberResponseDto.getActivityRegion());
         assertEquals(imageUrl, memberResponseDto.getImageUrl());
+        // 업로드가 끝나기 전까지는 기존 이미지 유지
+        assertEquals(oldImageUrl, mockMemberEntity.getProfileImageUrl());
+        verify(imageUploadService, times(1)).upload(ImageOwner.MEMBER, userId, fileName,
+            profileImage);
+        verify(notificationPreferenceCache, never()).update(any(), any());
+    }
+
+    @Test
+    public void testUpdateMemberProfile_notificationPreferenceChanged() {
+        // given
+        Long userId = 1L;
+
+        MemberEntity mockMemberEntity = MemberEntity.builder()
+            .id(userId)
+            .nickName("test11")
+            .activityNoti(Notification.ON)
+            .chattingNoti(Notification.ON)
+            .build();
+
+        when(memberRepository.findMemberById(userId)).thenReturn(mockMemberEntity);
+
+        UpdateMemberRequestDto updateMemberRequestDto = UpdateMemberRequestDto.builder()
+            .nickName("test11")
+            .chattingNoti(Notification.OFF)
+            .build();
+
+        // when
+        memberService.updateMemberProfile(userId, updateMemberRequestDto);
+
+        // then
+        ArgumentCaptor<NotificationPreferenceDto> preference = ArgumentCaptor.forClass(
+            NotificationPreferenceDto.class);
+        verify(notificationPreferenceCache, times(1)).update(eq(userId), preference.capture());
+        assertTrue(preference.getValue().isActivityOn());
+        assertFalse(preference.getValue().isChattingOn());
+        verify(notificationBadgeCounter, times(1)).recount(userId);
     }
 
     @Test
@@ -216,6 +287,9 @@ public class MemberServiceTest {
         // then
         verify(memberRepository, times(1)).findMemberById(userId);
         verify(passwordEncoder, times(1)).matches(deleteRequestDto.getPassword(), mockMemberEntity.getPassword());
+        verify(userNotificationRepository, times(1)).deleteAllByMember_Id(userId);
+        verify(notificationInboxService, times(1)).deleteReadState(userId);
+        verify(notificationPreferenceCache, times(1)).evict(userId);
         verify(memberRepository, times(1)).delete(mockMemberEntity);
     }
 }
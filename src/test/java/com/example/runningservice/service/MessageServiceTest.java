@@ -1,79 +1,168 @@
-//package com.example.runningservice.service;
-//
-//import com.example.runningservice.dto.chat.MessageRequestDto;
-//import com.example.runningservice.entity.MemberEntity;
-//import com.example.runningservice.entity.chat.ChatJoinEntity;
-//import com.example.runningservice.entity.chat.ChatRoomEntity;
-//import com.example.runningservice.entity.chat.MessageEntity;
-//import com.example.runningservice.enums.Message;
-//import com.example.runningservice.repository.chat.ChatJoinRepository;
-//import com.example.runningservice.repository.chat.MessageRepository;
-//import com.example.runningservice.service.chat.MessageService;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.extension.ExtendWith;
-//import org.mockito.InjectMocks;
-//import org.mockito.Mock;
-//import org.mockito.junit.jupiter.MockitoExtension;
-//
-//import java.util.Optional;
-//
-//import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
-//import static org.junit.jupiter.api.Assertions.assertEquals;
-//import static org.mockito.Mockito.*;
-//
-//@ExtendWith(MockitoExtension.class)
-//public class MessageServiceTest {
-//
-//    @InjectMocks
-//    private MessageService messageService;
-//
-//    @Mock
-//    private MessageRepository messageRepository;
-//
-//    @Mock
-//    private ChatJoinRepository chatJoinRepository;
-//
-//    @Test
-//    public void testSaveMessage() throws Exception {
-//        // given
-//        Long chatJoinId = 1L;
-//        Long roomId = 1L;
-//        Long memberId = 1L;
-//
-//        MessageRequestDto messageRequestDto = MessageRequestDto.builder()
-//            .type(Message.TALK)  // 예시로 Message.TEXT 사용
-//            .chatJoinId(chatJoinId)
-//            .content("Test message")
-//            .imageUrl("http://example.com/image.jpg")
-//            .build();
-//
-//        ChatJoinEntity chatJoinEntity = ChatJoinEntity.builder()
-//            .id(chatJoinId)
-//            .chatRoom(ChatRoomEntity.builder().id(roomId).build())
-//            .member(MemberEntity.builder().id(memberId).build())
-//            .build();
-//
-//        when(chatJoinRepository.findById(chatJoinId)).thenReturn(Optional.of(chatJoinEntity));
-//
-//        MessageEntity messageEntity = MessageEntity.builder()
-//            .messageType(messageRequestDto.getType())
-//            .content(messageRequestDto.getContent())
-//            .imageUrl(messageRequestDto.getImageUrl())
-//            .chatJoin(chatJoinEntity)
-//            .build();
-//
-//        when(messageRepository.save(any(MessageEntity.class))).thenReturn(messageEntity);
-//
-//        // when
-//        MessageEntity result = messageService.saveMessage(messageRequestDto);
-//
-//        // Then
-//        assertEquals("Test message", result.getContent());
-//        assertEquals("http://example.com/image.jpg", result.getImageUrl());
-//        assertEquals(Message.TALK, result.getMessageType());
-//        verify(chatJoinRepository).findById(chatJoinId);
-//        verify(messageRepository).save(any(MessageEntity.class));
-//
-//    }
-//
-//}
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.chat.MessageRequestDto;
+import com.example.runningservice.dto.chat.MessageResponseDto;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.ChatRoomEntity;
+import com.example.runningservice.enums.Message;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.service.chat.ChatMessageWriter;
+import com.example.runningservice.service.chat.MessageService;
+import com.example.runningservice.service.chat.PendingChatMessage;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class MessageServiceTest {
+
+    @InjectMocks
+    private MessageService messageService;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Test
+    public void testSendMessage() {
+        // given
+        Long chatJoinId = 1L;
+        Long roomId = 1L;
+
+        when(chatJoinRepository.findById(chatJoinId)).thenReturn(Optional.of(chatJoin(chatJoinId, roomId)));
+        when(chatMessageWriter.enqueue(any(PendingChatMessage.class))).thenReturn(true);
+
+        // when
+        MessageResponseDto first = messageService.sendMessage(roomId, 1L, request(chatJoinId, "first"));
+        messageService.sendMessage(roomId, 1L, request(chatJoinId, "second"));
+
+        // then
+        assertEquals("first", first.getContent());
+        assertEquals("harry", first.getSender());
+        assertEquals(roomId, first.getRoomId());
+        // 보낸 사람 정보는 한 번만 조회
+        verify(chatJoinRepository, times(1)).findById(chatJoinId);
+        ArgumentCaptor<PendingChatMessage> captor = ArgumentCaptor.forClass(PendingChatMessage.class);
+        verify(chatMessageWriter, times(2)).enqueue(captor.capture());
+        assertEquals("first", captor.getAllValues().get(0).getContent());
+        assertEquals("second", captor.getAllValues().get(1).getContent());
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/chatroom.1"), any(MessageResponseDto.class));
+    }
+
+    @Test
+    public void testSendMessage_otherRoom() {
+        // given
+        when(chatJoinRepository.findById(1L)).thenReturn(Optional.of(chatJoin(1L, 2L)));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> messageService.sendMessage(1L, 1L, request(1L, "hello")));
+
+        // then
+        assertEquals(ErrorCode.NOT_JOINED_CHATROOM, exception.getErrorCode());
+        verify(chatMessageWriter, never()).enqueue(any(PendingChatMessage.class));
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    public void testSendMessage_otherMembersChatJoin() {
+        // given :: chat_join 1 은 회원 1 의 것
+        when(chatJoinRepository.findById(1L)).thenReturn(Optional.of(chatJoin(1L, 1L)));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> messageService.sendMessage(1L, 2L, request(1L, "hello")));
+
+        // then
+        assertEquals(ErrorCode.NOT_JOINED_CHATROOM, exception.getErrorCode());
+        verify(chatMessageWriter, never()).enqueue(any(PendingChatMessage.class));
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    public void testSendMessage_queueFull() {
+        // given
+        when(chatJoinRepository.findById(1L)).thenReturn(Optional.of(chatJoin(1L, 1L)));
+        when(chatMessageWriter.enqueue(any(PendingChatMessage.class))).thenReturn(false);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> messageService.sendMessage(1L, 1L, request(1L, "hello")));
+
+        // then
+        assertEquals(ErrorCode.CHAT_MESSAGE_QUEUE_FULL, exception.getErrorCode());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    public void testCloseSender() {
+        // given
+        when(chatJoinRepository.findById(1L)).thenReturn(Optional.of(chatJoin(1L, 1L)));
+        when(chatMessageWriter.enqueue(any(PendingChatMessage.class))).thenReturn(true);
+        messageService.sendMessage(1L, 1L, request(1L, "hello"));
+
+        // when
+        messageService.closeSender(1L);
+        messageService.sendMessage(1L, 1L, request(1L, "again"));
+
+        // then :: 캐시만 비우고 저장은 기다리지 않는다.
+        verify(chatMessageWriter, never()).whenWritten(anyLong());
+        verify(chatJoinRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    public void testAwaitPendingMessages_timeout() {
+        // given :: 저장이 끝나지 않는 방
+        when(chatMessageWriter.whenWritten(1L)).thenReturn(new CompletableFuture<>());
+
+        // when
+        long start = System.nanoTime();
+        messageService.awaitPendingMessages(1L);
+
+        // then
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        verify(chatMessageWriter, times(1)).whenWritten(1L);
+    }
+
+    private ChatJoinEntity chatJoin(Long chatJoinId, Long roomId) {
+        return ChatJoinEntity.builder()
+            .id(chatJoinId)
+            .chatRoom(ChatRoomEntity.builder().id(roomId).build())
+            .member(MemberEntity.builder().id(1L).nickName("harry").build())
+            .build();
+    }
+
+    private MessageRequestDto request(Long chatJoinId, String content) {
+        return MessageRequestDto.builder()
+            .type(Message.TALK)
+            .chatJoinId(chatJoinId)
+            .content(content)
+            .build();
+    }
+}
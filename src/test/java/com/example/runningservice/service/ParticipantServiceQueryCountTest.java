@@ -0,0 +1,102 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.runningservice.config.QueryDslConfig;
+import com.example.runningservice.dto.activity.ParticipantResponseDto;
+import com.example.runningservice.entity.ActivityEntity;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.entity.ParticipantEntity;
+import com.example.runningservice.enums.ActivityCategory;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.support.QueryCount;
+import com.example.runningservice.support.QueryCountDataJpaTest;
+import com.example.runningservice.support.QueryCounter;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 일정 참석자 목록 조회의 SQL 실행 횟수가 페이지 크기와 무관한지 확인한다. (참석자 수백 명)
+ */
+@QueryCountDataJpaTest
+@Import({QueryDslConfig.class, ParticipantService.class})
+class ParticipantServiceQueryCountTest {
+
+    private static final int PARTICIPANT_COUNT = 300;
+    private static final int SMALL_PAGE = 2;
+    private static final int LARGE_PAGE = 50;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ActivityEntity activity;
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity leader = saveMember("leader");
+        CrewEntity crew = entityManager.persist(CrewEntity.builder()
+            .leader(leader)
+            .crewName("crew")
+            .crewCapacity(1000)
+            .activityRegion(Region.SEOUL)
+            .memberCount(1)
+            .build());
+        activity = entityManager.persistAndFlush(ActivityEntity.builder()
+            .author(leader)
+            .crew(crew)
+            .category(ActivityCategory.ON_DEMAND)
+            .title("activity")
+            .date(LocalDate.now().plusDays(1))
+            .build());
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            entityManager.persist(ParticipantEntity.builder()
+                .activity(activity)
+                .member(saveMember("runner-" + i))
+                .build());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void getActivityParticipant_queryCountIndependentOfPageSize() {
+        QueryCount small = countParticipantPage(SMALL_PAGE);
+        QueryCount large = countParticipantPage(LARGE_PAGE);
+
+        large.assertSelectCount(small.selectCount());
+    }
+
+    private QueryCount countParticipantPage(int pageSize) {
+        entityManager.clear();
+
+        //when
+        QueryCounter.start();
+        Page<ParticipantResponseDto> page = participantService.getActivityParticipant(
+            activity.getId(), PageRequest.of(0, pageSize));
+        QueryCount queryCount = QueryCounter.stop("participant list / page size " + pageSize);
+
+        //then
+        assertEquals(pageSize, page.getContent().size());
+        assertEquals(PARTICIPANT_COUNT, page.getTotalElements());
+        assertTrue(page.getContent().stream()
+            .allMatch(dto -> dto.getNickName().startsWith("runner-")));
+        return queryCount;
+    }
+
+    private MemberEntity saveMember(String name) {
+        return entityManager.persist(MemberEntity.builder()
+            .email(name + "@example.com")
+            .nickName(name)
+            .build());
+    }
+}
@@ -16,6 +16,7 @@ import com.example.runningservice.dto.runRecord.RunRecordResponseDto;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.entity.RunGoalEntity;
 import com.example.runningservice.entity.RunRecordEntity;
+import com.example.runningservice.entity.RunStatsEntity;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.repository.MemberRepository;
 import com.example.runningservice.repository.RunGoalRepository;
@@ -45,13 +46,18 @@ public class RunRecordServiceTest {
     @Mock
     private RunGoalRepository runGoalRepository;
 
+    @Mock
+    private RunStatsService runStatsService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         runRecordRepository = mock(RunRecordRepository.class);
         memberRepository = mock(MemberRepository.class);
         runGoalRepository = mock(RunGoalRepository.class);
-        runRecordService = new RunRecordService(runRecordRepository, memberRepository, runGoalRepository);
+        runStatsService = mock(RunStatsService.class);
+        runRecordService = new RunRecordService(runRecordRepository, memberRepository,
+            runGoalRepository, runStatsService);
     }
 
     @Test
@@ -92,6 +98,7 @@ public class RunRecordServiceTest {
         assertNotNull(result);
         assertEquals(userId, result.getUserId());
         verify(runRecordRepository, times(1)).save(any(RunRecordEntity.class));
+        verify(runStatsService, times(1)).recordAdded(mockEntity);
     }
 
     @Test
@@ -154,6 +161,8 @@ public class RunRecordServiceTest {
                 entity.getPace().equals(map.get("pace")) &&
                 entity.getRunningDate().equals(LocalDateTime.of(2024,10,1, 0, 0, 0))
         ));
+        verify(runStatsService).recordUpdated(argThat(before -> before == existingEntity),
+            argThat(after -> after.getDistance().equals(requestDto.getDistance())));
     }
 
     @Test
@@ -168,6 +177,19 @@ public class RunRecordServiceTest {
             () -> runRecordService.updateRunRecord(runningId, requestDto));
 
         verify(runRecordRepository, never()).save(any(RunRecordEntity.class));
+        verify(runStatsService, never()).recordUpdated(any(), any());
+    }
+
+    @Test
+    public void testDeleteById() {
+        RunRecordEntity record = createMockRunRecordEntity(1L, 1L, 10, 1800, 900);
+
+        when(runRecordRepository.findById(1L)).thenReturn(Optional.of(record));
+
+        runRecordService.deleteById(1L);
+
+        verify(runStatsService, times(1)).recordRemoved(record);
+        verify(runRecordRepository, times(1)).delete(record);
     }
 
     @Test
@@ -175,11 +197,11 @@ public class RunRecordServiceTest {
         Long userId = 1L;
 
         // Mock 데이터 생성 - 누적 시간이 45분, 평균 페이스가 15분이 되도록 수정
-        RunRecordEntity record1 = createMockRunRecordEntity(1L, userId, 10, 1800, 900);
-        RunRecordEntity record2 = createMockRunRecordEntity(2L, userId, 10, 900, 900);
-        List<RunRecordEntity> mockRecords = Arrays.asList(record1, record2);
+        RunStatsEntity runStats = RunStatsEntity.builder().memberId(userId).build();
+        runStats.add(createMockRunRecordEntity(1L, userId, 10, 1800, 900));
+        runStats.add(createMockRunRecordEntity(2L, userId, 10, 900, 900));
 
-        when(runRecordRepository.findByUserId_Id(userId)).thenReturn(mockRecords);
+        when(runStatsService.getStats(userId)).thenReturn(runStats);
 
         RunRecordResponseDto result = runRecordService.calculateTotalRunRecords(userId);
 
@@ -188,6 +210,19 @@ public class RunRecordServiceTest {
         assertEquals(20, result.getDistance()); // 총 거리 확인
         assertEquals(2700, result.getRunningTime()); // 총 러닝 시간 확인
         assertEquals(900, result.getPace()); // 평균 페이스 확인
+        assertEquals(2, result.getRunCount());
+        verify(runRecordRepository, never()).findByUserId_Id(userId);
+    }
+
+    @Test
+    public void testCalculateTotalRunRecords_NoRecord() {
+        Long userId = 1L;
+
+        when(runStatsService.getStats(userId))
+            .thenReturn(RunStatsEntity.builder().memberId(userId).build());
+
+        assertThrows(CustomException.class,
+            () -> runRecordService.calculateTotalRunRecords(userId));
     }
 
 
@@ -0,0 +1,206 @@
+package com.example.runningservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.runRecord.RunStatsAggregateDto;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.entity.RunRecordEntity;
+import com.example.runningservice.entity.RunStatsEntity;
+import com.example.runningservice.repository.RunRecordRepository;
+import com.example.runningservice.repository.RunStatsRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RunStatsServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 10, 1, 7, 0);
+
+    @Mock
+    private RunStatsRepository runStatsRepository;
+
+    @Mock
+    private RunRecordRepository runRecordRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RunStatsService runStatsService;
+
+    @Test
+    void recordAdded_appliesDelta() {
+        //given
+        RunStatsEntity stats = statsOf(record(1L, 5.0, 1800, 360, DAY));
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID)).thenReturn(Optional.of(stats));
+
+        //when
+        runStatsService.recordAdded(record(2L, 10.0, 3000, 300, DAY.plusDays(1)));
+
+        //then
+        assertEquals(2, stats.getRunCount());
+        assertEquals(15.0, stats.getTotalDistance());
+        assertEquals(4800, stats.getTotalRunningTime());
+        assertEquals(330, stats.getAveragePace());
+        assertEquals(300, stats.getBestPace());
+        assertEquals(DAY.plusDays(1), stats.getLastRunDate());
+        verify(runRecordRepository, never()).aggregateByUserIdExcluding(any(), any());
+    }
+
+    @Test
+    void recordAdded_createsStatsFromExistingRecords() {
+        //given
+        RunRecordEntity saved = record(3L, 10.0, 3000, 300, DAY);
+        when(runRecordRepository.aggregateByUserIdExcluding(USER_ID, 3L)).thenReturn(Optional.of(
+            new RunStatsAggregateDto(USER_ID, 2L, 10.0, 3600L, 700L, 340, DAY.minusDays(1))));
+        ArgumentCaptor<RunStatsEntity> captor = ArgumentCaptor.forClass(RunStatsEntity.class);
+        when(runStatsRepository.insertIfAbsent(captor.capture())).thenReturn(1);
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID))
+            .thenReturn(Optional.empty())
+            .thenAnswer(invocation -> Optional.of(captor.getValue()));
+
+        //when
+        runStatsService.recordAdded(saved);
+
+        //then
+        RunStatsEntity stats = captor.getValue();
+        assertEquals(3, stats.getRunCount());
+        assertEquals(20.0, stats.getTotalDistance());
+        assertEquals(6600, stats.getTotalRunningTime());
+        assertEquals(300, stats.getBestPace());
+        assertEquals(DAY, stats.getLastRunDate());
+    }
+
+    @Test
+    void recordAdded_createdConcurrently_addsToExistingRow() {
+        //given
+        RunStatsEntity concurrent = statsOf(record(1L, 5.0, 1800, 360, DAY));
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(concurrent));
+        // 다른 트랜잭션이 먼저 만들어 insert 는 무시된다.
+        when(runStatsRepository.insertIfAbsent(any(RunStatsEntity.class))).thenReturn(0);
+
+        //when
+        runStatsService.recordAdded(record(2L, 10.0, 3000, 300, DAY.plusDays(1)));
+
+        //then
+        assertEquals(2, concurrent.getRunCount());
+        assertEquals(15.0, concurrent.getTotalDistance());
+    }
+
+    @Test
+    void recordUpdated_appliesDifference() {
+        //given
+        RunRecordEntity before = record(1L, 5.0, 1800, 360, DAY);
+        RunStatsEntity stats = statsOf(before, record(2L, 10.0, 3000, 300, DAY.plusDays(1)));
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID)).thenReturn(Optional.of(stats));
+
+        //when
+        runStatsService.recordUpdated(before, record(1L, 7.0, 2400, 340, DAY));
+
+        //then
+        assertEquals(2, stats.getRunCount());
+        assertEquals(17.0, stats.getTotalDistance());
+        assertEquals(5400, stats.getTotalRunningTime());
+        assertEquals(320, stats.getAveragePace());
+        assertEquals(300, stats.getBestPace());
+        verify(runRecordRepository, never()).aggregateByUserIdExcluding(any(), any());
+    }
+
+    @Test
+    void recordRemoved_bestPaceRemoved_reaggregates() {
+        //given
+        RunRecordEntity best = record(2L, 10.0, 3000, 300, DAY.plusDays(1));
+        RunStatsEntity stats = statsOf(record(1L, 5.0, 1800, 360, DAY), best);
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID)).thenReturn(Optional.of(stats));
+        when(runRecordRepository.aggregateByUserIdExcluding(USER_ID, 2L)).thenReturn(Optional.of(
+            new RunStatsAggregateDto(USER_ID, 1L, 5.0, 1800L, 360L, 360, DAY)));
+
+        //when
+        runStatsService.recordRemoved(best);
+
+        //then
+        assertEquals(1, stats.getRunCount());
+        assertEquals(5.0, stats.getTotalDistance());
+        assertEquals(360, stats.getBestPace());
+        assertEquals(DAY, stats.getLastRunDate());
+    }
+
+    @Test
+    void recordRemoved_lastRecord_resetsStats() {
+        //given
+        RunRecordEntity only = record(1L, 5.0, 1800, 360, DAY);
+        RunStatsEntity stats = statsOf(only);
+        when(runStatsRepository.findByMemberIdForUpdate(USER_ID)).thenReturn(Optional.of(stats));
+
+        //when
+        runStatsService.recordRemoved(only);
+
+        //then
+        assertEquals(0, stats.getRunCount());
+        assertEquals(0.0, stats.getTotalDistance());
+        assertNull(stats.getAveragePace());
+        assertNull(stats.getBestPace());
+        verify(runRecordRepository, never()).aggregateByUserIdExcluding(any(), anyLong());
+    }
+
+    @Test
+    void rebuild_overwritesDriftAndCreatesMissing() {
+        //given
+        RunStatsEntity drifted = statsOf(record(1L, 100.0, 1, 1, DAY));
+        when(runStatsRepository.findAllByMemberIdInForUpdate(List.of(USER_ID, 2L)))
+            .thenReturn(List.of(drifted));
+        when(runRecordRepository.aggregateByUserIds(List.of(USER_ID, 2L))).thenReturn(List.of(
+            new RunStatsAggregateDto(USER_ID, 2L, 15.0, 4800L, 660L, 300, DAY),
+            new RunStatsAggregateDto(2L, 1L, 3.0, 1200L, 400L, 400, DAY)));
+
+        //when
+        runStatsService.rebuild(List.of(USER_ID, 2L));
+
+        //then
+        assertEquals(2, drifted.getRunCount());
+        assertEquals(15.0, drifted.getTotalDistance());
+        assertEquals(330, drifted.getAveragePace());
+        ArgumentCaptor<List<RunStatsEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(runStatsRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(2L, captor.getValue().get(0).getMemberId());
+        assertEquals(1, captor.getValue().get(0).getRunCount());
+    }
+
+    private RunStatsEntity statsOf(RunRecordEntity... records) {
+        RunStatsEntity stats = RunStatsEntity.builder().memberId(USER_ID).build();
+        for (RunRecordEntity record : records) {
+            stats.add(record);
+        }
+        return stats;
+    }
+
+    private RunRecordEntity record(Long id, double distance, int runningTime, int pace,
+        LocalDateTime runningDate) {
+        return RunRecordEntity.builder()
+            .id(id)
+            .userId(MemberEntity.builder().id(USER_ID).build())
+            .distance(distance)
+            .runningTime(runningTime)
+            .pace(pace)
+            .runningDate(runningDate)
+            .build();
+    }
+}
@@ -18,10 +18,12 @@ import com.example.runningservice.dto.auth.SignupRequestDto;
 import com.example.runningservice.dto.member.MemberResponseDto;
 import com.example.runningservice.entity.MemberEntity;
 import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.ImageOwner;
 import com.example.runningservice.enums.Region;
 import com.example.runningservice.exception.CustomException;
 import com.example.runningservice.exception.ErrorCode;
 import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.service.upload.ImageUploadService;
 import com.example.runningservice.util.AESUtil;
 import com.example.runningservice.util.S3FileUtil;
 import java.util.Optional;
@@ -30,7 +32,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -55,6 +60,12 @@ class SignupServiceTest {
     @Mock
     private S3FileUtil s3FileUtil;
 
+    @Spy
+    private TaskExecutor ioTaskExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private ImageUploadService imageUploadService;
+
 
     @Test
     void testSignup_success() throws Exception {
@@ -91,9 +102,11 @@ class SignupServiceTest {
 
         // Then
         assertNotNull(responseDto);
-        verify(s3FileUtil, times(1)).putObject(anyString(), any(MultipartFile.class));
+        verify(imageUploadService, times(1)).upload(ImageOwner.MEMBER, null, "user-null",
+            mockFile);
         verify(s3FileUtil, times(1)).getImgUrl(anyString());
-        assertEquals("http://test-url.com/user-null", savedEntity.getProfileImageUrl());
+        // 업로드가 끝나기 전까지는 기본 이미지
+        assertEquals("http://test-url.com/user-default", savedEntity.getProfileImageUrl());
         assertEquals("email@email.com", responseDto.getEmail());
         assertEquals("01011112222", responseDto.getPhoneNumber());
         assertEquals("name", responseDto.getName());
@@ -191,7 +204,8 @@ class SignupServiceTest {
 
         // Then
         verify(s3FileUtil, times(1)).getImgUrl("user-default");
-        verify(s3FileUtil, never()).putObject(anyString(), any(MultipartFile.class));
+        verify(imageUploadService, never()).upload(any(), any(), anyString(),
+            any(MultipartFile.class));
         assertEquals(signedImageUrl, responseDto.getImageUrl());
     }
 
@@ -66,6 +66,15 @@ class UserJoinServiceTest {
     @Mock
     private CrewMemberRepository crewMemberRepository;
 
+    @Mock
+    private CrewMembershipService crewMembershipService;
+
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+
+    @Mock
+    private CrewRoleService crewRoleService;
+
     @Mock
     private JwtUtil jwtUtil;
 
@@ -107,6 +116,8 @@ class UserJoinServiceTest {
         assertEquals("testCrewName", response.getCrewName());
         verify(joinApplicationRepository, times(1)).save(any(JoinApplyEntity.class));
         verify(crewMemberRepository, times(1)).save(any(CrewMemberEntity.class));
+        verify(crewRepository, times(1)).increaseMemberCount(crewId);
+        verify(crewMembershipService, times(1)).evict(userId);
     }
 
     @Test
@@ -0,0 +1,172 @@
+package com.example.runningservice.service.blacklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RevokedTokenStoreTest {
+
+    private static final long NOW = 1_800_000_000L;
+    private static final long BUCKET_SECONDS = 600;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void isRevoked_untilExpiration() {
+        //given
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_SECONDS, 1000);
+        TokenDigest digest = TokenDigest.of("refresh-token");
+
+        //when
+        store.add(digest, NOW + 60);
+
+        //then
+        assertTrue(store.isRevoked(digest, NOW + 60, NOW));
+        assertFalse(store.isRevoked(digest, NOW + 60, NOW + 60));
+        assertFalse(store.isRevoked(TokenDigest.of("other-token"), NOW + 60, NOW));
+    }
+
+    @Test
+    void purgeExpired_dropsWholeBuckets() {
+        //given
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_SECONDS, 1000);
+        for (int i = 0; i < 100; i++) {
+            store.add(TokenDigest.of("expired-" + i), NOW - BUCKET_SECONDS * 2 + i);
+        }
+        TokenDigest alive = TokenDigest.of("alive");
+        store.add(alive, NOW + BUCKET_SECONDS * 2);
+
+        //when
+        int removed = store.purgeExpired(NOW);
+
+        //then
+        assertEquals(100, removed);
+        assertEquals(1, store.size());
+        assertEquals(1, store.bucketCount());
+        assertTrue(store.isRevoked(alive, NOW + BUCKET_SECONDS * 2, NOW));
+    }
+
+    @Test
+    void journal_replayAfterRestart() throws Exception {
+        //given
+        Path path = tempDir.resolve("blacklist.journal");
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_SECONDS, 1000);
+        TokenDigest revoked = TokenDigest.of("revoked");
+        TokenDigest expired = TokenDigest.of("expired");
+        try (RevokedTokenJournal journal = new RevokedTokenJournal(path)) {
+            journal.replay(store, NOW);
+            journal.append(revoked, NOW + 3600);
+            journal.append(expired, NOW + 10);
+        }
+
+        //when
+        RevokedTokenStore restored = new RevokedTokenStore(BUCKET_SECONDS, 1000);
+        int loaded;
+        try (RevokedTokenJournal journal = new RevokedTokenJournal(path)) {
+            loaded = journal.replay(restored, NOW + 60);
+        }
+
+        //then
+        assertEquals(1, loaded);
+        assertTrue(restored.isRevoked(revoked, NOW + 3600, NOW + 60));
+        assertFalse(restored.isRevoked(expired, NOW + 10, NOW + 60));
+    }
+
+    @Test
+    void concurrentAddAndLookup() throws Exception {
+        //given
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_SECONDS, 100_000);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger falsePositives = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            // 쓰기 : 서로 다른 만료 버킷에 폐기 토큰 추가 후 즉시 조회
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    TokenDigest digest = TokenDigest.of("revoked-" + thread + "-" + i);
+                    store.add(digest, NOW + BUCKET_SECONDS + i);
+                    if (!store.isRevoked(digest, NOW + BUCKET_SECONDS + i, NOW)) {
+                        throw new AssertionError("revoked token not listed");
+                    }
+                }
+                return null;
+            }));
+            // 읽기 : 폐기되지 않은 토큰은 절대 listed 가 되면 안 된다.
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    if (store.isRevoked(TokenDigest.of("valid-" + thread + "-" + i),
+                        NOW + BUCKET_SECONDS + i, NOW)) {
+                        falsePositives.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(0, falsePositives.get());
+        assertEquals(threads * perThread, store.size());
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i += 997) {
+                assertTrue(store.isRevoked(TokenDigest.of("revoked-" + t + "-" + i),
+                    NOW + BUCKET_SECONDS + i, NOW));
+            }
+        }
+    }
+
+    @Test
+    void memoryFootprint_millionsOfRevokedTokens() {
+        //given
+        int count = 2_000_000;
+        RevokedTokenStore store = new RevokedTokenStore(BUCKET_SECONDS, count);
+
+        //when
+        // 7일(refresh token 수명)에 고르게 퍼진 만료 시각
+        long lifetime = 7 * 24 * 3600L;
+        for (int i = 0; i < count; i++) {
+            store.add(new TokenDigest(mix(i), mix(~i)), NOW + (i % lifetime));
+        }
+
+        //then
+        assertEquals(count, store.size());
+        // 토큰 문자열 + Date + Map.Entry 로 저장하던 기존 방식(항목당 수백 byte) 대비
+        // digest 테이블 + Bloom filter 는 항목당 64byte 이하
+        long bytesPerEntry = store.footprintBytes() / count;
+        assertTrue(bytesPerEntry <= 64, "bytes per entry: " + bytesPerEntry);
+        assertTrue(store.isRevoked(new TokenDigest(mix(42), mix(~42)), NOW + 42, NOW));
+    }
+
+    private static long mix(long value) {
+        // splitmix64
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
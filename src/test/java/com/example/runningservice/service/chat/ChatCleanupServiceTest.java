@@ -0,0 +1,145 @@
+package com.example.runningservice.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.entity.chat.ChatCleanupJobEntity;
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.ChatRoomEntity;
+import com.example.runningservice.enums.CleanupStatus;
+import com.example.runningservice.repository.chat.ChatCleanupJobRepository;
+import com.example.runningservice.repository.chat.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChatCleanupServiceTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ChatCleanupJobRepository chatCleanupJobRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChatCleanupService chatCleanupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatCleanupService = new ChatCleanupService(messageRepository, chatCleanupJobRepository,
+            transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(chatCleanupService, "inlineLimit", 100);
+        ReflectionTestUtils.setField(chatCleanupService, "chunkSize", 1000);
+        ReflectionTestUtils.setField(chatCleanupService, "jobsPerRun", 10);
+        chatCleanupService.init();
+    }
+
+    @Test
+    void detach_smallRoom_singleUpdate() {
+        //given
+        when(messageRepository.detachChatJoin(1L, 100)).thenReturn(30);
+
+        //when
+        chatCleanupService.detach(List.of(chatJoin(1L, 10L)));
+
+        //then
+        verify(messageRepository, times(1)).detachChatJoin(1L, 100);
+        verify(chatCleanupJobRepository, never()).save(any());
+        assertEquals(30.0, meterRegistry.get("chat.cleanup.detached").counter().count());
+    }
+
+    @Test
+    void detach_largeRoom_schedulesJob() {
+        //given
+        when(messageRepository.detachChatJoin(1L, 100)).thenReturn(100);
+        when(messageRepository.detachChatJoin(2L, 100)).thenReturn(5);
+
+        //when
+        chatCleanupService.detach(List.of(chatJoin(1L, 10L), chatJoin(2L, 20L)));
+
+        //then
+        ArgumentCaptor<ChatCleanupJobEntity> captor = ArgumentCaptor.forClass(
+            ChatCleanupJobEntity.class);
+        verify(chatCleanupJobRepository, times(1)).save(captor.capture());
+        assertEquals(1L, captor.getValue().getChatJoinId());
+        assertEquals(10L, captor.getValue().getRoomId());
+        assertEquals(CleanupStatus.PENDING, captor.getValue().getStatus());
+        assertEquals(100L, captor.getValue().getDetachedCount());
+    }
+
+    @Test
+    void runPendingJobs_commitsPerChunkUntilDone() {
+        //given
+        ChatCleanupJobEntity job = ChatCleanupJobEntity.builder()
+            .id(7L)
+            .chatJoinId(1L)
+            .roomId(10L)
+            .status(CleanupStatus.PENDING)
+            .detachedCount(100)
+            .build();
+        when(chatCleanupJobRepository.findByStatusOrderByIdAsc(any(CleanupStatus.class),
+            any(Pageable.class))).thenReturn(List.of(job));
+        when(chatCleanupJobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(null));
+        when(messageRepository.detachChatJoin(1L, 1000)).thenReturn(1000, 1000, 250);
+
+        //when
+        chatCleanupService.runPendingJobs();
+
+        //then
+        verify(transactionTemplate, times(3)).execute(any());
+        assertEquals(CleanupStatus.DONE, job.getStatus());
+        assertEquals(2350L, job.getDetachedCount());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void run_alreadyDone_skipsUpdate() {
+        //given
+        ChatCleanupJobEntity job = ChatCleanupJobEntity.builder()
+            .id(7L)
+            .chatJoinId(1L)
+            .status(CleanupStatus.DONE)
+            .build();
+        when(chatCleanupJobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(null));
+
+        //when
+        chatCleanupService.run(7L);
+
+        //then
+        verify(messageRepository, never()).detachChatJoin(anyLong(), anyInt());
+    }
+
+    private ChatJoinEntity chatJoin(Long chatJoinId, Long roomId) {
+        return ChatJoinEntity.builder()
+            .id(chatJoinId)
+            .chatRoom(ChatRoomEntity.builder().id(roomId).build())
+            .build();
+    }
+}
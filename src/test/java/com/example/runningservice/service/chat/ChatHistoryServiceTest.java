@@ -0,0 +1,202 @@
+package com.example.runningservice.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.chat.MessageResponseDto;
+import com.example.runningservice.dto.cursor.CursorSliceResponseDto;
+import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.enums.Message;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.chat.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatHistoryServiceTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChatHistoryService chatHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatHistoryService = new ChatHistoryService(messageRepository, chatJoinRepository,
+            meterRegistry);
+        ReflectionTestUtils.setField(chatHistoryService, "capacity", 10);
+        ReflectionTestUtils.setField(chatHistoryService, "maxRooms", 100L);
+        ReflectionTestUtils.setField(chatHistoryService, "expireMinutes", 10L);
+        chatHistoryService.init();
+    }
+
+    @Test
+    void getMessages_latestPageServedFromRing() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(1L, 7L,
+            10L)).thenReturn(true);
+        when(messageRepository.findByRoomIdBefore(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+            .thenReturn(messages(1L, 30, 21));
+
+        //when
+        CursorSliceResponseDto<MessageResponseDto> first = chatHistoryService.getMessages(7L, 1L,
+            10L, null, 5);
+        CursorSliceResponseDto<MessageResponseDto> again = chatHistoryService.getMessages(7L, 1L,
+            10L, null, 5);
+
+        //then
+        verify(messageRepository, times(1)).findByRoomIdBefore(anyLong(), anyLong(),
+            any(Pageable.class));
+        assertEquals(List.of(30L, 29L, 28L, 27L, 26L), ids(first));
+        assertTrue(first.isHasNext());
+        assertEquals("26", first.getNextCursor());
+        assertEquals(ids(first), ids(again));
+        assertEquals(2.0, meterRegistry.get("chat.history.page").tag("source", "cache")
+            .counter().count());
+    }
+
+    @Test
+    void getMessages_olderThanRing_queriesDatabase() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(1L, 7L,
+            10L)).thenReturn(true);
+        when(messageRepository.findByRoomIdBefore(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+            .thenReturn(messages(1L, 30, 21));
+        when(messageRepository.findByRoomIdBefore(eq(1L), eq(23L), any(Pageable.class)))
+            .thenReturn(messages(1L, 22, 17));
+
+        //when
+        CursorSliceResponseDto<MessageResponseDto> page = chatHistoryService.getMessages(7L, 1L,
+            10L, 23L, 5);
+
+        //then
+        assertEquals(List.of(22L, 21L, 20L, 19L, 18L), ids(page));
+        assertTrue(page.isHasNext());
+        assertEquals(1.0, meterRegistry.get("chat.history.page").tag("source", "db")
+            .counter().count());
+    }
+
+    @Test
+    void getMessages_wholeRoomInRing_lastPageWithoutDatabase() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(1L, 7L,
+            10L)).thenReturn(true);
+        when(messageRepository.findByRoomIdBefore(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+            .thenReturn(messages(1L, 3, 1));
+
+        //when
+        CursorSliceResponseDto<MessageResponseDto> page = chatHistoryService.getMessages(7L, 1L,
+            10L, 3L, 5);
+
+        //then
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertFalse(page.isHasNext());
+        verify(messageRepository, never()).findByRoomIdBefore(eq(1L), eq(3L), any(Pageable.class));
+    }
+
+    @Test
+    void messagesSaved_appendsToLoadedRoomOnly() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(1L, 7L,
+            10L)).thenReturn(true);
+        when(messageRepository.findByRoomIdBefore(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+            .thenReturn(messages(1L, 3, 1));
+        chatHistoryService.getMessages(7L, 1L, 10L, null, 5);
+
+        //when
+        chatHistoryService.messagesSaved(List.of(message(1L, 4L), message(2L, 5L),
+            message(1L, 3L)));
+        CursorSliceResponseDto<MessageResponseDto> page = chatHistoryService.getMessages(7L, 1L,
+            10L, null, 5);
+
+        //then
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(page));
+        verify(messageRepository, times(1)).findByRoomIdBefore(anyLong(), anyLong(),
+            any(Pageable.class));
+    }
+
+    @Test
+    void getMessages_notJoined() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndChatRoom_Crew_IdAndMember_Id(1L, 7L,
+            10L)).thenReturn(false);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> chatHistoryService.getMessages(7L, 1L, 10L, null, 5));
+
+        //then
+        assertEquals(ErrorCode.NOT_JOINED_CHATROOM, exception.getErrorCode());
+        verify(messageRepository, never()).findByRoomIdBefore(anyLong(), anyLong(),
+            any(Pageable.class));
+    }
+
+    @Test
+    void messageRing_savedWhileLoading_appendedOnce() {
+        //given
+        ChatHistoryService.MessageRing ring = new ChatHistoryService.MessageRing(3);
+        ring.append(MessageResponseDto.of(message(1L, 2L)));
+        ring.append(MessageResponseDto.of(message(1L, 3L)));
+
+        //when : 적재 쿼리에는 2 까지만 보였다.
+        ring.load(List.of(MessageResponseDto.of(message(1L, 2L)),
+            MessageResponseDto.of(message(1L, 1L))));
+
+        //then
+        List<MessageResponseDto> latest = ring.before(Long.MAX_VALUE, 3);
+        assertEquals(List.of(3L, 2L, 1L), latest.stream().map(MessageResponseDto::getId).toList());
+
+        ring.append(MessageResponseDto.of(message(1L, 4L)));
+        assertNull(ring.before(2L, 1));
+    }
+
+    private List<MessageEntity> messages(Long roomId, long fromId, long toId) {
+        List<MessageEntity> messages = new ArrayList<>();
+        LongStream.rangeClosed(toId, fromId)
+            .map(id -> fromId + toId - id)
+            .forEach(id -> messages.add(message(roomId, id)));
+        return messages;
+    }
+
+    private MessageEntity message(Long roomId, Long id) {
+        return MessageEntity.builder()
+            .id(id)
+            .roomId(roomId)
+            .senderId(10L)
+            .senderNickName("harry")
+            .messageType(Message.TALK)
+            .content("m" + id)
+            .build();
+    }
+
+    private List<Long> ids(CursorSliceResponseDto<MessageResponseDto> page) {
+        return page.getContent().stream().map(MessageResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.runningservice.service.chat;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.ChatRoomEntity;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChatLeaveServiceTest {
+
+    @InjectMocks
+    private ChatLeaveService chatLeaveService;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    @Mock
+    private ChatCleanupService chatCleanupService;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void leave_locksDetachesDeletesThenCleansUpAfterCommit() {
+        //given
+        List<ChatJoinEntity> chatJoins = List.of(chatJoin(1L, 10L, 100L), chatJoin(2L, 20L, 100L));
+
+        //when
+        chatLeaveService.leave(chatJoins);
+
+        //then
+        InOrder inOrder = inOrder(chatJoinRepository, chatCleanupService);
+        inOrder.verify(chatJoinRepository).lockForRemoval(List.of(1L, 2L));
+        inOrder.verify(chatCleanupService).detach(chatJoins);
+        inOrder.verify(chatJoinRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        // 커밋 전에는 캐시/카운터를 건드리지 않는다.
+        verify(messageService, never()).closeSender(1L);
+        verifyNoInteractions(chatUnreadCounter);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        verify(messageService).closeSender(1L);
+        verify(messageService).closeSender(2L);
+        verify(chatUnreadCounter).memberLeft(10L, 100L);
+        verify(chatUnreadCounter).memberLeft(20L, 100L);
+    }
+
+    @Test
+    void leave_rollback_keepsSender() {
+        //given
+        List<ChatJoinEntity> chatJoins = List.of(chatJoin(1L, 10L, 100L));
+
+        //when
+        chatLeaveService.leave(chatJoins);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        //then
+        verify(messageService, never()).closeSender(1L);
+        verifyNoInteractions(chatUnreadCounter);
+    }
+
+    @Test
+    void leave_empty() {
+        //when
+        chatLeaveService.leave(List.of());
+
+        //then
+        verifyNoInteractions(chatJoinRepository, chatCleanupService, messageService,
+            chatUnreadCounter);
+    }
+
+    private ChatJoinEntity chatJoin(Long chatJoinId, Long roomId, Long memberId) {
+        return ChatJoinEntity.builder()
+            .id(chatJoinId)
+            .chatRoom(ChatRoomEntity.builder().id(roomId).build())
+            .member(MemberEntity.builder().id(memberId).build())
+            .build();
+    }
+}
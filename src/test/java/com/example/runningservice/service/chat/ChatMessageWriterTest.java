@@ -0,0 +1,296 @@
+package com.example.runningservice.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.runningservice.entity.chat.ChatJoinEntity;
+import com.example.runningservice.entity.chat.MessageEntity;
+import com.example.runningservice.enums.Message;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    @Mock
+    private ChatHistoryService chatHistoryService;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChatMessageWriter chatMessageWriter;
+
+    // 방별 저장 순서
+    private final Map<Long, List<String>> persisted = new ConcurrentHashMap<>();
+    private final List<Integer> transactionSizes = Collections.synchronizedList(new ArrayList<>());
+    private volatile CountDownLatch blockWriter = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatMessageWriter = new ChatMessageWriter(transactionTemplate, chatJoinRepository,
+            chatHistoryService, chatUnreadCounter, meterRegistry);
+        ReflectionTestUtils.setField(chatMessageWriter, "entityManager", entityManager);
+        ReflectionTestUtils.setField(chatMessageWriter, "batchSize", 50);
+        ReflectionTestUtils.setField(chatMessageWriter, "offerTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(chatMessageWriter, "pollIntervalMillis", 10L);
+        ReflectionTestUtils.setField(chatMessageWriter, "stopTimeoutMillis", 30000L);
+
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(chatJoinRepository.lockExistingIds(any()))
+            .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        lenient().when(entityManager.getReference(eq(ChatJoinEntity.class), any()))
+            .thenAnswer(invocation -> ChatJoinEntity.builder()
+                .id(invocation.getArgument(1))
+                .build());
+        List<MessageEntity> transaction = Collections.synchronizedList(new ArrayList<>());
+        lenient().doAnswer(invocation -> {
+            transaction.add(invocation.getArgument(0));
+            return null;
+        }).when(entityManager).persist(any(MessageEntity.class));
+        lenient().doAnswer(invocation -> {
+            blockWriter.await(10, TimeUnit.SECONDS);
+            transaction.clear();
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            transactionSizes.add(transaction.size());
+            for (MessageEntity message : transaction) {
+                persisted.computeIfAbsent(message.getRoomId(), id -> new ArrayList<>())
+                    .add(message.getContent());
+            }
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        blockWriter.countDown();
+        chatMessageWriter.stop();
+    }
+
+    @Test
+    void enqueue_persistsInOrderPerRoom() {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 10000);
+        chatMessageWriter.start();
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(chatMessageWriter.enqueue(message((long) (i % 3), "m" + i)));
+        }
+
+        //then
+        assertTrue(chatMessageWriter.awaitWritten(10000));
+        for (long room = 0; room < 3; room++) {
+            List<String> contents = persisted.get(room);
+            for (int i = 1; i < contents.size(); i++) {
+                int previous = Integer.parseInt(contents.get(i - 1).substring(1));
+                int current = Integer.parseInt(contents.get(i).substring(1));
+                assertTrue(previous < current);
+            }
+        }
+        assertEquals(1000, persisted.values().stream().mapToInt(List::size).sum());
+        // 안 읽은 수 증가는 batch 당 (방, 보낸 사람) 별 한 번
+        verify(chatJoinRepository, atMost(1000)).increaseUnreadCount(anyLong(), anyLong(), anyInt());
+        verify(chatJoinRepository, atLeast(3)).increaseUnreadCount(anyLong(), anyLong(), anyInt());
+        assertTrue(transactionSizes.stream().allMatch(size -> size <= 50));
+    }
+
+    @Test
+    void enqueue_queueFull_backpressure() {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 2);
+        blockWriter = new CountDownLatch(1);
+        chatMessageWriter.start();
+        chatMessageWriter.enqueue(message(1L, "in-flight"));
+        while (chatMessageWriter.pendingCount() > 0) {
+            Thread.onSpinWait();
+        }
+
+        //when
+        boolean first = chatMessageWriter.enqueue(message(1L, "a"));
+        boolean second = chatMessageWriter.enqueue(message(1L, "b"));
+        boolean rejected = chatMessageWriter.enqueue(message(1L, "c"));
+
+        //then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(rejected);
+        assertFalse(chatMessageWriter.awaitWritten(50));
+
+        blockWriter.countDown();
+        assertTrue(chatMessageWriter.awaitWritten(10000));
+        assertEquals(List.of("in-flight", "a", "b"), persisted.get(1L));
+    }
+
+    @Test
+    void stop_flushesPendingMessages() throws InterruptedException {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 1000);
+        blockWriter = new CountDownLatch(1);
+        chatMessageWriter.start();
+        for (int i = 0; i < 200; i++) {
+            chatMessageWriter.enqueue(message(1L, "m" + i));
+        }
+
+        //when
+        blockWriter.countDown();
+        chatMessageWriter.stop();
+
+        //then
+        assertEquals(200, persisted.get(1L).size());
+        assertFalse(chatMessageWriter.enqueue(message(1L, "after-stop")));
+    }
+
+    @Test
+    void stop_writerNotFinished_leavesRemainingUnwritten() throws InterruptedException {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(chatMessageWriter, "stopTimeoutMillis", 50L);
+        blockWriter = new CountDownLatch(1);
+        chatMessageWriter.start();
+        chatMessageWriter.enqueue(message(1L, "in-flight"));
+        while (chatMessageWriter.pendingCount() > 0) {
+            Thread.onSpinWait();
+        }
+        for (int i = 0; i < 10; i++) {
+            chatMessageWriter.enqueue(message(1L, "m" + i));
+        }
+
+        //when
+        chatMessageWriter.stop();
+
+        //then
+        // 저장중인 writer 와 동시에 저장하지 않는다.
+        assertNull(persisted.get(1L));
+        assertEquals(0, chatMessageWriter.pendingCount());
+        assertEquals(10.0, meterRegistry.get("chat.message.dropped").counter().count());
+    }
+
+    @Test
+    void write_batchFailure_retriesOneByOne() {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 100);
+        doAnswer(invocation -> {
+            ChatJoinEntity chatJoin = ChatJoinEntity.builder().id(invocation.getArgument(1)).build();
+            if (chatJoin.getId() == 9L) {
+                throw new IllegalStateException("chat_join removed");
+            }
+            return chatJoin;
+        }).when(entityManager).getReference(eq(ChatJoinEntity.class), anyLong());
+        chatMessageWriter.start();
+
+        //when
+        chatMessageWriter.write(List.of(message(1L, "ok-1"), message(9L, "removed"),
+            message(1L, "ok-2")));
+
+        //then
+        assertEquals(List.of("ok-1", "ok-2"), persisted.get(1L));
+        verify(chatJoinRepository, times(2)).increaseUnreadCount(1L, 1L, 1);
+        // 저장된 메시지만 이력 캐시로
+        ArgumentCaptor<List<MessageEntity>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chatHistoryService).messagesSaved(savedCaptor.capture());
+        assertEquals(List.of("ok-1", "ok-2"),
+            savedCaptor.getValue().stream().map(MessageEntity::getContent).toList());
+        // 메모리의 안 읽은 수도 저장된 메시지만큼만 올린다.
+        verify(chatUnreadCounter).messagesSaved(1L, 1L, 2);
+        verify(chatUnreadCounter, never()).messagesSaved(eq(9L), anyLong(), anyInt());
+        assertEquals(1.0, meterRegistry.get("chat.message.dropped").counter().count());
+    }
+
+    @Test
+    void write_removedChatJoin_persistedWithoutChatJoin() {
+        //given :: chat_join 9 는 퇴장으로 이미 삭제됨
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 100);
+        doAnswer(invocation -> List.of(1L))
+            .when(chatJoinRepository).lockExistingIds(any());
+        chatMessageWriter.start();
+
+        //when
+        chatMessageWriter.write(List.of(message(1L, "ok"), message(9L, "after-leave")));
+
+        //then
+        ArgumentCaptor<List<MessageEntity>> savedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chatHistoryService).messagesSaved(savedCaptor.capture());
+        List<MessageEntity> saved = savedCaptor.getValue();
+        assertEquals(List.of("ok", "after-leave"), saved.stream().map(MessageEntity::getContent).toList());
+        assertEquals(1L, saved.get(0).getChatJoin().getId());
+        assertNull(saved.get(1).getChatJoin());
+        assertEquals(9L, saved.get(1).getRoomId());
+        assertEquals(0.0, meterRegistry.get("chat.message.dropped").counter().count());
+    }
+
+    @Test
+    void whenWritten_completesAfterRoomMessagesWritten() throws Exception {
+        //given
+        ReflectionTestUtils.setField(chatMessageWriter, "queueCapacity", 100);
+        blockWriter = new CountDownLatch(1);
+        chatMessageWriter.start();
+        chatMessageWriter.enqueue(message(1L, "room-1"));
+
+        //when
+        CompletableFuture<Void> room1 = chatMessageWriter.whenWritten(1L);
+        CompletableFuture<Void> room2 = chatMessageWriter.whenWritten(2L);
+
+        //then
+        assertTrue(room2.isDone());
+        assertFalse(room1.isDone());
+        blockWriter.countDown();
+        room1.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("room-1"), persisted.get(1L));
+    }
+
+    private PendingChatMessage message(Long chatJoinId, String content) {
+        return new PendingChatMessage(chatJoinId, chatJoinId, 1L, "harry", Message.TALK, content,
+            null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.runningservice.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.chat.ChatJoinUnreadDto;
+import com.example.runningservice.dto.chat.ChatRoomDetailsDto;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterTest {
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @BeforeEach
+    void setUp() {
+        chatUnreadCounter = new ChatUnreadCounter(chatJoinRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(chatUnreadCounter, "maxRooms", 100L);
+        ReflectionTestUtils.setField(chatUnreadCounter, "expireMinutes", 10L);
+        chatUnreadCounter.init();
+    }
+
+    @Test
+    void getRoomDetails_loadsMissingRoomsInOneQuery() {
+        //given
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 3),
+            new ChatJoinUnreadDto(1L, 20L, 0),
+            new ChatJoinUnreadDto(2L, 10L, 5)));
+
+        //when
+        Map<Long, ChatRoomDetailsDto> details = chatUnreadCounter.getRoomDetails(10L,
+            List.of(1L, 2L, 3L));
+        chatUnreadCounter.getRoomDetails(10L, List.of(1L, 2L, 3L));
+
+        //then
+        verify(chatJoinRepository, times(1)).findUnreadCountsByRoomIds(anyCollection());
+        assertEquals(3, details.get(1L).getMessageCount());
+        assertEquals(2, details.get(1L).getMemberCount());
+        assertEquals(5, details.get(2L).getMessageCount());
+        assertEquals(1, details.get(2L).getMemberCount());
+        assertEquals(0, details.get(3L).getMessageCount());
+        assertEquals(0, details.get(3L).getMemberCount());
+    }
+
+    @Test
+    void messagesSaved_increasesOthersOnly() {
+        //given
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 0),
+            new ChatJoinUnreadDto(1L, 20L, 1)));
+        chatUnreadCounter.getRoomDetails(10L, List.of(1L));
+
+        //when
+        chatUnreadCounter.messagesSaved(1L, 10L, 1);
+        chatUnreadCounter.messagesSaved(1L, 10L, 2);
+
+        //then
+        assertEquals(0, chatUnreadCounter.getRoomDetails(10L, List.of(1L)).get(1L).getMessageCount());
+        assertEquals(4, chatUnreadCounter.getRoomDetails(20L, List.of(1L)).get(1L).getMessageCount());
+    }
+
+    @Test
+    void messagesSaved_roomNotLoaded_readsDatabaseLater() {
+        //given
+        // 커밋 후라 DB 값에는 이미 저장된 메시지가 반영되어 있다.
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 0),
+            new ChatJoinUnreadDto(1L, 20L, 2)));
+
+        //when
+        chatUnreadCounter.messagesSaved(1L, 10L, 2);
+
+        //then
+        verify(chatJoinRepository, never()).findUnreadCountsByRoomIds(anyCollection());
+        assertEquals(2, chatUnreadCounter.getRoomDetails(20L, List.of(1L)).get(1L).getMessageCount());
+    }
+
+    @Test
+    void markRead_resetsCount() {
+        //given
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 0),
+            new ChatJoinUnreadDto(1L, 20L, 7)));
+        chatUnreadCounter.getRoomDetails(20L, List.of(1L));
+        chatUnreadCounter.messagesSaved(1L, 10L, 1);
+
+        //when
+        chatUnreadCounter.markRead(1L, 20L);
+
+        //then
+        assertEquals(0, chatUnreadCounter.getRoomDetails(20L, List.of(1L)).get(1L).getMessageCount());
+    }
+
+    @Test
+    void memberJoinedAndLeft_updatesMemberCount() {
+        //given
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 0)));
+        chatUnreadCounter.getRoomDetails(10L, List.of(1L));
+
+        //when
+        chatUnreadCounter.memberJoined(1L, 20L);
+        chatUnreadCounter.messagesSaved(1L, 10L, 1);
+        ChatRoomDetailsDto joined = chatUnreadCounter.getRoomDetails(20L, List.of(1L)).get(1L);
+        chatUnreadCounter.memberLeft(1L, 10L);
+        ChatRoomDetailsDto left = chatUnreadCounter.getRoomDetails(20L, List.of(1L)).get(1L);
+
+        //then
+        assertEquals(2, joined.getMemberCount());
+        assertEquals(1, joined.getMessageCount());
+        assertEquals(1, left.getMemberCount());
+    }
+
+    @Test
+    void evictRooms_reloadsFromDatabase() {
+        //given
+        when(chatJoinRepository.findUnreadCountsByRoomIds(anyCollection())).thenReturn(List.of(
+            new ChatJoinUnreadDto(1L, 10L, 2)));
+        chatUnreadCounter.getRoomDetails(10L, List.of(1L));
+
+        //when
+        chatUnreadCounter.evictRooms(List.of(1L));
+        Map<Long, ChatRoomDetailsDto> details = chatUnreadCounter.getRoomDetails(10L, List.of(1L));
+
+        //then
+        verify(chatJoinRepository, times(2)).findUnreadCountsByRoomIds(anyCollection());
+        assertTrue(details.containsKey(1L));
+        assertEquals(2, details.get(1L).getMessageCount());
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.runningservice.service.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.runningservice.config.QueryDslConfig;
+import com.example.runningservice.dto.crew.CrewFilterDto.CrewInfo;
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.Gender;
+import com.example.runningservice.enums.OccupancyStatus;
+import com.example.runningservice.enums.Region;
+import com.example.runningservice.repository.crew.CrewRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 메모리 인덱스 조회 결과가 CrewRepository 의 JPQL 조회 결과와 같은지 확인한다.
+ * (JPQL 은 크루원 수만으로 정렬하므로 크루원 수가 겹치지 않게 데이터를 만든다.)
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+class CrewDiscoveryIndexTest {
+
+    private static final int CREW_COUNT = 300;
+    private static final Region[] REGIONS = {Region.NATIONWIDE, Region.SEOUL, Region.BUSAN,
+        Region.GYEONGGI, Region.JEJU};
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final Random random = new Random(20240801L);
+
+    @BeforeEach
+    void setUp() {
+        MemberEntity leader = entityManager.persist(MemberEntity.builder()
+            .email("leader@example.com")
+            .nickName("leader")
+            .build());
+
+        List<Integer> memberCounts = new ArrayList<>();
+        for (int i = 0; i < CREW_COUNT; i++) {
+            memberCounts.add(i);
+        }
+        Collections.shuffle(memberCounts, random);
+
+        for (int i = 0; i < CREW_COUNT; i++) {
+            entityManager.persist(CrewEntity.builder()
+                .leader(leader)
+                .crewName("crew-" + i)
+                .activityRegion(pick(REGIONS))
+                .gender(pick(new Gender[]{null, Gender.MALE, Gender.FEMALE}))
+                .runRecordOpen(pick(new Boolean[]{null, true, false}))
+                .leaderRequired(pick(new Boolean[]{null, true, false}))
+                .minYear(random.nextInt(5) == 0 ? null : 1970 + random.nextInt(30))
+                .maxYear(random.nextInt(5) == 0 ? null : 1985 + random.nextInt(30))
+                .crewCapacity(random.nextInt(10) == 0 ? null : random.nextInt(CREW_COUNT))
+                .memberCount(memberCounts.get(i))
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void search_sameAsJpql() {
+        //given
+        CrewDiscoveryIndex index = CrewDiscoveryIndex.of(crewRepository.findAllIndexEntries());
+
+        //when, then
+        for (int i = 0; i < 200; i++) {
+            CrewInfo filter = randomFilter();
+            for (OccupancyStatus occupancyStatus : OccupancyStatus.values()) {
+                assertSameResult(index, filter, occupancyStatus, PageRequest.of(0, CREW_COUNT));
+                assertSameResult(index, filter, occupancyStatus, PageRequest.of(2, 7));
+            }
+        }
+    }
+
+    @Test
+    void incrementalUpdate_sameAsRebuild() {
+        //given
+        CrewDiscoveryIndex index = CrewDiscoveryIndex.of(crewRepository.findAllIndexEntries());
+        List<CrewIndexEntry> entries = crewRepository.findAllIndexEntries();
+
+        //when
+        // 크루원 수 변경
+        for (int i = 0; i < 50; i++) {
+            Long crewId = entries.get(random.nextInt(entries.size())).getId();
+            crewRepository.increaseMemberCount(crewId);
+            index.addMemberCount(crewId, 1);
+        }
+        // 크루 정보 수정 (크루원 수는 유지)
+        CrewIndexEntry updated = entries.get(0);
+        index.upsert(new CrewIndexEntry(updated.getId(), Region.JEJU, Gender.FEMALE, true, false,
+            2000, 1990, 100, 0));
+        entityManager.getEntityManager().createQuery("UPDATE CrewEntity c "
+                + "SET c.activityRegion = :region, c.gender = :gender, c.runRecordOpen = true, "
+                + "c.leaderRequired = false, c.minYear = 2000, c.maxYear = 1990, "
+                + "c.crewCapacity = 100 WHERE c.id = :crewId")
+            .setParameter("region", Region.JEJU)
+            .setParameter("gender", Gender.FEMALE)
+            .setParameter("crewId", updated.getId())
+            .executeUpdate();
+        // 크루 삭제
+        Long deletedCrewId = entries.get(1).getId();
+        crewRepository.deleteById(deletedCrewId);
+        index.remove(deletedCrewId);
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        CrewDiscoveryIndex rebuilt = CrewDiscoveryIndex.of(crewRepository.findAllIndexEntries());
+        assertEquals(rebuilt.size(), index.size());
+        for (int i = 0; i < 100; i++) {
+            CrewInfo filter = randomFilter();
+            for (OccupancyStatus occupancyStatus : OccupancyStatus.values()) {
+                CrewDiscoveryIndex.Result expected = rebuilt.search(filter, occupancyStatus, 0,
+                    CREW_COUNT);
+                CrewDiscoveryIndex.Result actual = index.search(filter, occupancyStatus, 0,
+                    CREW_COUNT);
+                assertEquals(expected.getTotal(), actual.getTotal());
+                // 크루원 수가 겹칠 수 있으므로 정렬 기준(크루원 수 내림차순, id 내림차순)이 같은지까지 확인
+                assertArrayEquals(expected.getCrewIds(), actual.getCrewIds());
+            }
+        }
+    }
+
+    private void assertSameResult(CrewDiscoveryIndex index, CrewInfo filter,
+        OccupancyStatus occupancyStatus, Pageable pageable) {
+        Page<CrewEntity> expected = occupancyStatus.getCrewList(crewRepository, filter, pageable);
+        CrewDiscoveryIndex.Result actual = index.search(filter, occupancyStatus,
+            pageable.getOffset(), pageable.getPageSize());
+
+        assertEquals(expected.getTotalElements(), actual.getTotal(), () -> describe(filter));
+        assertArrayEquals(expected.stream().mapToLong(CrewEntity::getId).toArray(),
+            actual.getCrewIds(), () -> describe(filter));
+    }
+
+    private CrewInfo randomFilter() {
+        return CrewInfo.builder()
+            .activityRegion(random.nextInt(3) == 0 ? null : pick(REGIONS))
+            .gender(random.nextInt(2) == 0 ? null : pick(Gender.values()))
+            .runRecordPublic(pick(new Boolean[]{null, true, false}))
+            .leaderRequired(pick(new Boolean[]{null, true, false}))
+            .minYear(random.nextInt(2) == 0 ? null : 1970 + random.nextInt(30))
+            .maxYear(random.nextInt(2) == 0 ? null : 1985 + random.nextInt(30))
+            .build();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String describe(CrewInfo filter) {
+        return "region=" + filter.getActivityRegion() + ", gender=" + filter.getGender()
+            + ", runRecordPublic=" + filter.getRunRecordPublic()
+            + ", leaderRequired=" + filter.getLeaderRequired()
+            + ", minYear=" + filter.getMinYear() + ", maxYear=" + filter.getMaxYear();
+    }
+}
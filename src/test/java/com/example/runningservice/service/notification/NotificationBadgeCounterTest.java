@@ -0,0 +1,241 @@
+package com.example.runningservice.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBadgeCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationBadgeCounter notificationBadgeCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationBadgeCounter = new NotificationBadgeCounter(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(notificationBadgeCounter, "stripeCount", 4);
+        ReflectionTestUtils.setField(notificationBadgeCounter, "batchSize", 500);
+        notificationBadgeCounter.init();
+    }
+
+    @Test
+    void load_fromCheckpoint_withoutRecount() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 3, 2L, 7,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+
+        //when
+        notificationBadgeCounter.increment(List.of(1L));
+        notificationBadgeCounter.load();
+
+        //then
+        assertEquals(4, notificationBadgeCounter.get(1L));
+        assertEquals(7, notificationBadgeCounter.get(2L));
+        assertEquals(0, notificationBadgeCounter.get(3L));
+        verify(jdbcTemplate, never()).query(eq(NotificationBadgeCounter.COUNT_DIRECT_UNREAD),
+            any(RowCallbackHandler.class));
+        verify(jdbcTemplate).update(NotificationBadgeCounter.DELETE_CHECKPOINT,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER);
+    }
+
+    @Test
+    void load_withoutShutdownMarker_recountsAndDropsStaleCheckpoints() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 3, 2L, 7));
+        answerRows(NotificationBadgeCounter.COUNT_DIRECT_UNREAD, Map.of(1L, 5));
+        answerRows(NotificationBadgeCounter.COUNT_CREW_STREAM_UNREAD, Map.of());
+        answerRows(NotificationBadgeCounter.COUNT_CHAT_ROOM_STREAM_UNREAD, Map.of());
+        lenient().when(jdbcTemplate.batchUpdate(eq(NotificationBadgeCounter.UPDATE_CHECKPOINT),
+            anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class)))
+            .thenReturn(new int[][]{{1}});
+
+        //when
+        notificationBadgeCounter.load();
+        notificationBadgeCounter.checkpoint();
+
+        //then
+        assertEquals(5, notificationBadgeCounter.get(1L));
+        assertEquals(0, notificationBadgeCounter.get(2L));
+        ArgumentCaptor<Collection<Long>> deletes = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(eq(NotificationBadgeCounter.DELETE_CHECKPOINT),
+            deletes.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(2L), List.copyOf(deletes.getValue()));
+    }
+
+    @Test
+    void flush_allCheckpointed_leavesShutdownMarker() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 1,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+        notificationBadgeCounter.load();
+
+        //when
+        notificationBadgeCounter.flush();
+
+        //then
+        verify(jdbcTemplate).update(eq(NotificationBadgeCounter.INSERT_CHECKPOINT),
+            eq(NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER), eq(0), any(Timestamp.class));
+    }
+
+    @Test
+    void flush_checkpointFailed_noShutdownMarker() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 1,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+        notificationBadgeCounter.load();
+        notificationBadgeCounter.increment(List.of(1L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new IllegalStateException("db down"));
+
+        //when
+        notificationBadgeCounter.flush();
+
+        //then
+        verify(jdbcTemplate, never()).update(eq(NotificationBadgeCounter.INSERT_CHECKPOINT), any(),
+            any(), any());
+    }
+
+    @Test
+    void load_withoutCheckpoint_recountsSourceTables() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of());
+        answerRows(NotificationBadgeCounter.COUNT_DIRECT_UNREAD, Map.of(1L, 2));
+        answerRows(NotificationBadgeCounter.COUNT_CREW_STREAM_UNREAD, Map.of(1L, 5, 2L, 1));
+        answerRows(NotificationBadgeCounter.COUNT_CHAT_ROOM_STREAM_UNREAD, Map.of());
+
+        //when
+        notificationBadgeCounter.load();
+
+        //then
+        assertEquals(7, notificationBadgeCounter.get(1L));
+        assertEquals(1, notificationBadgeCounter.get(2L));
+    }
+
+    @Test
+    void decrementAndReset_neverBelowZero() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 1,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+        notificationBadgeCounter.load();
+
+        //when
+        notificationBadgeCounter.decrement(1L);
+        notificationBadgeCounter.decrement(1L);
+        notificationBadgeCounter.increment(List.of(1L, 1L));
+
+        //then
+        assertEquals(2, notificationBadgeCounter.get(1L));
+        notificationBadgeCounter.reset(1L);
+        assertEquals(0, notificationBadgeCounter.get(1L));
+    }
+
+    @Test
+    void subtract_purgedUnread() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 5, 2L, 1,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+        notificationBadgeCounter.load();
+
+        //when
+        notificationBadgeCounter.subtract(Map.of(1L, 3, 2L, 4));
+
+        //then
+        assertEquals(2, notificationBadgeCounter.get(1L));
+        assertEquals(0, notificationBadgeCounter.get(2L));
+    }
+
+    @Test
+    void checkpoint_updatesChangedAndInsertsNewMembers() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of(1L, 1,
+            NotificationBadgeCounter.CLEAN_SHUTDOWN_MARKER, 0));
+        notificationBadgeCounter.load();
+        notificationBadgeCounter.increment(List.of(1L, 2L));
+        lenient().when(jdbcTemplate.batchUpdate(eq(NotificationBadgeCounter.UPDATE_CHECKPOINT),
+            anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class)))
+            .thenReturn(new int[][]{{1, 0}});
+
+        //when
+        notificationBadgeCounter.checkpoint();
+
+        //then
+        ArgumentCaptor<Collection<Map.Entry<Long, Integer>>> inserts = ArgumentCaptor.forClass(
+            Collection.class);
+        verify(jdbcTemplate).batchUpdate(eq(NotificationBadgeCounter.INSERT_CHECKPOINT),
+            inserts.capture(), eq(500), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(Map.entry(2L, 1)), List.copyOf(inserts.getValue()));
+        assertEquals(2.0, meterRegistry.get("notification.badge.checkpointed").counter().count());
+
+        // 바뀐 값이 없으면 저장하지 않는다.
+        notificationBadgeCounter.checkpoint();
+        verify(jdbcTemplate).batchUpdate(eq(NotificationBadgeCounter.UPDATE_CHECKPOINT),
+            anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void checkpoint_failure_retriedNextTime() throws Exception {
+        //given
+        answerRows(NotificationBadgeCounter.SELECT_CHECKPOINTS, Map.of());
+        answerRows(NotificationBadgeCounter.COUNT_DIRECT_UNREAD, Map.of());
+        answerRows(NotificationBadgeCounter.COUNT_CREW_STREAM_UNREAD, Map.of());
+        answerRows(NotificationBadgeCounter.COUNT_CHAT_ROOM_STREAM_UNREAD, Map.of());
+        notificationBadgeCounter.load();
+        notificationBadgeCounter.increment(List.of(1L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(new int[][]{{1}});
+
+        //when
+        notificationBadgeCounter.checkpoint();
+        notificationBadgeCounter.checkpoint();
+
+        //then
+        assertEquals(1.0, meterRegistry.get("notification.badge.checkpointed").counter().count());
+    }
+
+    private void answerRows(String sql, Map<Long, Integer> rows) throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<Long, Integer> row : rows.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(row.getKey());
+                when(rs.getInt(2)).thenReturn(row.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(sql), any(RowCallbackHandler.class));
+    }
+}
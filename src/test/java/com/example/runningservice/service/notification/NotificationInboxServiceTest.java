@@ -0,0 +1,209 @@
+package com.example.runningservice.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.NotificationResponseDto;
+import com.example.runningservice.entity.CrewMemberEntity;
+import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.entity.NotificationReadExceptionEntity;
+import com.example.runningservice.entity.NotificationWatermarkEntity;
+import com.example.runningservice.entity.UserNotificationEntity;
+import com.example.runningservice.enums.NotificationStream;
+import com.example.runningservice.enums.NotificationType;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.NotificationReadExceptionRepository;
+import com.example.runningservice.repository.NotificationRepository;
+import com.example.runningservice.repository.NotificationWatermarkRepository;
+import com.example.runningservice.repository.UserNotificationRepository;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.repository.crewMember.CrewMemberRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationInboxServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserNotificationRepository userNotificationRepository;
+
+    @Mock
+    private NotificationWatermarkRepository notificationWatermarkRepository;
+
+    @Mock
+    private NotificationReadExceptionRepository notificationReadExceptionRepository;
+
+    @Mock
+    private CrewMemberRepository crewMemberRepository;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    @Mock
+    private NotificationBadgeCounter notificationBadgeCounter;
+
+    private NotificationInboxService notificationInboxService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        notificationInboxService = new NotificationInboxService(notificationRepository,
+            userNotificationRepository, notificationWatermarkRepository,
+            notificationReadExceptionRepository, crewMemberRepository, chatJoinRepository,
+            notificationBadgeCounter);
+        ReflectionTestUtils.setField(notificationInboxService, "compactSize", 100);
+    }
+
+    @Test
+    void getInbox_mergesDirectAndStreamsNewestFirst() {
+        //given
+        LocalDateTime watermarkReadAt = now.minusHours(1);
+        LocalDateTime exceptionReadAt = now.minusMinutes(5);
+        when(userNotificationRepository.findInboxBefore(eq(10L), isNull(), any(Pageable.class)))
+            .thenReturn(List.of(direct(5L), direct(2L)));
+        when(notificationRepository.findCrewStreamBefore(eq(10L), isNull(), any(Pageable.class)))
+            .thenReturn(List.of(streamed(6L, NotificationStream.CREW, 1L),
+                streamed(3L, NotificationStream.CREW, 1L)));
+        when(notificationRepository.findChatRoomStreamBefore(eq(10L), isNull(),
+            any(Pageable.class)))
+            .thenReturn(List.of(streamed(4L, NotificationStream.CHAT_ROOM, 9L)));
+        when(notificationWatermarkRepository.findByMemberId(10L)).thenReturn(List.of(
+            NotificationWatermarkEntity.builder()
+                .memberId(10L)
+                .stream(NotificationStream.CREW)
+                .streamId(1L)
+                .lastReadId(3L)
+                .readAt(watermarkReadAt)
+                .build()));
+        when(notificationReadExceptionRepository.findByMemberIdAndNotificationIdIn(10L,
+            List.of(6L, 4L))).thenReturn(List.of(NotificationReadExceptionEntity.builder()
+            .memberId(10L)
+            .notificationId(4L)
+            .readAt(exceptionReadAt)
+            .build()));
+
+        //when
+        List<NotificationResponseDto> inbox = notificationInboxService.getInbox(10L, null, 4);
+
+        //then
+        assertEquals(List.of(6L, 5L, 4L, 3L),
+            inbox.stream().map(NotificationResponseDto::getNotificationId).toList());
+        assertNull(inbox.get(0).getReadAt());
+        assertNull(inbox.get(1).getReadAt());
+        assertEquals(exceptionReadAt, inbox.get(2).getReadAt());
+        assertEquals(watermarkReadAt, inbox.get(3).getReadAt());
+    }
+
+    @Test
+    void markRead_contiguousReads_advanceWatermark() {
+        //given
+        NotificationEntity notification = streamed(8L, NotificationStream.CREW, 1L);
+        NotificationWatermarkEntity watermark = NotificationWatermarkEntity.builder()
+            .memberId(10L)
+            .stream(NotificationStream.CREW)
+            .streamId(1L)
+            .lastReadId(6L)
+            .build();
+        LocalDateTime joinedAt = now.minusDays(1);
+        when(crewMemberRepository.findByCrew_IdAndMember_Id(1L, 10L)).thenReturn(Optional.of(
+            CrewMemberEntity.builder().joinedAt(joinedAt).build()));
+        when(notificationWatermarkRepository.findByMemberIdAndStreamAndStreamId(10L,
+            NotificationStream.CREW, 1L)).thenReturn(Optional.of(watermark));
+        when(notificationReadExceptionRepository.findByMemberIdAndNotificationId(10L, 8L))
+            .thenReturn(Optional.empty());
+        when(notificationReadExceptionRepository.save(any(NotificationReadExceptionEntity.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationRepository.findStreamIdsAfter(eq(NotificationStream.CREW), eq(1L),
+            eq(6L), eq(joinedAt), any(Pageable.class))).thenReturn(List.of(7L, 8L, 9L));
+        when(notificationReadExceptionRepository.findByMemberIdAndNotificationIdIn(10L,
+            List.of(7L, 8L, 9L))).thenReturn(List.of(
+            NotificationReadExceptionEntity.builder().notificationId(7L).build(),
+            NotificationReadExceptionEntity.builder().notificationId(8L).build()));
+
+        //when
+        notificationInboxService.markRead(10L, notification);
+
+        //then
+        assertEquals(8L, watermark.getLastReadId());
+        verify(notificationBadgeCounter).decrement(10L);
+        verify(notificationReadExceptionRepository).deleteCoveredBy(10L, NotificationStream.CREW,
+            1L, 8L);
+    }
+
+    @Test
+    void markRead_belowWatermark_noException() {
+        //given
+        NotificationEntity notification = streamed(5L, NotificationStream.CREW, 1L);
+        when(crewMemberRepository.findByCrew_IdAndMember_Id(1L, 10L)).thenReturn(Optional.of(
+            CrewMemberEntity.builder().joinedAt(now.minusDays(1)).build()));
+        when(notificationWatermarkRepository.findByMemberIdAndStreamAndStreamId(10L,
+            NotificationStream.CREW, 1L)).thenReturn(Optional.of(
+            NotificationWatermarkEntity.builder().lastReadId(6L).readAt(now).build()));
+
+        //when
+        LocalDateTime readAt = notificationInboxService.markRead(10L, notification);
+
+        //then
+        assertEquals(now, readAt);
+        verify(notificationReadExceptionRepository, never()).save(any());
+        verify(notificationBadgeCounter, never()).decrement(any());
+    }
+
+    @Test
+    void markRead_notCrewMember() {
+        //given
+        NotificationEntity notification = streamed(5L, NotificationStream.CREW, 1L);
+        when(crewMemberRepository.findByCrew_IdAndMember_Id(1L, 10L))
+            .thenReturn(Optional.empty());
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> notificationInboxService.markRead(10L, notification));
+
+        //then
+        assertEquals(ErrorCode.NOT_FOUND_USER_NOTIFICATION, exception.getErrorCode());
+        verify(notificationWatermarkRepository, never()).save(any());
+    }
+
+    private UserNotificationEntity direct(Long notificationId) {
+        return UserNotificationEntity.builder()
+            .id(100L + notificationId)
+            .notification(NotificationEntity.builder()
+                .id(notificationId)
+                .type(NotificationType.APPLY_RESULT)
+                .createdAt(now)
+                .build())
+            .build();
+    }
+
+    private NotificationEntity streamed(Long id, NotificationStream stream, Long streamId) {
+        return NotificationEntity.builder()
+            .id(id)
+            .type(stream == NotificationStream.CREW ? NotificationType.ACTIVITY
+                : NotificationType.CHATTING)
+            .stream(stream)
+            .streamId(streamId)
+            .createdAt(now)
+            .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.runningservice.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.entity.NotificationEntity;
+import com.example.runningservice.entity.NotificationOutboxEntity;
+import com.example.runningservice.enums.NotificationStream;
+import com.example.runningservice.enums.NotificationType;
+import com.example.runningservice.enums.OutboxStatus;
+import com.example.runningservice.enums.TableType;
+import com.example.runningservice.repository.NotificationOutboxRepository;
+import com.example.runningservice.repository.NotificationRepository;
+import com.example.runningservice.repository.UserNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserNotificationRepository userNotificationRepository;
+
+    @Mock
+    private NotificationManagerService activityNotification;
+
+    @Mock
+    private NotificationInboxService notificationInboxService;
+
+    @Mock
+    private NotificationBadgeCounter notificationBadgeCounter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    private final NotificationEntity notification = NotificationEntity.builder()
+        .id(10L)
+        .type(NotificationType.ACTIVITY)
+        .message("새 일정이 등록되었습니다.")
+        .relatedId(3L)
+        .relatedType(TableType.ACTIVITY)
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(activityNotification.getNotificationType()).thenReturn(NotificationType.ACTIVITY);
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository,
+            notificationRepository, userNotificationRepository, List.of(activityNotification),
+            notificationInboxService,
+            notificationBadgeCounter, jdbcTemplate,
+            transactionTemplate, messagingTemplate, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "insertBatchSize", 500);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 2);
+        dispatcher.init();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void dispatch_insertsRecipientsInBatchAndPushesAfterCommit() throws Exception {
+        //given
+        NotificationOutboxEntity outbox = outbox();
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(activityNotification.findSubscriberIds(3L, TableType.ACTIVITY))
+            .thenReturn(List.of(100L, 200L, 100L));
+        when(userNotificationRepository.nextIds(2)).thenReturn(List.of(51L, 52L));
+
+        //when
+        dispatcher.dispatch(1L);
+
+        //then
+        ArgumentCaptor<Collection<Long>> recipients = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Long>> setter =
+            ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq(NotificationOutboxDispatcher.INSERT_USER_NOTIFICATION),
+            recipients.capture(), eq(500), setter.capture());
+        assertEquals(List.of(100L, 200L), List.copyOf(recipients.getValue()));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, 100L);
+        setter.getValue().setValues(ps, 200L);
+        verify(ps).setLong(1, 51L);
+        verify(ps).setLong(1, 52L);
+        assertEquals(OutboxStatus.SENT, outbox.getStatus());
+        assertEquals(2, outbox.getRecipientCount());
+        verify(messagingTemplate).convertAndSend("/topic/activity/1", "새 일정이 등록되었습니다.");
+        assertEquals(2.0, meterRegistry.get("notification.outbox.recipients").counter().count());
+        verify(notificationBadgeCounter).increment(List.of(100L, 200L));
+    }
+
+    @Test
+    void dispatch_streamNotification_pushesWithoutFanOut() {
+        //given
+        NotificationOutboxEntity outbox = outbox();
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(
+            NotificationEntity.builder()
+                .id(10L)
+                .type(NotificationType.ACTIVITY)
+                .message("새 일정이 등록되었습니다.")
+                .relatedId(3L)
+                .relatedType(TableType.ACTIVITY)
+                .stream(NotificationStream.CREW)
+                .streamId(1L)
+                .build()));
+        when(notificationInboxService.findStreamSubscriberIds(NotificationStream.CREW, 1L))
+            .thenReturn(List.of(100L, 200L, 300L));
+
+        //when
+        dispatcher.dispatch(1L);
+
+        //then
+        verify(activityNotification, never()).findSubscriberIds(any(), any());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(OutboxStatus.SENT, outbox.getStatus());
+        assertEquals(0, outbox.getRecipientCount());
+        verify(notificationBadgeCounter).increment(List.of(100L, 200L, 300L));
+        verify(messagingTemplate).convertAndSend("/topic/activity/1", "새 일정이 등록되었습니다.");
+    }
+
+    @Test
+    void dispatch_alreadySent_skipped() {
+        //given
+        NotificationOutboxEntity outbox = outbox();
+        outbox.sent(5);
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        //when
+        dispatcher.dispatch(1L);
+
+        //then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void dispatch_failure_retriesWithBackoffThenFails() {
+        //given
+        NotificationOutboxEntity outbox = outbox();
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(activityNotification.findSubscriberIds(3L, TableType.ACTIVITY))
+            .thenThrow(new IllegalStateException("db down"));
+
+        //when
+        dispatcher.dispatch(1L);
+
+        //then
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertTrue(outbox.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(outbox.getLastError().contains("db down"));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(notificationBadgeCounter, never()).increment(any());
+
+        dispatcher.dispatch(1L);
+        assertEquals(OutboxStatus.FAILED, outbox.getStatus());
+        assertEquals(2.0, meterRegistry.get("notification.outbox.failed").counter().count());
+    }
+
+    private NotificationOutboxEntity outbox() {
+        return NotificationOutboxEntity.builder()
+            .id(1L)
+            .notificationId(10L)
+            .topic("/topic/activity/1")
+            .status(OutboxStatus.PENDING)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+}
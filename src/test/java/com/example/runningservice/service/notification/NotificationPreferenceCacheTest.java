@@ -0,0 +1,86 @@
+package com.example.runningservice.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.dto.NotificationPreferenceDto;
+import com.example.runningservice.enums.Notification;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private NotificationPreferenceCache notificationPreferenceCache;
+
+    @BeforeEach
+    void setUp() {
+        notificationPreferenceCache = new NotificationPreferenceCache(memberRepository,
+            new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(notificationPreferenceCache, "maxMembers", 100L);
+        ReflectionTestUtils.setField(notificationPreferenceCache, "expireMinutes", 60L);
+        notificationPreferenceCache.init();
+    }
+
+    @Test
+    void get_loadsProjectionOnce() {
+        //given
+        when(memberRepository.findNotificationPreference(1L)).thenReturn(Optional.of(
+            new NotificationPreferenceDto(null, Notification.OFF)));
+
+        //when
+        notificationPreferenceCache.get(1L);
+        NotificationPreferenceDto preference = notificationPreferenceCache.get(1L);
+
+        //then
+        assertTrue(preference.isActivityOn());
+        assertFalse(preference.isChattingOn());
+        verify(memberRepository, times(1)).findNotificationPreference(1L);
+    }
+
+    @Test
+    void update_replacesCachedPreference() {
+        //given
+        when(memberRepository.findNotificationPreference(1L)).thenReturn(Optional.of(
+            new NotificationPreferenceDto(Notification.ON, Notification.ON)));
+        notificationPreferenceCache.get(1L);
+
+        //when
+        notificationPreferenceCache.update(1L,
+            new NotificationPreferenceDto(Notification.OFF, Notification.ON));
+
+        //then
+        assertFalse(notificationPreferenceCache.get(1L).isActivityOn());
+        verify(memberRepository, times(1)).findNotificationPreference(1L);
+    }
+
+    @Test
+    void get_notFoundMember() {
+        //given
+        when(memberRepository.findNotificationPreference(1L)).thenReturn(Optional.empty());
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> notificationPreferenceCache.get(1L));
+
+        //then
+        assertEquals(ErrorCode.NOT_FOUND_USER, exception.getErrorCode());
+    }
+}
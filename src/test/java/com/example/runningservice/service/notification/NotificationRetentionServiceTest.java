@@ -0,0 +1,187 @@
+package com.example.runningservice.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private NotificationBadgeCounter notificationBadgeCounter;
+
+    @TempDir
+    private Path archiveDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationRetentionService notificationRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationRetentionService = new NotificationRetentionService(jdbcTemplate,
+            transactionTemplate, notificationBadgeCounter, meterRegistry);
+        ReflectionTestUtils.setField(notificationRetentionService, "enabled", true);
+        ReflectionTestUtils.setField(notificationRetentionService, "readDays", 30);
+        ReflectionTestUtils.setField(notificationRetentionService, "unreadDays", 0);
+        ReflectionTestUtils.setField(notificationRetentionService, "chunkSize", 2);
+        ReflectionTestUtils.setField(notificationRetentionService, "pauseMillis", 0L);
+        ReflectionTestUtils.setField(notificationRetentionService, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(notificationRetentionService, "tableSizeRefreshMinutes", 60L);
+        ReflectionTestUtils.setField(notificationRetentionService, "archivePath", "");
+
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+            .doInTransaction(null)).when(transactionTemplate).execute(any());
+        lenient().when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+            .thenReturn(0L);
+    }
+
+    @Test
+    void purge_readDirect_chunksUntilPartialChunk() {
+        //given
+        notificationRetentionService.init();
+        when(jdbcTemplate.queryForList(eq(NotificationRetentionService.SELECT_READ_DIRECT),
+            any(), eq(2)))
+            .thenReturn(List.of(directRow(1L, 10L), directRow(2L, 10L)))
+            .thenReturn(List.of(directRow(3L, 11L)));
+
+        //when
+        notificationRetentionService.purge();
+
+        //then
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(NotificationRetentionService.DELETE_DIRECT),
+            ids.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)),
+            ids.getAllValues().stream().map(List::copyOf).toList());
+        assertEquals(3.0, meterRegistry.get("notification.retention.purged")
+            .tag("policy", "read").counter().count());
+        assertEquals(2, meterRegistry.get("notification.retention.chunk")
+            .tag("policy", "read").timer().count());
+        verify(notificationBadgeCounter, never()).subtract(any());
+    }
+
+    @Test
+    void purge_unreadDirect_subtractsBadge() {
+        //given
+        ReflectionTestUtils.setField(notificationRetentionService, "readDays", 0);
+        ReflectionTestUtils.setField(notificationRetentionService, "unreadDays", 90);
+        notificationRetentionService.init();
+        when(jdbcTemplate.queryForObject(eq(NotificationRetentionService.SELECT_CUTOFF_ID),
+            eq(Long.class), any())).thenReturn(500L);
+        when(jdbcTemplate.queryForList(NotificationRetentionService.SELECT_UNREAD_DIRECT, 500L, 2))
+            .thenReturn(List.of(directRow(1L, 10L)));
+        when(jdbcTemplate.queryForList(NotificationRetentionService.SELECT_STREAM, 0L, 500L, 2))
+            .thenReturn(List.of());
+
+        //when
+        notificationRetentionService.purge();
+
+        //then
+        verify(notificationBadgeCounter).subtract(Map.of(10L, 1));
+        verify(jdbcTemplate, never()).update(eq(NotificationRetentionService.DELETE_STREAM),
+            any(), any());
+    }
+
+    @Test
+    void purge_stream_deletesIdRangeAndArchives() throws Exception {
+        //given
+        ReflectionTestUtils.setField(notificationRetentionService, "readDays", 0);
+        ReflectionTestUtils.setField(notificationRetentionService, "unreadDays", 90);
+        ReflectionTestUtils.setField(notificationRetentionService, "archivePath",
+            archiveDir.toString());
+        notificationRetentionService.init();
+        when(jdbcTemplate.queryForObject(eq(NotificationRetentionService.SELECT_CUTOFF_ID),
+            eq(Long.class), any())).thenReturn(500L);
+        when(jdbcTemplate.queryForList(NotificationRetentionService.SELECT_UNREAD_DIRECT, 500L, 2))
+            .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(NotificationRetentionService.SELECT_STREAM, 0L, 500L, 2))
+            .thenReturn(List.of(streamRow(3L), streamRow(7L)));
+        when(jdbcTemplate.queryForList(NotificationRetentionService.SELECT_STREAM, 7L, 500L, 2))
+            .thenReturn(List.of());
+        when(notificationBadgeCounter.countStreamUnread(3L, 7L)).thenReturn(Map.of(10L, 2));
+
+        //when
+        notificationRetentionService.purge();
+
+        //then
+        verify(jdbcTemplate).update(NotificationRetentionService.DELETE_STREAM_READ_EXCEPTIONS,
+            3L, 7L);
+        verify(jdbcTemplate).update(NotificationRetentionService.DELETE_STREAM, 3L, 7L);
+        verify(notificationBadgeCounter).subtract(Map.of(10L, 2));
+
+        Path archived = archiveDir.resolve(LocalDate.now().toString())
+            .resolve("notification.jsonl.gz");
+        assertTrue(Files.exists(archived));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(archived)), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).contains("\"stream\":\"CREW\""));
+        }
+    }
+
+    @Test
+    void purge_failure_stopsRun() {
+        //given
+        notificationRetentionService.init();
+        when(jdbcTemplate.queryForList(eq(NotificationRetentionService.SELECT_READ_DIRECT),
+            any(), eq(2))).thenThrow(new IllegalStateException("lock timeout"));
+
+        //when
+        notificationRetentionService.purge();
+
+        //then
+        verify(jdbcTemplate, never()).queryForObject(
+            eq(NotificationRetentionService.SELECT_CUTOFF_ID), eq(Long.class), any());
+        assertEquals(0.0, meterRegistry.get("notification.retention.purged")
+            .tag("policy", "read").counter().count());
+    }
+
+    private Map<String, Object> directRow(Long id, Long memberId) {
+        return Map.of("id", id, "member_id", memberId, "notification_id", 100L + id);
+    }
+
+    private Map<String, Object> streamRow(Long id) {
+        return Map.of("id", id, "stream", "CREW", "stream_id", 1L, "message", "새 일정");
+    }
+}
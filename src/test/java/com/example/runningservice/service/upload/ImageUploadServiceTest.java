@@ -0,0 +1,316 @@
+package com.example.runningservice.service.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.entity.CrewEntity;
+import com.example.runningservice.entity.MemberEntity;
+import com.example.runningservice.enums.ImageOwner;
+import com.example.runningservice.enums.ImageVariant;
+import com.example.runningservice.repository.MemberRepository;
+import com.example.runningservice.repository.crew.CrewRepository;
+import com.example.runningservice.service.CrewDiscoveryService;
+import com.example.runningservice.util.LocalS3Client;
+import com.example.runningservice.util.S3FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUploadServiceTest {
+
+    @Mock
+    private CrewRepository crewRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CrewDiscoveryService crewDiscoveryService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @TempDir
+    private Path dir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalS3Client localS3Client;
+    private S3FileUtil s3FileUtil;
+    private ImageUploadService imageUploadService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        localS3Client = new LocalS3Client(dir.resolve("s3"));
+        s3FileUtil = new S3FileUtil(localS3Client, s3Presigner, meterRegistry);
+        ReflectionTestUtils.setField(s3FileUtil, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3FileUtil, "presignedUrlCacheSize", 100L);
+        s3FileUtil.init();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        imageUploadService = newService(newSpool());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        imageUploadService.shutdown();
+    }
+
+    @Test
+    void upload_appliesImageAfterUpload() throws Exception {
+        //given
+        CrewEntity crewEntity = CrewEntity.builder().id(1L).crewImage("crew-default").build();
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crewEntity));
+
+        //when
+        imageUploadService.upload(ImageOwner.CREW, 1L, "crew-1", image(300, 200));
+        awaitIdle();
+
+        //then
+        String baseKey = ImageVariant.baseKey(crewEntity.getCrewImage());
+        assertTrue(baseKey.startsWith("crew-1/"));
+        assertSize(96, 96, read(baseKey + "/thumb"));
+        assertSize(300, 200, read(baseKey + "/card"));
+        assertSize(300, 200, read(baseKey + "/original"));
+        verify(crewDiscoveryService).crewSaved(crewEntity);
+        assertEquals(1.0, meterRegistry.get("s3.upload.succeeded").counter().count());
+        assertSpoolEmpty();
+    }
+
+    @Test
+    void upload_retriesWithBackoff() throws Exception {
+        //given
+        MemberEntity memberEntity = MemberEntity.builder().id(1L)
+            .profileImageUrl("user-default").build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(memberEntity));
+        localS3Client.failNextPuts(2);
+
+        //when
+        imageUploadService.upload(ImageOwner.MEMBER, 1L, "user-1", image(10, 10));
+        awaitIdle();
+
+        //then
+        assertTrue(memberEntity.getProfileImageUrl().startsWith("user-1/"));
+        assertTrue(ImageVariant.hasVariants(memberEntity.getProfileImageUrl()));
+        assertEquals(2.0, meterRegistry.get("s3.upload.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("s3.upload.succeeded").counter().count());
+    }
+
+    @Test
+    void upload_givesUp_keepsPreviousImage() throws Exception {
+        //given
+        localS3Client.failNextPuts(3);
+
+        //when
+        imageUploadService.upload(ImageOwner.MEMBER, 1L, "user-1", image(10, 10));
+        awaitIdle();
+
+        //then
+        verify(memberRepository, never()).findById(any());
+        assertTrue(objects().stream().noneMatch(key -> key.endsWith("/original")));
+        assertEquals(1.0, meterRegistry.get("s3.upload.failed").counter().count());
+        assertSpoolEmpty();
+    }
+
+    @Test
+    void upload_notAnImage_rejectedWithoutRetry() throws Exception {
+        //when
+        imageUploadService.upload(ImageOwner.MEMBER, 1L, "user-1",
+            new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3}));
+        awaitIdle();
+
+        //then
+        verify(memberRepository, never()).findById(any());
+        assertEquals(0.0, meterRegistry.get("s3.upload.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("s3.upload.failed").counter().count());
+        assertSpoolEmpty();
+    }
+
+    @Test
+    void upload_deletedOwner_removesObject() throws Exception {
+        //given
+        when(crewRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //when
+        imageUploadService.upload(ImageOwner.CREW, 1L, "crew-1", image(10, 10));
+        awaitIdle();
+
+        //then
+        assertTrue(objects().isEmpty());
+        assertEquals(1.0, meterRegistry.get("s3.upload.skipped").counter().count());
+        assertEquals(0.0, meterRegistry.get("s3.upload.succeeded").counter().count());
+    }
+
+    @Test
+    void upload_cancelledWhileUploading_keepsImage() throws Exception {
+        //given
+        // 업로드 전 확인은 통과하고, 이미지를 바꾸는 트랜잭션 전에 이미지 삭제가 커밋된 경우
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            imageUploadService.cancel("crew-1");
+            return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+        });
+
+        //when
+        imageUploadService.upload(ImageOwner.CREW, 1L, "crew-1", image(10, 10));
+        awaitIdle();
+
+        //then
+        verify(crewRepository, never()).findById(any());
+        verify(crewDiscoveryService, never()).crewSaved(any());
+        assertTrue(objects().isEmpty());
+        assertEquals(1.0, meterRegistry.get("s3.upload.skipped").counter().count());
+        assertEquals(0.0, meterRegistry.get("s3.upload.succeeded").counter().count());
+        assertSpoolEmpty();
+    }
+
+    @Test
+    void upload_replacesImage_deletesPreviousObjects() throws Exception {
+        //given
+        CrewEntity crewEntity = CrewEntity.builder().id(1L).crewImage("crew-default").build();
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crewEntity));
+        imageUploadService.upload(ImageOwner.CREW, 1L, "crew-1", image(10, 10));
+        awaitIdle();
+        String previousImage = crewEntity.getCrewImage();
+
+        //when
+        imageUploadService.upload(ImageOwner.CREW, 1L, "crew-1", image(20, 20));
+        awaitIdle();
+
+        //then
+        // 업로드마다 다른 객체에 올리므로 이전 업로드가 새 이미지를 덮어쓰지 않는다.
+        assertNotEquals(previousImage, crewEntity.getCrewImage());
+        assertSize(20, 20, read(crewEntity.getCrewImage()));
+        assertFalse(localS3Client.exists("bucket", previousImage));
+        assertEquals(3, objects().size());
+    }
+
+    @Test
+    void recover_uploadsNewestSpooledFilePerKey() throws Exception {
+        //given
+        UploadSpool beforeRestart = newSpool();
+        SpooledUpload older = beforeRestart.write(ImageOwner.CREW, 1L, "crew-1",
+            image(10, 10));
+        beforeRestart.markReady(older);
+        Thread.sleep(5);
+        SpooledUpload newer = beforeRestart.write(ImageOwner.CREW, 1L, "crew-1",
+            image(20, 20));
+        beforeRestart.markReady(newer);
+
+        CrewEntity crewEntity = CrewEntity.builder().id(1L).crewImage("crew-default").build();
+        when(crewRepository.findById(1L)).thenReturn(Optional.of(crewEntity));
+        imageUploadService.shutdown();
+        imageUploadService = newService(newSpool());
+
+        //when
+        imageUploadService.recover();
+        awaitIdle();
+
+        //then
+        assertSize(20, 20, read(crewEntity.getCrewImage()));
+        assertEquals(3, objects().size());
+        assertEquals(1.0, meterRegistry.get("s3.upload.skipped").counter().count());
+        assertSpoolEmpty();
+    }
+
+    private ImageUploadService newService(UploadSpool uploadSpool) {
+        meterRegistry.clear();
+        ImageUploadService service = new ImageUploadService(uploadSpool, s3FileUtil,
+            crewRepository, memberRepository, crewDiscoveryService, transactionTemplate,
+            meterRegistry);
+        ReflectionTestUtils.setField(service, "workers", 2);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "backoffMillis", 1L);
+        ReflectionTestUtils.setField(service, "maxBackoffMillis", 5L);
+        service.init();
+        return service;
+    }
+
+    private UploadSpool newSpool() throws Exception {
+        UploadSpool uploadSpool = new UploadSpool();
+        ReflectionTestUtils.setField(uploadSpool, "spoolPath", dir.resolve("spool").toString());
+        uploadSpool.init();
+        return uploadSpool;
+    }
+
+    private MockMultipartFile image(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("image", "image.png", "image/png", out.toByteArray());
+    }
+
+    private BufferedImage read(String key) throws IOException {
+        byte[] content = localS3Client.getObject(GetObjectRequest.builder().bucket("bucket")
+            .key(key).build(), ResponseTransformer.toBytes()).asByteArray();
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    private void assertSize(int width, int height, BufferedImage image) {
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("s3.upload.pending").gauge().value() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("upload not finished");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private List<String> objects() throws IOException {
+        Path bucket = dir.resolve("s3").resolve("bucket");
+        if (!Files.exists(bucket)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(bucket)) {
+            return files.map(file -> URLDecoder.decode(file.getFileName().toString(),
+                StandardCharsets.UTF_8)).toList();
+        }
+    }
+
+    private void assertSpoolEmpty() throws Exception {
+        try (Stream<Path> files = Files.list(dir.resolve("spool"))) {
+            assertTrue(files.findAny().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.runningservice.service.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.runningservice.enums.ImageVariant;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageVariantGeneratorTest {
+
+    @TempDir
+    private Path dir;
+
+    private final ImageVariantGenerator imageVariantGenerator = new ImageVariantGenerator();
+
+    @Test
+    void generate_resizesEachVariant() throws Exception {
+        //given
+        Path source = write("source.png", encode(4000, 2000, "png"));
+
+        //when
+        Map<ImageVariant, Path> variants = imageVariantGenerator.generate(source, this::target);
+
+        //then
+        assertSize(96, 96, variants.get(ImageVariant.THUMB));
+        assertSize(640, 320, variants.get(ImageVariant.CARD));
+        assertSize(1600, 800, variants.get(ImageVariant.ORIGINAL));
+    }
+
+    @Test
+    void generate_appliesExifOrientation() throws Exception {
+        //given
+        Path source = write("source.jpg", withOrientation(encode(300, 100, "jpeg"), 6));
+
+        //when
+        Map<ImageVariant, Path> variants = imageVariantGenerator.generate(source, this::target);
+
+        //then
+        assertEquals(6, ImageVariantGenerator.readExifOrientation(source));
+        assertSize(100, 300, variants.get(ImageVariant.ORIGINAL));
+        assertSize(96, 96, variants.get(ImageVariant.THUMB));
+    }
+
+    @Test
+    void generate_notAnImage() throws Exception {
+        //given
+        Path source = write("source.png", new byte[]{1, 2, 3});
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> imageVariantGenerator.generate(source, this::target));
+
+        //then
+        assertEquals(ErrorCode.INVALID_IMAGE, exception.getErrorCode());
+        assertFalse(Files.exists(target(ImageVariant.THUMB)));
+    }
+
+    private Path target(ImageVariant variant) {
+        return dir.resolve(variant.getSuffix() + ".jpg");
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(dir.resolve(name), content);
+    }
+
+    private byte[] encode(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF APP0 뒤에 orientation 만 있는 APP1(EXIF) 세그먼트를 넣는다.
+     */
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+            (byte) 0xFF, (byte) 0xE1, 0, 34,
+            'E', 'x', 'i', 'f', 0, 0,
+            'M', 'M', 0, 42, 0, 0, 0, 8,
+            0, 1,
+            0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+            0, 0, 0, 0
+        };
+        int insertAt = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.write(app1, 0, app1.length);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+
+    private void assertSize(int width, int height, Path file) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.runningservice.service.upload;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.runningservice.enums.ImageOwner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UploadSpoolTest {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void write_markReady_delete() throws Exception {
+        //given
+        UploadSpool uploadSpool = newSpool();
+        byte[] content = {1, 2, 3, 4};
+
+        //when
+        SpooledUpload upload = uploadSpool.write(ImageOwner.CREW, 1L, "crew-1",
+            new MockMultipartFile("crewImage", "a.png", "image/png", content));
+        boolean ready = uploadSpool.markReady(upload);
+
+        //then
+        assertTrue(ready);
+        assertEquals(4, upload.getSize());
+        assertArrayEquals(content, Files.readAllBytes(upload.getData()));
+
+        uploadSpool.delete(upload);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void recover_keepsReadyAndDropsPending() throws Exception {
+        //given
+        UploadSpool beforeRestart = newSpool();
+        SpooledUpload ready = beforeRestart.write(ImageOwner.MEMBER, 1L, "user-1",
+            new MockMultipartFile("profileImage", "a.png", "image/png", new byte[]{1}));
+        beforeRestart.markReady(ready);
+        SpooledUpload uncommitted = beforeRestart.write(ImageOwner.MEMBER, 2L, "user-2",
+            new MockMultipartFile("profileImage", "b.png", "image/png", new byte[]{2}));
+
+        //when
+        List<SpooledUpload> recovered = newSpool().recover();
+
+        //then
+        assertEquals(1, recovered.size());
+        assertEquals(ready.getUploadId(), recovered.get(0).getUploadId());
+        assertEquals(ImageOwner.MEMBER, recovered.get(0).getOwner());
+        assertEquals("user-1", recovered.get(0).getKey());
+        assertEquals("image/png", recovered.get(0).getContentType());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertFalse(files.anyMatch(file -> file.getFileName().toString()
+                .startsWith(uncommitted.getUploadId())));
+        }
+    }
+
+    private UploadSpool newSpool() throws Exception {
+        UploadSpool uploadSpool = new UploadSpool();
+        ReflectionTestUtils.setField(uploadSpool, "spoolPath", dir.toString());
+        uploadSpool.init();
+        return uploadSpool;
+    }
+}
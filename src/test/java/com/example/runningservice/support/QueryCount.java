@@ -0,0 +1,48 @@
+package com.example.runningservice.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조회 단위 하나에서 실행된 SQL. 실패 메시지에는 실행된 SQL 전체를 남긴다.
+ */
+@Getter
+@AllArgsConstructor
+public class QueryCount {
+
+    private final String label;
+    private final List<String> statements;
+
+    public long selectCount() {
+        return statements.stream()
+            .map(sql -> sql.stripLeading().toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.startsWith("select") || sql.startsWith("with"))
+            .count();
+    }
+
+    public long statementCount() {
+        return statements.size();
+    }
+
+    public QueryCount assertSelectCount(long expected) {
+        assertEquals(expected, selectCount(), this::describe);
+        return this;
+    }
+
+    public QueryCount assertStatementCount(long expected) {
+        assertEquals(expected, statementCount(), this::describe);
+        return this;
+    }
+
+    public String describe() {
+        StringBuilder builder = new StringBuilder()
+            .append('[').append(label).append("] select ").append(selectCount())
+            .append(", total ").append(statementCount());
+        statements.forEach(sql -> builder.append(System.lineSeparator()).append("  ").append(sql));
+        return builder.toString();
+    }
+}
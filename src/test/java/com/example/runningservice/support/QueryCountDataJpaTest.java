@@ -0,0 +1,30 @@
+package com.example.runningservice.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * SQL 실행 횟수 테스트 (H2) :: QueryCounter 를 StatementInspector 로 등록하고, 리포트를 남긴다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest
+@TestPropertySource(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.runningservice.support.QueryCounter")
+@ExtendWith(QueryCountReport.class)
+public @interface QueryCountDataJpaTest {
+
+    @AliasFor(annotation = DataJpaTest.class)
+    String[] properties() default {};
+}
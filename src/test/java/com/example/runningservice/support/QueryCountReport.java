@@ -0,0 +1,54 @@
+package com.example.runningservice.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * 테스트 클래스마다 조회 단위별 SQL 을 build/reports/query-count/{테스트 클래스}.txt 로 남긴다.
+ * (./gradlew queryCountReport)
+ */
+public class QueryCountReport implements BeforeAllCallback, AfterAllCallback {
+
+    private static final Path REPORT_DIR = Paths.get(
+        System.getProperty("query-count.report-dir", "build/reports/query-count"));
+
+    private static final List<QueryCount> QUERY_COUNTS = new ArrayList<>();
+
+    static synchronized void add(QueryCount queryCount) {
+        QUERY_COUNTS.add(queryCount);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        synchronized (QueryCountReport.class) {
+            QUERY_COUNTS.clear();
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        List<String> lines = new ArrayList<>();
+        synchronized (QueryCountReport.class) {
+            for (QueryCount queryCount : QUERY_COUNTS) {
+                lines.add(queryCount.describe());
+                lines.add("");
+            }
+            QUERY_COUNTS.clear();
+        }
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.write(REPORT_DIR.resolve(context.getRequiredTestClass().getSimpleName() + ".txt"),
+                lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.runningservice.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 카운터 :: Hibernate StatementInspector 로 등록해서 (@QueryCountDataJpaTest)
+ * start() ~ stop() 사이에 현재 스레드가 실행한 SQL 을 모은다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * 모은 SQL 을 label (조회 단위) 이름으로 리포트에 남기고 반환한다.
+     */
+    public static QueryCount stop(String label) {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        if (statements == null) {
+            throw new IllegalStateException("QueryCounter.start() was not called");
+        }
+        QueryCount queryCount = new QueryCount(label, List.copyOf(statements));
+        QueryCountReport.add(queryCount);
+        return queryCount;
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +42,52 @@ class AESUtilTest {
         //then
         assertTrue(firstEncryptedText != secondEncryptedText);
     }
-}
\ No newline at end of file
+
+    @Test
+    void decryptLegacyFormatWithoutKeyVersion() throws Exception {
+        //given
+        String encryptedText = aesUtil.encrypt("01012345678");
+        String legacyText = encryptedText.substring(encryptedText.indexOf(':') + 1);
+
+        //when
+        String decryptedText = aesUtil.decrypt(legacyText);
+
+        //then
+        assertEquals("01012345678", decryptedText);
+    }
+
+    @Test
+    void decryptAfterKeyRotation() throws Exception {
+        //given
+        String oldEncryptedText = aesUtil.encrypt("01012345678");
+
+        AESUtil rotatedAesUtil = new AESUtil();
+        rotatedAesUtil.setPassword("newPassword");
+        rotatedAesUtil.setSalt("newSalt");
+        rotatedAesUtil.setKeyVersion("2");
+        rotatedAesUtil.setPreviousKeyVersion("1");
+        rotatedAesUtil.setPreviousPassword("password");
+        rotatedAesUtil.setPreviousSalt("salt");
+
+        //when
+        String newEncryptedText = rotatedAesUtil.encrypt("01087654321");
+
+        //then
+        assertTrue(newEncryptedText.startsWith("2:"));
+        assertEquals("01012345678", rotatedAesUtil.decrypt(oldEncryptedText));
+        assertEquals("01087654321", rotatedAesUtil.decrypt(newEncryptedText));
+    }
+
+    @Test
+    void decryptAll() throws Exception {
+        //given
+        List<String> encryptedList = Arrays.asList(aesUtil.encrypt("010-1111-1111"), null,
+            aesUtil.encrypt("010-2222-2222"));
+
+        //when
+        List<String> decryptedList = aesUtil.decryptAll(encryptedList);
+
+        //then
+        assertEquals(Arrays.asList("010-1111-1111", null, "010-2222-2222"), decryptedList);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.runningservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.util.CursorUtil.Cursor;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CursorUtilTest {
+
+    private CursorUtil cursorUtil;
+
+    @BeforeEach
+    void setUp() {
+        cursorUtil = new CursorUtil();
+        ReflectionTestUtils.setField(cursorUtil, "secretStr", "test-cursor-secret");
+        cursorUtil.init();
+    }
+
+    @Test
+    void encodeAndDecode() {
+        //given
+        LocalDateTime joinedAt = LocalDateTime.of(2024, 8, 1, 10, 30, 15, 123000000);
+
+        //when
+        String cursor = cursorUtil.encode("crew-member", joinedAt, 42L);
+        Cursor decoded = cursorUtil.decode("crew-member", cursor);
+
+        //then
+        assertEquals(joinedAt, decoded.sortKeyAsDateTime());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void decode_firstPage() {
+        assertNull(cursorUtil.decode("crew", null));
+        assertNull(cursorUtil.decode("crew", ""));
+    }
+
+    @Test
+    void decode_tamperedPayload() {
+        //given
+        String cursor = cursorUtil.encode("crew", 10, 7L);
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("10|1".getBytes());
+        String tampered = forgedPayload + cursor.substring(cursor.indexOf('.'));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> cursorUtil.decode("crew", tampered));
+
+        //then
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    void decode_otherScope() {
+        //given
+        String cursor = cursorUtil.encode("notification", 10L, 10L);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> cursorUtil.decode("crew", cursor));
+
+        //then
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    void decode_malformed() {
+        assertThrows(CustomException.class, () -> cursorUtil.decode("crew", "not-a-cursor"));
+        assertThrows(CustomException.class, () -> cursorUtil.decode("crew", "%%%.###"));
+    }
+
+    @Test
+    void normalizeSize() {
+        assertEquals(20, CursorUtil.normalizeSize(0));
+        assertEquals(15, CursorUtil.normalizeSize(15));
+        assertEquals(100, CursorUtil.normalizeSize(1000));
+    }
+}
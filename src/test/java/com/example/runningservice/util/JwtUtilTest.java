@@ -0,0 +1,76 @@
+package com.example.runningservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.runningservice.enums.Role;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.security.AuthenticatedToken;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretStr",
+            Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void authenticate_success() {
+        //given
+        String token = jwtUtil.generateToken("test@example.com", 1L,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        //when
+        AuthenticatedToken authenticatedToken = jwtUtil.authenticate(token);
+
+        //then
+        assertEquals("test@example.com", authenticatedToken.getEmail());
+        assertEquals(1L, authenticatedToken.getUserId());
+        assertEquals(List.of(Role.ROLE_USER), authenticatedToken.getRoles());
+    }
+
+    @Test
+    void authenticate_returnsCachedToken() {
+        //given
+        String token = jwtUtil.generateToken("test@example.com", 1L,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        //when
+        AuthenticatedToken first = jwtUtil.authenticate(token);
+        AuthenticatedToken second = jwtUtil.authenticate(token);
+
+        //then
+        assertSame(first, second);
+    }
+
+    @Test
+    void authenticate_invalidSignature() {
+        //given
+        String token = jwtUtil.generateToken("test@example.com", 1L,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        int index = token.lastIndexOf('.') + 5;
+        char replaced = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replaced + token.substring(index + 1);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> jwtUtil.authenticate(tampered));
+
+        //then
+        assertEquals(ErrorCode.INVALID_TOKEN, exception.getErrorCode());
+    }
+}
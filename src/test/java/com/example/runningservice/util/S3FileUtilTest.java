@@ -0,0 +1,107 @@
+package com.example.runningservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+@ExtendWith(MockitoExtension.class)
+class S3FileUtilTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private S3FileUtil s3FileUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        s3FileUtil = new S3FileUtil(s3Client, s3Presigner, meterRegistry);
+        ReflectionTestUtils.setField(s3FileUtil, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3FileUtil, "presignedUrlCacheSize", 100L);
+        s3FileUtil.init();
+
+        lenient().when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class)))
+            .thenAnswer(invocation -> {
+                GetObjectPresignRequest request = invocation.getArgument(0);
+                PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+                when(presigned.url()).thenReturn(URI.create(
+                    "https://bucket.s3.amazonaws.com/" + request.getObjectRequest().key()
+                        + "?signature").toURL());
+                return presigned;
+            });
+    }
+
+    @Test
+    void createPresignedUrl_signsOncePerKey() {
+        //when
+        String first = s3FileUtil.createPresignedUrl("crew-1");
+        String second = s3FileUtil.createPresignedUrl("crew-1");
+
+        //then
+        assertEquals(first, second);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+        assertEquals(1, meterRegistry.get("s3.presign").timer().count());
+    }
+
+    @Test
+    void presignAll_signsOnlyMissingKeys() {
+        //given
+        s3FileUtil.createPresignedUrl("crew-1");
+
+        //when
+        Map<String, String> urls = s3FileUtil.presignAll(
+            Arrays.asList("crew-1", "crew-2", "crew-2", null, "crew-3"));
+
+        //then
+        assertEquals(3, urls.size());
+        assertEquals("https://bucket.s3.amazonaws.com/crew-2?signature", urls.get("crew-2"));
+        verify(s3Presigner, times(3)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void putObject_streamsFromFile(@TempDir Path dir) throws Exception {
+        //given
+        Path file = Files.write(dir.resolve("upload.data"), new byte[]{1, 2, 3});
+
+        //when
+        s3FileUtil.putObject("user-1", "image/png", file);
+
+        //then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(request.capture(), body.capture());
+        assertEquals("user-1", request.getValue().key());
+        assertEquals("image/png", request.getValue().contentType());
+        assertEquals(3L, body.getValue().optionalContentLength().orElseThrow());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.runningservice.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.runningservice.enums.Role;
+import com.example.runningservice.exception.CustomException;
+import com.example.runningservice.exception.ErrorCode;
+import com.example.runningservice.repository.chat.ChatJoinRepository;
+import com.example.runningservice.security.AuthenticatedToken;
+import com.example.runningservice.util.JwtUtil;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private ChatJoinRepository chatJoinRepository;
+
+    @Mock
+    private MessageChannel channel;
+
+    @Test
+    void connect_setsAuthenticatedMember() {
+        //given
+        when(jwtUtil.authenticate("token")).thenReturn(new AuthenticatedToken("test@example.com",
+            1L, List.of(Role.ROLE_USER), Instant.now().plusSeconds(60)));
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer token");
+
+        //when
+        Message<?> result = interceptor.preSend(message(accessor), channel);
+
+        //then
+        StompHeaderAccessor resultAccessor = MessageHeaderAccessor.getAccessor(result,
+            StompHeaderAccessor.class);
+        StompPrincipal principal = assertInstanceOf(StompPrincipal.class,
+            resultAccessor.getUser());
+        assertEquals(1L, principal.getMemberId());
+    }
+
+    @Test
+    void connect_withoutToken() {
+        //given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> interceptor.preSend(message(accessor), channel));
+
+        //then
+        assertEquals(ErrorCode.UNABLE_TO_GET_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    void send_withoutAuthenticatedSession() {
+        //given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/chat.talk.1");
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> interceptor.preSend(message(accessor), channel));
+
+        //then
+        assertEquals(ErrorCode.UNAUTHORIZED, exception.getErrorCode());
+    }
+
+    @Test
+    void subscribe_joinedChatRoom() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndMember_Id(3L, 1L)).thenReturn(true);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setUser(new StompPrincipal(1L));
+        accessor.setDestination("/topic/chatroom.3");
+
+        //when
+        Message<?> result = interceptor.preSend(message(accessor), channel);
+
+        //then
+        assertNotNull(result);
+    }
+
+    @Test
+    void subscribe_notJoinedChatRoom() {
+        //given
+        when(chatJoinRepository.existsByChatRoom_IdAndMember_Id(3L, 1L)).thenReturn(false);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setUser(new StompPrincipal(1L));
+        accessor.setDestination("/topic/chatroom.3");
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+            () -> interceptor.preSend(message(accessor), channel));
+
+        //then
+        assertEquals(ErrorCode.NOT_JOINED_CHATROOM, exception.getErrorCode());
+    }
+
+    @Test
+    void subscribe_otherTopic_notChecked() {
+        //given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setUser(new StompPrincipal(1L));
+        accessor.setDestination("/topic/activity/1");
+
+        //when
+        interceptor.preSend(message(accessor), channel);
+
+        //then
+        verifyNoInteractions(chatJoinRepository);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}